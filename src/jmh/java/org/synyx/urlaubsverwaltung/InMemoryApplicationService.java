@@ -0,0 +1,134 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only {@link ApplicationService} answering the queries of the benchmarked services from the applications for
+ * leave of a {@link SyntheticOrganisation}.
+ */
+class InMemoryApplicationService implements ApplicationService {
+
+    private static final List<ApplicationStatus> ALL_STATUSES = List.of(ApplicationStatus.values());
+
+    private final SyntheticOrganisation organisation;
+
+    InMemoryApplicationService(SyntheticOrganisation organisation) {
+        this.organisation = organisation;
+    }
+
+    @Override
+    public List<Application> getApplicationsForACertainPeriodAndPerson(LocalDate startDate, LocalDate endDate, Person person) {
+        return organisation.applications(List.of(person), ALL_STATUSES, startDate, endDate, null);
+    }
+
+    @Override
+    public List<Application> getApplicationsForACertainPeriodAndPersonAndVacationCategory(LocalDate startDate, LocalDate endDate, Person person, List<ApplicationStatus> statuses, VacationCategory vacationCategory) {
+        return organisation.applications(List.of(person), statuses, startDate, endDate, vacationCategory);
+    }
+
+    @Override
+    public List<Application> getForStatesAndPerson(List<ApplicationStatus> statuses, List<Person> persons, LocalDate start, LocalDate end) {
+        return organisation.applications(persons, statuses, start, end, null);
+    }
+
+    @Override
+    public Optional<Application> getApplicationById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> findApplicationsByIds(Iterable<Long> applicationIds) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Application save(Application application) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getApplicationsForACertainPeriodAndStatus(LocalDate startDate, LocalDate endDate, List<Person> persons, List<ApplicationStatus> statuses) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getApplicationsForACertainPeriodAndState(LocalDate startDate, LocalDate endDate, ApplicationStatus status) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getApplicationsWhereApplicantShouldBeNotifiedAboutUpcomingApplication(LocalDate from, LocalDate to, List<ApplicationStatus> statuses) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getApplicationsWhereHolidayReplacementShouldBeNotified(LocalDate from, LocalDate to, List<ApplicationStatus> statuses) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getForStates(List<ApplicationStatus> statuses) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getForStatesSince(List<ApplicationStatus> statuses, LocalDate since) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getForStatesAndPerson(List<ApplicationStatus> statuses, List<Person> persons) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getForStatesAndPersonSince(List<ApplicationStatus> statuses, List<Person> persons, LocalDate since) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getForStates(List<ApplicationStatus> statuses, LocalDate start, LocalDate end) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Duration getTotalOvertimeReductionOfPerson(Person person) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<Person, Duration> getTotalOvertimeReductionOfPersonUntil(Collection<Person> persons, LocalDate until) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Duration getTotalOvertimeReductionOfPersonUntil(Person person, LocalDate before) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> getForHolidayReplacement(Person holidayReplacement, LocalDate date) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Application> deleteApplicationsByPerson(Person person) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteInteractionWithApplications(Person person) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+/**
+ * Read-only {@link SettingsService} answering the default {@link Settings}.
+ */
+class InMemorySettingsService implements SettingsService {
+
+    private final Settings settings = new Settings();
+
+    @Override
+    public Settings getSettings() {
+        return settings;
+    }
+
+    @Override
+    public Settings save(Settings settings) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void insertDefaultSettings() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,96 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.Role;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only {@link SickNoteService} answering the queries of the benchmarked services from the sick notes of a
+ * {@link SyntheticOrganisation}.
+ */
+class InMemorySickNoteService implements SickNoteService {
+
+    private static final List<SickNoteStatus> ALL_STATUSES = List.of(SickNoteStatus.values());
+
+    private final SyntheticOrganisation organisation;
+
+    InMemorySickNoteService(SyntheticOrganisation organisation) {
+        this.organisation = organisation;
+    }
+
+    @Override
+    public List<SickNote> getByPersonAndPeriod(Person person, LocalDate from, LocalDate to) {
+        return organisation.sickNotes(List.of(person), ALL_STATUSES, from, to);
+    }
+
+    @Override
+    public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate start, LocalDate end) {
+        return organisation.sickNotes(persons, sickNoteStatus, start, end);
+    }
+
+    @Override
+    public SickNote save(SickNote sickNote) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<SickNote> getById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<SickNote> getSickNoteOfYesterdayOrLastWorkDay(Person person) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> getSickNotesReachingEndOfSickPay() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> getAllActiveByPeriod(LocalDate from, LocalDate to) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> getForStatesSince(List<SickNoteStatus> sickNoteStatuses, LocalDate since) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatuses, List<Person> persons) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> getForStatesAndPersonSince(List<SickNoteStatus> sickNoteStatuses, List<Person> persons, LocalDate since) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> getForStatesAndPersonAndPersonHasRoles(List<SickNoteStatus> sickNoteStatus, List<Person> persons, List<Role> roles, LocalDate start, LocalDate end) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setEndOfSickPayNotificationSend(SickNote sickNote) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<SickNote> deleteAllByPerson(Person person) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteSickNoteApplier(Person applier) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,220 @@
+package org.synyx.urlaubsverwaltung;
+
+import de.focus_shift.jollyday.core.HolidayCalendar;
+import de.focus_shift.jollyday.core.HolidayManager;
+import de.focus_shift.jollyday.core.ManagerParameters;
+import org.springframework.context.support.StaticMessageSource;
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysServiceImpl;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.groupingBy;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createHolidaysAccount;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createPerson;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createSickNote;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationType;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.REJECTED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.NOON;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+
+/**
+ * Deterministic organisation of persons with working times, holiday accounts, applications for leave and sick notes
+ * of {@link #YEAR} to feed the benchmarks.
+ *
+ * <p>The services the benchmarked services depend on are plain in-memory fakes answering from indices by person, like
+ * the database would do with its indices.</p>
+ */
+public final class SyntheticOrganisation {
+
+    public static final Year YEAR = Year.of(2024);
+
+    private static final List<ApplicationStatus> APPLICATION_STATUSES = List.of(ALLOWED, WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED, REJECTED);
+    private static final List<DayLength> HALF_DAY_LENGTHS = List.of(MORNING, NOON, FULL);
+
+    private final List<Person> persons;
+    private final List<WorkingTime> workingTimes;
+    private final List<Account> accounts;
+    private final Map<Person, List<WorkingTime>> workingTimesByPerson;
+    private final Map<Person, List<Application>> applicationsByPerson;
+    private final Map<Person, List<SickNote>> sickNotesByPerson;
+
+    private SyntheticOrganisation(List<Person> persons, List<WorkingTime> workingTimes, List<Account> accounts,
+                                  Map<Person, List<Application>> applicationsByPerson, Map<Person, List<SickNote>> sickNotesByPerson) {
+        this.persons = persons;
+        this.workingTimes = workingTimes;
+        this.accounts = accounts;
+        this.workingTimesByPerson = workingTimes.stream().collect(groupingBy(WorkingTime::getPerson));
+        this.applicationsByPerson = applicationsByPerson;
+        this.sickNotesByPerson = sickNotesByPerson;
+    }
+
+    /**
+     * Every person works monday to friday in Baden-Württemberg and has six applications for leave and two sick notes
+     * in {@link #YEAR}. Every tenth person switches to a four-day week in Berlin in the middle of the year.
+     *
+     * @param numberOfPersons size of the organisation
+     * @return the same organisation for the same number of persons
+     */
+    public static SyntheticOrganisation of(int numberOfPersons) {
+
+        final Random random = new Random(numberOfPersons);
+        final VacationType<?> holiday = createVacationType(1L, HOLIDAY, new StaticMessageSource());
+
+        final List<Person> persons = new ArrayList<>(numberOfPersons);
+        final List<WorkingTime> workingTimes = new ArrayList<>();
+        final List<Account> accounts = new ArrayList<>(numberOfPersons);
+        final Map<Person, List<Application>> applicationsByPerson = new HashMap<>();
+        final Map<Person, List<SickNote>> sickNotesByPerson = new HashMap<>();
+
+        long applicationId = 0;
+
+        for (int index = 0; index < numberOfPersons; index++) {
+
+            final Person person = createPerson("person-" + index, USER);
+            person.setId((long) index + 1);
+            persons.add(person);
+
+            final WorkingTime fullTime = new WorkingTime(person, YEAR.minusYears(1).atDay(1), GERMANY_BADEN_WUERTTEMBERG, true);
+            fullTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
+            workingTimes.add(fullTime);
+            if (index % 10 == 0) {
+                final WorkingTime partTime = new WorkingTime(person, YEAR.atMonth(7).atDay(1), GERMANY_BERLIN, false);
+                partTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY), FULL);
+                workingTimes.add(partTime);
+            }
+
+            final Account account = createHolidaysAccount(person, YEAR.getValue());
+            account.setActualVacationDays(account.getAnnualVacationDays());
+            accounts.add(account);
+
+            final List<Application> applications = new ArrayList<>();
+            for (int period = 0; period < 6; period++) {
+                final LocalDate startDate = YEAR.atDay(1 + period * 60 + random.nextInt(45));
+                final int additionalDays = random.nextInt(5);
+                final DayLength dayLength = additionalDays == 0 ? HALF_DAY_LENGTHS.get(random.nextInt(HALF_DAY_LENGTHS.size())) : FULL;
+
+                final Application application = createApplication(person, holiday, startDate, startDate.plusDays(additionalDays), dayLength);
+                application.setId(++applicationId);
+                application.setStatus(APPLICATION_STATUSES.get(random.nextInt(APPLICATION_STATUSES.size())));
+                applications.add(application);
+            }
+            applicationsByPerson.put(person, applications);
+
+            final List<SickNote> sickNotes = new ArrayList<>();
+            for (int half = 0; half < 2; half++) {
+                final LocalDate startDate = YEAR.atDay(1 + half * 180 + random.nextInt(170));
+                sickNotes.add(createSickNote(person, startDate, startDate.plusDays(random.nextInt(3)), FULL));
+            }
+            sickNotesByPerson.put(person, sickNotes);
+        }
+
+        return new SyntheticOrganisation(List.copyOf(persons), List.copyOf(workingTimes), List.copyOf(accounts), applicationsByPerson, sickNotesByPerson);
+    }
+
+    public List<Person> persons() {
+        return persons;
+    }
+
+    public List<WorkingTime> workingTimes() {
+        return workingTimes;
+    }
+
+    public List<Account> accounts() {
+        return accounts;
+    }
+
+    public List<Application> applications(Person person) {
+        return applicationsByPerson.getOrDefault(person, List.of());
+    }
+
+    public ApplicationService applicationService() {
+        return new InMemoryApplicationService(this);
+    }
+
+    public SickNoteService sickNoteService() {
+        return new InMemorySickNoteService(this);
+    }
+
+    /**
+     * @param persons to get the working times for
+     * @return working times of the given persons, the latest valid first
+     */
+    public List<WorkingTime> workingTimes(Collection<Person> persons) {
+        return persons.stream()
+            .flatMap(person -> workingTimesByPerson.getOrDefault(person, List.of()).stream())
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .toList();
+    }
+
+    public SettingsService settingsService() {
+        return new InMemorySettingsService();
+    }
+
+    public PublicHolidaysService publicHolidaysService() {
+        return new PublicHolidaysServiceImpl(settingsService(), Map.of("de", HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY))));
+    }
+
+    List<Application> applications(List<Person> persons, List<ApplicationStatus> statuses, LocalDate from, LocalDate to, VacationCategory vacationCategory) {
+        final List<Application> applications = new ArrayList<>();
+        for (Person person : persons) {
+            for (Application application : applications(person)) {
+                if (statuses.contains(application.getStatus())
+                    && !application.getStartDate().isAfter(to) && !application.getEndDate().isBefore(from)
+                    && (vacationCategory == null || application.getVacationType().getCategory() == vacationCategory)) {
+                    applications.add(application);
+                }
+            }
+        }
+        return applications;
+    }
+
+    List<SickNote> sickNotes(List<Person> persons, List<SickNoteStatus> statuses, LocalDate from, LocalDate to) {
+        final List<SickNote> sickNotes = new ArrayList<>();
+        for (Person person : persons) {
+            for (SickNote sickNote : sickNotesByPerson.getOrDefault(person, List.of())) {
+                if (statuses.contains(sickNote.getStatus())
+                    && !sickNote.getStartDate().isAfter(to) && !sickNote.getEndDate().isBefore(from)) {
+                    sickNotes.add(sickNote);
+                }
+            }
+        }
+        return sickNotes;
+    }
+}
@@ -0,0 +1,60 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.synyx.urlaubsverwaltung.SyntheticOrganisation;
+import org.synyx.urlaubsverwaltung.workingtime.SyntheticWorkingTimeServices;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.synyx.urlaubsverwaltung.SyntheticOrganisation.YEAR;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AbsenceServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int numberOfPersons;
+
+    private SyntheticOrganisation organisation;
+    private AbsenceServiceImpl sut;
+
+    @Setup
+    public void setUp() {
+        organisation = SyntheticOrganisation.of(numberOfPersons);
+        sut = new AbsenceServiceImpl(organisation.applicationService(), organisation.sickNoteService(),
+            organisation.settingsService(), SyntheticWorkingTimeServices.workingTimeCalendarService(organisation));
+    }
+
+    /**
+     * Absences of the whole organisation for one month, like the absence overview requests them.
+     */
+    @Benchmark
+    public List<AbsencePeriod> getOpenAbsencesOfMonth() {
+        final LocalDate start = YEAR.atMonth(5).atDay(1);
+        return sut.getOpenAbsences(organisation.persons(), start, start.plusMonths(1).minusDays(1));
+    }
+
+    /**
+     * Absences of a single person for the whole year, like the personal calendar requests them.
+     */
+    @Benchmark
+    public List<AbsencePeriod> getOpenAbsencesOfPersonAndYear() {
+        return sut.getOpenAbsences(organisation.persons().getFirst(), YEAR.atDay(1), YEAR.atMonth(12).atEndOfMonth());
+    }
+}
@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.synyx.urlaubsverwaltung.SyntheticOrganisation;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.SyntheticWorkingTimeServices;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.synyx.urlaubsverwaltung.SyntheticOrganisation.YEAR;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class VacationDaysServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int numberOfPersons;
+
+    private SyntheticOrganisation organisation;
+    private Map<Person, WorkingTimeCalendar> workingTimeCalendars;
+    private VacationDaysService sut;
+
+    @Setup
+    public void setUp() {
+        organisation = SyntheticOrganisation.of(numberOfPersons);
+        workingTimeCalendars = SyntheticWorkingTimeServices.workingTimeCalendarService(organisation).getWorkingTimesByPersons(organisation.persons(), YEAR);
+
+        final WorkDaysCountService workDaysCountService = new WorkDaysCountService(organisation.publicHolidaysService(), SyntheticWorkingTimeServices.workingTimeService(organisation));
+        final Clock clock = Clock.fixed(YEAR.atMonth(6).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        sut = new VacationDaysService(workDaysCountService, organisation.applicationService(), clock);
+    }
+
+    /**
+     * Vacation days left of every holiday account, one account after the other.
+     */
+    @Benchmark
+    public void getVacationDaysLeftOfEveryAccount(Blackhole blackhole) {
+        for (Account account : organisation.accounts()) {
+            blackhole.consume(sut.getVacationDaysLeft(account, Optional.empty()));
+        }
+    }
+
+    /**
+     * Vacation days left of all holiday accounts at once with the working time calendars at hand.
+     */
+    @Benchmark
+    public Map<Account, HolidayAccountVacationDays> getVacationDaysLeftOfAllAccounts() {
+        return sut.getVacationDaysLeft(organisation.accounts(), workingTimeCalendars, new DateRange(YEAR.atDay(1), YEAR.atMonth(12).atEndOfMonth()));
+    }
+}
@@ -0,0 +1,62 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.synyx.urlaubsverwaltung.SyntheticOrganisation;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class OverlapServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int numberOfPersons;
+
+    private List<Application> applicationsToCheck;
+    private OverlapService sut;
+
+    @Setup
+    public void setUp() {
+        final SyntheticOrganisation organisation = SyntheticOrganisation.of(numberOfPersons);
+        sut = new OverlapService(organisation.applicationService(), organisation.sickNoteService());
+
+        // a new application for leave of every person overlapping with one of its existing ones
+        applicationsToCheck = new ArrayList<>(numberOfPersons);
+        for (Person person : organisation.persons()) {
+            final Application existing = organisation.applications(person).get(2);
+            final Application application = createApplication(person, existing.getVacationType(), existing.getStartDate().minusDays(2), existing.getEndDate().plusDays(2), existing.getDayLength());
+            applicationsToCheck.add(application);
+        }
+    }
+
+    /**
+     * Overlap check of a new application for leave of every person of the organisation.
+     */
+    @Benchmark
+    public void checkOverlapOfEveryPerson(Blackhole blackhole) {
+        for (Application application : applicationsToCheck) {
+            blackhole.consume(sut.checkOverlap(application));
+        }
+    }
+}
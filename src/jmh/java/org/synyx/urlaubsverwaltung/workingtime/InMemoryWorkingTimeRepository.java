@@ -0,0 +1,128 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.SyntheticOrganisation;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only {@link WorkingTimeRepository} answering the queries of the benchmarked services from the working times of
+ * a {@link SyntheticOrganisation}.
+ */
+class InMemoryWorkingTimeRepository implements WorkingTimeRepository {
+
+    private final SyntheticOrganisation organisation;
+
+    InMemoryWorkingTimeRepository(SyntheticOrganisation organisation) {
+        this.organisation = organisation;
+    }
+
+    @Override
+    public List<WorkingTimeEntity> findByPersonIsInOrderByValidFromDesc(Collection<Person> persons) {
+        return organisation.workingTimes(persons).stream().map(InMemoryWorkingTimeRepository::toEntity).toList();
+    }
+
+    @Override
+    public List<WorkingTimeEntity> findByPersonOrderByValidFromDesc(Person person) {
+        return findByPersonIsInOrderByValidFromDesc(List.of(person));
+    }
+
+    @Override
+    public WorkingTimeEntity findByPersonAndValidityDate(Person person, LocalDate date) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<WorkingTimeEntity> findByPersonIn(List<Person> persons) {
+        return findByPersonIsInOrderByValidFromDesc(persons);
+    }
+
+    @Override
+    public WorkingTimeEntity findByPersonAndValidityDateEqualsOrMinorDate(Person person, LocalDate date) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteByPerson(Person person) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends WorkingTimeEntity> S save(S entity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S extends WorkingTimeEntity> Iterable<S> saveAll(Iterable<S> entities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<WorkingTimeEntity> findById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterable<WorkingTimeEntity> findAll() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterable<WorkingTimeEntity> findAllById(Iterable<Long> ids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long count() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void delete(WorkingTimeEntity entity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends WorkingTimeEntity> entities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteAll() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static WorkingTimeEntity toEntity(WorkingTime workingTime) {
+        final WorkingTimeEntity entity = new WorkingTimeEntity();
+        entity.setPerson(workingTime.getPerson());
+        entity.setValidFrom(workingTime.getValidFrom());
+        entity.setMonday(workingTime.getDayLengthForWeekDay(DayOfWeek.MONDAY));
+        entity.setTuesday(workingTime.getDayLengthForWeekDay(DayOfWeek.TUESDAY));
+        entity.setWednesday(workingTime.getDayLengthForWeekDay(DayOfWeek.WEDNESDAY));
+        entity.setThursday(workingTime.getDayLengthForWeekDay(DayOfWeek.THURSDAY));
+        entity.setFriday(workingTime.getDayLengthForWeekDay(DayOfWeek.FRIDAY));
+        entity.setSaturday(workingTime.getDayLengthForWeekDay(DayOfWeek.SATURDAY));
+        entity.setSunday(workingTime.getDayLengthForWeekDay(DayOfWeek.SUNDAY));
+        entity.setFederalStateOverride(workingTime.isDefaultFederalState() ? null : workingTime.getFederalState());
+        return entity;
+    }
+}
@@ -0,0 +1,26 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.SyntheticOrganisation;
+
+import java.time.Clock;
+
+/**
+ * Creates the working time services of a {@link SyntheticOrganisation} backed by an in-memory
+ * {@link WorkingTimeRepository}, for benchmarks outside of this package.
+ */
+public final class SyntheticWorkingTimeServices {
+
+    private SyntheticWorkingTimeServices() {
+        // Hide constructor for util class
+    }
+
+    public static WorkingTimeCalendarService workingTimeCalendarService(SyntheticOrganisation organisation) {
+        return new WorkingTimeCalendarServiceImpl(new InMemoryWorkingTimeRepository(organisation), organisation.publicHolidaysService(), organisation.settingsService());
+    }
+
+    public static WorkingTimeService workingTimeService(SyntheticOrganisation organisation) {
+        return new WorkingTimeServiceImpl(new InMemoryWorkingTimeRepository(organisation), organisation.settingsService(), Clock.systemUTC(), event -> {
+            throw new UnsupportedOperationException();
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.synyx.urlaubsverwaltung.SyntheticOrganisation;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.synyx.urlaubsverwaltung.SyntheticOrganisation.YEAR;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WorkingTimeCalendarServiceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int numberOfPersons;
+
+    private SyntheticOrganisation organisation;
+    private WorkingTimeCalendarService sut;
+
+    @Setup
+    public void setUp() {
+        organisation = SyntheticOrganisation.of(numberOfPersons);
+        sut = SyntheticWorkingTimeServices.workingTimeCalendarService(organisation);
+    }
+
+    @Benchmark
+    public Map<Person, WorkingTimeCalendar> getWorkingTimesByPersonsOfYear() {
+        return sut.getWorkingTimesByPersons(organisation.persons(), YEAR);
+    }
+}
@@ -12,7 +12,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
 import org.synyx.urlaubsverwaltung.period.DayLength;
@@ -49,11 +51,13 @@ public class AbsenceApiController {
 
     private final PersonService personService;
     private final AbsenceService absenceService;
+    private final ApiDataVersions apiDataVersions;
 
     @Autowired
-    public AbsenceApiController(PersonService personService, AbsenceService absenceService) {
+    public AbsenceApiController(PersonService personService, AbsenceService absenceService, ApiDataVersions apiDataVersions) {
         this.personService = personService;
         this.absenceService = absenceService;
+        this.apiDataVersions = apiDataVersions;
     }
 
     @Operation(
@@ -90,12 +94,17 @@ public class AbsenceApiController {
         LocalDate endDate,
         @Parameter(description = "Type of absences like vacation, sick_note, public_holiday and no_workday")
         @RequestParam(value = "absence-types", required = false, defaultValue = "vacation, sick_note, public_holiday, no_workday")
-        List<String> absenceTypes) {
+        List<String> absenceTypes,
+        WebRequest webRequest) {
 
         if (startDate.isAfter(endDate)) {
             throw new ResponseStatusException(BAD_REQUEST, "Start date " + startDate + " must not be after end date " + endDate);
         }
 
+        if (apiDataVersions.isPersonNotModified(webRequest, personId)) {
+            return null;
+        }
+
         final Optional<Person> optionalPerson = personService.getPersonByID(personId);
         if (optionalPerson.isEmpty()) {
             throw new ResponseStatusException(BAD_REQUEST, "No person found for ID=" + personId);
@@ -130,19 +139,19 @@ public class AbsenceApiController {
     }
 
     private Stream<AbsenceDto> toAbsenceDto(AbsencePeriod absence) {
-        return absence.getAbsenceRecords().stream()
-            .map(this::toAbsenceDto)
-            .flatMap(List::stream);
+        return absence.getRanges().stream()
+            .flatMap(this::toAbsenceDto);
     }
 
-    private List<AbsenceDto> toAbsenceDto(AbsencePeriod.Record absenceRecord) {
+    private Stream<AbsenceDto> toAbsenceDto(AbsencePeriod.Range range) {
+        return range.getStartDate().datesUntil(range.getEndDate().plusDays(1))
+            .map(date -> toAbsenceDto(date, range.getMorning(), range.getNoon()))
+            .flatMap(List::stream);
+    }
 
-        final LocalDate date = absenceRecord.getDate();
+    private List<AbsenceDto> toAbsenceDto(LocalDate date, Optional<AbsencePeriod.RecordInfo> maybeMorning, Optional<AbsencePeriod.RecordInfo> maybeNoon) {
 
-        final Optional<AbsencePeriod.RecordInfo> maybeMorning = absenceRecord.getMorning();
         final Optional<AbsencePeriod.AbsenceType> maybeMorningType = maybeMorning.map(AbsencePeriod.RecordInfo::getAbsenceType);
-
-        final Optional<AbsencePeriod.RecordInfo> maybeNoon = absenceRecord.getNoon();
         final Optional<AbsencePeriod.AbsenceType> maybeNoonType = maybeNoon.map(AbsencePeriod.RecordInfo::getAbsenceType);
 
         if (maybeMorningType.isPresent() && maybeNoonType.isPresent()) {
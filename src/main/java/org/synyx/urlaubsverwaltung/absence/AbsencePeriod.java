@@ -3,11 +3,17 @@ package org.synyx.urlaubsverwaltung.absence;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 
+import static java.time.temporal.ChronoUnit.DAYS;
+
 /**
  * Defines absence periods of a {@link Person}.
  * <p>
@@ -18,6 +24,9 @@ import java.util.Optional;
  *     <li>9.June 2021 (vacation noon)</li>
  *     <li>26.August 2021 to 27.August 2021 (sick full day)</li>
  * </ul>
+ * <p>
+ * Consecutive days with the same absence are stored as one {@link Range}. Prefer iterating {@link #getRanges()},
+ * the {@link Record}s of the single days are only created while iterating {@link #getAbsenceRecords()}.
  */
 public class AbsencePeriod {
 
@@ -43,14 +52,38 @@ public class AbsencePeriod {
         CANCELLED
     }
 
+    private final List<AbsencePeriod.Range> ranges;
     private final List<AbsencePeriod.Record> absenceRecords;
 
     public AbsencePeriod(List<Record> absenceRecords) {
+        this(new RangeRecords(Range.of(absenceRecords)));
+    }
+
+    private AbsencePeriod(RangeRecords absenceRecords) {
+        this.ranges = absenceRecords.ranges;
         this.absenceRecords = absenceRecords;
     }
 
+    /**
+     * @param ranges consecutive days with the same absence, sorted by date
+     * @return absence period consisting of the given ranges
+     */
+    public static AbsencePeriod ofRanges(List<Range> ranges) {
+        return new AbsencePeriod(new RangeRecords(List.copyOf(ranges)));
+    }
+
+    /**
+     * @return the absence of every single day of this period. The records are created lazily while iterating.
+     */
     public List<AbsencePeriod.Record> getAbsenceRecords() {
-        return Collections.unmodifiableList(absenceRecords);
+        return absenceRecords;
+    }
+
+    /**
+     * @return the absence of this period with consecutive days of the same absence combined to one range
+     */
+    public List<AbsencePeriod.Range> getRanges() {
+        return ranges;
     }
 
     @Override
@@ -73,6 +106,212 @@ public class AbsencePeriod {
             '}';
     }
 
+    /**
+     * Specifies the same absence for consecutive days from {@code startDate} to {@code endDate}, both inclusive.
+     * Like a {@link Record} a range consists of `morning` and `noon`, a half day absence has one of them only.
+     */
+    public static class Range {
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Person person;
+        private final RecordMorning morning;
+        private final RecordNoon noon;
+
+        public Range(LocalDate startDate, LocalDate endDate, Person person, RecordMorning morning, RecordNoon noon) {
+            if (endDate.isBefore(startDate)) {
+                throw new IllegalArgumentException("endDate " + endDate + " must not be before startDate " + startDate);
+            }
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.person = person;
+            this.morning = morning;
+            this.noon = noon;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public Optional<RecordInfo> getMorning() {
+            return Optional.ofNullable(morning);
+        }
+
+        public Optional<RecordInfo> getNoon() {
+            return Optional.ofNullable(noon);
+        }
+
+        public boolean isHalfDayAbsence() {
+            return (this.morning == null && this.noon != null) || (this.morning != null && this.noon == null);
+        }
+
+        /**
+         * @return number of days of this range
+         */
+        public int getNumberOfDays() {
+            return (int) DAYS.between(startDate, endDate) + 1;
+        }
+
+        /**
+         * @param date a date of this range
+         * @return the absence of the given date
+         */
+        public Record toRecord(LocalDate date) {
+            return new Record(date, person, morning, noon);
+        }
+
+        private static List<Range> of(List<Record> absenceRecords) {
+            final RangesBuilder rangesBuilder = new RangesBuilder();
+            for (Record absenceRecord : absenceRecords) {
+                rangesBuilder.add(absenceRecord.date, absenceRecord.person, absenceRecord.morning, absenceRecord.noon);
+            }
+            return rangesBuilder.build();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Range range = (Range) o;
+            return Objects.equals(startDate, range.startDate) && Objects.equals(endDate, range.endDate)
+                && Objects.equals(person, range.person) && Objects.equals(morning, range.morning) && Objects.equals(noon, range.noon);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(startDate, endDate, person);
+        }
+
+        @Override
+        public String toString() {
+            return "Range{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", person=" + person +
+                ", morning=" + morning +
+                ", noon=" + noon +
+                '}';
+        }
+    }
+
+    /**
+     * Encodes absences day by day into {@link Range}s. A day is appended to the last range if it directly follows it
+     * and has the very same morning and noon absence infos, otherwise a new range is started.
+     */
+    static final class RangesBuilder {
+
+        private final List<Range> ranges = new ArrayList<>();
+
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Person person;
+        private RecordMorning morning;
+        private RecordNoon noon;
+
+        void add(LocalDate date, Person person, RecordMorning morning, RecordNoon noon) {
+            final boolean continuesRange = startDate != null && endDate.plusDays(1).equals(date)
+                && Objects.equals(this.person, person) && this.morning == morning && this.noon == noon;
+
+            if (continuesRange) {
+                endDate = date;
+            } else {
+                flush();
+                this.startDate = date;
+                this.endDate = date;
+                this.person = person;
+                this.morning = morning;
+                this.noon = noon;
+            }
+        }
+
+        List<Range> build() {
+            flush();
+            return List.copyOf(ranges);
+        }
+
+        private void flush() {
+            if (startDate != null) {
+                ranges.add(new Range(startDate, endDate, person, morning, noon));
+                startDate = null;
+            }
+        }
+    }
+
+    /**
+     * Read only view of the {@link Record}s of the ranges. A record is created on access only, iterating walks the
+     * ranges one after the other.
+     */
+    private static final class RangeRecords extends AbstractList<Record> {
+
+        private final List<Range> ranges;
+        private final int[] rangeStartIndexes;
+        private final int size;
+
+        private RangeRecords(List<Range> ranges) {
+            this.ranges = ranges;
+            this.rangeStartIndexes = new int[ranges.size()];
+
+            int index = 0;
+            for (int i = 0; i < ranges.size(); i++) {
+                rangeStartIndexes[i] = index;
+                index += ranges.get(i).getNumberOfDays();
+            }
+            this.size = index;
+        }
+
+        @Override
+        public Record get(int index) {
+            Objects.checkIndex(index, size);
+
+            final int position = Arrays.binarySearch(rangeStartIndexes, index);
+            final int rangeIndex = position >= 0 ? position : -position - 2;
+            final Range range = ranges.get(rangeIndex);
+            return range.toRecord(range.getStartDate().plusDays(index - (long) rangeStartIndexes[rangeIndex]));
+        }
+
+        @Override
+        public Iterator<Record> iterator() {
+            return new Iterator<>() {
+
+                private int rangeIndex;
+                private int dayOffset;
+
+                @Override
+                public boolean hasNext() {
+                    return rangeIndex < ranges.size();
+                }
+
+                @Override
+                public Record next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final Range range = ranges.get(rangeIndex);
+                    final Record absenceRecord = range.toRecord(range.getStartDate().plusDays(dayOffset));
+                    if (++dayOffset == range.getNumberOfDays()) {
+                        rangeIndex++;
+                        dayOffset = 0;
+                    }
+                    return absenceRecord;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
     /**
      * Specifies an absence for one date. The absence consists of `morning` and `evening`.
      * You may have to handle information yourself for "full absence vacation". In This case morning and evening are
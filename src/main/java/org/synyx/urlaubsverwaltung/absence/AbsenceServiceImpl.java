@@ -14,7 +14,6 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.time.LocalDate;
@@ -27,8 +26,6 @@ import java.util.stream.Stream;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
 
 
 @Service
@@ -151,39 +148,43 @@ public class AbsenceServiceImpl implements AbsenceService {
         final Person person = workingTimeCalendarEntry.getKey();
         final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarEntry.getValue();
 
-        return workingTimeCalendar.workingDays().entrySet().stream()
-            .<AbsencePeriod>mapMulti((workingDayInformationEntry, consumer) -> {
-                final LocalDate date = workingDayInformationEntry.getKey();
-                final WorkingDayInformation workingDayInformation = workingDayInformationEntry.getValue();
-
-                if (!workingDayInformation.dayLength().isFull()) {
-                    if (workingDayInformation.morning() == workingDayInformation.noon()) {
-                        if (workingDayInformation.morning() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person), new AbsencePeriod.RecordNoonNoWorkday(person)))));
-                        } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person), new AbsencePeriod.RecordNoonPublicHoliday(person)))));
-                        }
-                    } else {
-                        if (workingDayInformation.morning() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person)))));
-                        } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person)))));
-                        }
-
-                        if (workingDayInformation.noon() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonNoWorkday(person)))));
-                        } else if (workingDayInformation.noon() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonPublicHoliday(person)))));
-                        }
-                    }
+        // the infos are immutable, sharing them allows consecutive days to be combined into one range
+        final AbsencePeriod.RecordMorning morningNoWorkday = new AbsencePeriod.RecordMorningNoWorkday(person);
+        final AbsencePeriod.RecordNoon noonNoWorkday = new AbsencePeriod.RecordNoonNoWorkday(person);
+        final AbsencePeriod.RecordMorning morningPublicHoliday = new AbsencePeriod.RecordMorningPublicHoliday(person);
+        final AbsencePeriod.RecordNoon noonPublicHoliday = new AbsencePeriod.RecordNoonPublicHoliday(person);
+
+        final AbsencePeriod.RangesBuilder rangesBuilder = new AbsencePeriod.RangesBuilder();
+        workingTimeCalendar.forEachWorkingDay((date, workingDayInformation) -> {
+            if (!workingDayInformation.dayLength().isFull()) {
+                final AbsencePeriod.RecordMorning morning = switch (workingDayInformation.morning()) {
+                    case NO_WORKDAY -> morningNoWorkday;
+                    case PUBLIC_HOLIDAY -> morningPublicHoliday;
+                    case WORKDAY -> null;
+                };
+                final AbsencePeriod.RecordNoon noon = switch (workingDayInformation.noon()) {
+                    case NO_WORKDAY -> noonNoWorkday;
+                    case PUBLIC_HOLIDAY -> noonPublicHoliday;
+                    case WORKDAY -> null;
+                };
+
+                if (morning != null && noon != null && workingDayInformation.morning() != workingDayInformation.noon()) {
+                    // e.g. half day public holiday on a half workday, morning and noon are different absences
+                    rangesBuilder.add(date, person, morning, null);
+                    rangesBuilder.add(date, person, null, noon);
+                } else if (morning != null || noon != null) {
+                    rangesBuilder.add(date, person, morning, noon);
                 }
+            }
+        });
 
-            })
+        return rangesBuilder.build().stream()
+            .map(range -> AbsencePeriod.ofRanges(List.of(range)))
             .toList();
     }
 
     private AbsencePeriod toAbsencePeriod(Application application, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
-        return new AbsencePeriod(days(application, askedDateRange, workingTimeCalendarSupplier));
+        return AbsencePeriod.ofRanges(ranges(application, askedDateRange, workingTimeCalendarSupplier));
     }
 
     private AbsencePeriod.AbsenceStatus toAbsenceStatus(ApplicationStatus applicationStatus) {
@@ -198,7 +199,7 @@ public class AbsenceServiceImpl implements AbsenceService {
         };
     }
 
-    private List<AbsencePeriod.Record> days(Application application, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
+    private List<AbsencePeriod.Range> ranges(Application application, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
 
         final LocalDate start = maxDate(application.getStartDate(), askedDateRange.startDate());
         final LocalDate end = minDate(application.getEndDate(), askedDateRange.endDate());
@@ -206,22 +207,30 @@ public class AbsenceServiceImpl implements AbsenceService {
         final Person person = application.getPerson();
         final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarSupplier.apply(person);
 
-        return new DateRange(start, end).stream()
-            .map(date -> Map.entry(date, workingTimeCalendar.workingTimeDayLength(date).orElse(DayLength.ZERO)))
-            .filter(entry -> !entry.getValue().equals(DayLength.ZERO))
-            .map(entry -> toVacationAbsencePeriodRecord(entry.getKey(), entry.getValue(), application))
-            .toList();
-    }
-
-    private AbsencePeriod.Record toVacationAbsencePeriodRecord(LocalDate date, DayLength workingDayLength, Application application) {
-
-        final Person person = application.getPerson();
         final Long applicationId = application.getId();
+        final DayLength applicationDayLength = application.getDayLength();
         final AbsencePeriod.AbsenceStatus status = toAbsenceStatus(application.getStatus());
         final String typeCategory = application.getVacationType().getCategory().name();
         final Long typeId = application.getVacationType().getId();
         final boolean visibleToEveryone = application.getVacationType().isVisibleToEveryone();
-        final DayLength applicationDayLength = application.getDayLength();
+
+        // the infos are immutable, sharing them allows consecutive days to be combined into one range
+        final AbsencePeriod.RecordMorningVacation morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+        final AbsencePeriod.RecordNoonVacation noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+
+        final AbsencePeriod.RangesBuilder rangesBuilder = new AbsencePeriod.RangesBuilder();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            final DayLength workingDayLength = workingTimeCalendar.workingTimeDayLength(date).orElse(DayLength.ZERO);
+            if (!workingDayLength.equals(DayLength.ZERO)) {
+                addVacationDay(rangesBuilder, date, workingDayLength, applicationDayLength, applicationId, morning, noon);
+            }
+        }
+
+        return rangesBuilder.build();
+    }
+
+    private static void addVacationDay(AbsencePeriod.RangesBuilder rangesBuilder, LocalDate date, DayLength workingDayLength, DayLength applicationDayLength,
+                                       Long applicationId, AbsencePeriod.RecordMorningVacation vacationMorning, AbsencePeriod.RecordNoonVacation vacationNoon) {
 
         final AbsencePeriod.RecordMorningVacation morning;
         final AbsencePeriod.RecordNoonVacation noon;
@@ -229,7 +238,7 @@ public class AbsenceServiceImpl implements AbsenceService {
         if (workingDayLength.isMorning()) {
             noon = null;
             if (applicationDayLength.isFull() || applicationDayLength.isMorning()) {
-                morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+                morning = vacationMorning;
             } else {
                 LOG.info("calculate absence seems fishy. workingDayLength={} application.dayLength={} application.id={}", workingDayLength, applicationDayLength, applicationId);
                 morning = null;
@@ -237,27 +246,27 @@ public class AbsenceServiceImpl implements AbsenceService {
         } else if (workingDayLength.isNoon()) {
             morning = null;
             if (applicationDayLength.isFull() || applicationDayLength.isNoon()) {
-                noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+                noon = vacationNoon;
             } else {
                 LOG.info("calculate absence seems fishy. workingDayLength={} application.dayLength={} application.id={} ", workingDayLength, applicationDayLength, applicationId);
                 noon = null;
             }
         } else if (applicationDayLength.isMorning()) {
-            morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            morning = vacationMorning;
             noon = null;
         } else if (applicationDayLength.isNoon()) {
             morning = null;
-            noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            noon = vacationNoon;
         } else {
-            morning = new AbsencePeriod.RecordMorningVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
-            noon = new AbsencePeriod.RecordNoonVacation(person, applicationId, status, typeCategory, typeId, visibleToEveryone);
+            morning = vacationMorning;
+            noon = vacationNoon;
         }
 
-        return new AbsencePeriod.Record(date, person, morning, noon);
+        rangesBuilder.add(date, vacationMorning.getPerson(), morning, noon);
     }
 
     private AbsencePeriod toAbsencePeriod(SickNote sickNote, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
-        return new AbsencePeriod(days(sickNote, askedDateRange, workingTimeCalendarSupplier));
+        return AbsencePeriod.ofRanges(ranges(sickNote, askedDateRange, workingTimeCalendarSupplier));
     }
 
     private AbsencePeriod.AbsenceStatus toAbsenceStatus(SickNoteStatus sickNoteStatus) {
@@ -269,7 +278,7 @@ public class AbsenceServiceImpl implements AbsenceService {
         };
     }
 
-    private List<AbsencePeriod.Record> days(SickNote sickNote, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
+    private List<AbsencePeriod.Range> ranges(SickNote sickNote, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
 
         final LocalDate start = maxDate(sickNote.getStartDate(), askedDateRange.startDate());
         final LocalDate end = minDate(sickNote.getEndDate(), askedDateRange.endDate());
@@ -277,47 +286,35 @@ public class AbsenceServiceImpl implements AbsenceService {
         final Person person = sickNote.getPerson();
         final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarSupplier.apply(person);
 
-        return new DateRange(start, end).stream()
-            .map(date -> Map.entry(date, workingTimeCalendar.workingTimeDayLength(date).orElse(DayLength.ZERO)))
-            // sickNotes are
-            .map(entry -> toSickAbsencePeriodRecord(entry.getKey(), entry.getValue(), sickNote))
-            .toList();
-    }
-
-    private AbsencePeriod.Record toSickAbsencePeriodRecord(LocalDate date, DayLength workingTimeDayLength, SickNote sickNote) {
-
         final Long sickNoteId = sickNote.getId();
-        final Person person = sickNote.getPerson();
         final AbsencePeriod.AbsenceStatus status = toAbsenceStatus(sickNote.getStatus());
         final String typeCategory = sickNote.getSickNoteType().getCategory().name();
         final Long typeId = sickNote.getSickNoteType().getId();
 
-        final AbsencePeriod.RecordMorningSick morning;
-        final AbsencePeriod.RecordNoonSick noon;
-
-        if (workingTimeDayLength.isHalfDay()) {
-            if (workingTimeDayLength.isMorning()) {
-                morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
-                noon = null;
+        // the infos are immutable, sharing them allows consecutive days to be combined into one range
+        final AbsencePeriod.RecordMorningSick morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
+        final AbsencePeriod.RecordNoonSick noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
+
+        final AbsencePeriod.RangesBuilder rangesBuilder = new AbsencePeriod.RangesBuilder();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            // sick notes contain no workdays, too
+            final DayLength workingTimeDayLength = workingTimeCalendar.workingTimeDayLength(date).orElse(DayLength.ZERO);
+            if (workingTimeDayLength.isHalfDay()) {
+                if (workingTimeDayLength.isMorning()) {
+                    rangesBuilder.add(date, person, morning, null);
+                } else {
+                    rangesBuilder.add(date, person, null, noon);
+                }
+            } else if (DayLength.MORNING.equals(sickNote.getDayLength())) {
+                rangesBuilder.add(date, person, morning, null);
+            } else if (DayLength.NOON.equals(sickNote.getDayLength())) {
+                rangesBuilder.add(date, person, null, noon);
             } else {
-                morning = null;
-                noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
+                rangesBuilder.add(date, person, morning, noon);
             }
-            return new AbsencePeriod.Record(date, person, morning, noon);
-        }
-
-        if (DayLength.MORNING.equals(sickNote.getDayLength())) {
-            morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
-            noon = null;
-        } else if (DayLength.NOON.equals(sickNote.getDayLength())) {
-            morning = null;
-            noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
-        } else {
-            morning = new AbsencePeriod.RecordMorningSick(person, sickNoteId, status, typeCategory, typeId);
-            noon = new AbsencePeriod.RecordNoonSick(person, sickNoteId, status, typeCategory, typeId);
         }
 
-        return new AbsencePeriod.Record(date, person, morning, noon);
+        return rangesBuilder.build();
     }
 
     private AbsenceTimeConfiguration getAbsenceTimeConfiguration() {
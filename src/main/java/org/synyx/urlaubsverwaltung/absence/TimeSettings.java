@@ -3,8 +3,14 @@ package org.synyx.urlaubsverwaltung.absence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 @Embeddable
-public class TimeSettings {
+public class TimeSettings implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @Column(name = "timezoneid")
     private String timeZoneId = "Europe/Berlin";
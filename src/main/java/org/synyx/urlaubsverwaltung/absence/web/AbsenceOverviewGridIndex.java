@@ -0,0 +1,153 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Index of the data required to render the absence overview grid.
+ *
+ * <p>Every person gets a column of days covering the requested {@link DateRange}. The absence records are bucketed
+ * into these columns once and the workdays are computed with a single pass over the working times of the person.
+ * Looking up the information of a (person, date) cell is an array access afterward, therefore building the whole grid
+ * is linear in persons × days.</p>
+ */
+final class AbsenceOverviewGridIndex {
+
+    private final LocalDate startDate;
+    private final int numberOfDays;
+    private final Map<Person, PersonColumn> columnByPerson;
+
+    private AbsenceOverviewGridIndex(LocalDate startDate, int numberOfDays, Map<Person, PersonColumn> columnByPerson) {
+        this.startDate = startDate;
+        this.numberOfDays = numberOfDays;
+        this.columnByPerson = columnByPerson;
+    }
+
+    static AbsenceOverviewGridIndex of(DateRange dateRange, Collection<Person> persons, List<WorkingTime> workingTimes, List<AbsencePeriod> absencePeriods) {
+
+        final LocalDate startDate = dateRange.startDate();
+        final int numberOfDays = (int) DAYS.between(startDate, dateRange.endDate()) + 1;
+
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimes.stream().collect(groupingBy(WorkingTime::getPerson));
+
+        final Map<Person, PersonColumn> columnByPerson = new HashMap<>();
+        for (Person person : persons) {
+            final boolean[] workdays = workdays(startDate, numberOfDays, workingTimesByPerson.getOrDefault(person, List.of()));
+            columnByPerson.put(person, new PersonColumn(workdays, new ArrayList<>()));
+        }
+
+        for (AbsencePeriod absencePeriod : absencePeriods) {
+            for (AbsencePeriod.Range range : absencePeriod.getRanges()) {
+                final PersonColumn column = columnByPerson.get(range.getPerson());
+                if (column != null) {
+                    final int firstDayIndex = Math.max(0, (int) DAYS.between(startDate, range.getStartDate()));
+                    final int lastDayIndex = Math.min(numberOfDays - 1, (int) DAYS.between(startDate, range.getEndDate()));
+                    for (int dayIndex = firstDayIndex; dayIndex <= lastDayIndex; dayIndex++) {
+                        column.add(dayIndex, range.toRecord(startDate.plusDays(dayIndex)), numberOfDays);
+                    }
+                }
+            }
+        }
+
+        return new AbsenceOverviewGridIndex(startDate, numberOfDays, columnByPerson);
+    }
+
+    /**
+     * @param person person of the grid row
+     * @param date   date of the grid column
+     * @return absence records of the person at the given date, never {@code null}
+     */
+    List<AbsencePeriod.Record> absenceRecords(Person person, LocalDate date) {
+        final PersonColumn column = columnByPerson.get(person);
+        final int dayIndex = dayIndex(date);
+        if (column == null || dayIndex < 0) {
+            return List.of();
+        }
+        return column.absenceRecords(dayIndex);
+    }
+
+    /**
+     * @param person person of the grid row
+     * @param date   date of the grid column
+     * @return {@code true} when the person has a working time at the given date that defines the day as workday
+     */
+    boolean isWorkday(Person person, LocalDate date) {
+        final PersonColumn column = columnByPerson.get(person);
+        final int dayIndex = dayIndex(date);
+        return column != null && dayIndex >= 0 && column.workdays()[dayIndex];
+    }
+
+    private int dayIndex(LocalDate date) {
+        final int dayIndex = (int) DAYS.between(startDate, date);
+        return dayIndex < numberOfDays ? dayIndex : -1;
+    }
+
+    private static boolean[] workdays(LocalDate startDate, int numberOfDays, List<WorkingTime> workingTimesOfPerson) {
+
+        final List<WorkingTime> sortedWorkingTimes = workingTimesOfPerson.stream()
+            .sorted(comparing(WorkingTime::getValidFrom))
+            .toList();
+
+        final boolean[] workdays = new boolean[numberOfDays];
+
+        // the working time valid at a date is the one with the latest validFrom that is not after the date.
+        // days are visited in ascending order, therefore the valid working time is only moving forward.
+        int nextWorkingTimeIndex = 0;
+        WorkingTime validWorkingTime = null;
+
+        for (int dayIndex = 0; dayIndex < numberOfDays; dayIndex++) {
+            final LocalDate date = startDate.plusDays(dayIndex);
+            while (nextWorkingTimeIndex < sortedWorkingTimes.size() && !sortedWorkingTimes.get(nextWorkingTimeIndex).getValidFrom().isAfter(date)) {
+                final WorkingTime candidate = sortedWorkingTimes.get(nextWorkingTimeIndex);
+                if (validWorkingTime == null || candidate.getValidFrom().isAfter(validWorkingTime.getValidFrom())) {
+                    validWorkingTime = candidate;
+                }
+                nextWorkingTimeIndex++;
+            }
+            workdays[dayIndex] = validWorkingTime != null && validWorkingTime.isWorkingDay(date.getDayOfWeek());
+        }
+
+        return workdays;
+    }
+
+    /**
+     * Columnar data of one person. {@code absenceRecordsByDay} is only filled lazily when the person has any absence.
+     */
+    private record PersonColumn(boolean[] workdays, List<List<AbsencePeriod.Record>> absenceRecordsByDay) {
+
+        void add(int dayIndex, AbsencePeriod.Record absenceRecord, int numberOfDays) {
+            if (absenceRecordsByDay.isEmpty()) {
+                for (int i = 0; i < numberOfDays; i++) {
+                    absenceRecordsByDay.add(null);
+                }
+            }
+            List<AbsencePeriod.Record> records = absenceRecordsByDay.get(dayIndex);
+            if (records == null) {
+                records = new ArrayList<>(2);
+                absenceRecordsByDay.set(dayIndex, records);
+            }
+            records.add(absenceRecord);
+        }
+
+        List<AbsencePeriod.Record> absenceRecords(int dayIndex) {
+            if (absenceRecordsByDay.isEmpty()) {
+                return List.of();
+            }
+            final List<AbsencePeriod.Record> records = absenceRecordsByDay.get(dayIndex);
+            return records == null ? List.of() : records;
+        }
+    }
+}
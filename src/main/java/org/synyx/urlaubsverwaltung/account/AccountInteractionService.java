@@ -5,6 +5,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Provides interactions with {@link Account}s like creating or editing.
@@ -68,6 +69,15 @@ public interface AccountInteractionService {
      */
     Account autoCreateOrUpdateNextYearsHolidaysAccount(Account referenceAccount);
 
+    /**
+     * Bulk variant of {@link #autoCreateOrUpdateNextYearsHolidaysAccount(Account)} that loads, calculates and saves
+     * the accounts of all given reference accounts at once.
+     *
+     * @param referenceAccounts of the same year to get the information about annual vacation days, left vacation days etc.
+     * @return the created/updated holidays accounts
+     */
+    List<Account> autoCreateOrUpdateNextYearsHolidaysAccounts(List<Account> referenceAccounts);
+
     /**
      * Updates the remaining vacation days of all {@link Account}s that follow the {@link Account} of the given year. Updating is stopped when there is no next year's
      * {@link Account}.
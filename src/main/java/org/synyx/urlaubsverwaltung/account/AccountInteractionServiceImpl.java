@@ -12,6 +12,9 @@ import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -21,6 +24,8 @@ import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.Objects.requireNonNullElseGet;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -195,6 +200,54 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
         );
     }
 
+    @Override
+    public List<Account> autoCreateOrUpdateNextYearsHolidaysAccounts(List<Account> referenceAccounts) {
+
+        if (referenceAccounts.isEmpty()) {
+            return List.of();
+        }
+
+        final int year = referenceAccounts.getFirst().getYear();
+        if (referenceAccounts.stream().anyMatch(account -> account.getYear() != year)) {
+            throw new IllegalArgumentException("reference accounts must be of the same year");
+        }
+
+        final int nextYear = year + 1;
+        final LocalDate validFrom = Year.of(nextYear).atDay(1);
+        final LocalDate validTo = validFrom.with(lastDayOfYear());
+
+        final List<Person> persons = referenceAccounts.stream().map(Account::getPerson).toList();
+        final Map<Person, Account> nextYearAccountsByPerson = accountService.getHolidaysAccount(nextYear, persons).stream()
+            .collect(toMap(Account::getPerson, identity(), (account, duplicate) -> account));
+        final Map<Account, BigDecimal> leftVacationDaysByAccount = vacationDaysService.calculateTotalLeftVacationDays(referenceAccounts);
+
+        final List<Account> nextYearAccounts = new ArrayList<>(referenceAccounts.size());
+        for (Account referenceAccount : referenceAccounts) {
+            final BigDecimal leftVacationDays = leftVacationDaysByAccount.get(referenceAccount);
+
+            final Account nextYearAccount = nextYearAccountsByPerson.get(referenceAccount.getPerson());
+            if (nextYearAccount != null) {
+                nextYearAccount.setRemainingVacationDays(leftVacationDays);
+                // number of not expiring remaining vacation days is greater than remaining vacation days
+                if (nextYearAccount.getRemainingVacationDaysNotExpiring().compareTo(leftVacationDays) > 0) {
+                    nextYearAccount.setRemainingVacationDaysNotExpiring(leftVacationDays);
+                }
+                nextYearAccounts.add(nextYearAccount);
+            } else {
+                final LocalDate expiryDateLocally = referenceAccount.getExpiryDateLocally() == null ? null : referenceAccount.getExpiryDateLocally().withYear(nextYear);
+                final Account newAccount = new Account(referenceAccount.getPerson(), validFrom, validTo, referenceAccount.isDoRemainingVacationDaysExpireLocally(),
+                    expiryDateLocally, referenceAccount.getAnnualVacationDays(), leftVacationDays, ZERO, referenceAccount.getComment());
+                newAccount.setActualVacationDays(referenceAccount.getAnnualVacationDays());
+                nextYearAccounts.add(newAccount);
+            }
+        }
+
+        final List<Account> savedAccounts = accountService.saveAll(nextYearAccounts);
+        LOG.info("Created or updated {} holidays accounts for {}", savedAccounts.size(), nextYear);
+
+        return savedAccounts;
+    }
+
     /**
      * calculate remaining vacation days starting from today's month, round to ceiling
      */
@@ -48,6 +48,14 @@ public interface AccountService {
      */
     Account save(Account account);
 
+    /**
+     * Saves all given {@link Account}s at once.
+     *
+     * @param accounts to be saved
+     * @return saved {@link Account}s in the order of the given accounts
+     */
+    List<Account> saveAll(List<Account> accounts);
+
     /**
      * Deletes all {@link Account}s in the database of person id.
      *
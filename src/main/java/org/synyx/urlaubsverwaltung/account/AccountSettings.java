@@ -5,6 +5,8 @@ import jakarta.persistence.Embeddable;
 import jakarta.persistence.Enumerated;
 import org.slf4j.Logger;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.Month;
@@ -19,7 +21,10 @@ import static org.slf4j.LoggerFactory.getLogger;
  * Settings concerning absence of persons because of vacation or sick days.
  */
 @Embeddable
-public class AccountSettings {
+public class AccountSettings implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
@@ -1,5 +1,8 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,7 +18,6 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -30,22 +32,39 @@ public class TurnOfTheYearAccountUpdaterService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final String METRIC_DURATION = "accounts.turn.of.year.duration";
+    private static final String METRIC_UPDATED = "accounts.turn.of.year.updated";
+
+    /**
+     * number of persons whose accounts are loaded, calculated and saved together
+     */
+    private static final int CHUNK_SIZE = 500;
+
     private final PersonService personService;
     private final AccountService accountService;
     private final AccountInteractionService accountInteractionService;
     private final VacationDaysReminderService vacationDaysReminderService;
     private final MailService mailService;
     private final Clock clock;
+    private final Timer duration;
+    private final Counter updated;
 
     @Autowired
     TurnOfTheYearAccountUpdaterService(PersonService personService, AccountService accountService,
-                                       AccountInteractionService accountInteractionService, VacationDaysReminderService vacationDaysReminderService, MailService mailService, Clock clock) {
+                                       AccountInteractionService accountInteractionService, VacationDaysReminderService vacationDaysReminderService,
+                                       MailService mailService, Clock clock, MeterRegistry meterRegistry) {
         this.personService = personService;
         this.accountService = accountService;
         this.accountInteractionService = accountInteractionService;
         this.vacationDaysReminderService = vacationDaysReminderService;
         this.mailService = mailService;
         this.clock = clock;
+        this.duration = Timer.builder(METRIC_DURATION)
+            .description("time to update the holidays accounts for the new year")
+            .register(meterRegistry);
+        this.updated = Counter.builder(METRIC_UPDATED)
+            .description("number of holidays accounts updated for the new year")
+            .register(meterRegistry);
     }
 
     public void updateAccountsForNextPeriod() {
@@ -58,17 +77,26 @@ public class TurnOfTheYearAccountUpdaterService {
         // get all persons
         final List<Person> persons = personService.getActivePersons();
 
-        // get all their accounts and calculate the remaining vacation days for the new year
-        final List<Account> updatedAccounts = new ArrayList<>();
-        for (Person person : persons) {
-            final Optional<Account> accountLastYear = accountService.getHolidaysAccount(year - 1, person);
-            if (accountLastYear.isPresent() && accountLastYear.get().getAnnualVacationDays() != null) {
-                LOG.info("Updating account of person with id {}", person.getId());
-                final Account holidaysAccount = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(accountLastYear.get());
-                LOG.info("Setting remaining vacation days of person with id {} to {} for {}", person.getId(), holidaysAccount.getRemainingVacationDays(), year);
-                updatedAccounts.add(holidaysAccount);
+        // get all their accounts and calculate the remaining vacation days for the new year.
+        // persons are processed in chunks to load, calculate and save their accounts with a few queries each.
+        final List<Account> updatedAccounts = duration.record(() -> {
+            final List<Account> accounts = new ArrayList<>();
+            for (int from = 0; from < persons.size(); from += CHUNK_SIZE) {
+                final List<Person> chunk = persons.subList(from, Math.min(from + CHUNK_SIZE, persons.size()));
+                final List<Account> accountsLastYear = accountService.getHolidaysAccount(year - 1, chunk).stream()
+                    .filter(account -> account.getAnnualVacationDays() != null)
+                    .toList();
+
+                final List<Account> holidaysAccounts = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(accountsLastYear);
+                holidaysAccounts.forEach(holidaysAccount ->
+                    LOG.info("Setting remaining vacation days of person with id {} to {} for {}", holidaysAccount.getPerson().getId(), holidaysAccount.getRemainingVacationDays(), year));
+
+                accounts.addAll(holidaysAccounts);
+                updated.increment(holidaysAccounts.size());
+                LOG.info("Updated holidays accounts of {} / {} persons", from + chunk.size(), persons.size());
             }
-        }
+            return accounts;
+        });
 
         LOG.info("Updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
         sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
@@ -2,7 +2,6 @@ package org.synyx.urlaubsverwaltung.account;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
@@ -46,7 +45,6 @@ public class VacationDaysReminderService {
     /**
      * Reminds for vacation days left for <b>current year</b>.
      */
-    @Async
     public void remindForCurrentlyLeftVacationDays() {
         final int year = Year.now(clock).getValue();
         final List<Person> persons = personService.getActivePersons();
@@ -68,7 +66,6 @@ public class VacationDaysReminderService {
      * Remind for remaining vacation days of last year
      * Should be called after turn of the year logic which calculates the new account for the new year
      */
-    @Async
     public void remindForRemainingVacationDays() {
         final int year = Year.now(clock).getValue();
         final List<Person> persons = personService.getActivePersons();
@@ -95,7 +92,6 @@ public class VacationDaysReminderService {
     /**
      * Notify about expired remaining vacation days
      */
-    @Async
     public void notifyForExpiredRemainingVacationDays() {
         final LocalDate now = LocalDate.now(clock);
         final int year = now.getYear();
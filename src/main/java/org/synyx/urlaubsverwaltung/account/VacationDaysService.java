@@ -6,6 +6,7 @@ import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 
@@ -14,6 +15,7 @@ import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,6 +68,73 @@ public class VacationDaysService {
         return calculateTotalLeftVacationDays(firstDayOfYear, lastDayOfYear, today, account);
     }
 
+    /**
+     * Bulk variant of {@link #calculateTotalLeftVacationDays(Account)}. The applications of all persons are loaded
+     * with one query and the work days of all applications are counted at once.
+     *
+     * @param accounts {@link Account}s to calculate the left vacation days for
+     * @return total number of left vacation days for every given {@link Account}
+     */
+    Map<Account, BigDecimal> calculateTotalLeftVacationDays(List<Account> accounts) {
+
+        if (accounts.isEmpty()) {
+            return Map.of();
+        }
+
+        final LocalDate today = LocalDate.now(clock);
+        final LocalDate firstDayOfFirstYear = accounts.stream().map(account -> Year.of(account.getYear()).atDay(1)).min(LocalDate::compareTo).orElseThrow();
+        final LocalDate lastDayOfLastYear = accounts.stream().map(account -> Year.of(account.getYear()).atDay(1).with(lastDayOfYear())).max(LocalDate::compareTo).orElseThrow();
+
+        final List<Person> persons = accounts.stream().map(Account::getPerson).distinct().toList();
+        final Map<Person, List<Application>> holidayApplicationsByPerson = applicationService.getForStatesAndPerson(activeStatuses(), persons, firstDayOfFirstYear, lastDayOfLastYear).stream()
+            .filter(application -> application.getVacationType().getCategory().equals(HOLIDAY))
+            .collect(groupingBy(Application::getPerson));
+
+        final Map<Account, List<WorkDaysCountQuery>> queriesBeforeExpiryDate = new HashMap<>();
+        final Map<Account, List<WorkDaysCountQuery>> queriesAfterExpiryDate = new HashMap<>();
+        for (Account account : accounts) {
+            final List<Application> applications = holidayApplicationsByPerson.getOrDefault(account.getPerson(), List.of());
+            final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
+            final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+
+            if (account.doRemainingVacationDaysExpire()) {
+                final LocalDate expiryDate = account.getExpiryDate();
+                final LocalDate lastDayBeforeExpiryDate = expiryDate.minusDays(1);
+                queriesBeforeExpiryDate.put(account, usedVacationDaysQueries(applications, account.getPerson(), firstDayOfYear, min(lastDayOfYear, lastDayBeforeExpiryDate)));
+                queriesAfterExpiryDate.put(account, usedVacationDaysQueries(applications, account.getPerson(), max(firstDayOfYear, expiryDate), lastDayOfYear));
+            } else {
+                queriesBeforeExpiryDate.put(account, usedVacationDaysQueries(applications, account.getPerson(), firstDayOfYear, lastDayOfYear));
+                queriesAfterExpiryDate.put(account, List.of());
+            }
+        }
+
+        final List<WorkDaysCountQuery> allQueries = Stream.concat(
+            queriesBeforeExpiryDate.values().stream().flatMap(List::stream),
+            queriesAfterExpiryDate.values().stream().flatMap(List::stream)
+        ).toList();
+        final Map<WorkDaysCountQuery, BigDecimal> workDaysCounts = workDaysCountService.getWorkDaysCounts(allQueries);
+
+        final Map<Account, BigDecimal> totalLeftVacationDaysByAccount = new HashMap<>();
+        for (Account account : accounts) {
+            final BigDecimal usedVacationDaysBeforeExpiryDate = queriesBeforeExpiryDate.get(account).stream().map(workDaysCounts::get).reduce(ZERO, BigDecimal::add);
+            final BigDecimal usedVacationDaysAfterExpiryDate = queriesAfterExpiryDate.get(account).stream().map(workDaysCounts::get).reduce(ZERO, BigDecimal::add);
+
+            final BigDecimal totalLeftVacationDays = VacationDaysLeft.builder()
+                .withAnnualVacation(account.getActualVacationDays())
+                .withRemainingVacation(account.getRemainingVacationDays())
+                .notExpiring(account.getRemainingVacationDaysNotExpiring())
+                .forUsedVacationDaysBeforeExpiry(usedVacationDaysBeforeExpiryDate)
+                .forUsedVacationDaysAfterExpiry(usedVacationDaysAfterExpiryDate)
+                .withVacationDaysUsedNextYear(ZERO)
+                .build()
+                .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
+
+            totalLeftVacationDaysByAccount.put(account, totalLeftVacationDays);
+        }
+
+        return totalLeftVacationDaysByAccount;
+    }
+
     private BigDecimal calculateTotalLeftVacationDays(LocalDate start, LocalDate end, LocalDate today, Account account) {
         return getVacationDaysLeft(start, end, account)
             .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
@@ -224,10 +293,10 @@ public class VacationDaysService {
             dateRangeWorkDaysCountAfterExpiryDate = workingTimeCalendar.workingTime(applicationStartOrFirstDayOfYearOrFrom, applicationEndOrLastDayOfYearOrTo);
         }
 
-        final WorkingTimeCalendar.WorkingDayInformation workingDayInformation = workingTimeCalendar.workingDays().get(application.getStartDate());
+        final Optional<WorkingTimeCalendar.WorkingDayInformation> workingDayInformation = workingTimeCalendar.workingDayInformation(application.getStartDate());
 
         final UsedVacationDaysDateRange dateRangeUsedVacationDays;
-        if (application.getDayLength().isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday()) {
+        if (application.getDayLength().isHalfDay() && workingDayInformation.isPresent() && !workingDayInformation.get().hasHalfDayPublicHoliday()) {
             // halfDay application is only possible for one localDate.
             // so we can safely divide the calculated workDays by 2.
             dateRangeUsedVacationDays = new UsedVacationDaysDateRange(divideBy2(dateRangeWorkDaysCountBeforeExpiryDate), divideBy2(dateRangeWorkDaysCountAfterExpiryDate));
@@ -247,7 +316,7 @@ public class VacationDaysService {
         }
 
         final UsedVacationDaysYear yearUsedVacationDays;
-        if (application.getDayLength().isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday()) {
+        if (application.getDayLength().isHalfDay() && workingDayInformation.isPresent() && !workingDayInformation.get().hasHalfDayPublicHoliday()) {
             // halfDay application is only possible for one localDate.
             // so we can safely divide the calculated workDays by 2.
             yearUsedVacationDays = new UsedVacationDaysYear(divideBy2(yearWorkDaysCountBeforeExpiry), divideBy2(yearWorkDaysCountAfterExpiry));
@@ -430,9 +499,27 @@ public class VacationDaysService {
         return ZERO;
     }
 
+    private static List<WorkDaysCountQuery> usedVacationDaysQueries(List<Application> applications, Person person, LocalDate firstMilestone, LocalDate lastMilestone) {
+
+        if (firstMilestone.isAfter(lastMilestone)) {
+            return List.of();
+        }
+
+        return applications.stream()
+            .filter(application -> !application.getStartDate().isAfter(lastMilestone) && !application.getEndDate().isBefore(firstMilestone))
+            .map(application -> usedVacationDaysQuery(application, person, firstMilestone, lastMilestone))
+            .toList();
+    }
+
     private BigDecimal getUsedVacationDays(Application application, Person person, LocalDate firstMilestone, LocalDate lastMilestone) {
+        final WorkDaysCountQuery query = usedVacationDaysQuery(application, person, firstMilestone, lastMilestone);
+        final DateRange dateRange = query.dateRange();
+        return workDaysCountService.getWorkDaysCount(query.dayLength(), dateRange.startDate(), dateRange.endDate(), person);
+    }
+
+    private static WorkDaysCountQuery usedVacationDaysQuery(Application application, Person person, LocalDate firstMilestone, LocalDate lastMilestone) {
         final LocalDate startDate = application.getStartDate().isBefore(firstMilestone) ? firstMilestone : application.getStartDate();
         final LocalDate endDate = application.getEndDate().isAfter(lastMilestone) ? lastMilestone : application.getEndDate();
-        return workDaysCountService.getWorkDaysCount(application.getDayLength(), startDate, endDate, person);
+        return new WorkDaysCountQuery(person, new DateRange(startDate, endDate), application.getDayLength());
     }
 }
@@ -0,0 +1,268 @@
+package org.synyx.urlaubsverwaltung.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancellationRequestedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeclinedCancellationRequestEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeCreatedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonCreatedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCancelledEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteDeletedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Answers conditional GET requests of the REST API without loading the requested data.
+ *
+ * <p>Holds data versions per tenant: one for tenant wide data like the settings, one for the list of persons and one
+ * per person for the absences and working times of the person. The versions are bumped by the domain events after the
+ * transaction is committed, the weak ETag of a response is derived from the versions the response depends on.
+ * The versions are held per instance, therefore the ETags change after {@link ApiProperties#getEtagTimeToLive()}
+ * at the latest to pick up changes of other instances sharing the same database.</p>
+ */
+@Component
+public class ApiDataVersions {
+
+    private static final String TENANT = "tenant";
+    private static final String PERSONS = "persons";
+    private static final String PERSON = "person-";
+
+    private final TenantContextHolder tenantContextHolder;
+    private final ApiProperties apiProperties;
+    private final Clock clock;
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<DataVersionKey, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApiDataVersions(TenantContextHolder tenantContextHolder, ApiProperties apiProperties, Clock clock) {
+        this.tenantContextHolder = tenantContextHolder;
+        this.apiProperties = apiProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * Checks whether the tenant wide data (e.g. settings and public holidays) requested with the given request is
+     * unchanged. Sets the ETag header of the response in any case.
+     *
+     * @param webRequest the current request
+     * @return {@code true} if the client already has the current data and the response is a 304 Not Modified,
+     * the request handling must stop then. {@code false} otherwise
+     */
+    public boolean isNotModified(WebRequest webRequest) {
+        return checkNotModified(webRequest, eTag(version(TENANT)));
+    }
+
+    /**
+     * Checks whether the list of persons requested with the given request is unchanged.
+     * Sets the ETag header of the response in any case.
+     *
+     * @param webRequest the current request
+     * @return {@code true} if the client already has the current data and the response is a 304 Not Modified,
+     * the request handling must stop then. {@code false} otherwise
+     */
+    public boolean isPersonsNotModified(WebRequest webRequest) {
+        return checkNotModified(webRequest, eTag(version(TENANT), version(PERSONS)));
+    }
+
+    /**
+     * Checks whether the data of the given person (e.g. absences, working times and public holidays) requested with
+     * the given request is unchanged. Sets the ETag header of the response in any case.
+     *
+     * @param webRequest the current request
+     * @param personId   id of the person the requested data belongs to
+     * @return {@code true} if the client already has the current data and the response is a 304 Not Modified,
+     * the request handling must stop then. {@code false} otherwise
+     */
+    public boolean isPersonNotModified(WebRequest webRequest, Long personId) {
+        return checkNotModified(webRequest, eTag(version(TENANT), version(PERSON + personId)));
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true, classes = {
+        SettingsUpdatedEvent.class,
+        VacationTypeCreatedEvent.class,
+        VacationTypeUpdatedEvent.class
+    })
+    void onTenantDataChanged() {
+        bump(TENANT);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(PersonCreatedEvent event) {
+        bump(PERSONS);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(PersonUpdatedEvent event) {
+        bump(PERSONS);
+        bump(PERSON + event.getPersonId());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(PersonDisabledEvent event) {
+        bump(PERSONS);
+        bump(PERSON + event.getPersonId());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(PersonDeletedEvent event) {
+        bump(PERSONS);
+        bump(PERSON + event.person().getId());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(WorkingTimeUpdatedEvent event) {
+        bumpPerson(event.person());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationAllowedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationAllowedTemporarilyEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationAppliedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationCancellationRequestedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationCancelledEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationCreatedFromSickNoteEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationDeclinedCancellationRequestEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationDeletedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationRejectedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationRevokedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(ApplicationUpdatedEvent event) {
+        bumpPerson(event.application().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(SickNoteCancelledEvent event) {
+        bumpPerson(event.sickNote().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(SickNoteCreatedEvent event) {
+        bumpPerson(event.sickNote().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(SickNoteDeletedEvent event) {
+        bumpPerson(event.sickNote().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(SickNoteToApplicationConvertedEvent event) {
+        bumpPerson(event.sickNote().getPerson());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(SickNoteUpdatedEvent event) {
+        bumpPerson(event.sickNote().getPerson());
+    }
+
+    private void bumpPerson(Person person) {
+        bump(PERSON + person.getId());
+    }
+
+    private void bump(String scope) {
+        versions.computeIfAbsent(new DataVersionKey(currentTenantId(), scope), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private long version(String scope) {
+        final AtomicLong version = versions.get(new DataVersionKey(currentTenantId(), scope));
+        return version == null ? 0 : version.get();
+    }
+
+    private String currentTenantId() {
+        return tenantContextHolder.getCurrentTenantId().map(TenantId::tenantId).orElse("");
+    }
+
+    private String eTag(long... versionsOfData) {
+        final long timeToLiveBucket = Instant.now(clock).toEpochMilli() / apiProperties.getEtagTimeToLive().toMillis();
+
+        final StringBuilder eTag = new StringBuilder("W/\"").append(instanceId).append('-').append(timeToLiveBucket);
+        for (long version : versionsOfData) {
+            eTag.append('-').append(version);
+        }
+        return eTag.append('"').toString();
+    }
+
+    private static boolean checkNotModified(WebRequest webRequest, String eTag) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            // clients have to revalidate every time, but are allowed to store the response for that
+            servletWebRequest.getResponse().setHeader(CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return webRequest.checkNotModified(eTag);
+    }
+
+    private record DataVersionKey(String tenantId, String scope) {
+    }
+}
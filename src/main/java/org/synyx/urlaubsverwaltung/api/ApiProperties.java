@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung.api;
+
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@Component
+@ConfigurationProperties("uv.api")
+@Validated
+public class ApiProperties {
+
+    /**
+     * Defines how long an ETag of the REST API stays valid at most.
+     * ETags change on every change of the data on this instance, this limit is for changes
+     * of other instances sharing the same database.
+     * <p>
+     * Default time to live is five minutes (PT5M).
+     */
+    @NotNull
+    @DurationMin(minutes = 1)
+    @DurationUnit(ChronoUnit.MINUTES)
+    private Duration etagTimeToLive = Duration.ofMinutes(5);
+
+    public Duration getEtagTimeToLive() {
+        return etagTimeToLive;
+    }
+
+    public void setEtagTimeToLive(Duration etagTimeToLive) {
+        this.etagTimeToLive = etagTimeToLive;
+    }
+}
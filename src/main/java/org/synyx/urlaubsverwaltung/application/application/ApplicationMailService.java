@@ -2,7 +2,6 @@ package org.synyx.urlaubsverwaltung.application.application;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
@@ -89,7 +88,6 @@ class ApplicationMailService {
         this.clock = clock;
     }
 
-    @Async
     void sendAllowedNotification(Application application, ApplicationComment applicationComment) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, DEFAULT, application.getPerson());
@@ -137,7 +135,6 @@ class ApplicationMailService {
      * @param application the application which got rejected
      * @param comment     reason why application was rejected
      */
-    @Async
     void sendRejectedNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -172,7 +169,6 @@ class ApplicationMailService {
      * @param recipient   to request for a second opinion
      * @param sender      person that asks for a second opinion
      */
-    @Async
     void sendReferredToManagementNotification(Application application, Person recipient, Person sender) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -197,7 +193,6 @@ class ApplicationMailService {
      * @param application that has been edited
      * @param editor      that edited the application for leave
      */
-    @Async
     void sendEditedNotification(Application application, Person editor) {
 
         final Mail mailToApplicant;
@@ -230,7 +225,6 @@ class ApplicationMailService {
      *
      * @param application cancellation requested application
      */
-    @Async
     void sendDeclinedCancellationRequestApplicationNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -263,7 +257,6 @@ class ApplicationMailService {
      * @param application    cancelled application
      * @param createdComment additional comment for the confirming application
      */
-    @Async
     void sendCancellationRequest(Application application, ApplicationComment createdComment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -294,7 +287,6 @@ class ApplicationMailService {
      *
      * @param application the application that has been converted from sick note to vacation
      */
-    @Async
     void sendSickNoteConvertedToVacationNotification(Application application) {
 
         final Mail mailToApplicant = Mail.builder()
@@ -320,7 +312,6 @@ class ApplicationMailService {
      * @param application confirmed application
      * @param comment     additional comment for the confirming application
      */
-    @Async
     void sendConfirmationAllowedDirectly(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -353,7 +344,6 @@ class ApplicationMailService {
      * @param application confirmed application on behalf
      * @param comment     additional comment for the application
      */
-    @Async
     void sendConfirmationAllowedDirectlyByManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -387,7 +377,6 @@ class ApplicationMailService {
      * @param application directly allowed application
      * @param comment     additional comment for the application
      */
-    @Async
     void sendDirectlyAllowedNotificationToManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -414,7 +403,6 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement
      */
-    @Async
     void notifyHolidayReplacementAboutDirectlyAllowedApplication(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, AbsenceType.HOLIDAY_REPLACEMENT, holidayReplacement.getPerson());
@@ -442,7 +430,6 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement beforehand
      */
-    @Async
     void notifyHolidayReplacementForApply(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -467,7 +454,6 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement
      */
-    @Async
     void notifyHolidayReplacementAllow(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, AbsenceType.HOLIDAY_REPLACEMENT, holidayReplacement.getPerson());
@@ -495,7 +481,6 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement was cancelled
      */
-    @Async
     void notifyHolidayReplacementAboutCancellation(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, DEFAULT, CANCELLED, holidayReplacement.getPerson());
@@ -522,7 +507,6 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement was cancelled
      */
-    @Async
     void notifyHolidayReplacementAboutEdit(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -549,7 +533,6 @@ class ApplicationMailService {
      * @param application confirmed application
      * @param comment     additional comment for the confirming application
      */
-    @Async
     void sendAppliedNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -574,7 +557,6 @@ class ApplicationMailService {
      * @param application confirmed application on behalf
      * @param comment     additional comment for the application
      */
-    @Async
     void sendAppliedByManagementNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -598,7 +580,6 @@ class ApplicationMailService {
      * @param application the application which got cancelled
      * @param comment     describes the reason of the revocation
      */
-    @Async
     void sendRevokedNotifications(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -640,7 +621,6 @@ class ApplicationMailService {
      * @param application that was cancelled directly
      * @param comment     additional comment for the application
      */
-    @Async
     void sendCancelledDirectlyToManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -665,7 +645,6 @@ class ApplicationMailService {
      * @param application the application which got cancelled directly
      * @param comment     describes the reason of the direct cancellation
      */
-    @Async
     void sendCancelledDirectlyConfirmationByApplicant(Application application, ApplicationComment comment) {
 
         final Person recipient = application.getPerson();
@@ -705,7 +684,6 @@ class ApplicationMailService {
      * @param application confirmed application on behalf
      * @param comment     additional comment for the application
      */
-    @Async
     void sendCancelledDirectlyConfirmationByManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -737,7 +715,6 @@ class ApplicationMailService {
      * @param application the application which got cancelled
      * @param comment     describes the reason of the cancellation
      */
-    @Async
     void sendCancelledConfirmationByManagement(Application application, ApplicationComment comment) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, DEFAULT, CANCELLED, application.getPerson());
@@ -786,7 +763,6 @@ class ApplicationMailService {
      * @param application to allow or reject
      * @param comment     additional comment for the application
      */
-    @Async
     void sendAppliedNotificationToManagement(Application application, ApplicationComment comment) {
 
         final List<Application> applicationsForLeave =
@@ -816,7 +792,6 @@ class ApplicationMailService {
      * @param application that has been allowed temporary by a department head
      * @param comment     contains reason why application for leave has been allowed temporary
      */
-    @Async
     void sendTemporaryAllowedNotification(Application application, ApplicationComment comment) {
 
         // Inform user that the application for leave has been allowed temporary
@@ -859,7 +834,6 @@ class ApplicationMailService {
      *
      * @param application to receive a reminding notification
      */
-    @Async
     void sendRemindNotificationToManagement(Application application) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(APPLICATION, application);
@@ -873,7 +847,6 @@ class ApplicationMailService {
         mailService.send(mailToAllowAndRemind);
     }
 
-    @Async
     void sendRemindForUpcomingApplicationsReminderNotification(List<Application> applications) {
         for (Application application : applications) {
 
@@ -891,7 +864,6 @@ class ApplicationMailService {
         }
     }
 
-    @Async
     void sendRemindForUpcomingHolidayReplacement(List<Application> applications) {
         for (Application application : applications) {
             for (HolidayReplacementEntity holidayReplacement : application.getHolidayReplacements()) {
@@ -912,7 +884,6 @@ class ApplicationMailService {
         }
     }
 
-    @Async
     void sendRemindForWaitingApplicationsReminderNotification(List<Application> waitingApplications) {
 
         /*
@@ -5,12 +5,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.util.Collection;
 import java.util.List;
 
 interface ApplicationCommentRepository extends CrudRepository<ApplicationCommentEntity, Long> {
 
     List<ApplicationCommentEntity> findByApplicationId(Long applicationId);
 
+    List<ApplicationCommentEntity> findByApplicationIdIn(Collection<Long> applicationIds);
+
     List<ApplicationCommentEntity> findByPerson(Person person);
 
     @Modifying
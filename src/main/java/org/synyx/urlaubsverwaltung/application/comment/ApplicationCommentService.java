@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.application.comment;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,14 @@ public interface ApplicationCommentService {
      */
     List<ApplicationComment> getCommentsByApplication(Application application);
 
+    /**
+     * Gets all {@link ApplicationComment}s for the given {@link Application}s at once.
+     *
+     * @param applications to get the comments for
+     * @return all {@link ApplicationComment}s for the given {@link Application}s
+     */
+    List<ApplicationComment> getCommentsByApplications(Collection<Application> applications);
+
     /**
      * Deletes all {@link ApplicationComment} in the database for given person.
      * This does not delete comments of this person on other persons applications.
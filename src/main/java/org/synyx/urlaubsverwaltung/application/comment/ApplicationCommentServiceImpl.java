@@ -8,6 +8,7 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +72,21 @@ class ApplicationCommentServiceImpl implements ApplicationCommentService {
         return commentEntities.stream().map(entity -> toApplicationComment(entity, applicationById::get)).toList();
     }
 
+    @Override
+    public List<ApplicationComment> getCommentsByApplications(Collection<Application> applications) {
+
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, Application> applicationById = applications.stream()
+            .collect(Collectors.toMap(Application::getId, Function.identity(), (first, second) -> first));
+
+        return commentRepository.findByApplicationIdIn(applicationById.keySet()).stream()
+            .map(entity -> toApplicationComment(entity, applicationById::get))
+            .toList();
+    }
+
     @Override
     public void deleteByApplicationPerson(Person applicationPerson) {
         commentRepository.deleteByApplicationPerson(applicationPerson);
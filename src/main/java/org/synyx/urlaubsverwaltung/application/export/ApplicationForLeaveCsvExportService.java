@@ -9,8 +9,8 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.text.NumberFormat.getInstance;
@@ -38,7 +38,7 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
+    public void write(FilterPeriod period, Locale locale, Stream<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
@@ -17,6 +17,7 @@ import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.lang.Integer.MAX_VALUE;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -41,6 +43,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 @Transactional
 class ApplicationForLeaveExportService {
 
+    private static final int STREAM_PAGE_SIZE = 100;
+
     private static final String PERSON_PREFIX = "person.";
 
     private final ApplicationService applicationService;
@@ -110,6 +114,26 @@ class ApplicationForLeaveExportService {
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
+    /**
+     * Streams all application for leaves that the person is allowed to access, e.g. to export them.
+     * As long as the export is sorted by person attributes, the members are fetched and their application for leaves
+     * are computed page by page while the stream is consumed. Sorting by other attributes needs everything at once.
+     *
+     * @param person to ask for the export
+     * @param from   a specific date
+     * @param to     a specific date
+     * @param sort   order of the export
+     * @return lazily computed stream of all {@link ApplicationForLeaveExport} that the person can access
+     */
+    Stream<ApplicationForLeaveExport> streamAll(Person person, LocalDate from, LocalDate to, Sort sort) {
+        if (!isSortByPersonAttribute(sort)) {
+            return getAll(person, from, to, new PageableSearchQuery(PageRequest.of(0, MAX_VALUE, sort), "")).stream();
+        }
+
+        return PageStreamSupport.stream(pageable ->
+            getAll(person, from, to, new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort), "")), STREAM_PAGE_SIZE);
+    }
+
     private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
         return personListEntry ->
         {
@@ -132,7 +156,7 @@ class ApplicationForLeaveExportService {
 
     private Page<Person> getMembersForPerson(Person person, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean sortByPerson = isSortByPersonAttribute(pageable.getSort());
 
         if (person.hasRole(OFFICE) || person.hasRole(BOSS)) {
             final PageableSearchQuery query = sortByPerson
@@ -146,8 +170,8 @@ class ApplicationForLeaveExportService {
         return departmentService.getManagedMembersOfPerson(person, query);
     }
 
-    private boolean isSortByPersonAttribute(Pageable pageable) {
-        for (Sort.Order order : pageable.getSort()) {
+    private boolean isSortByPersonAttribute(Sort sort) {
+        for (Sort.Order order : sort) {
             if (!order.getProperty().startsWith(PERSON_PREFIX)) {
                 return false;
             }
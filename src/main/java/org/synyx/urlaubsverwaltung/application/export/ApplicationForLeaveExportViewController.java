@@ -1,10 +1,10 @@
 package org.synyx.urlaubsverwaltung.application.export;
 
 import de.focus_shift.launchpad.api.HasLaunchpad;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
@@ -24,15 +24,18 @@ import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.IOException;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.OK;
 import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_PRIVILEGED_USER;
 
@@ -64,7 +67,6 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
     public ResponseEntity<ByteArrayResource> downloadCsvExport(
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
-        @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
         @RequestParam(value = "query", required = false, defaultValue = "") String query,
         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
         Locale locale
@@ -78,9 +80,7 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
 
         final Page<ApplicationForLeaveExport> exportPage = applicationForLeaveExportService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
         final List<ApplicationForLeaveExport> export = exportPage.getContent();
@@ -93,6 +93,37 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
         return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
     }
 
+    /**
+     * Writes the csv of everyone directly into the response while the ApplicationForLeaveExport are computed page by page.
+     * The content length is not known upfront, therefore the response is sent chunked.
+     */
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @GetMapping(value = "/export", params = "allElements=true")
+    public void downloadCsvExportOfAll(
+        @RequestParam(value = "from", defaultValue = "") String from,
+        @RequestParam(value = "to", defaultValue = "") String to,
+        @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+        Locale locale, HttpServletResponse response
+    ) throws IOException {
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+
+        // NOTE: Not supported at the moment
+        if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
+            response.setStatus(BAD_REQUEST.value());
+            return;
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
+        final String fileName = applicationForLeaveCsvExportService.fileName(period, locale);
+
+        response.setContentType(new MediaType("text", "csv", UTF_8).toString());
+        response.setHeader(CONTENT_DISPOSITION, ContentDisposition.builder("attachment").filename(fileName, UTF_8).build().toString());
+
+        try (Stream<ApplicationForLeaveExport> export = applicationForLeaveExportService.streamAll(signedInUser, period.getStartDate(), period.getEndDate(), pageable.getSort())) {
+            applicationForLeaveCsvExportService.streamCSV(period, locale, export, response.getOutputStream());
+        }
+    }
+
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
         final LocalDate firstDayOfYear = Year.now(clock).atDay(1);
         final LocalDate startDate = dateFormatAware.parse(startDateString, locale).orElse(firstDayOfYear);
@@ -2,11 +2,17 @@ package org.synyx.urlaubsverwaltung.application.settings;
 
 import jakarta.persistence.Embeddable;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * Settings concerning absence of persons because of vacation or sick days.
  */
 @Embeddable
-public class ApplicationSettings {
+public class ApplicationSettings implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * Specifies how many months in advance a person can apply for leave.
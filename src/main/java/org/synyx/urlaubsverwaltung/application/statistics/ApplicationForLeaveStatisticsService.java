@@ -15,6 +15,7 @@ import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static java.lang.Integer.MAX_VALUE;
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
@@ -31,6 +33,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 @Service
 class ApplicationForLeaveStatisticsService {
 
+    private static final int STREAM_PAGE_SIZE = 100;
+
     private final PersonService personService;
     private final PersonBasedataService personBasedataService;
     private final DepartmentService departmentService;
@@ -47,6 +51,25 @@ class ApplicationForLeaveStatisticsService {
         this.vacationTypeService = vacationTypeService;
     }
 
+    /**
+     * Streams all {@link ApplicationForLeaveStatistics} the given person is allowed to see, e.g. to export them.
+     * As long as the statistics are sorted by person attributes, the persons are fetched and their statistics are
+     * computed page by page while the stream is consumed. Sorting by a statistics attribute needs all statistics at once.
+     *
+     * @param person person to restrict the returned statistics
+     * @param period filter result set for a given period of time
+     * @param sort   order of the statistics
+     * @return lazily computed stream of {@link ApplicationForLeaveStatistics}
+     */
+    Stream<ApplicationForLeaveStatistics> streamStatistics(Person person, FilterPeriod period, Sort sort) {
+        if (!isSortByPersonAttribute(sort)) {
+            return getStatistics(person, period, new PageableSearchQuery(PageRequest.of(0, MAX_VALUE, sort), "")).stream();
+        }
+
+        return PageStreamSupport.stream(pageable ->
+            getStatistics(person, period, new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort), "")), STREAM_PAGE_SIZE);
+    }
+
     /**
      * Get {@link ApplicationForLeaveStatistics} the given person is allowed to see.
      * A person with {@link org.synyx.urlaubsverwaltung.person.Role} BOSS or OFFICE is allowed to see statistics of everyone for instance.
@@ -89,7 +112,7 @@ class ApplicationForLeaveStatisticsService {
 
     private Page<Person> getAllRelevantPersons(Person person, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean sortByPerson = isSortByPersonAttribute(pageable.getSort());
 
         if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
             final PageableSearchQuery query = sortByPerson
@@ -115,8 +138,8 @@ class ApplicationForLeaveStatisticsService {
         return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), personSort);
     }
 
-    private boolean isSortByPersonAttribute(Pageable pageable) {
-        for (Sort.Order order : pageable.getSort()) {
+    private boolean isSortByPersonAttribute(Sort sort) {
+        for (Sort.Order order : sort) {
             if (!order.getProperty().startsWith("person.")) {
                 return false;
             }
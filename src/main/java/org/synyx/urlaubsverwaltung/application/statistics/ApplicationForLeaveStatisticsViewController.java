@@ -7,7 +7,6 @@ import org.springframework.context.MessageSource;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
@@ -34,6 +33,7 @@ import org.synyx.urlaubsverwaltung.web.html.HtmlOptionDto;
 import org.synyx.urlaubsverwaltung.web.html.HtmlSelectDto;
 import org.synyx.urlaubsverwaltung.web.html.PaginationDto;
 
+import java.io.IOException;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
@@ -42,12 +42,14 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.util.StringUtils.hasText;
 import static org.synyx.urlaubsverwaltung.application.statistics.ApplicationForLeaveStatisticsMapper.mapToApplicationForLeaveStatisticsDto;
@@ -155,7 +157,6 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
-        @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
         @RequestParam(value = "query", required = false, defaultValue = "") String query,
         Locale locale, HttpServletResponse response
     ) {
@@ -168,9 +169,7 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
 
         final Page<ApplicationForLeaveStatistics> statisticsPage = applicationForLeaveStatisticsService.getStatistics(signedInUser, period, pageableSearchQuery);
         final List<ApplicationForLeaveStatistics> statistics = statisticsPage.getContent();
@@ -183,6 +182,37 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
         return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
     }
 
+    /**
+     * Writes the csv of everyone directly into the response while the ApplicationForLeaveStatistics are computed page by page.
+     * The content length is not known upfront, therefore the response is sent chunked.
+     */
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @GetMapping(value = "/download", params = "allElements=true")
+    public void downloadCSVOfAll(
+        @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+        @RequestParam(value = "from", defaultValue = "") String from,
+        @RequestParam(value = "to", defaultValue = "") String to,
+        Locale locale, HttpServletResponse response
+    ) throws IOException {
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+
+        // NOTE: Not supported at the moment
+        if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
+            response.setStatus(BAD_REQUEST.value());
+            return;
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
+        final String fileName = applicationForLeaveStatisticsCsvExportService.fileName(period, locale);
+
+        response.setContentType(new MediaType("text", "csv", UTF_8).toString());
+        response.setHeader(CONTENT_DISPOSITION, ContentDisposition.builder("attachment").filename(fileName, UTF_8).build().toString());
+
+        try (Stream<ApplicationForLeaveStatistics> statistics = applicationForLeaveStatisticsService.streamStatistics(signedInUser, period, pageable.getSort())) {
+            applicationForLeaveStatisticsCsvExportService.streamCSV(period, locale, statistics, response.getOutputStream());
+        }
+    }
+
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
         final LocalDate firstDayOfYear = Year.now(clock).atDay(1);
         final LocalDate startDate = dateFormatAware.parse(startDateString, locale).orElse(firstDayOfYear);
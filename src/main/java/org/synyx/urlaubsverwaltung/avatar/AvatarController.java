@@ -29,12 +29,14 @@ public class AvatarController {
     public ResponseEntity<String> avatar(@RequestParam(value = "name", defaultValue = UNKNOWN_PERSON) String name, Locale locale) {
 
         final Map<String, Object> model = Map.of("initials", getInitials(name.trim()));
-        final String svg = svgService.createSvg("svg/avatar", locale, model);
+        final RenderedSvg svg = svgService.getSvg("svg/avatar", locale, model);
 
+        // conditional requests with a matching etag are answered with 304 not modified
         return ResponseEntity.ok()
             .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS))
+            .eTag(svg.eTag())
             .contentType(MediaType.valueOf("image/svg+xml"))
-            .body(svg);
+            .body(svg.content());
     }
 
     private static String getInitials(String niceName) {
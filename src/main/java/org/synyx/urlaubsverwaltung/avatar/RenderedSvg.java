@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.avatar;
+
+/**
+ * A rendered svg with the entity tag of its content.
+ *
+ * @param content the svg
+ * @param eTag    strong entity tag derived from the hash of the content
+ */
+record RenderedSvg(String content, String eTag) {
+}
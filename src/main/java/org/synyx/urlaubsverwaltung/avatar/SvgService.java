@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.avatar;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
@@ -9,23 +11,67 @@ import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.ITemplateResolver;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
 import static org.thymeleaf.templatemode.TemplateMode.HTML;
 
+/**
+ * Renders svg templates. The rendered svgs are held in a bounded cache of the least recently used svgs, since the
+ * same avatars are requested again and again by the overview pages. Like the templates, the rendered svgs are only
+ * cached with {@code spring.thymeleaf.cache} enabled.
+ */
 @Service
 class SvgService {
 
     private static final String RESOURCES_TEMPLATES_DIR_PREFIX = "templates/";
+    private static final int MAX_CACHED_SVGS = 1024;
 
     private final ISpringTemplateEngine svgTemplateEngine;
+    private final boolean cache;
+    private final Map<SvgKey, RenderedSvg> renderedSvgs = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SvgKey, RenderedSvg> eldest) {
+            return size() > MAX_CACHED_SVGS;
+        }
+    });
 
     @Autowired
-    SvgService(final MessageSource messageSource) {
+    SvgService(final MessageSource messageSource, final ThymeleafProperties thymeleafProperties) {
+        this.cache = thymeleafProperties.isCache();
         this.svgTemplateEngine = svgTemplateEngine(messageSource);
     }
 
+    /**
+     * Returns the rendered svg from the cache or renders it, if it is not cached yet.
+     *
+     * @param templateName name of the svg template
+     * @param locale       to render the svg in
+     * @param model        of the svg template, used as part of the cache key
+     * @return the rendered svg with its entity tag
+     */
+    RenderedSvg getSvg(final String templateName, final Locale locale, final Map<String, Object> model) {
+
+        final SvgKey key = new SvgKey(templateName, locale, model);
+        final RenderedSvg cachedSvg = renderedSvgs.get(key);
+        if (cachedSvg != null) {
+            return cachedSvg;
+        }
+
+        // rendered without holding the lock of the cache, the same svg may be rendered concurrently but that is cheaper
+        // than serializing all requests behind one rendering
+        final String svg = createSvg(templateName, locale, model);
+        final RenderedSvg renderedSvg = new RenderedSvg(svg, "\"" + DigestUtils.md5Hex(svg) + "\"");
+        if (!cache) {
+            return renderedSvg;
+        }
+
+        final RenderedSvg concurrentlyRenderedSvg = renderedSvgs.putIfAbsent(key, renderedSvg);
+        return concurrentlyRenderedSvg == null ? renderedSvg : concurrentlyRenderedSvg;
+    }
+
     String createSvg(final String templateName, final Locale locale, final Map<String, Object> model) {
         return this.svgTemplateEngine.process(templateName, new Context(locale, model));
     }
@@ -41,8 +87,11 @@ class SvgService {
         final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
         resolver.setPrefix(RESOURCES_TEMPLATES_DIR_PREFIX);
         resolver.setSuffix(".svg");
-        resolver.setCacheable(false);
+        resolver.setCacheable(cache);
         resolver.setTemplateMode(HTML);
         return resolver;
     }
+
+    private record SvgKey(String templateName, Locale locale, Map<String, Object> model) {
+    }
 }
@@ -0,0 +1,15 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.springframework.core.io.ByteArrayResource;
+
+import java.time.Instant;
+
+/**
+ * iCal feed of a recipient with the information required for conditional requests.
+ *
+ * @param iCal         the calendar of the recipient
+ * @param eTag         entity tag of the calendar, changes whenever the calendar changes
+ * @param lastModified point in time the calendar was rendered
+ */
+record CalendarFeed(ByteArrayResource iCal, String eTag, Instant lastModified) {
+}
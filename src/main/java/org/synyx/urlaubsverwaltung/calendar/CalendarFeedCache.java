@@ -0,0 +1,177 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancellationRequestedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeclinedCancellationRequestEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.department.PersonLeftDepartmentEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCancelledEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteDeletedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.Comparator.comparing;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Holds the rendered company and department calendars per tenant.
+ *
+ * <p>A calendar is rendered once per scope, since date and title (which covers the locale) and shared by all
+ * subscribers. Serving a subscriber is a lookup plus patching the events of the subscriber. The calendars of a tenant
+ * are dropped after the commit of every change of an application, sick note, person or the settings and after
+ * {@link CalendarProperties#getCacheTimeToLive()} to pick up changes of other instances sharing the same database.
+ * Outdated calendars are pruned whenever a calendar is added, and at most {@value MAX_CACHED_CALENDARS} calendars are
+ * kept, dropping the calendars rendered first.</p>
+ *
+ * <p>Calendars are rendered without holding a lock of the cache. A calendar rendered while calendars were dropped may
+ * contain data of before the change and is therefore served but not cached.</p>
+ */
+@Component
+class CalendarFeedCache {
+
+    private static final int MAX_CACHED_CALENDARS = 1000;
+
+    private final ICalService iCalService;
+    private final TenantContextHolder tenantContextHolder;
+    private final CalendarProperties calendarProperties;
+    private final Clock clock;
+
+    private final Map<CalendarFeedKey, RenderedCalendar> calendars = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    CalendarFeedCache(ICalService iCalService, TenantContextHolder tenantContextHolder, CalendarProperties calendarProperties, Clock clock) {
+        this.iCalService = iCalService;
+        this.tenantContextHolder = tenantContextHolder;
+        this.calendarProperties = calendarProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * @param scope     identifies the absences contained in the calendar
+     * @param sinceDate first date of the calendar
+     * @param title     of the calendar
+     * @param recipient of the calendar
+     * @param absences  supplies the absences of the calendar when it has to be rendered
+     * @return the calendar of the recipient
+     */
+    CalendarFeed getCalendarFeed(CalendarFeedScope scope, LocalDate sinceDate, String title, Person recipient, Supplier<List<Absence>> absences) {
+
+        final Instant now = Instant.now(clock);
+        final Optional<TenantId> maybeTenantId = tenantContextHolder.getCurrentTenantId();
+
+        final RenderedCalendar renderedCalendar;
+        if (maybeTenantId.isEmpty()) {
+            renderedCalendar = new RenderedCalendar(iCalService.getSharedCalendar(title, absences.get()), now);
+        } else {
+            final CalendarFeedKey key = new CalendarFeedKey(maybeTenantId.get(), scope, sinceDate, title);
+            final RenderedCalendar current = calendars.get(key);
+            if (current == null || current.isOutdated(now, calendarProperties.getCacheTimeToLive())) {
+                renderedCalendar = render(key, title, absences, now);
+            } else {
+                renderedCalendar = current;
+            }
+        }
+
+        final SharedCalendar sharedCalendar = renderedCalendar.sharedCalendar();
+        final String eTag = "\"" + sharedCalendar.contentHash() + "-" + recipient.getId() + "\"";
+        return new CalendarFeed(iCalService.getCalendar(sharedCalendar, recipient), eTag, renderedCalendar.renderedAt());
+    }
+
+    private RenderedCalendar render(CalendarFeedKey key, String title, Supplier<List<Absence>> absences, Instant now) {
+
+        final long evictionsBeforeRendering = evictions.get();
+        final RenderedCalendar renderedCalendar = new RenderedCalendar(iCalService.getSharedCalendar(title, absences.get()), now);
+
+        calendars.put(key, renderedCalendar);
+        if (evictions.get() != evictionsBeforeRendering) {
+            calendars.remove(key, renderedCalendar);
+        }
+
+        prune(now);
+
+        return renderedCalendar;
+    }
+
+    private void prune(Instant now) {
+
+        calendars.values().removeIf(renderedCalendar -> renderedCalendar.isOutdated(now, calendarProperties.getCacheTimeToLive()));
+
+        while (calendars.size() > MAX_CACHED_CALENDARS) {
+            calendars.entrySet().stream()
+                .min(comparing(entry -> entry.getValue().renderedAt()))
+                .ifPresent(eldest -> calendars.remove(eldest.getKey(), eldest.getValue()));
+        }
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true, classes = {
+        ApplicationAllowedEvent.class,
+        ApplicationAllowedTemporarilyEvent.class,
+        ApplicationAppliedEvent.class,
+        ApplicationCancellationRequestedEvent.class,
+        ApplicationCancelledEvent.class,
+        ApplicationCreatedFromSickNoteEvent.class,
+        ApplicationDeclinedCancellationRequestEvent.class,
+        ApplicationDeletedEvent.class,
+        ApplicationRejectedEvent.class,
+        ApplicationRevokedEvent.class,
+        ApplicationUpdatedEvent.class,
+        SickNoteCancelledEvent.class,
+        SickNoteCreatedEvent.class,
+        SickNoteDeletedEvent.class,
+        SickNoteToApplicationConvertedEvent.class,
+        SickNoteUpdatedEvent.class,
+        PersonUpdatedEvent.class,
+        PersonDisabledEvent.class,
+        PersonDeletedEvent.class,
+        PersonLeftDepartmentEvent.class,
+        SettingsUpdatedEvent.class
+    })
+    void evictCalendarsOfCurrentTenant() {
+        evictions.incrementAndGet();
+        tenantContextHolder.getCurrentTenantId().ifPresentOrElse(
+            tenantId -> calendars.keySet().removeIf(key -> key.tenantId().equals(tenantId)),
+            calendars::clear
+        );
+        prune(Instant.now(clock));
+    }
+
+    private record CalendarFeedKey(TenantId tenantId, CalendarFeedScope scope, LocalDate sinceDate, String title) {
+    }
+
+    private record RenderedCalendar(SharedCalendar sharedCalendar, Instant renderedAt) {
+        boolean isOutdated(Instant now, Duration timeToLive) {
+            return !renderedAt.plus(timeToLive).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Identifies the absences contained in a company or department calendar.
+ */
+sealed interface CalendarFeedScope {
+
+    CalendarFeedScope COMPANY = new Company();
+
+    /**
+     * @param departmentId id of the department
+     * @param memberIds    ids of the members of the department, part of the scope because joining a department
+     *                     publishes no event the cache could listen to
+     * @return the scope of the department with the given members
+     */
+    static CalendarFeedScope department(long departmentId, Collection<Long> memberIds) {
+        return new Department(departmentId, Set.copyOf(memberIds));
+    }
+
+    record Company() implements CalendarFeedScope {
+    }
+
+    record Department(long departmentId, Set<Long> memberIds) implements CalendarFeedScope {
+    }
+}
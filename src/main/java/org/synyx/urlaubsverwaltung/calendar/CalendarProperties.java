@@ -45,6 +45,16 @@ public class CalendarProperties {
     @DurationUnit(ChronoUnit.MINUTES)
     private Duration refreshInterval = Duration.ofDays(1);
 
+    /**
+     * Defines how long the rendered company and department calendars are served from the cache at most.
+     * The cache is invalidated on every change of absences on this instance, this limit is for changes
+     * of other instances sharing the same database.
+     * <p>
+     * Default time to live is five minutes (PT5M).
+     */
+    @DurationUnit(ChronoUnit.MINUTES)
+    private Duration cacheTimeToLive = Duration.ofMinutes(5);
+
     public String getOrganizer() {
         return organizer;
     }
@@ -60,4 +70,12 @@ public class CalendarProperties {
     public void setRefreshInterval(Duration refreshInterval) {
         this.refreshInterval = refreshInterval;
     }
+
+    public Duration getCacheTimeToLive() {
+        return cacheTimeToLive;
+    }
+
+    public void setCacheTimeToLive(Duration cacheTimeToLive) {
+        this.cacheTimeToLive = cacheTimeToLive;
+    }
 }
@@ -4,10 +4,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
@@ -28,16 +26,16 @@ public class CompanyCalendarService {
 
     private final AbsenceService absenceService;
     private final CompanyCalendarRepository companyCalendarRepository;
-    private final ICalService iCalService;
+    private final CalendarFeedCache calendarFeedCache;
     private final PersonService personService;
     private final MessageSource messageSource;
     private final Clock clock;
 
     @Autowired
-    CompanyCalendarService(AbsenceService absenceService, CompanyCalendarRepository companyCalendarRepository, ICalService iCalService, PersonService personService, MessageSource messageSource, Clock clock) {
+    CompanyCalendarService(AbsenceService absenceService, CompanyCalendarRepository companyCalendarRepository, CalendarFeedCache calendarFeedCache, PersonService personService, MessageSource messageSource, Clock clock) {
         this.absenceService = absenceService;
         this.companyCalendarRepository = companyCalendarRepository;
-        this.iCalService = iCalService;
+        this.calendarFeedCache = calendarFeedCache;
         this.personService = personService;
         this.messageSource = messageSource;
         this.clock = clock;
@@ -63,7 +61,7 @@ public class CompanyCalendarService {
         return companyCalendarRepository.findByPerson(person);
     }
 
-    ByteArrayResource getCalendarForAll(Long personId, String secret, Locale locale) {
+    CalendarFeed getCalendarForAll(Long personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
@@ -79,9 +77,8 @@ public class CompanyCalendarService {
 
         final CompanyCalendar companyCalendar = maybeCompanyCalendar.get();
         final LocalDate sinceDate = LocalDate.now(clock).minus(companyCalendar.getCalendarPeriod());
-        final List<Absence> absences = absenceService.getOpenAbsencesSince(sinceDate);
 
-        return iCalService.getCalendar(title, absences, person);
+        return calendarFeedCache.getCalendarFeed(CalendarFeedScope.COMPANY, sinceDate, title, person, () -> absenceService.getOpenAbsencesSince(sinceDate));
     }
 
     @Transactional
@@ -4,10 +4,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
@@ -30,19 +28,19 @@ public class DepartmentCalendarService {
     private final DepartmentService departmentService;
     private final PersonService personService;
     private final DepartmentCalendarRepository departmentCalendarRepository;
-    private final ICalService iCalService;
+    private final CalendarFeedCache calendarFeedCache;
     private final MessageSource messageSource;
     private final Clock clock;
 
     @Autowired
     DepartmentCalendarService(AbsenceService absenceService, DepartmentService departmentService,
-                                     PersonService personService, DepartmentCalendarRepository departmentCalendarRepository, ICalService iCalService, MessageSource messageSource, Clock clock) {
+                                     PersonService personService, DepartmentCalendarRepository departmentCalendarRepository, CalendarFeedCache calendarFeedCache, MessageSource messageSource, Clock clock) {
 
         this.absenceService = absenceService;
         this.departmentService = departmentService;
         this.personService = personService;
         this.departmentCalendarRepository = departmentCalendarRepository;
-        this.iCalService = iCalService;
+        this.calendarFeedCache = calendarFeedCache;
         this.messageSource = messageSource;
         this.clock = clock;
     }
@@ -84,7 +82,7 @@ public class DepartmentCalendarService {
         return departmentCalendarRepository.findByPersonId(personId);
     }
 
-    ByteArrayResource getCalendarForDepartment(Long departmentId, Long personId, String secret, Locale locale) {
+    CalendarFeed getCalendarForDepartment(Long departmentId, Long personId, String secret, Locale locale) {
 
         if (StringUtils.isBlank(secret)) {
             throw new IllegalArgumentException("secret must not be empty.");
@@ -108,9 +106,10 @@ public class DepartmentCalendarService {
         final LocalDate departmentExistsSinceDate = department.getCreatedAt();
         final LocalDate sinceDate = departmentExistsSinceDate.isAfter(chosenCalendarPeriodSinceDate) ? departmentExistsSinceDate : chosenCalendarPeriodSinceDate;
 
-        final List<Absence> absences = absenceService.getOpenAbsencesSince(department.getMembers(), sinceDate);
+        final List<Person> members = department.getMembers();
+        final CalendarFeedScope scope = CalendarFeedScope.department(departmentId, members.stream().map(Person::getId).toList());
 
-        return iCalService.getCalendar(title, absences, person);
+        return calendarFeedCache.getCalendarFeed(scope, sinceDate, title, person, () -> absenceService.getOpenAbsencesSince(members, sinceDate));
     }
 
     @Transactional
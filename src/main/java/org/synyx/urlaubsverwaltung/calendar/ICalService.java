@@ -2,9 +2,13 @@ package org.synyx.urlaubsverwaltung.calendar;
 
 import net.fortuna.ical4j.data.CalendarOutputter;
 import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.ComponentList;
 import net.fortuna.ical4j.model.Date;
 import net.fortuna.ical4j.model.DateTime;
 import net.fortuna.ical4j.model.ParameterList;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.PropertyList;
+import net.fortuna.ical4j.model.component.CalendarComponent;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.parameter.Cn;
 import net.fortuna.ical4j.model.property.Attendee;
@@ -30,10 +34,15 @@ import java.net.URI;
 import java.text.ParseException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Date.from;
 import static net.fortuna.ical4j.model.parameter.Role.REQ_PARTICIPANT;
 import static net.fortuna.ical4j.model.property.CalScale.GREGORIAN;
@@ -64,6 +73,68 @@ public class ICalService {
         return writeCalenderIntoRessource(calendar);
     }
 
+    /**
+     * Renders the calendar once for all recipients. Every event is rendered as transparent, the events a recipient
+     * owns are made opaque afterward with {@link #getCalendar(SharedCalendar, Person)}.
+     *
+     * @param title    of the calendar
+     * @param absences to render as events
+     * @return the shared calendar
+     */
+    SharedCalendar getSharedCalendar(String title, List<Absence> absences) {
+
+        final Calendar calendar = generateCalendar(title, List.of(), null);
+        final Map<Long, Set<Integer>> ownEventIndicesByPersonId = new HashMap<>();
+
+        for (Absence absence : absences) {
+            final Optional<VEvent> maybeEvent = toVEvent(absence, PUBLISHED, false);
+            if (maybeEvent.isPresent()) {
+                if (!absence.isHolidayReplacement()) {
+                    ownEventIndicesByPersonId.computeIfAbsent(absence.getPerson().getId(), personId -> new HashSet<>())
+                        .add(calendar.getComponents().size());
+                }
+                calendar.getComponents().add(maybeEvent.get());
+            }
+        }
+
+        final String content = new String(writeCalenderIntoRessource(calendar).getByteArray(), UTF_8);
+        return new SharedCalendar(calendar, content, DigestUtils.md5Hex(content), ownEventIndicesByPersonId);
+    }
+
+    /**
+     * Renders the shared calendar for the given recipient. The events of the recipient are not transparent
+     * except for holiday replacements, exactly like {@link #getCalendar(String, List, Person)} renders them.
+     * The shared calendar is left untouched, the events of the recipient are replaced by opaque copies.
+     *
+     * @param sharedCalendar rendered with {@link #getSharedCalendar(String, List)}
+     * @param recipient      of the calendar
+     * @return the calendar of the recipient
+     */
+    ByteArrayResource getCalendar(SharedCalendar sharedCalendar, Person recipient) {
+
+        final Set<Integer> ownEventIndices = sharedCalendar.ownEventIndicesByPersonId().getOrDefault(recipient.getId(), Set.of());
+        if (ownEventIndices.isEmpty()) {
+            return new ByteArrayResource(sharedCalendar.content().getBytes(UTF_8));
+        }
+
+        final ComponentList<CalendarComponent> sharedComponents = sharedCalendar.calendar().getComponents();
+        final ComponentList<CalendarComponent> components = new ComponentList<>(sharedComponents.size());
+        for (int index = 0; index < sharedComponents.size(); index++) {
+            final CalendarComponent component = sharedComponents.get(index);
+            components.add(ownEventIndices.contains(index) ? opaqueCopyOf((VEvent) component) : component);
+        }
+
+        return writeCalenderIntoRessource(new Calendar(sharedCalendar.calendar().getProperties(), components));
+    }
+
+    private static VEvent opaqueCopyOf(VEvent event) {
+        final PropertyList<Property> properties = new PropertyList<>(event.getProperties().size());
+        event.getProperties().stream()
+            .filter(property -> !Property.TRANSP.equals(property.getName()))
+            .forEach(properties::add);
+        return new VEvent(properties);
+    }
+
     public ByteArrayResource getSingleAppointment(Absence absence, ICalType method, Person recipient) {
         final Calendar calendar = generateForSingleAppointment(absence, method, recipient);
         return writeCalenderIntoRessource(calendar);
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Locale;
@@ -57,38 +58,46 @@ public class ICalViewController {
 
     @GetMapping("/departments/{departmentId}/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForDepartment(Locale locale, HttpServletResponse response, @PathVariable Long departmentId, @PathVariable Long personId, @RequestParam String secret) {
+    public String getCalendarForDepartment(Locale locale, HttpServletResponse response, WebRequest webRequest, @PathVariable Long departmentId, @PathVariable Long personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
+        final CalendarFeed calendarFeed;
         try {
-            iCal = departmentCalendarService.getCalendarForDepartment(departmentId, personId, secret, locale);
+            calendarFeed = departmentCalendarService.getCalendarForDepartment(departmentId, personId, secret, locale);
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(BAD_REQUEST, "Could not generate department calendar");
         } catch (CalendarException e) {
             throw new ResponseStatusException(NO_CONTENT);
         }
 
+        if (webRequest.checkNotModified(calendarFeed.eTag(), calendarFeed.lastModified().toEpochMilli())) {
+            return null;
+        }
+
         setContentTypeAndHeaders(response);
 
-        return new String(iCal.getByteArray());
+        return new String(calendarFeed.iCal().getByteArray());
     }
 
     @GetMapping("/company/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForCompany(Locale locale, HttpServletResponse response, @PathVariable Long personId, @RequestParam String secret) {
+    public String getCalendarForCompany(Locale locale, HttpServletResponse response, WebRequest webRequest, @PathVariable Long personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
+        final CalendarFeed calendarFeed;
         try {
-            iCal = companyCalendarService.getCalendarForAll(personId, secret, locale);
+            calendarFeed = companyCalendarService.getCalendarForAll(personId, secret, locale);
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(BAD_REQUEST, "Could not generate company calendar");
         } catch (CalendarException e) {
             throw new ResponseStatusException(NO_CONTENT);
         }
 
+        if (webRequest.checkNotModified(calendarFeed.eTag(), calendarFeed.lastModified().toEpochMilli())) {
+            return null;
+        }
+
         setContentTypeAndHeaders(response);
 
-        return new String(iCal.getByteArray());
+        return new String(calendarFeed.iCal().getByteArray());
     }
 
     private void setContentTypeAndHeaders(HttpServletResponse response) {
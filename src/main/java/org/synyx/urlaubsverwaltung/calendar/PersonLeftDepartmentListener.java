@@ -1,11 +1,16 @@
 package org.synyx.urlaubsverwaltung.calendar;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.department.PersonLeftDepartmentEvent;
 
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.CALENDAR_SYNC_EXECUTOR;
+
 @Component
 class PersonLeftDepartmentListener {
 
@@ -16,8 +21,9 @@ class PersonLeftDepartmentListener {
         this.departmentCalendarService = departmentCalendarService;
     }
 
-    @Async
-    @EventListener
+    @Async(CALENDAR_SYNC_EXECUTOR)
+    @Transactional(propagation = REQUIRES_NEW)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     public void handlePersonDisabledEvent(PersonLeftDepartmentEvent event) {
         final long personId = event.getPersonId();
         final long departmentId = event.getDepartmentId();
@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import net.fortuna.ical4j.model.Calendar;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * iCal calendar rendered once for all recipients.
+ *
+ * @param calendar                  iCal model with all events marked as transparent, must not be modified
+ * @param content                   rendered iCal of the calendar
+ * @param contentHash               hash of the content
+ * @param ownEventIndicesByPersonId indices of the events that are not transparent for the person owning them
+ */
+record SharedCalendar(Calendar calendar, String content, String contentHash, Map<Long, Set<Integer>> ownEventIndicesByPersonId) {
+}
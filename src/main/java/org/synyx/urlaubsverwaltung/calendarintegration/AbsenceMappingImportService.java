@@ -6,13 +6,17 @@ import org.springframework.stereotype.Service;
 public class AbsenceMappingImportService {
 
     private final AbsenceMappingRepository absenceMappingRepository;
+    private final CalendarSyncOutboxRepository calendarSyncOutboxRepository;
 
-    AbsenceMappingImportService(AbsenceMappingRepository absenceMappingRepository) {
+    AbsenceMappingImportService(AbsenceMappingRepository absenceMappingRepository, CalendarSyncOutboxRepository calendarSyncOutboxRepository) {
         this.absenceMappingRepository = absenceMappingRepository;
+        this.calendarSyncOutboxRepository = calendarSyncOutboxRepository;
     }
 
     public void deleteAll() {
         absenceMappingRepository.deleteAll();
+        // pending changes refer to absences that are replaced by the import
+        calendarSyncOutboxRepository.deleteAll();
     }
 
     public AbsenceMapping importAbsenceMapping(AbsenceMapping absenceMapping) {
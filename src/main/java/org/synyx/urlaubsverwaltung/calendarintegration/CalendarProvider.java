@@ -1,8 +1,6 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
-import org.synyx.urlaubsverwaltung.absence.Absence;
-
-import java.util.Optional;
+import java.util.List;
 
 
 /**
@@ -11,32 +9,13 @@ import java.util.Optional;
 interface CalendarProvider {
 
     /**
-     * Add a person's absence to calendar.
-     *
-     * @param absence          represents the absence of a person
-     * @param calendarSettings contains configuration for calendar provider
-     * @return id of added absence event, may be empty if an error occurred during the calendar sync
-     */
-    Optional<String> add(Absence absence, CalendarSettings calendarSettings);
-
-
-    /**
-     * Updates a given event with absence content.
-     *
-     * @param absence          represents the updated absence
-     * @param eventId          id of event to be updated
-     * @param calendarSettings contains configuration for calendar provider
-     */
-    void update(Absence absence, String eventId, CalendarSettings calendarSettings);
-
-
-    /**
-     * Deletes a person's absence in calendar.
+     * Adds, updates and deletes the events of absences in the calendar.
      *
-     * @param eventId          id of absence event, which should be deleted
+     * @param requests         to add, update or delete events
      * @param calendarSettings contains configuration for calendar provider
+     * @return one result for every request, in the order of the requests
      */
-    Optional<String> delete(String eventId, CalendarSettings calendarSettings);
+    List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings);
 
 
     /**
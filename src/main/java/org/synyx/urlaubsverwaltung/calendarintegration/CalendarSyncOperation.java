@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+/**
+ * Pending operation of an absence in the {@link CalendarSyncOutboxEntry calendar sync outbox}.
+ */
+enum CalendarSyncOperation {
+
+    /**
+     * Adds the event of the absence to the calendar or updates it with the current state of the absence.
+     */
+    SYNC,
+
+    /**
+     * Deletes the event of the absence from the calendar.
+     */
+    DELETE
+}
@@ -0,0 +1,258 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.DELETE;
+
+/**
+ * Durable queue of the changes of absences that have to be synchronised with the calendar provider.
+ *
+ * <p>Changes are enqueued in the transaction of the change itself, so no change gets lost if the calendar provider
+ * is not reachable or the application stops. Enqueueing only inserts, so it can never fail the transaction of the
+ * change. The pending changes are sent in batches by {@link #flush()}, which merges all pending changes of an absence
+ * and sends only the latest state of the absence.</p>
+ */
+@Service
+class CalendarSyncOutbox {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final CalendarSyncOutboxRepository calendarSyncOutboxRepository;
+    private final AbsenceMappingRepository absenceMappingRepository;
+    private final CalendarProviderService calendarProviderService;
+    private final CalendarSettingsService calendarSettingsService;
+    private final SettingsService settingsService;
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final Clock clock;
+
+    @Autowired
+    CalendarSyncOutbox(
+        CalendarSyncOutboxRepository calendarSyncOutboxRepository,
+        AbsenceMappingRepository absenceMappingRepository,
+        CalendarProviderService calendarProviderService,
+        CalendarSettingsService calendarSettingsService,
+        SettingsService settingsService,
+        ApplicationService applicationService,
+        SickNoteService sickNoteService,
+        CalendarSyncProperties calendarSyncProperties,
+        Clock clock
+    ) {
+        this.calendarSyncOutboxRepository = calendarSyncOutboxRepository;
+        this.absenceMappingRepository = absenceMappingRepository;
+        this.calendarProviderService = calendarProviderService;
+        this.calendarSettingsService = calendarSettingsService;
+        this.settingsService = settingsService;
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+        this.calendarSyncProperties = calendarSyncProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * Enqueues the operation for the absence. It supersedes the operations of the absence enqueued before.
+     *
+     * @param absenceId          id of the application for leave or sick note
+     * @param absenceMappingType type of the absence
+     * @param operation          to apply to the event of the absence
+     */
+    void enqueue(Long absenceId, AbsenceMappingType absenceMappingType, CalendarSyncOperation operation) {
+
+        calendarSyncOutboxRepository.save(new CalendarSyncOutboxEntry(absenceId, absenceMappingType, operation, Instant.now(clock)));
+    }
+
+    /**
+     * Sends all due operations to the configured calendar provider, batch by batch, until none is due anymore or the
+     * {@link CalendarSyncProperties#getMaxFlushDuration() maximum duration} of a run has elapsed.
+     */
+    void flush() {
+
+        final Optional<CalendarProvider> maybeCalendarProvider = calendarProviderService.getCalendarProvider();
+        if (maybeCalendarProvider.isEmpty()) {
+            return;
+        }
+
+        final int batchSize = calendarSyncProperties.getBatchSize();
+        final Instant deadline = Instant.now(clock).plus(calendarSyncProperties.getMaxFlushDuration());
+        int flushed;
+        do {
+            flushed = flushBatch(maybeCalendarProvider.get(), batchSize);
+        } while (flushed == batchSize && Instant.now(clock).isBefore(deadline));
+    }
+
+    private int flushBatch(CalendarProvider calendarProvider, int batchSize) {
+
+        final Instant now = Instant.now(clock);
+
+        final List<CalendarSyncOutboxEntry> dueEntries = calendarSyncOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now, Limit.of(batchSize));
+        if (dueEntries.isEmpty()) {
+            return 0;
+        }
+
+        // every change of an absence is an entry of its own, the latest pending one wins, even if it is not due yet
+        final Map<AbsenceKey, List<CalendarSyncOutboxEntry>> entriesByAbsence = new LinkedHashMap<>();
+        for (CalendarSyncOutboxEntry dueEntry : dueEntries) {
+            entriesByAbsence.computeIfAbsent(AbsenceKey.of(dueEntry), absenceKey ->
+                calendarSyncOutboxRepository.findByAbsenceIdAndAbsenceMappingTypeOrderByIdAsc(absenceKey.absenceId(), absenceKey.absenceMappingType()));
+        }
+
+        final AbsenceTimeConfiguration absenceTimeConfiguration = new AbsenceTimeConfiguration(settingsService.getSettings().getTimeSettings());
+
+        final List<PendingRequest> pendingRequests = new ArrayList<>();
+        for (List<CalendarSyncOutboxEntry> entries : entriesByAbsence.values()) {
+            if (entries.isEmpty()) {
+                continue;
+            }
+            final CalendarSyncOutboxEntry latestEntry = entries.getLast();
+            final Optional<AbsenceMapping> absenceMapping = absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(latestEntry.getAbsenceId(), latestEntry.getAbsenceMappingType());
+            toRequest(entries, absenceMapping, absenceTimeConfiguration).ifPresentOrElse(
+                request -> pendingRequests.add(new PendingRequest(entries, absenceMapping, request)),
+                () -> remove(entries)
+            );
+        }
+
+        if (!pendingRequests.isEmpty()) {
+            final List<CalendarSyncRequest> requests = pendingRequests.stream().map(PendingRequest::request).toList();
+            final List<CalendarSyncResult> results = calendarProvider.sync(requests, calendarSettingsService.getCalendarSettings());
+            for (int i = 0; i < pendingRequests.size(); i++) {
+                handleResult(pendingRequests.get(i), results.get(i), now);
+            }
+        }
+
+        return dueEntries.size();
+    }
+
+    private Optional<CalendarSyncRequest> toRequest(List<CalendarSyncOutboxEntry> entries, Optional<AbsenceMapping> absenceMapping, AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        final CalendarSyncOutboxEntry entry = entries.getLast();
+        final Optional<Absence> absence = entry.getOperation() == DELETE
+            ? Optional.empty()
+            : getAbsence(entry.getAbsenceId(), entry.getAbsenceMappingType(), absenceTimeConfiguration);
+
+        if (absence.isEmpty()) {
+            // deleted absences and absences that do not exist anymore only need a deletion of an existing event
+            return absenceMapping.map(mapping -> CalendarSyncRequest.delete(mapping.getEventId()));
+        }
+
+        return Optional.of(absenceMapping
+            .map(mapping -> CalendarSyncRequest.update(absence.get(), mapping.getEventId()))
+            // the event id of the oldest entry, an addition of it may have reached the calendar already
+            .orElseGet(() -> CalendarSyncRequest.add(absence.get(), entries.getFirst().getEventId())));
+    }
+
+    private Optional<Absence> getAbsence(Long absenceId, AbsenceMappingType absenceMappingType, AbsenceTimeConfiguration absenceTimeConfiguration) {
+        if (absenceMappingType == VACATION) {
+            return applicationService.getApplicationById(absenceId)
+                .map(application -> new Absence(application.getPerson(), application.getPeriod(), absenceTimeConfiguration));
+        }
+        return sickNoteService.getById(absenceId)
+            .map(sickNote -> new Absence(sickNote.getPerson(), sickNote.getPeriod(), absenceTimeConfiguration));
+    }
+
+    private void handleResult(PendingRequest pendingRequest, CalendarSyncResult result, Instant now) {
+
+        final CalendarSyncOutboxEntry latestEntry = pendingRequest.entries().getLast();
+
+        switch (result.status()) {
+            case SUCCESS -> {
+                switch (pendingRequest.request().type()) {
+                    case ADD -> absenceMappingRepository.save(new AbsenceMapping(latestEntry.getAbsenceId(), latestEntry.getAbsenceMappingType(), result.eventId()));
+                    case DELETE -> pendingRequest.absenceMapping().ifPresent(absenceMappingRepository::delete);
+                    case UPDATE -> {
+                        // nothing to remember
+                    }
+                }
+                remove(pendingRequest.entries());
+            }
+            case NOT_FOUND -> {
+                if (pendingRequest.request().type() == CalendarSyncRequest.Type.UPDATE) {
+                    // the event has been deleted in the calendar, it will be added again with the next flush
+                    pendingRequest.absenceMapping().ifPresent(absenceMappingRepository::delete);
+                } else {
+                    drop(pendingRequest.entries());
+                }
+            }
+            case RETRY -> retryLater(pendingRequest.entries(), now);
+            case FAILED -> drop(pendingRequest.entries());
+        }
+    }
+
+    private void drop(List<CalendarSyncOutboxEntry> entries) {
+        final CalendarSyncOutboxEntry latestEntry = entries.getLast();
+        LOG.warn("Dropped calendar sync of {} {} after it was rejected by the calendar provider.",
+            latestEntry.getAbsenceMappingType(), latestEntry.getAbsenceId());
+        remove(entries);
+    }
+
+    private void retryLater(List<CalendarSyncOutboxEntry> entries, Instant now) {
+
+        final CalendarSyncOutboxEntry latestEntry = entries.getLast();
+        final int attempts = latestEntry.getAttempts() + 1;
+
+        if (attempts >= calendarSyncProperties.getMaxAttempts()) {
+            LOG.warn("Dropped calendar sync of {} {} after {} attempts.", latestEntry.getAbsenceMappingType(), latestEntry.getAbsenceId(), attempts);
+            remove(entries);
+            return;
+        }
+
+        for (CalendarSyncOutboxEntry entry : entries) {
+            entry.setAttempts(attempts);
+            entry.setNextAttemptAt(now.plus(backoff(attempts)));
+        }
+
+        try {
+            calendarSyncOutboxRepository.saveAll(entries);
+        } catch (OptimisticLockingFailureException e) {
+            LOG.debug("Calendar sync of {} {} has been changed meanwhile and is due again.", latestEntry.getAbsenceMappingType(), latestEntry.getAbsenceId());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        final Duration backoff = calendarSyncProperties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+        final Duration maxBackoff = calendarSyncProperties.getMaxBackoff();
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void remove(List<CalendarSyncOutboxEntry> entries) {
+        for (CalendarSyncOutboxEntry entry : entries) {
+            try {
+                calendarSyncOutboxRepository.delete(entry);
+            } catch (OptimisticLockingFailureException e) {
+                // a newer operation has been enqueued meanwhile and has to be sent with the next flush
+                LOG.debug("Calendar sync of {} {} has been changed meanwhile and is due again.", entry.getAbsenceMappingType(), entry.getAbsenceId());
+            }
+        }
+    }
+
+    private record AbsenceKey(Long absenceId, AbsenceMappingType absenceMappingType) {
+
+        static AbsenceKey of(CalendarSyncOutboxEntry entry) {
+            return new AbsenceKey(entry.getAbsenceId(), entry.getAbsenceMappingType());
+        }
+    }
+
+    private record PendingRequest(List<CalendarSyncOutboxEntry> entries, Optional<AbsenceMapping> absenceMapping, CalendarSyncRequest request) {
+    }
+}
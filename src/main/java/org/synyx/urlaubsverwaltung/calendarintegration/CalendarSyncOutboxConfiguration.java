@@ -0,0 +1,40 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+import org.synyx.urlaubsverwaltung.tenancy.configuration.single.ConditionalOnSingleTenantMode;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnSingleTenantMode
+class CalendarSyncOutboxConfiguration implements SchedulingConfigurer {
+
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final CalendarSyncOutbox calendarSyncOutbox;
+    private final ScheduleLocking scheduleLocking;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    CalendarSyncOutboxConfiguration(CalendarSyncProperties calendarSyncProperties, CalendarSyncOutbox calendarSyncOutbox, ScheduleLocking scheduleLocking, ThreadPoolTaskScheduler taskScheduler) {
+        this.calendarSyncProperties = calendarSyncProperties;
+        this.calendarSyncOutbox = calendarSyncOutbox;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        // the flush runs every few seconds, the lock must not outlive it. A flush ends after the max flush duration
+        // of at most four minutes, so it never runs longer than it is locked.
+        taskRegistrar.addFixedDelayTask(
+            scheduleLocking.withLock("CalendarSyncOutbox", calendarSyncOutbox::flush, Duration.ofMinutes(5), Duration.ZERO),
+            calendarSyncProperties.getFlushInterval()
+        );
+    }
+}
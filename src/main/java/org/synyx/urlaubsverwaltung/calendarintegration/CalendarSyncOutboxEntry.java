@@ -0,0 +1,139 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * Pending synchronisation of an absence (application for leave or sick note) with the calendar. Every change of an
+ * absence is a new entry, the entries are never updated within the transaction of the change.
+ *
+ * <p>The event id is generated with the entry, so an event that is added again after a failed request does not
+ * create a second event in the calendar.</p>
+ */
+@Entity(name = "calendar_sync_outbox")
+public class CalendarSyncOutboxEntry extends AbstractTenantAwareEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "calendar_sync_outbox_generator")
+    @SequenceGenerator(name = "calendar_sync_outbox_generator", sequenceName = "calendar_sync_outbox_id_seq")
+    private Long id;
+
+    @Column(name = "absence_id", nullable = false)
+    private Long absenceId;
+
+    @Enumerated(STRING)
+    @Column(name = "absence_mapping_type", nullable = false)
+    private AbsenceMappingType absenceMappingType;
+
+    @Enumerated(STRING)
+    @Column(name = "operation", nullable = false)
+    private CalendarSyncOperation operation;
+
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private String eventId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    protected CalendarSyncOutboxEntry() {
+        // OK
+    }
+
+    CalendarSyncOutboxEntry(Long absenceId, AbsenceMappingType absenceMappingType, CalendarSyncOperation operation, Instant nextAttemptAt) {
+        this.absenceId = absenceId;
+        this.absenceMappingType = absenceMappingType;
+        this.operation = operation;
+        this.nextAttemptAt = nextAttemptAt;
+        // google calendar accepts the characters of base32hex only, which includes all hex digits
+        this.eventId = UUID.randomUUID().toString().replace("-", "");
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    Long getAbsenceId() {
+        return absenceId;
+    }
+
+    AbsenceMappingType getAbsenceMappingType() {
+        return absenceMappingType;
+    }
+
+    CalendarSyncOperation getOperation() {
+        return operation;
+    }
+
+    String getEventId() {
+        return eventId;
+    }
+
+    int getAttempts() {
+        return attempts;
+    }
+
+    void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CalendarSyncOutboxEntry that = (CalendarSyncOutboxEntry) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarSyncOutboxEntry{" +
+            "id=" + id +
+            ", absenceId=" + absenceId +
+            ", absenceMappingType=" + absenceMappingType +
+            ", operation=" + operation +
+            ", attempts=" + attempts +
+            '}';
+    }
+}
@@ -0,0 +1,14 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+interface CalendarSyncOutboxRepository extends CrudRepository<CalendarSyncOutboxEntry, Long> {
+
+    List<CalendarSyncOutboxEntry> findByAbsenceIdAndAbsenceMappingTypeOrderByIdAsc(Long absenceId, AbsenceMappingType absenceMappingType);
+
+    List<CalendarSyncOutboxEntry> findByNextAttemptAtLessThanEqualOrderByIdAsc(Instant now, Limit limit);
+}
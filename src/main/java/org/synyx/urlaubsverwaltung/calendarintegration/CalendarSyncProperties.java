@@ -0,0 +1,107 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+import static org.synyx.urlaubsverwaltung.calendarintegration.GoogleCalendarSyncProvider.MAX_BATCH_SIZE;
+
+@Component
+@ConfigurationProperties("uv.calendar-sync")
+@Validated
+public class CalendarSyncProperties {
+
+    /**
+     * Delay between two runs sending the pending changes of absences to the calendar provider.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of changes sent to the calendar provider at once.
+     */
+    @Min(1)
+    @Max(MAX_BATCH_SIZE)
+    private int batchSize = MAX_BATCH_SIZE;
+
+    /**
+     * Maximum duration of a run sending the pending changes. No further batch is started after it, the remaining
+     * changes are sent with the next run. Must stay below the five minutes a run is locked for, otherwise another
+     * instance could start a run while this one is still sending.
+     */
+    @NotNull
+    @DurationMax(minutes = 4)
+    private Duration maxFlushDuration = Duration.ofMinutes(4);
+
+    /**
+     * Number of attempts after which a change is dropped if the calendar provider is still not reachable.
+     */
+    @Min(1)
+    private int maxAttempts = 10;
+
+    /**
+     * Delay before the second attempt of a change, doubled for every further attempt up to {@link #maxBackoff}.
+     */
+    @NotNull
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Maximum delay between two attempts of a change.
+     */
+    @NotNull
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMaxFlushDuration() {
+        return maxFlushDuration;
+    }
+
+    public void setMaxFlushDuration(Duration maxFlushDuration) {
+        this.maxFlushDuration = maxFlushDuration;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+}
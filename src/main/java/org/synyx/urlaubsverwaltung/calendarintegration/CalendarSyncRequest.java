@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.synyx.urlaubsverwaltung.absence.Absence;
+
+/**
+ * Request to a {@link CalendarProvider} to add, update or delete the event of an absence.
+ *
+ * @param type    of the request
+ * @param absence to add or update, {@code null} for a deletion
+ * @param eventId of the event to add, update or delete
+ */
+record CalendarSyncRequest(Type type, Absence absence, String eventId) {
+
+    enum Type {
+        ADD,
+        UPDATE,
+        DELETE
+    }
+
+    static CalendarSyncRequest add(Absence absence, String eventId) {
+        return new CalendarSyncRequest(Type.ADD, absence, eventId);
+    }
+
+    static CalendarSyncRequest update(Absence absence, String eventId) {
+        return new CalendarSyncRequest(Type.UPDATE, absence, eventId);
+    }
+
+    static CalendarSyncRequest delete(String eventId) {
+        return new CalendarSyncRequest(Type.DELETE, null, eventId);
+    }
+}
@@ -0,0 +1,50 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+/**
+ * Result of a {@link CalendarSyncRequest}.
+ *
+ * @param status  of the request
+ * @param eventId of the added, updated or deleted event, {@code null} if the request was not successful
+ */
+record CalendarSyncResult(Status status, String eventId) {
+
+    enum Status {
+
+        /**
+         * The event has been added, updated or deleted.
+         */
+        SUCCESS,
+
+        /**
+         * The event to update does not exist (anymore) in the calendar.
+         */
+        NOT_FOUND,
+
+        /**
+         * The calendar provider is not reachable or rejected the request for now, e.g. because of rate limiting.
+         * The request should be sent again later.
+         */
+        RETRY,
+
+        /**
+         * The calendar provider rejected the request, sending it again will not change that.
+         */
+        FAILED
+    }
+
+    static CalendarSyncResult success(String eventId) {
+        return new CalendarSyncResult(Status.SUCCESS, eventId);
+    }
+
+    static CalendarSyncResult notFound() {
+        return new CalendarSyncResult(Status.NOT_FOUND, null);
+    }
+
+    static CalendarSyncResult retry() {
+        return new CalendarSyncResult(Status.RETRY, null);
+    }
+
+    static CalendarSyncResult failed() {
+        return new CalendarSyncResult(Status.FAILED, null);
+    }
+}
@@ -1,5 +1,9 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponse;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
@@ -13,13 +17,23 @@ import org.synyx.urlaubsverwaltung.absence.Absence;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static org.apache.http.HttpStatus.SC_CONFLICT;
+import static org.apache.http.HttpStatus.SC_FORBIDDEN;
+import static org.apache.http.HttpStatus.SC_GONE;
+import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncRequest.Type.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncRequest.Type.DELETE;
 
 @Service
 public class GoogleCalendarSyncProvider implements CalendarProvider {
@@ -28,6 +42,14 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
 
     private static final String DATE_PATTERN_YYYY_MM_DD = "yyyy-MM-dd";
 
+    /**
+     * Maximum number of requests Google Calendar accepts in one batch request.
+     */
+    static final int MAX_BATCH_SIZE = 50;
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
     private final GoogleCalendarClientProvider googleCalendarClientProvider;
 
     @Autowired
@@ -35,77 +57,127 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
         this.googleCalendarClientProvider = googleCalendarClientProvider;
     }
 
+    /**
+     * Sends the requests with as few HTTP requests as possible using the batch endpoint of Google Calendar, which
+     * accepts up to {@value #MAX_BATCH_SIZE} requests at once. Updates are a single patch of the fields filled from
+     * the absence instead of fetching the event first. Events are added with the event id of the request, so adding
+     * an event again after a lost response does not duplicate it.
+     */
     @Override
-    public Optional<String> add(Absence absence, CalendarSettings calendarSettings) {
+    public List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings) {
 
         final GoogleCalendarSettings googleCalendarSettings = calendarSettings.getGoogleCalendarSettings();
         final Optional<Calendar> maybeCalendarClient = googleCalendarClientProvider.getCalendarClient(googleCalendarSettings);
 
-        if (maybeCalendarClient.isPresent()) {
-            final String calendarId = googleCalendarSettings.getCalendarId();
-            try {
-                final Event eventToCommit = new Event();
-                fillEvent(absence, eventToCommit);
+        if (maybeCalendarClient.isEmpty()) {
+            LOG.warn("Could not sync {} events, the google calendar client is not available.", requests.size());
+            return requests.stream().map(request -> CalendarSyncResult.retry()).toList();
+        }
 
-                final Event eventInCalendar = maybeCalendarClient.get().events().insert(calendarId, eventToCommit).execute();
+        final Calendar calendarClient = maybeCalendarClient.get();
+        final String calendarId = googleCalendarSettings.getCalendarId();
 
-                LOG.info("Event {} for '{}' added to google calendar '{}'.", eventInCalendar.getId(),
-                    absence.getPerson().getId(), calendarId);
+        final CalendarSyncResult[] results = new CalendarSyncResult[requests.size()];
+        for (int from = 0; from < requests.size(); from += MAX_BATCH_SIZE) {
+            final int to = Math.min(from + MAX_BATCH_SIZE, requests.size());
+            executeBatch(calendarClient, calendarId, requests, from, to, results);
+        }
 
-                return Optional.of(eventInCalendar.getId());
+        return Arrays.asList(results);
+    }
+
+    private void executeBatch(Calendar calendarClient, String calendarId, List<CalendarSyncRequest> requests, int from, int to, CalendarSyncResult[] results) {
+        try {
+            final BatchRequest batch = calendarClient.batch();
+            for (int index = from; index < to; index++) {
+                final CalendarSyncRequest request = requests.get(index);
+                final Consumer<CalendarSyncResult> resultConsumer = resultConsumer(results, index);
+                switch (request.type()) {
+                    case ADD -> calendarClient.events()
+                        .insert(calendarId, toEvent(request.absence()).setId(request.eventId()))
+                        .queue(batch, callback(request, calendarId, resultConsumer));
+                    case UPDATE -> calendarClient.events()
+                        .patch(calendarId, request.eventId(), toEvent(request.absence()))
+                        .queue(batch, callback(request, calendarId, resultConsumer));
+                    case DELETE -> calendarClient.events()
+                        .delete(calendarId, request.eventId())
+                        .queue(batch, callback(request, calendarId, resultConsumer));
+                }
+            }
+            batch.execute();
+        } catch (IOException ex) {
+            LOG.warn("Could not sync {} events with calendar '{}'.", to - from, calendarId, ex);
+        }
 
-            } catch (IOException ex) {
-                LOG.warn("An error occurred while trying to add appointment to calendar {}", calendarId, ex);
+        // requests without a response, e.g. because the batch request failed as a whole, are tried again later
+        for (int index = from; index < to; index++) {
+            if (results[index] == null) {
+                results[index] = CalendarSyncResult.retry();
             }
         }
-        return Optional.empty();
     }
 
-    @Override
-    public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
+    private static Consumer<CalendarSyncResult> resultConsumer(CalendarSyncResult[] results, int index) {
+        return result -> results[index] = result;
+    }
 
-        final GoogleCalendarSettings googleCalendarSettings = calendarSettings.getGoogleCalendarSettings();
-        final Optional<Calendar> maybeCalendarClient = googleCalendarClientProvider.getCalendarClient(googleCalendarSettings);
+    private static <T> JsonBatchCallback<T> callback(CalendarSyncRequest request, String calendarId, Consumer<CalendarSyncResult> resultConsumer) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(T response, HttpHeaders responseHeaders) {
+                final String eventId = response instanceof Event event ? event.getId() : request.eventId();
+                LOG.info("Event {} has been {} in calendar '{}'.", eventId, describe(request), calendarId);
+                resultConsumer.accept(CalendarSyncResult.success(eventId));
+            }
 
-        if (maybeCalendarClient.isPresent()) {
-            final String calendarId = googleCalendarSettings.getCalendarId();
-            try {
-                final Calendar calendarClient = maybeCalendarClient.get();
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                final CalendarSyncResult result = toResult(request, error);
+                LOG.warn("Event {} could not be {} in calendar '{}': {} {} - {}", request.eventId(), describe(request),
+                    calendarId, error.getCode(), error.getMessage(), result.status());
+                resultConsumer.accept(result);
+            }
+        };
+    }
 
-                // gather exiting event
-                final Event event = calendarClient.events().get(calendarId, eventId).execute();
+    private static CalendarSyncResult toResult(CalendarSyncRequest request, GoogleJsonError error) {
 
-                // update event with absence
-                fillEvent(absence, event);
+        final int code = error.getCode();
+        if (code == SC_TOO_MANY_REQUESTS || code >= SC_INTERNAL_SERVER_ERROR || isRateLimitExceeded(error)) {
+            return CalendarSyncResult.retry();
+        }
 
-                // sync event to calendar
-                calendarClient.events().patch(calendarId, eventId, event).execute();
+        if (code == SC_CONFLICT && request.type() == ADD) {
+            // the event has been added by a previous request, whose response got lost
+            return CalendarSyncResult.success(request.eventId());
+        }
 
-                LOG.info("Event {} has been updated in calendar '{}'.", eventId, calendarId);
-            } catch (IOException ex) {
-                LOG.warn("Could not update event {} in calendar '{}'.", eventId, calendarId, ex);
-            }
+        if (code == SC_NOT_FOUND || code == SC_GONE) {
+            // an event that does not exist anymore does not have to be deleted
+            return request.type() == DELETE ? CalendarSyncResult.success(request.eventId()) : CalendarSyncResult.notFound();
         }
+
+        return CalendarSyncResult.failed();
     }
 
-    @Override
-    public Optional<String> delete(String eventId, CalendarSettings calendarSettings) {
+    private static boolean isRateLimitExceeded(GoogleJsonError error) {
+        return error.getCode() == SC_FORBIDDEN && error.getErrors() != null && error.getErrors().stream()
+            .map(GoogleJsonError.ErrorInfo::getReason)
+            .anyMatch(RATE_LIMIT_REASONS::contains);
+    }
 
-        final GoogleCalendarSettings googleCalendarSettings = calendarSettings.getGoogleCalendarSettings();
-        final Optional<Calendar> maybeCalendarClient = googleCalendarClientProvider.getCalendarClient(googleCalendarSettings);
+    private static String describe(CalendarSyncRequest request) {
+        return switch (request.type()) {
+            case ADD -> "added";
+            case UPDATE -> "updated";
+            case DELETE -> "deleted";
+        };
+    }
 
-        if (maybeCalendarClient.isPresent()) {
-            final String calendarId = googleCalendarSettings.getCalendarId();
-            try {
-                maybeCalendarClient.get().events().delete(calendarId, eventId).execute();
-                LOG.info("Event {} has been deleted in calendar '{}'.", eventId, calendarId);
-                return Optional.of(eventId);
-            } catch (IOException ex) {
-                LOG.warn("Could not delete event {} in calendar '{}'", eventId, calendarId, ex);
-                return Optional.empty();
-            }
-        }
-        return Optional.empty();
+    private static Event toEvent(Absence absence) {
+        final Event event = new Event();
+        fillEvent(absence, event);
+        return event;
     }
 
     @Override
@@ -129,11 +201,6 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
         }
     }
 
-    /**
-     * Build and return an authorized google calendar client.
-     *
-     * @return an authorized calendar client service
-     */
     private static void fillEvent(Absence absence, Event event) {
 
         event.setSummary(absence.getEventSubject());
@@ -0,0 +1,104 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Provides the executors for {@link org.springframework.scheduling.annotation.Async} methods. Extension events and
+ * the calendar sync have their own bounded executor, so a slow extension or calendar cannot delay the other tasks
+ * and the queued tasks cannot use up the memory. All other asynchronous methods share the bounded default executor.
+ * Mails are not sent by an executor but queued by the {@code MailDeliveryService}.
+ *
+ * <p>The workers are virtual threads. If the queue of an executor is full, the calling thread waits until a place in
+ * the queue is free, which slows down the producer instead of dropping the task and keeps the order of the tasks of an
+ * executor with a single worker. Queue size, active workers and the time a task waits and runs are exported as
+ * {@code executor.*} metrics tagged with the name of the executor.</p>
+ *
+ * <p>Asynchronous event listeners have to be {@link org.springframework.transaction.event.TransactionalEventListener}s
+ * of the {@code AFTER_COMMIT} phase. Otherwise, they run concurrently to the transaction publishing the event, read
+ * its data before it is committed and act on events of transactions that are rolled back.</p>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration implements AsyncConfigurer {
+
+    public static final String DEFAULT_EXECUTOR = "taskExecutor";
+    public static final String EXTENSION_EXECUTOR = "extension";
+    public static final String CALENDAR_SYNC_EXECUTOR = "calendar-sync";
+
+    private final AsyncProperties asyncProperties;
+    private final MeterRegistry meterRegistry;
+
+    AsyncConfiguration(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        this.asyncProperties = asyncProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return defaultExecutor();
+    }
+
+    /**
+     * Executor for all {@link org.springframework.scheduling.annotation.Async} methods without an explicit executor.
+     */
+    @Bean(DEFAULT_EXECUTOR)
+    Executor defaultExecutor() {
+        return executor(DEFAULT_EXECUTOR, asyncProperties.getDefaultExecutor());
+    }
+
+    @Bean(EXTENSION_EXECUTOR)
+    Executor extensionExecutor() {
+        return executor(EXTENSION_EXECUTOR, asyncProperties.getExtension());
+    }
+
+    @Bean(CALENDAR_SYNC_EXECUTOR)
+    Executor calendarSyncExecutor() {
+        return executor(CALENDAR_SYNC_EXECUTOR, asyncProperties.getCalendarSync());
+    }
+
+    private Executor executor(String name, AsyncProperties.Executor properties) {
+        if (properties.getConcurrency() == 0) {
+            return ExecutorServiceMetrics.monitor(meterRegistry, new SyncTaskExecutor(), name);
+        }
+        return ExecutorServiceMetrics.monitor(meterRegistry, boundedExecutor(name, properties), name);
+    }
+
+    private static ThreadPoolExecutor boundedExecutor(String name, AsyncProperties.Executor properties) {
+        return new ThreadPoolExecutor(properties.getConcurrency(), properties.getConcurrency(), 0, MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            Thread.ofVirtual().name(name + "-", 0).factory(),
+            waitForQueueSpace(name));
+    }
+
+    /**
+     * Puts the task into the queue as soon as there is a free place, instead of executing it in the calling thread
+     * ahead of the queued tasks.
+     */
+    private static RejectedExecutionHandler waitForQueueSpace(String name) {
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Executor " + name + " has been shut down");
+            }
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for a free place in the queue of executor " + name, e);
+            }
+        };
+    }
+}
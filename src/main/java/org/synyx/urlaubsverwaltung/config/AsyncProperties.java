@@ -0,0 +1,96 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties("uv.async")
+@Validated
+public class AsyncProperties {
+
+    /**
+     * Executor of all asynchronous tasks without an own executor, e.g. updating the user settings.
+     */
+    @Valid
+    private Executor defaultExecutor = new Executor(4);
+
+    /**
+     * Executor publishing the events for extensions. Uses one worker by default to keep the order of the events.
+     */
+    @Valid
+    private Executor extension = new Executor();
+
+    /**
+     * Executor updating the calendars of persons and departments, e.g. when a person is disabled. Uses one worker by
+     * default to keep the order of the events.
+     */
+    @Valid
+    private Executor calendarSync = new Executor();
+
+    public Executor getDefaultExecutor() {
+        return defaultExecutor;
+    }
+
+    public void setDefaultExecutor(Executor defaultExecutor) {
+        this.defaultExecutor = defaultExecutor;
+    }
+
+    public Executor getExtension() {
+        return extension;
+    }
+
+    public void setExtension(Executor extension) {
+        this.extension = extension;
+    }
+
+    public Executor getCalendarSync() {
+        return calendarSync;
+    }
+
+    public void setCalendarSync(Executor calendarSync) {
+        this.calendarSync = calendarSync;
+    }
+
+    public static class Executor {
+
+        /**
+         * Number of workers executing the tasks concurrently.
+         * With 0 workers every task is executed in the calling thread.
+         */
+        @Min(0)
+        private int concurrency;
+
+        /**
+         * Number of tasks that can be queued. If the queue is full, the calling thread waits for a free place.
+         */
+        @Min(1)
+        private int queueCapacity = 1000;
+
+        public Executor() {
+            this(1);
+        }
+
+        Executor(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
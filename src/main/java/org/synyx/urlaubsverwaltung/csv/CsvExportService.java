@@ -8,9 +8,11 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
 import static com.opencsv.ICSVWriter.DEFAULT_QUOTE_CHARACTER;
@@ -24,10 +26,10 @@ public interface CsvExportService<T> {
      *
      * @param period    to add period to csv
      * @param locale    for i18n (messages and number formats)
-     * @param data      are the main information for the csv
+     * @param data      are the main information for the csv, consumed exactly once
      * @param csvWriter to write data that will be used to create the ByteArrayResource
      */
-    void write(FilterPeriod period, Locale locale, List<T> data, CSVWriter csvWriter);
+    void write(FilterPeriod period, Locale locale, Stream<T> data, CSVWriter csvWriter);
 
     /**
      * Contains the algorithm to create a unique filename
@@ -76,20 +78,33 @@ public interface CsvExportService<T> {
      * @return {@link ByteArrayResource} based on the filter period and data
      */
     default ByteArrayResource resource(FilterPeriod period, Locale locale, List<T> data) {
-        final ByteArrayResource byteArrayResource;
-
         try (final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-            byteArrayOutputStream.write(bom());
+            streamCSV(period, locale, data.stream(), byteArrayOutputStream);
+            return new ByteArrayResource(byteArrayOutputStream.toByteArray());
+        } catch (IOException e) {
+            throw new CsvExportException("csv data not be written to ByteArrayResource", e);
+        }
+    }
 
-            try (final OutputStreamWriter outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream, UTF_8)) {
-                try (final CSVWriter csvWriter = new CSVWriter(outputStreamWriter, separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END)) {
-                    write(period, locale, data, csvWriter);
-                }
-            }
-            byteArrayResource = new ByteArrayResource(byteArrayOutputStream.toByteArray());
-            return byteArrayResource;
+    /**
+     * Writes the csv directly into the given output stream while the data is consumed. Rows are not held back,
+     * therefore the memory needed does not depend on the amount of data. The output stream is flushed but not closed.
+     *
+     * @param period       to create content
+     * @param locale       for i18n (messages and number formats)
+     * @param data         to create content, consumed exactly once
+     * @param outputStream to write the csv to, e.g. the servlet response
+     */
+    default void streamCSV(FilterPeriod period, Locale locale, Stream<T> data, OutputStream outputStream) {
+        try {
+            outputStream.write(bom());
+
+            final OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, UTF_8);
+            final CSVWriter csvWriter = new CSVWriter(outputStreamWriter, separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END);
+            write(period, locale, data, csvWriter);
+            csvWriter.flush();
         } catch (ValidationException | IOException e) {
-            throw new CsvExportException("csv data not be written to ByteArrayResource", e);
+            throw new CsvExportException("csv data not be written to output stream", e);
         }
     }
 }
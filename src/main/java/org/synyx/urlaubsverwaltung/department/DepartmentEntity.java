@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Fetch;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
 
@@ -18,9 +19,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.time.ZoneOffset.UTC;
+import static org.hibernate.annotations.FetchMode.SUBSELECT;
 
 @Entity(name = "department")
 public class DepartmentEntity extends AbstractTenantAwareEntity {
@@ -44,16 +45,21 @@ public class DepartmentEntity extends AbstractTenantAwareEntity {
     // flag for two stage approval process
     private boolean twoStageApproval;
 
+    // associations are loaded on first access, with one query for all departments of the same result.
+    // permission checks and the department list use the projections of DepartmentRepository instead.
     @CollectionTable(name = "department_member", joinColumns = @JoinColumn(name = "department_id"))
-    @ElementCollection(fetch = EAGER)
+    @ElementCollection
+    @Fetch(SUBSELECT)
     private List<DepartmentMemberEmbeddable> members = new ArrayList<>();
 
-    @OneToMany(fetch = EAGER)
+    @OneToMany
     @CollectionTable(name = "department_department_head")
+    @Fetch(SUBSELECT)
     private List<Person> departmentHeads = new ArrayList<>();
 
-    @OneToMany(fetch = EAGER)
+    @OneToMany
     @CollectionTable(name = "department_second_stage_authority")
+    @Fetch(SUBSELECT)
     private List<Person> secondStageAuthorities = new ArrayList<>();
 
     public DepartmentEntity() {
@@ -6,16 +6,20 @@ import org.springframework.stereotype.Service;
 public class DepartmentImportService {
 
     private final DepartmentRepository departmentRepository;
+    private final DepartmentMembershipGraph departmentMembershipGraph;
 
-    DepartmentImportService(DepartmentRepository departmentRepository) {
+    DepartmentImportService(DepartmentRepository departmentRepository, DepartmentMembershipGraph departmentMembershipGraph) {
         this.departmentRepository = departmentRepository;
+        this.departmentMembershipGraph = departmentMembershipGraph;
     }
 
     public void deleteAll() {
         departmentRepository.deleteAll();
+        departmentMembershipGraph.invalidate();
     }
 
     public void importDepartment(DepartmentEntity departmentEntity) {
         departmentRepository.save(departmentEntity);
+        departmentMembershipGraph.invalidate();
     }
 }
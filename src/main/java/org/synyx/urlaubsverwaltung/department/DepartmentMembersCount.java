@@ -0,0 +1,8 @@
+package org.synyx.urlaubsverwaltung.department;
+
+interface DepartmentMembersCount {
+
+    Long getDepartmentId();
+
+    Long getMembersCount();
+}
@@ -0,0 +1,156 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Holds the ids of the members managed by department heads and second stage authorities, so permission checks
+ * like {@link DepartmentService#isSignedInUserAllowedToAccessPersonData(Person, Person)} are a lookup in a set
+ * instead of loading the departments with all their members, heads and authorities again and again.
+ *
+ * <p>The members of a department head or second stage authority are loaded on the first check. All members are
+ * dropped on every change of a department and of a disabled person, and after {@link #TIME_TO_LIVE} to pick up
+ * changes of other instances sharing the same database.</p>
+ */
+@Component
+class DepartmentMembershipGraph {
+
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final DepartmentRepository departmentRepository;
+    private final Clock clock;
+
+    private final Map<Long, Members> membersOfDepartmentHeads = new ConcurrentHashMap<>();
+    private final Map<Long, Members> membersOfSecondStageAuthorities = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    DepartmentMembershipGraph(DepartmentRepository departmentRepository, Clock clock) {
+        this.departmentRepository = departmentRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * @param departmentHead of the departments
+     * @param person         to check
+     * @return true if the person is a member of a department of the department head, false otherwise
+     */
+    boolean isMemberOfDepartmentHead(Person departmentHead, Person person) {
+        return contains(members(membersOfDepartmentHeads, departmentHead, this::loadMembersOfDepartmentHead).all(), person);
+    }
+
+    /**
+     * @param departmentHead of the departments
+     * @param person         to check
+     * @return true if the person is a member of a department of the department head and not a second stage authority
+     * of the same department, false otherwise
+     */
+    boolean isManagedByDepartmentHead(Person departmentHead, Person person) {
+        return contains(members(membersOfDepartmentHeads, departmentHead, this::loadMembersOfDepartmentHead).managed(), person);
+    }
+
+    /**
+     * @param secondStageAuthority of the departments
+     * @param person               to check
+     * @return true if the person is a member of a department of the second stage authority, false otherwise
+     */
+    boolean isMemberOfSecondStageAuthority(Person secondStageAuthority, Person person) {
+        return contains(members(membersOfSecondStageAuthorities, secondStageAuthority, this::loadMembersOfSecondStageAuthority).all(), person);
+    }
+
+    /**
+     * Drops all members, again after the commit of the current transaction if there is one. Otherwise, members
+     * loaded by a concurrent check before the commit would outlive the change.
+     */
+    void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    @EventListener
+    void on(PersonDisabledEvent event) {
+        invalidate();
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        membersOfDepartmentHeads.clear();
+        membersOfSecondStageAuthorities.clear();
+    }
+
+    private static boolean contains(Set<Long> personIds, Person person) {
+        return person.getId() != null && personIds.contains(person.getId());
+    }
+
+    private Members members(Map<Long, Members> membersByPersonId, Person person, Function<Person, Members> loader) {
+
+        if (person.getId() == null) {
+            return loader.apply(person);
+        }
+
+        final Instant now = Instant.now(clock);
+        final Members current = membersByPersonId.get(person.getId());
+        if (current != null && !current.isOutdated(now)) {
+            return current;
+        }
+
+        // load outside the map, the queries must not block other checks and invalidations of the same bin
+        final long generationBeforeLoading = generation.get();
+        final Members loaded = loader.apply(person);
+        final Members members = membersByPersonId.merge(person.getId(), loaded, (existing, fresh) -> existing.isOutdated(now) ? fresh : existing);
+        if (generationBeforeLoading != generation.get()) {
+            // invalidated while loading, so the loaded members may miss the change
+            membersByPersonId.remove(person.getId(), loaded);
+        }
+        return members;
+    }
+
+    private Members loadMembersOfDepartmentHead(Person departmentHead) {
+        if (departmentHead.getId() == null) {
+            return new Members(Set.of(), Set.of(), Instant.now(clock));
+        }
+        final Set<Long> all = Set.copyOf(departmentRepository.findMemberIdsOfDepartmentHead(departmentHead.getId()));
+        final Set<Long> managed = Set.copyOf(departmentRepository.findManagedMemberIdsOfDepartmentHead(departmentHead.getId()));
+        return new Members(all, managed, Instant.now(clock));
+    }
+
+    private Members loadMembersOfSecondStageAuthority(Person secondStageAuthority) {
+        if (secondStageAuthority.getId() == null) {
+            return new Members(Set.of(), Set.of(), Instant.now(clock));
+        }
+        final Set<Long> all = Set.copyOf(departmentRepository.findMemberIdsOfSecondStageAuthority(secondStageAuthority.getId()));
+        return new Members(all, Set.of(), Instant.now(clock));
+    }
+
+    /**
+     * @param all      ids of all members of the departments
+     * @param managed  ids of the members that are not second stage authority of the same department, only known for
+     *                 department heads
+     * @param loadedAt when the members were loaded
+     */
+    private record Members(Set<Long> all, Set<Long> managed, Instant loadedAt) {
+
+        boolean isOutdated(Instant now) {
+            return !loadedAt.plus(TIME_TO_LIVE).isAfter(now);
+        }
+    }
+}
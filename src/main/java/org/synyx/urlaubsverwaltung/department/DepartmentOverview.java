@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import java.time.LocalDate;
+
+/**
+ * Department with the number of its members instead of the members itself.
+ *
+ * @param id                   of the department
+ * @param name                 of the department
+ * @param description          of the department
+ * @param lastModification     of the department
+ * @param twoStageApproval     whether applications for leave of the members need a two stage approval
+ * @param activeMembersCount   number of active members
+ * @param inactiveMembersCount number of inactive members
+ */
+public record DepartmentOverview(
+    Long id,
+    String name,
+    String description,
+    LocalDate lastModification,
+    boolean twoStageApproval,
+    long activeMembersCount,
+    long inactiveMembersCount
+) {
+}
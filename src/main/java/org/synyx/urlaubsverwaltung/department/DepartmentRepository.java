@@ -1,7 +1,10 @@
 package org.synyx.urlaubsverwaltung.department;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.Role;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,4 +26,53 @@ interface DepartmentRepository extends JpaRepository<DepartmentEntity, Long> {
     List<DepartmentEntity> findDistinctByMembersPersonIn(List<Person> person);
 
     Optional<DepartmentEntity> findFirstByName(String departmentName);
+
+    @Query("""
+        select distinct p.id
+        from department d
+          join d.departmentHeads h
+          join d.members m
+          join m.person p
+        where h.id = :departmentHeadId
+        """)
+    List<Long> findMemberIdsOfDepartmentHead(@Param("departmentHeadId") Long departmentHeadId);
+
+    @Query("""
+        select distinct p.id
+        from department d
+          join d.departmentHeads h
+          join d.members m
+          join m.person p
+        where h.id = :departmentHeadId and p not member of d.secondStageAuthorities
+        """)
+    List<Long> findManagedMemberIdsOfDepartmentHead(@Param("departmentHeadId") Long departmentHeadId);
+
+    @Query("""
+        select distinct p.id
+        from department d
+          join d.secondStageAuthorities s
+          join d.members m
+          join m.person p
+        where s.id = :secondStageAuthorityId
+        """)
+    List<Long> findMemberIdsOfSecondStageAuthority(@Param("secondStageAuthorityId") Long secondStageAuthorityId);
+
+    @Query("""
+        select d.id as departmentId, count(p) as membersCount
+        from department d
+          join d.members m
+          join m.person p
+        group by d.id
+        """)
+    List<DepartmentMembersCount> countMembers();
+
+    @Query("""
+        select d.id as departmentId, count(p) as membersCount
+        from department d
+          join d.members m
+          join m.person p
+        where :permission member of p.permissions
+        group by d.id
+        """)
+    List<DepartmentMembersCount> countMembersWithPermission(@Param("permission") Role permission);
 }
@@ -68,6 +68,13 @@ public interface DepartmentService {
      */
     List<Department> getAllDepartments();
 
+    /**
+     * Returns all departments with the number of their active and inactive members, without loading the members.
+     *
+     * @return overviews of all departments ordered by the department name
+     */
+    List<DepartmentOverview> getAllDepartmentOverviews();
+
     /**
      * Finds all departments the given person is member of.
      *
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -37,17 +38,23 @@ import static java.util.function.Predicate.isEqual;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 
 /**
  * Implementation for {@link DepartmentService}.
+ *
+ * <p>The members, department heads and second stage authorities of a department are loaded lazily, therefore
+ * departments are read in a read only transaction and mapped before it ends.</p>
  */
 @Service
+@Transactional(readOnly = true)
 class DepartmentServiceImpl implements DepartmentService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
@@ -55,13 +62,16 @@ class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final ApplicationService applicationService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final DepartmentMembershipGraph departmentMembershipGraph;
     private final Clock clock;
 
     @Autowired
-    DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
+    DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher,
+                          DepartmentMembershipGraph departmentMembershipGraph, Clock clock) {
         this.departmentRepository = departmentRepository;
         this.applicationService = applicationService;
         this.applicationEventPublisher = applicationEventPublisher;
+        this.departmentMembershipGraph = departmentMembershipGraph;
         this.clock = clock;
     }
 
@@ -159,6 +169,7 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional
     public Department create(Department department) {
 
         final DepartmentEntity departmentEntity = mapToDepartmentEntityWithoutMembers(department);
@@ -177,6 +188,7 @@ class DepartmentServiceImpl implements DepartmentService {
         departmentEntity.setMembers(departmentMembers);
 
         final DepartmentEntity createdDepartmentEntity = departmentRepository.save(departmentEntity);
+        departmentMembershipGraph.invalidate();
         final Department createdDepartment = mapToDepartment(createdDepartmentEntity);
 
         LOG.info("Created department: {}", createdDepartment);
@@ -185,6 +197,7 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional
     public Department update(Department department) {
 
         final DepartmentEntity currentDepartmentEntity = departmentRepository.findById(department.getId())
@@ -199,6 +212,7 @@ class DepartmentServiceImpl implements DepartmentService {
         departmentEntity.setMembers(departmentMembers);
 
         final DepartmentEntity updatedDepartmentEntity = departmentRepository.save(departmentEntity);
+        departmentMembershipGraph.invalidate();
         final Department updatedDepartment = mapToDepartment(updatedDepartmentEntity);
         sendMemberLeftDepartmentEvent(department, currentDepartmentEntity);
 
@@ -213,6 +227,7 @@ class DepartmentServiceImpl implements DepartmentService {
      * @param event the person who is deleted
      */
     @EventListener
+    @Transactional
     void deleteAssignedDepartmentsOfMember(PersonDeletedEvent event) {
 
         getAssignedDepartmentsOfMember(event.person()).forEach(department -> {
@@ -229,6 +244,7 @@ class DepartmentServiceImpl implements DepartmentService {
      * @param event the person who is deleted
      */
     @EventListener
+    @Transactional
     void deleteDepartmentHead(PersonDeletedEvent event) {
 
         getManagedDepartmentsOfDepartmentHead(event.person()).forEach(department -> {
@@ -246,6 +262,7 @@ class DepartmentServiceImpl implements DepartmentService {
      * @param event the person who is deleted
      */
     @EventListener
+    @Transactional
     void deleteSecondStageAuthority(PersonDeletedEvent event) {
 
         getManagedDepartmentsOfSecondStageAuthority(event.person()).forEach(department -> {
@@ -257,15 +274,35 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional
     public void delete(Long departmentId) {
 
         if (this.departmentExists(departmentId)) {
             departmentRepository.deleteById(departmentId);
+            departmentMembershipGraph.invalidate();
         } else {
             LOG.info("No department found for ID = {}, deletion is not necessary.", departmentId);
         }
     }
 
+    @Override
+    public List<DepartmentOverview> getAllDepartmentOverviews() {
+
+        final Map<Long, Long> membersCounts = membersCountByDepartmentId(departmentRepository.countMembers());
+        final Map<Long, Long> inactiveMembersCounts = membersCountByDepartmentId(departmentRepository.countMembersWithPermission(INACTIVE));
+
+        return departmentRepository.findAll().stream()
+            .map(departmentEntity -> {
+                final long membersCount = membersCounts.getOrDefault(departmentEntity.getId(), 0L);
+                final long inactiveMembersCount = inactiveMembersCounts.getOrDefault(departmentEntity.getId(), 0L);
+                return new DepartmentOverview(departmentEntity.getId(), departmentEntity.getName(), departmentEntity.getDescription(),
+                    departmentEntity.getLastModification(), departmentEntity.isTwoStageApproval(),
+                    membersCount - inactiveMembersCount, inactiveMembersCount);
+            })
+            .sorted(comparing(departmentOverview -> departmentOverview.name().toLowerCase()))
+            .toList();
+    }
+
     @Override
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll().stream()
@@ -364,7 +401,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isDepartmentHeadAllowedToManagePerson(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getManagedMembersOfDepartmentHead(departmentHead).contains(person);
+            return departmentMembershipGraph.isManagedByDepartmentHead(departmentHead, person);
         }
 
         return false;
@@ -382,7 +419,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isSecondStageAuthorityAllowedToManagePerson(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getManagedMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return departmentMembershipGraph.isMemberOfSecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -402,10 +439,10 @@ class DepartmentServiceImpl implements DepartmentService {
 
         final boolean isOwnData = person.getId().equals(signedInUser.getId());
         final boolean isBossOrOffice = signedInUser.hasRole(OFFICE) || signedInUser.hasRole(BOSS);
-        final boolean isSecondStageAuthorityAllowedToAccessPersonalData = isSecondStageAuthorityAllowedToAccessPersonData(signedInUser, person);
-        final boolean isDepartmentHeadAllowedToAccessPersonalData = isDepartmentHeadAllowedToAccessPersonData(signedInUser, person);
 
-        return isOwnData || isBossOrOffice || isDepartmentHeadAllowedToAccessPersonalData || isSecondStageAuthorityAllowedToAccessPersonalData;
+        return isOwnData || isBossOrOffice
+            || isDepartmentHeadAllowedToAccessPersonData(signedInUser, person)
+            || isSecondStageAuthorityAllowedToAccessPersonData(signedInUser, person);
     }
 
     @Override
@@ -471,6 +508,11 @@ class DepartmentServiceImpl implements DepartmentService {
         return Stream.concat(bucket.stream(), departmentNames.stream()).collect(toList());
     }
 
+    private static Map<Long, Long> membersCountByDepartmentId(List<DepartmentMembersCount> membersCounts) {
+        return membersCounts.stream()
+            .collect(toMap(DepartmentMembersCount::getDepartmentId, DepartmentMembersCount::getMembersCount));
+    }
+
     private Predicate<Person> isNotSecondStageIn(Department department) {
         return person -> !department.getSecondStageAuthorities().contains(person);
     }
@@ -481,8 +523,9 @@ class DepartmentServiceImpl implements DepartmentService {
         department.setId(departmentEntity.getId());
         department.setName(departmentEntity.getName());
         department.setDescription(departmentEntity.getDescription());
-        department.setDepartmentHeads(departmentEntity.getDepartmentHeads());
-        department.setSecondStageAuthorities(departmentEntity.getSecondStageAuthorities());
+        // copied within the transaction, the associations of the entity are loaded lazily
+        department.setDepartmentHeads(new ArrayList<>(departmentEntity.getDepartmentHeads()));
+        department.setSecondStageAuthorities(new ArrayList<>(departmentEntity.getSecondStageAuthorities()));
         department.setTwoStageApproval(departmentEntity.isTwoStageApproval());
         department.setCreatedAt(departmentEntity.getCreatedAt());
         department.setLastModification(departmentEntity.getLastModification());
@@ -590,7 +633,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isSecondStageAuthorityAllowedToAccessPersonData(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return departmentMembershipGraph.isMemberOfSecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -598,7 +641,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isDepartmentHeadAllowedToAccessPersonData(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getMembersForDepartmentHead(departmentHead).contains(person);
+            return departmentMembershipGraph.isMemberOfDepartmentHead(departmentHead, person);
         }
 
         return false;
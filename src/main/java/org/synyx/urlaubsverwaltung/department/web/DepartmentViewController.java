@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.synyx.urlaubsverwaltung.department.Department;
+import org.synyx.urlaubsverwaltung.department.DepartmentOverview;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -68,7 +69,7 @@ public class DepartmentViewController implements HasLaunchpad {
     @GetMapping("/department")
     public String showAllDepartments(Model model) {
 
-        final List<Department> departments = departmentService.getAllDepartments();
+        final List<DepartmentOverview> departments = departmentService.getAllDepartmentOverviews();
         model.addAttribute("departments", mapToDepartmentOverviewDtos(departments));
 
         final Person signedInUser = personService.getSignedInUser();
@@ -1,12 +1,13 @@
 package org.synyx.urlaubsverwaltung.dev;
 
 import org.slf4j.Logger;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.person.PersonCreatedEvent;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 class PersonCreatedEventListener {
 
@@ -19,7 +20,7 @@ class PersonCreatedEventListener {
     }
 
     @Async
-    @EventListener
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     void on(PersonCreatedEvent event) {
         final String email = event.getEmail();
         if (email == null || email.isEmpty()) {
@@ -10,9 +10,9 @@ import de.focus_shift.urlaubsverwaltung.extension.api.application.VacationTypeDT
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.application.application.Application;
@@ -31,6 +31,9 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
+
 @Component
 @ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
 public class ApplicationEventHandlerExtension {
@@ -50,9 +53,9 @@ public class ApplicationEventHandlerExtension {
     }
 
     private static Set<LocalDate> toAbsentWorkingDays(AbsencePeriod absencePeriod) {
-        return absencePeriod.getAbsenceRecords()
+        return absencePeriod.getRanges()
             .stream()
-            .map(AbsencePeriod.Record::getDate)
+            .flatMap(range -> range.getStartDate().datesUntil(range.getEndDate().plusDays(1)))
             .collect(Collectors.toSet());
     }
 
@@ -174,8 +177,8 @@ public class ApplicationEventHandlerExtension {
             .build();
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(ApplicationAllowedEvent event) {
         getAbsencePeriods(event.application())
             .ifPresent(absencePeriod -> {
@@ -184,8 +187,8 @@ public class ApplicationEventHandlerExtension {
             });
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(ApplicationCancelledEvent event) {
         getClosedAbsencePeriods(event.application())
             .ifPresent(absencePeriod -> {
@@ -194,8 +197,8 @@ public class ApplicationEventHandlerExtension {
             });
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(ApplicationCreatedFromSickNoteEvent event) {
         getAbsencePeriods(event.application())
             .ifPresent(absencePeriod -> {
@@ -225,10 +228,10 @@ public class ApplicationEventHandlerExtension {
     }
 
     private static Predicate<AbsencePeriod> isMorning(org.synyx.urlaubsverwaltung.period.DayLength dayLength) {
-        return absencePeriod -> dayLength.isMorning() && absencePeriod.getAbsenceRecords().stream().allMatch(absenceRecord -> absenceRecord.getMorning().isPresent());
+        return absencePeriod -> dayLength.isMorning() && absencePeriod.getRanges().stream().allMatch(range -> range.getMorning().isPresent());
     }
 
     private static Predicate<AbsencePeriod> isNoon(org.synyx.urlaubsverwaltung.period.DayLength dayLength) {
-        return absencePeriod -> dayLength.isNoon() && absencePeriod.getAbsenceRecords().stream().allMatch(absenceRecord -> absenceRecord.getNoon().isPresent());
+        return absencePeriod -> dayLength.isNoon() && absencePeriod.getRanges().stream().allMatch(range -> range.getNoon().isPresent());
     }
 }
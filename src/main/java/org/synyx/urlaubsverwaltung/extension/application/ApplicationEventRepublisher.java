@@ -18,6 +18,7 @@ import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.application.republish.enabled", havingValue = "true")
@@ -37,7 +38,7 @@ public class ApplicationEventRepublisher {
         this.clock = clock;
     }
 
-    @Async
+    @Async(EXTENSION_EXECUTOR)
     @EventListener(ApplicationStartedEvent.class)
     void republishEvents() {
 
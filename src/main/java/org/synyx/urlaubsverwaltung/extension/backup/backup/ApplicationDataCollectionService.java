@@ -1,8 +1,10 @@
 package org.synyx.urlaubsverwaltung.extension.backup.backup;
 
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.CustomVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
@@ -23,19 +25,25 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.SupportedLanguages;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static org.synyx.urlaubsverwaltung.extension.backup.backup.PersonOrder.sortByPersonAndStartDate;
 
 @Service
 @ConditionalOnBackupCreateEnabled
 class ApplicationDataCollectionService {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final ApplicationService applicationService;
     private final VacationTypeService vacationTypeService;
     private final ApplicationCommentService applicationCommentService;
@@ -48,31 +56,53 @@ class ApplicationDataCollectionService {
 
     ApplicationBackupDTO collectApplications(List<Person> allPersons, LocalDate from, LocalDate to) {
 
-        final List<VacationTypeDTO> vacationTypes = vacationTypeService.getAllVacationTypes().stream()
+        final List<ApplicationDTO> applications = new ArrayList<>();
+        for (List<Person> persons : ListUtils.partition(allPersons, CHUNK_SIZE)) {
+            applications.addAll(collectApplicationsOfPersons(persons, from, to));
+        }
+
+        return new ApplicationBackupDTO(collectVacationTypes(), applications);
+    }
+
+    List<VacationTypeDTO> collectVacationTypes() {
+        return vacationTypeService.getAllVacationTypes().stream()
             .map(this::createVacationTypeDTO)
             .toList();
+    }
+
+    /**
+     * Collects the applications of at most {@value #CHUNK_SIZE} persons with one query.
+     */
+    List<ApplicationDTO> collectApplicationsOfPersons(List<Person> persons, LocalDate from, LocalDate to) {
 
-        final List<ApplicationDTO> applications = allPersons.stream()
-            .map(person ->
-                applicationService.getApplicationsForACertainPeriodAndPerson(from, to, person).stream()
-                    .map(application -> {
+        final List<Application> applicationsOfPersons = sortByPersonAndStartDate(
+            applicationService.getForStatesAndPerson(List.of(ApplicationStatus.values()), persons, from, to),
+            persons, Application::getPerson, Application::getStartDate
+        );
 
-                        final List<HolidayReplacementDTO> holidayReplacements = application.getHolidayReplacements().stream()
-                            .map(holidayReplacementEntity -> new HolidayReplacementDTO(holidayReplacementEntity.getPerson().getUsername(), holidayReplacementEntity.getNote()))
-                            .toList();
+        final Map<Long, List<ApplicationCommentDTO>> commentsByApplicationId = collectComments(applicationsOfPersons);
 
-                        final List<ApplicationCommentDTO> applicationComments = applicationCommentService.getCommentsByApplication(application).stream()
-                            .map(applicationComment -> new ApplicationCommentDTO(ApplicationCommentActionDTO.valueOf(applicationComment.action().name()), applicationComment.person().getUsername(), applicationComment.date(), applicationComment.text()))
-                            .toList();
+        final List<ApplicationDTO> applications = new ArrayList<>();
+        for (Application application : applicationsOfPersons) {
 
-                        return createApplicationDTO(application, holidayReplacements, applicationComments);
-                    })
-                    .toList()
-            )
-            .flatMap(Collection::stream)
-            .toList();
+            final List<HolidayReplacementDTO> holidayReplacements = application.getHolidayReplacements().stream()
+                .map(holidayReplacementEntity -> new HolidayReplacementDTO(holidayReplacementEntity.getPerson().getUsername(), holidayReplacementEntity.getNote()))
+                .toList();
+
+            final List<ApplicationCommentDTO> applicationComments = commentsByApplicationId.getOrDefault(application.getId(), List.of());
+
+            applications.add(createApplicationDTO(application, holidayReplacements, applicationComments));
+        }
+
+        return applications;
+    }
 
-        return new ApplicationBackupDTO(vacationTypes, applications);
+    private Map<Long, List<ApplicationCommentDTO>> collectComments(List<Application> applications) {
+        return ListUtils.partition(applications, CHUNK_SIZE).stream()
+            .flatMap(chunk -> applicationCommentService.getCommentsByApplications(chunk).stream())
+            .collect(groupingBy(applicationComment -> applicationComment.application().getId(), mapping(applicationComment ->
+                new ApplicationCommentDTO(ApplicationCommentActionDTO.valueOf(applicationComment.action().name()), applicationComment.person().getUsername(), applicationComment.date(), applicationComment.text()), toList())
+            ));
     }
 
     private VacationTypeDTO createVacationTypeDTO(VacationType<?> vacationType) {
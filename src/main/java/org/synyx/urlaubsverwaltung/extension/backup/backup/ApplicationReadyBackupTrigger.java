@@ -29,7 +29,7 @@ class ApplicationReadyBackupTrigger {
     @EventListener(ApplicationReadyEvent.class)
     void createBackup() {
         LOG.info("Starting backup by ApplicationReadyEvent...");
-        backupCreateService.backupData(backupDataCollectionService.collectData());
+        backupCreateService.backupData(backupDataCollectionService.streamData());
         LOG.info("Finished backup by ApplicationReadyEvent ...");
     }
 }
@@ -10,4 +10,15 @@ import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBacku
 public interface BackupCreateService {
 
     void backupData(UrlaubsverwaltungBackupDTO backup);
+
+    /**
+     * Receives a backup that can be written while it is collected. Override this method to store the backup without
+     * holding it in memory as a whole. The default implementation collects the backup and passes it to
+     * {@link #backupData(UrlaubsverwaltungBackupDTO)}.
+     *
+     * @param backup the backup to store
+     */
+    default void backupData(StreamingBackup backup) {
+        backupData(backup.collect());
+    }
 }
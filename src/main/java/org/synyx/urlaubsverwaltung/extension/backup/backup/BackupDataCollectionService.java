@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.extension.backup.backup;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
+import org.apache.commons.collections4.ListUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,12 +14,20 @@ import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.PersonDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SettingsDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteBackupDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteTypeDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBackupDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.VacationTypeDTO;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -28,6 +38,8 @@ class BackupDataCollectionService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final int PERSON_CHUNK_SIZE = 100;
+
     private final String applicationVersion;
     private final TenantSupplier tenantSupplier;
     private final PersonService personService;
@@ -76,18 +88,122 @@ class BackupDataCollectionService {
 
         final List<Person> allPersons = personService.getAllPersons();
 
-        final List<PersonDTO> persons = personDataCollectionService.collectPersons(allPersons);
-        final List<OvertimeDTO> overtimes = overtimeDataCollectionService.collectOvertimes(persons);
-        final SickNoteBackupDTO sickNotes = sickNoteDataCollectionService.collectSickNotes(allPersons, exportFrom, exportTo);
-        final ApplicationBackupDTO applications = applicationDataCollectionService.collectApplications(allPersons, exportFrom, exportTo);
-        final List<DepartmentDTO> departments = departmentDataCollectionService.collectDepartments();
-        final SettingsDTO settings = settingsDataCollectionService.collectSettings();
-        final CalendarBackupDTO calendars = calendarDataCollectionService.collectCalendars(allPersons);
-        final CalendarIntegrationBackupDTO calendarIntegration = calendarIntegrationDataCollectionService.collectCalendarIntegration();
+        // the collectors are independent of each other and mostly wait for the database,
+        // therefore every collector runs on its own virtual thread
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            final Future<List<PersonDTO>> persons = executor.submit(() -> personDataCollectionService.collectPersons(allPersons));
+            final Future<List<OvertimeDTO>> overtimes = executor.submit(() -> overtimeDataCollectionService.collectOvertimes(allPersons));
+            final Future<SickNoteBackupDTO> sickNotes = executor.submit(() -> sickNoteDataCollectionService.collectSickNotes(allPersons, exportFrom, exportTo));
+            final Future<ApplicationBackupDTO> applications = executor.submit(() -> applicationDataCollectionService.collectApplications(allPersons, exportFrom, exportTo));
+            final Future<List<DepartmentDTO>> departments = executor.submit(departmentDataCollectionService::collectDepartments);
+            final Future<SettingsDTO> settings = executor.submit(settingsDataCollectionService::collectSettings);
+            final Future<CalendarBackupDTO> calendars = executor.submit(() -> calendarDataCollectionService.collectCalendars(allPersons));
+            final Future<CalendarIntegrationBackupDTO> calendarIntegration = executor.submit(calendarIntegrationDataCollectionService::collectCalendarIntegration);
+
+            final UrlaubsverwaltungBackupDTO backup = new UrlaubsverwaltungBackupDTO(tenantSupplier.get(), applicationVersion,
+                get(persons), get(overtimes), get(sickNotes), get(applications), get(departments), get(calendars),
+                get(calendarIntegration), get(settings));
+
+            LOG.info("Collected data for backup");
+
+            return backup;
+        }
+    }
+
+    /**
+     * Creates a backup that collects the data of the persons chunk by chunk while it is written.
+     *
+     * @return the backup of the current tenant
+     */
+    public StreamingBackup streamData() {
+        return new StreamingBackup() {
+            @Override
+            public UrlaubsverwaltungBackupDTO collect() {
+                return collectData();
+            }
+
+            @Override
+            public void writeTo(JsonGenerator generator) throws IOException {
+                writeData(generator);
+            }
+        };
+    }
+
+    private void writeData(JsonGenerator generator) throws IOException {
+        LOG.info("Writing data for backup ...");
+
+        final LocalDate exportFrom = LocalDate.ofEpochDay(0);
+        final LocalDate exportTo = getLastDayOfNextYear();
+
+        final List<Person> allPersons = personService.getAllPersons();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            // data that does not grow with the history is collected in the background at once
+            final Future<List<SickNoteTypeDTO>> sickNoteTypes = executor.submit(sickNoteDataCollectionService::collectSickNoteTypes);
+            final Future<List<VacationTypeDTO>> vacationTypes = executor.submit(applicationDataCollectionService::collectVacationTypes);
+            final Future<List<DepartmentDTO>> departments = executor.submit(departmentDataCollectionService::collectDepartments);
+            final Future<CalendarBackupDTO> calendars = executor.submit(() -> calendarDataCollectionService.collectCalendars(allPersons));
+            final Future<CalendarIntegrationBackupDTO> calendarIntegration = executor.submit(calendarIntegrationDataCollectionService::collectCalendarIntegration);
+            final Future<SettingsDTO> settings = executor.submit(settingsDataCollectionService::collectSettings);
+
+            generator.writeStartObject();
+            generator.writeStringField("tenantId", tenantSupplier.get());
+            generator.writeStringField("urlaubsverwaltungVersion", applicationVersion);
+            writeChunkwise(generator, "persons", executor, allPersons, personDataCollectionService::collectPersons);
+            writeChunkwise(generator, "overtimes", executor, allPersons, overtimeDataCollectionService::collectOvertimes);
+
+            generator.writeObjectFieldStart("sickNotes");
+            generator.writeObjectField("sickNoteTypes", get(sickNoteTypes));
+            writeChunkwise(generator, "sickNotes", executor, allPersons, persons -> sickNoteDataCollectionService.collectSickNotesOfPersons(persons, exportFrom, exportTo));
+            generator.writeEndObject();
+
+            generator.writeObjectFieldStart("applications");
+            generator.writeObjectField("vacationTypes", get(vacationTypes));
+            writeChunkwise(generator, "applications", executor, allPersons, persons -> applicationDataCollectionService.collectApplicationsOfPersons(persons, exportFrom, exportTo));
+            generator.writeEndObject();
 
-        LOG.info("Collected data for backup");
+            generator.writeObjectField("departments", get(departments));
+            generator.writeObjectField("calendars", get(calendars));
+            generator.writeObjectField("calendarIntegration", get(calendarIntegration));
+            generator.writeObjectField("settings", get(settings));
+            generator.writeEndObject();
+        }
+
+        LOG.info("Written data for backup");
+    }
+
+    /**
+     * Writes the values of the persons as array, {@value #PERSON_CHUNK_SIZE} persons at once. The values of the next
+     * chunk are collected while the current chunk is written, so at most two chunks are held in memory.
+     */
+    private static <T> void writeChunkwise(JsonGenerator generator, String fieldName, ExecutorService executor,
+                                           List<Person> allPersons, Function<List<Person>, List<T>> collector) throws IOException {
+
+        final List<List<Person>> chunks = ListUtils.partition(allPersons, PERSON_CHUNK_SIZE);
+
+        generator.writeArrayFieldStart(fieldName);
+        Future<List<T>> nextChunk = chunks.isEmpty() ? null : executor.submit(() -> collector.apply(chunks.getFirst()));
+        for (int i = 0; i < chunks.size(); i++) {
+            final List<T> values = get(nextChunk);
+            final List<Person> persons = i + 1 < chunks.size() ? chunks.get(i + 1) : null;
+            nextChunk = persons == null ? null : executor.submit(() -> collector.apply(persons));
+            for (T value : values) {
+                generator.writeObject(value);
+            }
+        }
+        generator.writeEndArray();
+    }
 
-        return new UrlaubsverwaltungBackupDTO(tenantSupplier.get(), applicationVersion, persons, overtimes, sickNotes,
-            applications, departments, calendars, calendarIntegration, settings);
+    private static <T> T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while collecting data for backup", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not collect data for backup", e.getCause());
+        }
     }
 }
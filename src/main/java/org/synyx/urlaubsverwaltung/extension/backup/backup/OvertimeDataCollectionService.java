@@ -3,8 +3,8 @@ package org.synyx.urlaubsverwaltung.extension.backup.backup;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeCommentDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeDTO;
-import org.synyx.urlaubsverwaltung.extension.backup.model.PersonDTO;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.util.Collection;
 import java.util.List;
@@ -19,18 +19,18 @@ class OvertimeDataCollectionService {
         this.overtimeService = overtimeService;
     }
 
-    List<OvertimeDTO> collectOvertimes(List<PersonDTO> persons) {
+    List<OvertimeDTO> collectOvertimes(List<Person> persons) {
         return persons.stream()
             .map(this::createOvertimeDTOS)
             .flatMap(Collection::stream)
             .toList();
     }
 
-    private List<OvertimeDTO> createOvertimeDTOS(PersonDTO person) {
-        return overtimeService.getAllOvertimesByPersonId(person.id()).stream()
+    private List<OvertimeDTO> createOvertimeDTOS(Person person) {
+        return overtimeService.getAllOvertimesByPersonId(person.getId()).stream()
             .map(overtime -> {
                 final List<OvertimeCommentDTO> overtimeCommentDTOs = overtimeService.getCommentsForOvertime(overtime).stream().map(OvertimeCommentDTO::of).toList();
-                return OvertimeDTO.of(overtime, person.externalId(), overtimeCommentDTOs);
+                return OvertimeDTO.of(overtime, person.getUsername(), overtimeCommentDTOs);
             })
             .toList();
     }
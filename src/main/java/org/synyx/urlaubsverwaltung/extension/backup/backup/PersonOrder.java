@@ -0,0 +1,34 @@
+package org.synyx.urlaubsverwaltung.extension.backup.backup;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Values of many persons are loaded with a single query, but the backup lists them in the same order as loading them
+ * person by person: in the order of the persons and by their start date.
+ */
+final class PersonOrder {
+
+    private PersonOrder() {
+        // Hide constructor for util classes
+    }
+
+    static <T> List<T> sortByPersonAndStartDate(List<T> values, List<Person> persons, Function<T, Person> person, Function<T, LocalDate> startDate) {
+
+        final Map<Long, Integer> indexByPersonId = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            indexByPersonId.putIfAbsent(persons.get(i).getId(), i);
+        }
+
+        final Comparator<T> byPerson = Comparator.comparing(value -> indexByPersonId.getOrDefault(person.apply(value).getId(), Integer.MAX_VALUE));
+        return values.stream()
+            .sorted(byPerson.thenComparing(startDate))
+            .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.extension.backup.backup;
 
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.extension.backup.model.DayLengthDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteBackupDTO;
@@ -12,19 +13,29 @@ import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteStatusDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteTypeCategoryDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteTypeDTO;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentEntity;
 import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.extend.SickNoteExtensionHistory;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.extend.SickNoteExtensionHistoryService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
 
 import java.time.LocalDate;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.groupingBy;
+import static org.synyx.urlaubsverwaltung.extension.backup.backup.PersonOrder.sortByPersonAndStartDate;
 
 @Service
 @ConditionalOnBackupCreateEnabled
 class SickNoteDataCollectionService {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final SickNoteTypeService sickNoteTypeService;
     private final SickNoteService sickNoteService;
     private final SickNoteCommentService sickNoteCommentService;
@@ -43,43 +54,67 @@ class SickNoteDataCollectionService {
     }
 
     SickNoteBackupDTO collectSickNotes(List<Person> allPersons, LocalDate from, LocalDate to) {
-        final List<SickNoteTypeDTO> sickNoteTypeDTOS = sickNoteTypeService.getSickNoteTypes().stream()
+
+        final List<SickNoteDTO> sickNoteDTOs = new ArrayList<>();
+        for (List<Person> persons : ListUtils.partition(allPersons, CHUNK_SIZE)) {
+            sickNoteDTOs.addAll(collectSickNotesOfPersons(persons, from, to));
+        }
+
+        return new SickNoteBackupDTO(collectSickNoteTypes(), sickNoteDTOs);
+    }
+
+    List<SickNoteTypeDTO> collectSickNoteTypes() {
+        return sickNoteTypeService.getSickNoteTypes().stream()
             .map(sickNoteType -> new SickNoteTypeDTO(sickNoteType.getId(), SickNoteTypeCategoryDTO.valueOf(sickNoteType.getCategory().name()), sickNoteType.getMessageKey()))
             .toList();
+    }
 
-        final List<SickNoteDTO> sickNoteDTOs = allPersons.stream()
-            .map(person ->
-                sickNoteService.getByPersonAndPeriod(person, from, to).stream()
-                    .map(sickNote -> {
-                        final List<SickNoteExtensionHistoryDTO> sickNoteExtensionHistoryDTOs = sickNoteExtensionHistoryService.getSickNoteExtensionHistory(sickNote.getId())
-                            .stream()
-                            .map(history -> new SickNoteExtensionHistoryDTO(history.createdAt(), history.newEndDate(), history.isAub(), SickNoteExtensionStatusDTO.valueOf(history.status().name()))).toList();
-
-                        final List<SickNoteCommentDTO> sickNoteCommentDTOs = sickNoteCommentService.getCommentsBySickNote(sickNote).stream()
-                            .map(sickNoteComment -> new SickNoteCommentDTO(sickNoteComment.getDate(), sickNoteComment.getText(), SickNoteCommentActionDTO.valueOf(sickNoteComment.getAction().name()), sickNoteComment.getPerson().getUsername()))
-                            .toList();
-
-                        return new SickNoteDTO(
-                            sickNote.getId(),
-                            sickNote.getPerson().getUsername(),
-                            sickNote.getApplier().getUsername(),
-                            sickNote.getSickNoteType().getId(),
-                            sickNote.getStartDate(),
-                            sickNote.getEndDate(),
-                            DayLengthDTO.valueOf(sickNote.getDayLength().name()),
-                            sickNote.getAubStartDate(),
-                            sickNote.getAubEndDate(),
-                            sickNote.getLastEdited(),
-                            sickNote.getEndOfSickPayNotificationSend(),
-                            SickNoteStatusDTO.valueOf(sickNote.getStatus().name()),
-                            sickNoteCommentDTOs, sickNoteExtensionHistoryDTOs
-                        );
-                    })
-                    .toList()
-            )
-            .flatMap(Collection::stream)
-            .toList();
+    /**
+     * Collects the sick notes of at most {@value #CHUNK_SIZE} persons with one query.
+     */
+    List<SickNoteDTO> collectSickNotesOfPersons(List<Person> persons, LocalDate from, LocalDate to) {
+
+        final List<SickNote> sickNotesOfPersons = sortByPersonAndStartDate(
+            sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.values()), persons, from, to),
+            persons, SickNote::getPerson, SickNote::getStartDate
+        );
+
+        final List<SickNoteDTO> sickNoteDTOs = new ArrayList<>();
+        for (List<SickNote> sickNotes : ListUtils.partition(sickNotesOfPersons, CHUNK_SIZE)) {
+
+            final List<Long> sickNoteIds = sickNotes.stream().map(SickNote::getId).toList();
+            final Map<Long, List<SickNoteExtensionHistory>> extensionHistoriesBySickNoteId = sickNoteExtensionHistoryService.getSickNoteExtensionHistories(sickNoteIds);
+            final Map<Long, List<SickNoteCommentEntity>> commentsBySickNoteId = sickNoteCommentService.getCommentsBySickNotes(sickNotes).stream()
+                .collect(groupingBy(SickNoteCommentEntity::getSickNoteId));
+
+            for (SickNote sickNote : sickNotes) {
+
+                final List<SickNoteExtensionHistoryDTO> sickNoteExtensionHistoryDTOs = extensionHistoriesBySickNoteId.getOrDefault(sickNote.getId(), List.of())
+                    .stream()
+                    .map(history -> new SickNoteExtensionHistoryDTO(history.createdAt(), history.newEndDate(), history.isAub(), SickNoteExtensionStatusDTO.valueOf(history.status().name()))).toList();
+
+                final List<SickNoteCommentDTO> sickNoteCommentDTOs = commentsBySickNoteId.getOrDefault(sickNote.getId(), List.of()).stream()
+                    .map(sickNoteComment -> new SickNoteCommentDTO(sickNoteComment.getDate(), sickNoteComment.getText(), SickNoteCommentActionDTO.valueOf(sickNoteComment.getAction().name()), sickNoteComment.getPerson().getUsername()))
+                    .toList();
+
+                sickNoteDTOs.add(new SickNoteDTO(
+                    sickNote.getId(),
+                    sickNote.getPerson().getUsername(),
+                    sickNote.getApplier().getUsername(),
+                    sickNote.getSickNoteType().getId(),
+                    sickNote.getStartDate(),
+                    sickNote.getEndDate(),
+                    DayLengthDTO.valueOf(sickNote.getDayLength().name()),
+                    sickNote.getAubStartDate(),
+                    sickNote.getAubEndDate(),
+                    sickNote.getLastEdited(),
+                    sickNote.getEndOfSickPayNotificationSend(),
+                    SickNoteStatusDTO.valueOf(sickNote.getStatus().name()),
+                    sickNoteCommentDTOs, sickNoteExtensionHistoryDTOs
+                ));
+            }
+        }
 
-        return new SickNoteBackupDTO(sickNoteTypeDTOS, sickNoteDTOs);
+        return sickNoteDTOs;
     }
 }
@@ -0,0 +1,29 @@
+package org.synyx.urlaubsverwaltung.extension.backup.backup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBackupDTO;
+
+import java.io.IOException;
+
+/**
+ * Backup of the application data that is collected while it is written, so it has never to be held in memory as a
+ * whole.
+ */
+public interface StreamingBackup {
+
+    /**
+     * Collects the whole backup in memory.
+     *
+     * @return the collected backup
+     */
+    UrlaubsverwaltungBackupDTO collect();
+
+    /**
+     * Writes the backup as json in the same structure as {@link UrlaubsverwaltungBackupDTO}. The persons and their
+     * data are collected and written chunk by chunk.
+     *
+     * @param generator generator with an {@link com.fasterxml.jackson.databind.ObjectMapper} as codec
+     * @throws IOException if the backup could not be written
+     */
+    void writeTo(JsonGenerator generator) throws IOException;
+}
@@ -2,12 +2,14 @@ package org.synyx.urlaubsverwaltung.extension.backup.filesystem.backup;
 
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * Configuration properties for the filesystem based backup.
  *
  * @param backupPath the path where backups will be stored - e.g. /tmp/ - the filename will be generated automatically!
+ * @param compress   whether the backup will be written gzip compressed into a {@code .json.gz} file instead of a {@code .json} file
  */
 @ConfigurationProperties("uv.backup.backup-configuration.filesystem")
-record FilesystemBackupConfigurationProperties(String backupPath) {
+record FilesystemBackupConfigurationProperties(String backupPath, @DefaultValue("false") boolean compress) {
 }
@@ -1,29 +1,38 @@
 package org.synyx.urlaubsverwaltung.extension.backup.filesystem.backup;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.synyx.urlaubsverwaltung.extension.backup.backup.BackupCreateService;
+import org.synyx.urlaubsverwaltung.extension.backup.backup.StreamingBackup;
 import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBackupDTO;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
 
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static org.slf4j.LoggerFactory.getLogger;
 
 class FilesystemBackupCreateService implements BackupCreateService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private final ObjectMapper objectMapper;
     private final FilesystemBackupConfigurationProperties filesystemBackupConfigurationProperties;
 
     FilesystemBackupCreateService(ObjectMapper objectMapper, FilesystemBackupConfigurationProperties filesystemBackupConfigurationProperties) {
-        this.objectMapper = objectMapper;
+        // the streamed backup writes many values into one generator, flushing after every value would defeat the buffer
+        this.objectMapper = objectMapper.copy().disable(FLUSH_AFTER_WRITE_VALUE);
         this.filesystemBackupConfigurationProperties = filesystemBackupConfigurationProperties;
     }
 
@@ -32,22 +41,66 @@ class FilesystemBackupCreateService implements BackupCreateService {
         writeIntoFileSystem(backup);
     }
 
+    @Override
+    public void backupData(StreamingBackup backup) {
+        writeIntoFileSystem(outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                backup.writeTo(generator);
+            }
+        });
+    }
+
     void writeIntoFileSystem(UrlaubsverwaltungBackupDTO exportModel) {
+        writeIntoFileSystem(outputStream -> objectMapper.writeValue(outputStream, exportModel));
+    }
+
+    private void writeIntoFileSystem(BackupWriter backupWriter) {
         final Path filePath = getPath();
+        Path tempFilePath = null;
+        boolean written = false;
         try {
             Files.createDirectories(filePath.getParent());
+            // written into a temporary file first, so a failing backup never leaves an incomplete backup file behind
+            tempFilePath = Files.createTempFile(filePath.getParent(), "." + filePath.getFileName(), ".tmp");
             final File exportFile = filePath.toFile();
             LOG.info("Writing export file={}", exportFile.getAbsolutePath());
-            objectMapper.writeValue(exportFile, exportModel);
+            try (OutputStream outputStream = openOutputStream(tempFilePath)) {
+                backupWriter.write(outputStream);
+            }
+            Files.move(tempFilePath, filePath, ATOMIC_MOVE);
+            written = true;
             LOG.info("Export file written to file={}", exportFile.getAbsolutePath());
         } catch (IOException e) {
             LOG.warn("Could not write export file={}", filePath.toAbsolutePath(), e);
+        } finally {
+            if (!written && tempFilePath != null) {
+                deleteTempFile(tempFilePath);
+            }
+        }
+    }
+
+    private static void deleteTempFile(Path tempFilePath) {
+        try {
+            Files.deleteIfExists(tempFilePath);
+        } catch (IOException e) {
+            LOG.warn("Could not delete temporary export file={}", tempFilePath.toAbsolutePath(), e);
         }
     }
 
+    private OutputStream openOutputStream(Path filePath) throws IOException {
+        final OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+        return filesystemBackupConfigurationProperties.compress() ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+    }
+
     private Path getPath() {
         final String backupPath = this.filesystemBackupConfigurationProperties.backupPath();
-        final String filename = "urlaubsverwaltung-%s.json".formatted(Instant.now().getEpochSecond());
+        final String extension = filesystemBackupConfigurationProperties.compress() ? "json.gz" : "json";
+        final String filename = "urlaubsverwaltung-%s.%s".formatted(Instant.now().getEpochSecond(), extension);
         return Paths.get(backupPath, filename);
     }
+
+    @FunctionalInterface
+    private interface BackupWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
@@ -7,11 +7,14 @@ import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBacku
 import org.synyx.urlaubsverwaltung.extension.backup.restore.BackupRestoreService;
 import org.synyx.urlaubsverwaltung.extension.backup.restore.RestoreOrchestrationService;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -54,10 +57,17 @@ class FilesystemRestoreService implements BackupRestoreService {
 
     private Optional<UrlaubsverwaltungBackupDTO> readJsonFileToPojo(Path backup) {
         try {
-            return Optional.of(objectMapper.readValue(backup.toFile(), UrlaubsverwaltungBackupDTO.class));
+            try (InputStream inputStream = openInputStream(backup)) {
+                return Optional.of(objectMapper.readValue(inputStream, UrlaubsverwaltungBackupDTO.class));
+            }
         } catch (IOException e) {
             LOG.warn("Could not read file={} to pojo", backup.toAbsolutePath(), e);
             return Optional.empty();
         }
     }
+
+    private static InputStream openInputStream(Path backup) throws IOException {
+        final InputStream inputStream = new BufferedInputStream(Files.newInputStream(backup));
+        return backup.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(inputStream) : inputStream;
+    }
 }
@@ -1,9 +1,12 @@
 package org.synyx.urlaubsverwaltung.extension.backup.restore;
 
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationEntity;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationImportService;
 import org.synyx.urlaubsverwaltung.application.application.HolidayReplacementEntity;
+import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentEntity;
 import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentImportService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeEntity;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeImportService;
@@ -13,9 +16,15 @@ import org.synyx.urlaubsverwaltung.extension.backup.model.ApplicationDTO;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
 @Service
 @ConditionalOnBackupRestoreEnabled
 class ApplicationRestoreService {
@@ -24,86 +33,113 @@ class ApplicationRestoreService {
     private final ApplicationImportService applicationImportService;
     private final VacationTypeImportService vacationTypeImportService;
     private final PersonService personService;
+    private final RestoreConfigurationProperties restoreConfiguration;
+    private final TransactionTemplate transactionTemplate;
 
     ApplicationRestoreService(ApplicationCommentImportService applicationCommentImportService,
                               ApplicationImportService applicationImportService,
                               VacationTypeImportService vacationTypeImportService,
-                              PersonService personService
+                              PersonService personService,
+                              RestoreConfigurationProperties restoreConfiguration,
+                              TransactionTemplate transactionTemplate
     ) {
         this.applicationCommentImportService = applicationCommentImportService;
         this.applicationImportService = applicationImportService;
         this.vacationTypeImportService = vacationTypeImportService;
         this.personService = personService;
+        this.restoreConfiguration = restoreConfiguration;
+        this.transactionTemplate = transactionTemplate;
     }
 
     List<ImportedIdTuple> restore(ApplicationBackupDTO applications) {
-        return importApplications(applications, importVacationTypes(applications));
+
+        final Map<Long, VacationTypeEntity> createdVacationTypeByOriginId = importVacationTypes(applications);
+        final Map<String, Person> personByExternalId = personService.getAllPersons().stream()
+            .collect(toMap(Person::getUsername, identity()));
+
+        final List<ImportedIdTuple> importedApplications = new ArrayList<>();
+        for (List<ApplicationDTO> batch : ListUtils.partition(applications.applications(), restoreConfiguration.batchSize())) {
+            importedApplications.addAll(transactionTemplate.execute(status -> importApplications(batch, createdVacationTypeByOriginId, personByExternalId)));
+        }
+
+        return importedApplications;
     }
 
     /**
-     * @param createdVacationTypes list of already imported vacationTypes also including the id of the vacation type id in the backup
-     * @param originVacationTypeId the id of the vacation type in the backup
-     * @return
+     * Imports the given applications and afterward their comments, each with a single batch insert, within one
+     * transaction.
+     *
+     * @param applicationDTOs               applications of the backup
+     * @param createdVacationTypeByOriginId already imported vacation types by the id of the vacation type in the backup
+     * @param personByExternalId            already imported persons by their external id
+     * @return ids of the applications in the backup and of the imported applications
      */
-    private static Optional<VacationTypeTuple> resolveCreatedVacationTypeByOriginId(List<VacationTypeTuple> createdVacationTypes, Long originVacationTypeId) {
-        return createdVacationTypes.stream().filter(tuple -> tuple.idOfImport.equals(originVacationTypeId)).findFirst();
-    }
-
-    private List<ImportedIdTuple> importApplications(ApplicationBackupDTO applications, List<VacationTypeTuple> createdVacationTypes) {
-        return applications.applications().stream().map(applicationDTO -> resolveCreatedVacationTypeByOriginId(createdVacationTypes, applicationDTO.vacationTypeId()).map(vacationTypeTuple -> {
-                final ApplicationEntity createdApplicationEntity = importApplication(applicationDTO, vacationTypeTuple.createdVacationType);
-                importApplicationComments(applicationDTO.applicationComments(), createdApplicationEntity);
-                return new ImportedIdTuple(applicationDTO.id(), createdApplicationEntity.getId());
-            }).orElseThrow(() ->
-                // somehow we could not import given application to vacation type with origin Id = applicationDTO.vacationTypeId()
-                new IllegalStateException("Could not find vacation type with id " + applicationDTO.vacationTypeId()))
-        ).toList();
-    }
+    private List<ImportedIdTuple> importApplications(List<ApplicationDTO> applicationDTOs, Map<Long, VacationTypeEntity> createdVacationTypeByOriginId, Map<String, Person> personByExternalId) {
 
-    private List<VacationTypeTuple> importVacationTypes(ApplicationBackupDTO applications) {
-        return applications.vacationTypes().stream()
-            .map(vacationType -> {
-                final VacationTypeEntity createdVacationType = vacationTypeImportService.importVacationType(vacationType.toVacationType());
-                return new VacationTypeTuple(vacationType.id(), createdVacationType);
-            })
+        final List<ApplicationEntity> applicationEntities = applicationDTOs.stream()
+            .map(applicationDTO -> toApplicationEntity(applicationDTO, createdVacationTypeByOriginId, personByExternalId))
             .toList();
+
+        final List<ApplicationEntity> createdApplicationEntities = applicationImportService.importApplications(applicationEntities);
+
+        final List<ImportedIdTuple> importedApplications = new ArrayList<>(applicationDTOs.size());
+        final List<ApplicationCommentEntity> applicationComments = new ArrayList<>();
+        for (int i = 0; i < applicationDTOs.size(); i++) {
+            final ApplicationDTO applicationDTO = applicationDTOs.get(i);
+            final ApplicationEntity createdApplicationEntity = createdApplicationEntities.get(i);
+
+            for (ApplicationCommentDTO comment : applicationDTO.applicationComments()) {
+                final Person author = getPerson(personByExternalId, comment.externalId());
+                applicationComments.add(comment.toApplicationCommentEntity(author, createdApplicationEntity.getId()));
+            }
+
+            importedApplications.add(new ImportedIdTuple(applicationDTO.id(), createdApplicationEntity.getId()));
+        }
+
+        applicationCommentImportService.importApplicationComments(applicationComments);
+
+        return importedApplications;
     }
 
-    private void importApplicationComments(List<ApplicationCommentDTO> applicationComments, ApplicationEntity createdApplicationEntity) {
-        applicationComments.forEach(comment -> {
-            final Person author = getPerson(comment.externalId());
-            applicationCommentImportService.importApplicationComment(comment.toApplicationCommentEntity(author, createdApplicationEntity.getId()));
-        });
+    private Map<Long, VacationTypeEntity> importVacationTypes(ApplicationBackupDTO applications) {
+        final Map<Long, VacationTypeEntity> createdVacationTypeByOriginId = new HashMap<>();
+        applications.vacationTypes().forEach(vacationType ->
+            createdVacationTypeByOriginId.putIfAbsent(vacationType.id(), vacationTypeImportService.importVacationType(vacationType.toVacationType()))
+        );
+        return createdVacationTypeByOriginId;
     }
 
-    private ApplicationEntity importApplication(ApplicationDTO applicationDTO, VacationTypeEntity createdVacationType) {
+    private static ApplicationEntity toApplicationEntity(ApplicationDTO applicationDTO, Map<Long, VacationTypeEntity> createdVacationTypeByOriginId, Map<String, Person> personByExternalId) {
+
+        final VacationTypeEntity createdVacationType = createdVacationTypeByOriginId.get(applicationDTO.vacationTypeId());
+        if (createdVacationType == null) {
+            // somehow we could not import given application to vacation type with origin Id = applicationDTO.vacationTypeId()
+            throw new IllegalStateException("Could not find vacation type with id " + applicationDTO.vacationTypeId());
+        }
+
         final List<HolidayReplacementEntity> holidayReplacements = applicationDTO.holidayReplacements().stream()
             .map(replacementDTO -> {
-                final Person person = getPerson(replacementDTO.externalId());
+                final Person person = getPerson(personByExternalId, replacementDTO.externalId());
                 return replacementDTO.toHolidayReplacementEntity(person);
             })
             .toList();
 
-        final Person person = getPerson(applicationDTO.personExternalId());
-        final Person applier = getPerson(applicationDTO.applierExternalId());
-        final Person boss = getPerson(applicationDTO.bossExternalId());
-        final Person canceller = getPerson(applicationDTO.cancellerExternalId());
-
-        final ApplicationEntity applicationEntity = applicationDTO.toApplicationEntity(createdVacationType, person, applier, boss, canceller, holidayReplacements);
+        final Person person = getPerson(personByExternalId, applicationDTO.personExternalId());
+        final Person applier = getPerson(personByExternalId, applicationDTO.applierExternalId());
+        final Person boss = getPerson(personByExternalId, applicationDTO.bossExternalId());
+        final Person canceller = getPerson(personByExternalId, applicationDTO.cancellerExternalId());
 
-        return applicationImportService.importApplication(applicationEntity);
+        return applicationDTO.toApplicationEntity(createdVacationType, person, applier, boss, canceller, holidayReplacements);
     }
 
     /**
      * Get a person by external id aka username, when a person is not found a runtime exception is thrown.
      *
-     * @param externalId external id / username
+     * @param personByExternalId already imported persons by their external id
+     * @param externalId         external id / username
      * @return
      */
-    private Person getPerson(String externalId) {
-        return externalId == null ? null : personService.getPersonByUsername(externalId).orElseThrow();
-    }
-
-    private record VacationTypeTuple(Long idOfImport, VacationTypeEntity createdVacationType) {
+    private static Person getPerson(Map<String, Person> personByExternalId, String externalId) {
+        return externalId == null ? null : Optional.ofNullable(personByExternalId.get(externalId)).orElseThrow();
     }
 }
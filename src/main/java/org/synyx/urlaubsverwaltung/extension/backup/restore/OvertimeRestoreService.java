@@ -1,17 +1,24 @@
 package org.synyx.urlaubsverwaltung.extension.backup.restore;
 
+import org.apache.commons.collections4.ListUtils;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeCommentDTO;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeDTO;
 import org.synyx.urlaubsverwaltung.overtime.Overtime;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeComment;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeImportService;
+import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
@@ -22,27 +29,60 @@ class OvertimeRestoreService {
 
     private final OvertimeImportService overtimeImportService;
     private final PersonService personService;
+    private final RestoreConfigurationProperties restoreConfiguration;
+    private final TransactionTemplate transactionTemplate;
 
-    OvertimeRestoreService(OvertimeImportService overtimeImportService, PersonService personService) {
+    OvertimeRestoreService(OvertimeImportService overtimeImportService, PersonService personService,
+                           RestoreConfigurationProperties restoreConfiguration, TransactionTemplate transactionTemplate) {
         this.overtimeImportService = overtimeImportService;
         this.personService = personService;
+        this.restoreConfiguration = restoreConfiguration;
+        this.transactionTemplate = transactionTemplate;
     }
 
     void restore(List<OvertimeDTO> overtimes) {
-        overtimes.forEach(overtimeDTO -> personService.getPersonByUsername(overtimeDTO.externalIdOfOwner()).ifPresentOrElse(person -> {
-            final Overtime importedOvertime = overtimeImportService.importOvertime(overtimeDTO.toOverTime(person));
-            importOvertimeComments(importedOvertime, overtimeDTO.overtimeComments());
-        }, () -> LOG.warn("overtime owner with externalId={} not found - skip importing overtime!", overtimeDTO.externalIdOfOwner())));
 
+        final Map<String, Person> personByExternalId = personService.getAllPersons().stream()
+            .collect(toMap(Person::getUsername, identity()));
+
+        final List<OvertimeDTO> overtimesWithOwner = overtimes.stream()
+            .filter(overtimeDTO -> {
+                final boolean ownerExists = personByExternalId.containsKey(overtimeDTO.externalIdOfOwner());
+                if (!ownerExists) {
+                    LOG.warn("overtime owner with externalId={} not found - skip importing overtime!", overtimeDTO.externalIdOfOwner());
+                }
+                return ownerExists;
+            })
+            .toList();
+
+        for (List<OvertimeDTO> batch : ListUtils.partition(overtimesWithOwner, restoreConfiguration.batchSize())) {
+            transactionTemplate.executeWithoutResult(status -> importOvertimes(batch, personByExternalId));
+        }
     }
 
-    private void importOvertimeComments(Overtime importedOvertime, List<OvertimeCommentDTO> overtimeCommentDTOS) {
-        overtimeCommentDTOS.forEach(commentDTO ->
-            personService.getPersonByUsername(commentDTO.externalIdOfCommentAuthor())
-                .ifPresentOrElse(commentAuthor -> {
-                        final OvertimeComment overtimeComment = commentDTO.toOvertimeComment(importedOvertime, commentAuthor);
-                        overtimeImportService.importOvertimeComment(overtimeComment);
-                    }, () -> LOG.warn("overtime comment author with externalId={} for overtime={} not found - skip importing comment!", commentDTO.externalIdOfCommentAuthor(), importedOvertime)
-                ));
+    /**
+     * Imports the given overtimes and afterward their comments, each with a single batch insert, within one
+     * transaction.
+     *
+     * @param overtimeDTOs       overtimes of the backup whose owner exists
+     * @param personByExternalId already imported persons by their external id
+     */
+    private void importOvertimes(List<OvertimeDTO> overtimeDTOs, Map<String, Person> personByExternalId) {
+
+        final List<Overtime> importedOvertimes = overtimeImportService.importOvertimes(overtimeDTOs.stream()
+            .map(overtimeDTO -> overtimeDTO.toOverTime(personByExternalId.get(overtimeDTO.externalIdOfOwner())))
+            .toList());
+
+        final List<OvertimeComment> overtimeComments = new ArrayList<>();
+        for (int i = 0; i < overtimeDTOs.size(); i++) {
+            final Overtime importedOvertime = importedOvertimes.get(i);
+            overtimeDTOs.get(i).overtimeComments().forEach(commentDTO ->
+                Optional.ofNullable(personByExternalId.get(commentDTO.externalIdOfCommentAuthor()))
+                    .ifPresentOrElse(commentAuthor -> overtimeComments.add(commentDTO.toOvertimeComment(importedOvertime, commentAuthor)),
+                        () -> LOG.warn("overtime comment author with externalId={} for overtime={} not found - skip importing comment!", commentDTO.externalIdOfCommentAuthor(), importedOvertime)
+                    ));
+        }
+
+        overtimeImportService.importOvertimeComments(overtimeComments);
     }
 }
@@ -1,14 +1,29 @@
 package org.synyx.urlaubsverwaltung.extension.backup.restore;
 
 
+import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
 
+/**
+ * Configuration properties for the restore of a backup.
+ *
+ * @param enabled           whether the restore is enabled
+ * @param restoreOnAppReady whether the backup is restored as soon as the application is ready
+ * @param restoreService    the service providing the backup to restore, e.g. filesystem
+ * @param dropData          whether the existing data is dropped before restoring - must be enabled to restore at all
+ * @param batchSize         number of applications, sick notes and overtimes that are inserted together with their
+ *                          comments in one transaction. The jdbc statements of a transaction are sent in batches of
+ *                          {@code spring.jpa.properties.hibernate.jdbc.batch_size}.
+ */
+@Validated
 @ConfigurationProperties("uv.backup.restore-configuration")
 public record RestoreConfigurationProperties(
     @DefaultValue("false") boolean enabled,
     @DefaultValue("false") boolean restoreOnAppReady,
     @DefaultValue("filesystem") String restoreService,
-    @DefaultValue("false") boolean dropData
+    @DefaultValue("false") boolean dropData,
+    @DefaultValue("1000") @Min(1) int batchSize
 ) {
 }
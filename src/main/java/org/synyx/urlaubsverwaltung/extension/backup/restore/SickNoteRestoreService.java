@@ -1,11 +1,14 @@
 package org.synyx.urlaubsverwaltung.extension.backup.restore;
 
 
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteBackupDTO;
 import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteDTO;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentEntity;
 import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentImportService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteEntity;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteImportService;
@@ -15,7 +18,14 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeImportService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @ConditionalOnBackupRestoreEnabled
@@ -27,6 +37,8 @@ class SickNoteRestoreService {
     private final SickNoteExtensionImportService sickNoteExtensionImportService;
     private final SickNoteTypeService sickNoteTypeService;
     private final PersonService personService;
+    private final RestoreConfigurationProperties restoreConfiguration;
+    private final TransactionTemplate transactionTemplate;
 
     SickNoteRestoreService(
         SickNoteImportService sickNoteImportService,
@@ -34,7 +46,9 @@ class SickNoteRestoreService {
         SickNoteCommentImportService sickNoteCommentImportService,
         SickNoteExtensionImportService sickNoteExtensionImportService,
         SickNoteTypeService sickNoteTypeService,
-        PersonService personService
+        PersonService personService,
+        RestoreConfigurationProperties restoreConfiguration,
+        TransactionTemplate transactionTemplate
     ) {
         this.sickNoteImportService = sickNoteImportService;
         this.sickNoteTypeImportService = sickNoteTypeImportService;
@@ -42,53 +56,87 @@ class SickNoteRestoreService {
         this.sickNoteExtensionImportService = sickNoteExtensionImportService;
         this.sickNoteTypeService = sickNoteTypeService;
         this.personService = personService;
+        this.restoreConfiguration = restoreConfiguration;
+        this.transactionTemplate = transactionTemplate;
     }
 
     List<ImportedIdTuple> restore(SickNoteBackupDTO sickNotes) {
 
-        final List<ImportedIdTuple> importedSickNoteTypes = importSickNoteTypes(sickNotes);
+        final Map<Long, SickNoteType> sickNoteTypeByIdOfBackup = importSickNoteTypes(sickNotes);
+        final Map<String, Person> personByExternalId = personService.getAllPersons().stream()
+            .collect(toMap(Person::getUsername, identity()));
 
-        return sickNotes.sickNotes().stream().map(sickNoteDTO -> {
-            final SickNoteType sickNoteType = findSickNoteType(importedSickNoteTypes, sickNoteDTO.sickNoteTypeId());
-            final SickNoteEntity importedSickNote = importSickNote(sickNoteDTO, sickNoteType);
-            importSickNoteComments(sickNoteDTO, importedSickNote);
-            importSickNoteExtensionHistory(sickNoteDTO, importedSickNote);
-            return new ImportedIdTuple(sickNoteDTO.id(), importedSickNote.getId());
-        }).toList();
+        final List<ImportedIdTuple> importedSickNotes = new ArrayList<>();
+        for (List<SickNoteDTO> batch : ListUtils.partition(sickNotes.sickNotes(), restoreConfiguration.batchSize())) {
+            importedSickNotes.addAll(transactionTemplate.execute(status -> importSickNotes(batch, sickNoteTypeByIdOfBackup, personByExternalId)));
+        }
+
+        return importedSickNotes;
     }
 
-    private List<ImportedIdTuple> importSickNoteTypes(SickNoteBackupDTO sickNotes) {
-        return sickNotes.sickNoteTypes().stream().map(sickNoteTypeDTO -> {
+    private Map<Long, SickNoteType> importSickNoteTypes(SickNoteBackupDTO sickNotes) {
+
+        final List<ImportedIdTuple> importedSickNoteTypes = sickNotes.sickNoteTypes().stream().map(sickNoteTypeDTO -> {
             final SickNoteType importedSickNoteType = sickNoteTypeImportService.importSickNoteType(sickNoteTypeDTO.toSickNoteEntity());
             return new ImportedIdTuple(sickNoteTypeDTO.id(), importedSickNoteType.getId());
         }).toList();
-    }
 
-    public SickNoteEntity importSickNote(SickNoteDTO sickNoteDTO, SickNoteType sickNoteType) {
-        final Person person = findPerson(sickNoteDTO.externalIdOfPerson());
-        final Person applier = findPerson(sickNoteDTO.externalIdOfApplier());
-        return sickNoteImportService.importSickNote(sickNoteDTO.toSickNoteEntity(sickNoteType, person, applier));
-    }
-
-    private void importSickNoteComments(SickNoteDTO sickNoteDTO, SickNoteEntity importedSickNote) {
-        sickNoteDTO.sickNoteComments().forEach(sickNoteCommentDTO -> {
-            final Person commentator = findPerson(sickNoteCommentDTO.externalIdOfSickNoteCommentAuthor());
-            sickNoteCommentImportService.importSickNoteComment(sickNoteCommentDTO.toSickNoteCommentEntity(commentator, importedSickNote.getId()));
-        });
-    }
+        final Map<Long, SickNoteType> sickNoteTypeById = sickNoteTypeService.getSickNoteTypes().stream()
+            .collect(toMap(SickNoteType::getId, identity()));
 
-    private void importSickNoteExtensionHistory(SickNoteDTO sickNoteDTO, SickNoteEntity importedSickNote) {
-        List<SickNoteExtensionEntity> entities = sickNoteDTO.sickNoteExtensionHistoryItems().stream().map(sickNoteExtensionHistoryDTO -> sickNoteExtensionHistoryDTO.toSickNoteExtensionEntity(importedSickNote.getId())).toList();
-        sickNoteExtensionImportService.importSickNoteExtension(entities);
+        final Map<Long, SickNoteType> sickNoteTypeByIdOfBackup = new HashMap<>();
+        importedSickNoteTypes.forEach(sickNoteType -> sickNoteTypeByIdOfBackup.putIfAbsent(sickNoteType.idOfBackup(), sickNoteTypeById.get(sickNoteType.idOfRestore())));
+        return sickNoteTypeByIdOfBackup;
     }
 
-    private SickNoteType findSickNoteType(List<ImportedIdTuple> sickNoteTypes, Long sickNoteTypeIdOfBackup) {
-        final Long idOfRestoredSickNoteType = sickNoteTypes.stream().filter(sickNoteType -> sickNoteType.idOfBackup().equals(sickNoteTypeIdOfBackup)).findFirst().orElseThrow().idOfRestore();
-        return sickNoteTypeService.getSickNoteTypes().stream().filter(sickNoteType -> sickNoteType.getId().equals(idOfRestoredSickNoteType)).findFirst().orElseThrow();
+    /**
+     * Imports the given sick notes and afterward their comments and extensions, each with a single batch insert,
+     * within one transaction.
+     *
+     * @param sickNoteDTOs             sick notes of the backup
+     * @param sickNoteTypeByIdOfBackup already imported sick note types by the id of the sick note type in the backup
+     * @param personByExternalId       already imported persons by their external id
+     * @return ids of the sick notes in the backup and of the imported sick notes
+     */
+    private List<ImportedIdTuple> importSickNotes(List<SickNoteDTO> sickNoteDTOs, Map<Long, SickNoteType> sickNoteTypeByIdOfBackup, Map<String, Person> personByExternalId) {
+
+        final List<SickNoteEntity> sickNoteEntities = sickNoteDTOs.stream()
+            .map(sickNoteDTO -> {
+                final SickNoteType sickNoteType = Optional.ofNullable(sickNoteTypeByIdOfBackup.get(sickNoteDTO.sickNoteTypeId())).orElseThrow();
+                final Person person = findPerson(personByExternalId, sickNoteDTO.externalIdOfPerson());
+                final Person applier = findPerson(personByExternalId, sickNoteDTO.externalIdOfApplier());
+                return sickNoteDTO.toSickNoteEntity(sickNoteType, person, applier);
+            })
+            .toList();
+
+        final List<SickNoteEntity> importedSickNoteEntities = sickNoteImportService.importSickNotes(sickNoteEntities);
+
+        final List<ImportedIdTuple> importedSickNotes = new ArrayList<>(sickNoteDTOs.size());
+        final List<SickNoteCommentEntity> sickNoteComments = new ArrayList<>();
+        final List<SickNoteExtensionEntity> sickNoteExtensions = new ArrayList<>();
+        for (int i = 0; i < sickNoteDTOs.size(); i++) {
+            final SickNoteDTO sickNoteDTO = sickNoteDTOs.get(i);
+            final Long importedSickNoteId = importedSickNoteEntities.get(i).getId();
+
+            sickNoteDTO.sickNoteComments().forEach(sickNoteCommentDTO -> {
+                final Person commentator = findPerson(personByExternalId, sickNoteCommentDTO.externalIdOfSickNoteCommentAuthor());
+                sickNoteComments.add(sickNoteCommentDTO.toSickNoteCommentEntity(commentator, importedSickNoteId));
+            });
+
+            sickNoteDTO.sickNoteExtensionHistoryItems().forEach(sickNoteExtensionHistoryDTO ->
+                sickNoteExtensions.add(sickNoteExtensionHistoryDTO.toSickNoteExtensionEntity(importedSickNoteId))
+            );
+
+            importedSickNotes.add(new ImportedIdTuple(sickNoteDTO.id(), importedSickNoteId));
+        }
+
+        sickNoteCommentImportService.importSickNoteComments(sickNoteComments);
+        sickNoteExtensionImportService.importSickNoteExtension(sickNoteExtensions);
+
+        return importedSickNotes;
     }
 
-    private Person findPerson(String sickNoteDTO) {
-        return personService.getPersonByUsername(sickNoteDTO).orElseThrow();
+    private static Person findPerson(Map<String, Person> personByExternalId, String externalId) {
+        return Optional.ofNullable(personByExternalId.get(externalId)).orElseThrow();
     }
-
 }
@@ -10,9 +10,9 @@ import de.focus_shift.urlaubsverwaltung.extension.api.sicknote.SickNoteUpdatedEv
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -31,6 +31,9 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
+
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
@@ -51,9 +54,9 @@ public class SickNoteEventHandlerExtension {
     }
 
     private static Set<LocalDate> toAbsentWorkingDays(AbsencePeriod absencePeriod) {
-        return absencePeriod.getAbsenceRecords()
+        return absencePeriod.getRanges()
             .stream()
-            .map(AbsencePeriod.Record::getDate)
+            .flatMap(range -> range.getStartDate().datesUntil(range.getEndDate().plusDays(1)))
             .collect(Collectors.toSet());
     }
 
@@ -194,32 +197,32 @@ public class SickNoteEventHandlerExtension {
         };
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(SickNoteCancelledEvent event) {
         getClosedAbsencePeriods(event.sickNote())
             .map(toSickNoteCancelledEventDTO(tenantSupplier.get(), event))
             .ifPresent(applicationEventPublisher::publishEvent);
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(SickNoteCreatedEvent event) {
         getAbsencePeriods(event.sickNote())
             .map(toSickNoteCreatedEventDTO(tenantSupplier.get(), event))
             .ifPresent(applicationEventPublisher::publishEvent);
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(SickNoteUpdatedEvent event) {
         getAbsencePeriods(event.sickNote())
             .map(toSickNoteUpdatedEventDTO(tenantSupplier.get(), event))
             .ifPresent(applicationEventPublisher::publishEvent);
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void on(SickNoteToApplicationConvertedEvent event) {
         getAbsencePeriods(event.sickNote())
             .map(toSickNoteConvertedEventDTO(tenantSupplier.get(), event))
@@ -247,10 +250,10 @@ public class SickNoteEventHandlerExtension {
     }
 
     private static Predicate<AbsencePeriod> isMorning(org.synyx.urlaubsverwaltung.period.DayLength dayLength) {
-        return absencePeriod -> dayLength.isMorning() && absencePeriod.getAbsenceRecords().stream().allMatch(absenceRecord -> absenceRecord.getMorning().isPresent());
+        return absencePeriod -> dayLength.isMorning() && absencePeriod.getRanges().stream().allMatch(range -> range.getMorning().isPresent());
     }
 
     private static Predicate<AbsencePeriod> isNoon(org.synyx.urlaubsverwaltung.period.DayLength dayLength) {
-        return absencePeriod -> dayLength.isNoon() && absencePeriod.getAbsenceRecords().stream().allMatch(absenceRecord -> absenceRecord.getNoon().isPresent());
+        return absencePeriod -> dayLength.isNoon() && absencePeriod.getRanges().stream().allMatch(range -> range.getNoon().isPresent());
     }
 }
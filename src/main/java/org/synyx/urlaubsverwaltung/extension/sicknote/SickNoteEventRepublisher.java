@@ -17,6 +17,7 @@ import java.time.LocalDate;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.sicknote.republish.enabled", havingValue = "true")
@@ -36,7 +37,7 @@ public class SickNoteEventRepublisher {
         this.clock = clock;
     }
 
-    @Async
+    @Async(EXTENSION_EXECUTOR)
     @EventListener(ApplicationStartedEvent.class)
     void republishEvents() {
 
@@ -4,9 +4,9 @@ import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import de.focus_shift.urlaubsverwaltung.extension.api.vacationtype.VacationTypeUpdatedEventDTO;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.application.vacationtype.CustomVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
@@ -22,6 +22,8 @@ import java.util.UUID;
 
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
@@ -39,14 +41,14 @@ class VacationTypeEventHandlerExtension {
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void onVacationTypeCreated(VacationTypeCreatedEvent event) {
         publishVacationType(event.vacationType());
     }
 
-    @EventListener
-    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    @Async(EXTENSION_EXECUTOR)
     void onVacationTypeUpdated(VacationTypeUpdatedEvent event) {
         publishVacationType(event.updatedVacationType());
     }
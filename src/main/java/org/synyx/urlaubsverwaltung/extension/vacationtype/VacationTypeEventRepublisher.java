@@ -14,6 +14,7 @@ import org.synyx.urlaubsverwaltung.tenancy.configuration.single.ConditionalOnSin
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.vacationtype.republish.enabled", havingValue = "true")
@@ -32,7 +33,7 @@ class VacationTypeEventRepublisher {
         this.vacationTypeEventHandlerExtension = vacationTypeEventHandlerExtension;
     }
 
-    @Async
+    @Async(EXTENSION_EXECUTOR)
     @EventListener(ApplicationStartedEvent.class)
     void republishEvents() {
 
@@ -0,0 +1,257 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Delivers mails in the background. Mails are queued in a bounded queue that is drained by a configurable number of
+ * workers. A worker sends all mails it takes from the queue at once, therefore they share one smtp connection
+ * instead of doing a tcp and tls handshake for every single mail. Failed mails are retried with an increasing backoff.
+ *
+ * <p>If no workers are configured or the service is not running, the mail is sent in the calling thread. If the queue
+ * is full, the calling thread waits up to {@link MailProperties.Delivery#getQueueTimeout()} for space and then sends
+ * the mail itself with a single attempt, so it never sleeps for a retry. Mails still queued on shutdown are sent
+ * before the service stops, a mail handed over while stopping is either queued before or sent in the calling
+ * thread.</p>
+ */
+@Service
+class MailDeliveryService implements SmartLifecycle {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String METRIC_QUEUE_SIZE = "mail.delivery.queue.size";
+    private static final String METRIC_LATENCY = "mail.delivery.latency";
+    private static final String METRIC_FAILED = "mail.delivery.failed";
+
+    private final JavaMailSender mailSender;
+    private final MailProperties.Delivery deliveryProperties;
+    private final BlockingQueue<QueuedMail> queue;
+    private final Timer latency;
+    private final Counter failed;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+
+    MailDeliveryService(JavaMailSender mailSender, MailProperties mailProperties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.deliveryProperties = mailProperties.getDelivery();
+        this.queue = new ArrayBlockingQueue<>(deliveryProperties.getQueueCapacity());
+
+        Gauge.builder(METRIC_QUEUE_SIZE, queue, Collection::size)
+            .description("number of mails waiting for delivery")
+            .register(meterRegistry);
+        this.latency = Timer.builder(METRIC_LATENCY)
+            .description("time from handing over a mail until it is delivered")
+            .register(meterRegistry);
+        this.failed = Counter.builder(METRIC_FAILED)
+            .description("number of mails that could not be delivered")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues the given mail for delivery.
+     *
+     * @param mimeMessage completely prepared mail
+     */
+    void deliver(MimeMessage mimeMessage) {
+        final QueuedMail mail = new QueuedMail(mimeMessage, System.nanoTime());
+        switch (enqueue(mail)) {
+            case QUEUED -> {
+                // delivered by a worker
+            }
+            case QUEUE_FULL -> {
+                LOG.warn("Mail delivery queue is full, sending email to {} in calling thread", recipients(mimeMessage));
+                send(List.of(mail), 1);
+            }
+            case NOT_QUEUED -> send(List.of(mail), deliveryProperties.getMaxAttempts());
+        }
+    }
+
+    /**
+     * Queues the mail while holding the read lock, so {@link #stop()} cannot drain the queue in between the check of
+     * {@link #running} and the offer.
+     */
+    private EnqueueResult enqueue(QueuedMail mail) {
+        runningLock.readLock().lock();
+        try {
+            if (!running || deliveryProperties.getConcurrency() == 0) {
+                return EnqueueResult.NOT_QUEUED;
+            }
+            return queue.offer(mail, deliveryProperties.getQueueTimeout().toNanos(), NANOSECONDS)
+                ? EnqueueResult.QUEUED
+                : EnqueueResult.QUEUE_FULL;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EnqueueResult.QUEUE_FULL;
+        } finally {
+            runningLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < deliveryProperties.getConcurrency(); i++) {
+            workers.add(Thread.ofPlatform().name("mail-delivery-" + i).daemon().start(this::work));
+        }
+    }
+
+    @Override
+    public void stop() {
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+
+        final List<QueuedMail> remainingMails = new ArrayList<>();
+        queue.drainTo(remainingMails);
+        if (!remainingMails.isEmpty()) {
+            LOG.info("Sending {} queued mails before shutdown", remainingMails.size());
+            send(remainingMails, deliveryProperties.getMaxAttempts());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                final QueuedMail mail = queue.poll(1, SECONDS);
+                if (mail != null) {
+                    final List<QueuedMail> batch = new ArrayList<>();
+                    batch.add(mail);
+                    queue.drainTo(batch, deliveryProperties.getBatchSize() - 1);
+                    send(batch, deliveryProperties.getMaxAttempts());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(List<QueuedMail> mails, int maxAttempts) {
+
+        List<QueuedMail> pendingMails = mails;
+        Duration backoff = deliveryProperties.getBackoff();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mailSender.send(pendingMails.stream().map(QueuedMail::mimeMessage).toArray(MimeMessage[]::new));
+                delivered(pendingMails);
+                return;
+            } catch (MailSendException e) {
+                final List<QueuedMail> failedMails = failedMails(pendingMails, e.getFailedMessages());
+                delivered(pendingMails.stream().filter(mail -> !failedMails.contains(mail)).toList());
+                pendingMails = failedMails;
+
+                if (attempt >= maxAttempts) {
+                    notDelivered(pendingMails, e);
+                    return;
+                }
+
+                LOG.warn("Sending {} mails failed in attempt {}, retrying in {}", pendingMails.size(), attempt, backoff);
+                if (!sleep(backoff)) {
+                    notDelivered(pendingMails, e);
+                    return;
+                }
+                backoff = backoff.multipliedBy(2);
+            } catch (MailException e) {
+                // e.g. authentication errors, those will not pass with a retry
+                notDelivered(pendingMails, e);
+                return;
+            }
+        }
+    }
+
+    private static List<QueuedMail> failedMails(List<QueuedMail> mails, Map<Object, Exception> failedMessages) {
+        if (failedMessages.isEmpty()) {
+            return mails;
+        }
+        return mails.stream().filter(mail -> failedMessages.containsKey(mail.mimeMessage())).toList();
+    }
+
+    private void delivered(List<QueuedMail> mails) {
+        final long now = System.nanoTime();
+        for (QueuedMail mail : mails) {
+            latency.record(now - mail.queuedAt(), NANOSECONDS);
+            LOG.debug("Sent email to {}", recipients(mail.mimeMessage()));
+        }
+    }
+
+    private void notDelivered(List<QueuedMail> mails, MailException exception) {
+        failed.increment(mails.size());
+        for (QueuedMail mail : mails) {
+            LOG.error("Sending email to {} failed", recipients(mail.mimeMessage()), exception);
+        }
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String recipients(MimeMessage mimeMessage) {
+        try {
+            final Address[] recipients = mimeMessage.getAllRecipients();
+            return recipients == null ? "[]" : Arrays.toString(recipients);
+        } catch (MessagingException e) {
+            return "[unknown]";
+        }
+    }
+
+    private enum EnqueueResult {
+        QUEUED, QUEUE_FULL, NOT_QUEUED
+    }
+
+    private record QueuedMail(MimeMessage mimeMessage, long queuedAt) {
+    }
+}
@@ -1,11 +1,16 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.hibernate.validator.constraints.URL;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Validated
 @ConfigurationProperties("uv.mail")
 public class MailProperties {
@@ -27,6 +32,10 @@ public class MailProperties {
     @URL
     private String applicationUrl;
 
+    @Valid
+    @NotNull
+    private Delivery delivery = new Delivery();
+
     public String getFrom() {
         return from;
     }
@@ -66,4 +75,101 @@ public class MailProperties {
     public void setApplicationUrl(String applicationUrl) {
         this.applicationUrl = applicationUrl;
     }
+
+    public Delivery getDelivery() {
+        return delivery;
+    }
+
+    public void setDelivery(Delivery delivery) {
+        this.delivery = delivery;
+    }
+
+    public static class Delivery {
+
+        /**
+         * Number of mails that can be queued for delivery.
+         */
+        @Min(1)
+        private int queueCapacity = 1000;
+
+        /**
+         * Time the calling thread waits for space in a full queue. Afterwards the mail is sent in the calling thread
+         * with a single attempt.
+         */
+        @NotNull
+        private Duration queueTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Number of workers delivering the queued mails concurrently.
+         * With 0 workers every mail is sent in the calling thread.
+         */
+        @Min(0)
+        private int concurrency = 2;
+
+        /**
+         * Maximum number of mails that are sent over one smtp connection.
+         */
+        @Min(1)
+        private int batchSize = 50;
+
+        /**
+         * Number of attempts to send a mail before it is given up.
+         */
+        @Min(1)
+        private int maxAttempts = 3;
+
+        /**
+         * Time to wait before the first retry. The time is doubled with every further retry.
+         */
+        @NotNull
+        private Duration backoff = Duration.ofSeconds(2);
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getQueueTimeout() {
+            return queueTimeout;
+        }
+
+        public void setQueueTimeout(Duration queueTimeout) {
+            this.queueTimeout = queueTimeout;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(Duration backoff) {
+            this.backoff = backoff;
+        }
+    }
 }
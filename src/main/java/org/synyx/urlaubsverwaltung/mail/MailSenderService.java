@@ -5,13 +5,10 @@ import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
 import java.util.List;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -23,10 +20,12 @@ class MailSenderService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final JavaMailSender mailSender;
+    private final MailDeliveryService mailDeliveryService;
 
     @Autowired
-    MailSenderService(JavaMailSender mailSender) {
+    MailSenderService(JavaMailSender mailSender, MailDeliveryService mailDeliveryService) {
         this.mailSender = mailSender;
+        this.mailDeliveryService = mailDeliveryService;
     }
 
     /**
@@ -38,34 +37,7 @@ class MailSenderService {
      * @param text      mail body
      */
     void sendEmail(String from, String replyTo, @Nullable String recipient, String subject, String text) {
-
-        if (recipient == null || recipient.isBlank()) {
-            LOG.warn("Could not send email to empty recipients!");
-            return;
-        }
-
-        final SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setFrom(from);
-        mailMessage.setReplyTo(replyTo);
-        mailMessage.setTo(recipient);
-        mailMessage.setSubject(subject);
-        mailMessage.setText(text);
-
-        try {
-            mailSender.send(mailMessage);
-
-            if (LOG.isDebugEnabled()) {
-                for (String recipient1 : mailMessage.getTo()) {
-                    LOG.debug("Sent email to {}", recipient1);
-                }
-                LOG.debug("To={}\n\nSubject={}\n\nText={}",
-                    Arrays.toString(mailMessage.getTo()), mailMessage.getSubject(), mailMessage.getText());
-            }
-        } catch (MailException ex) {
-            for (String recipient1 : mailMessage.getTo()) {
-                LOG.error("Sending email to {} failed", recipient1, ex);
-            }
-        }
+        sendEmail(from, replyTo, recipient, subject, text, List.of());
     }
 
     /**
@@ -86,7 +58,7 @@ class MailSenderService {
 
         final MimeMessage mimeMessage = mailSender.createMimeMessage();
         try {
-            final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+            final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, !mailAttachments.isEmpty());
             helper.setFrom(from);
             helper.setReplyTo(replyTo);
             helper.setTo(recipient);
@@ -98,7 +70,10 @@ class MailSenderService {
             }
         } catch (MessagingException e) {
             LOG.error("Sending email to {} failed", recipient, e);
+            return;
         }
-        mailSender.send(mimeMessage);
+
+        LOG.debug("To={}\n\nSubject={}\n\nText={}", recipient, subject, text);
+        mailDeliveryService.deliver(mimeMessage);
     }
 }
@@ -4,7 +4,6 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.MessageSource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.user.UserSettingsService;
@@ -12,9 +11,12 @@ import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -28,6 +30,9 @@ class MailServiceImpl implements MailService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final long RECIPIENT_ID_PLACEHOLDER = Long.MIN_VALUE;
+    private static final String RECIPIENT_NICE_NAME_PLACEHOLDER = "{{recipient.niceName}}";
+
     private final MessageSource emailMessageSource;
     private final ITemplateEngine emailTemplateEngine;
     private final MailSenderService mailSenderService;
@@ -44,41 +49,73 @@ class MailServiceImpl implements MailService {
         this.userSettingsService = userSettingsService;
     }
 
-    @Async
     @Override
     public void send(Mail mail) {
 
         final List<Person> recipients = getRecipients(mail);
         final Map<Person, Locale> effectiveLocales = userSettingsService.getEffectiveLocale(recipients);
 
-        recipients.forEach(recipient -> {
-
-            final Locale effectiveLocale = effectiveLocales.get(recipient);
+        final Map<Locale, List<Person>> recipientsByLocale = new LinkedHashMap<>();
+        for (Person recipient : recipients) {
+            if (recipient.getEmail() == null) {
+                LOG.debug("Could not send mail to E-Mail-Address of person with id {}, because email is null.", recipient.getId());
+                continue;
+            }
+            recipientsByLocale.computeIfAbsent(effectiveLocales.get(recipient), locale -> new ArrayList<>()).add(recipient);
+        }
 
-            final Context context = new Context(effectiveLocale);
-            context.setVariables(mail.getTemplateModel(effectiveLocale));
-            context.setVariable("baseLinkURL", getApplicationUrl());
-            context.setVariable("rightPadder", RightPadder.getInstance());
-            context.setVariable("recipient", recipient);
+        final String from = generateMailAddressAndDisplayName(mailProperties.getFrom(), mailProperties.getFromDisplayName());
+        final String replyTo = generateMailAddressAndDisplayName(mailProperties.getReplyTo(), mailProperties.getReplyToDisplayName());
 
-            final String from = generateMailAddressAndDisplayName(mailProperties.getFrom(), mailProperties.getFromDisplayName());
-            final String replyTo = generateMailAddressAndDisplayName(mailProperties.getReplyTo(), mailProperties.getReplyToDisplayName());
+        recipientsByLocale.forEach((locale, localeRecipients) -> {
 
-            final String email = recipient.getEmail();
-            final String subject = getTranslation(effectiveLocale, mail.getSubjectMessageKey(), mail.getSubjectMessageArguments());
-            final String body = emailTemplateEngine.process(mail.getTemplateName(), context);
+            final Map<String, Object> templateModel = mail.getTemplateModel(locale);
+            final String subject = getTranslation(locale, mail.getSubjectMessageKey(), mail.getSubjectMessageArguments());
+            final Function<Person, String> body = renderBody(mail.getTemplateName(), templateModel, locale, localeRecipients);
 
-            if (email != null) {
+            for (Person recipient : localeRecipients) {
+                final String email = recipient.getEmail();
+                final String recipientBody = body.apply(recipient);
                 mail.getMailAttachments().ifPresentOrElse(
-                    mailAttachments -> mailSenderService.sendEmail(from, replyTo, email, subject, body, mailAttachments),
-                    () -> mailSenderService.sendEmail(from, replyTo, email, subject, body)
+                    mailAttachments -> mailSenderService.sendEmail(from, replyTo, email, subject, recipientBody, mailAttachments),
+                    () -> mailSenderService.sendEmail(from, replyTo, email, subject, recipientBody)
                 );
-            } else {
-                LOG.debug("Could not send mail to E-Mail-Address of person with id {}, because email is null.", recipient.getId());
             }
         });
     }
 
+    /**
+     * Renders the template only once for all recipients with the same locale. The templates use nothing of the
+     * recipient but its id and name, so the template is rendered with placeholders for those and the placeholders
+     * are replaced for every recipient afterwards.
+     */
+    private Function<Person, String> renderBody(String templateName, Map<String, Object> templateModel, Locale locale, List<Person> recipients) {
+
+        if (recipients.size() == 1) {
+            final String body = render(templateName, templateModel, locale, recipients.getFirst());
+            return recipient -> body;
+        }
+
+        final Person placeholderRecipient = new Person();
+        placeholderRecipient.setId(RECIPIENT_ID_PLACEHOLDER);
+        placeholderRecipient.setFirstName(RECIPIENT_NICE_NAME_PLACEHOLDER);
+
+        final String body = render(templateName, templateModel, locale, placeholderRecipient);
+        final String recipientIdPlaceholder = String.valueOf(RECIPIENT_ID_PLACEHOLDER);
+        return recipient -> body
+            .replace(RECIPIENT_NICE_NAME_PLACEHOLDER, recipient.getNiceName())
+            .replace(recipientIdPlaceholder, Objects.toString(recipient.getId(), ""));
+    }
+
+    private String render(String templateName, Map<String, Object> templateModel, Locale locale, Person recipient) {
+        final Context context = new Context(locale);
+        context.setVariables(templateModel);
+        context.setVariable("baseLinkURL", getApplicationUrl());
+        context.setVariable("rightPadder", RightPadder.getInstance());
+        context.setVariable("recipient", recipient);
+        return emailTemplateEngine.process(templateName, context);
+    }
+
     private List<Person> getRecipients(Mail mail) {
 
         final List<Person> recipients = new ArrayList<>();
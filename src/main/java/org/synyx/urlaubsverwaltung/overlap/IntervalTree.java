@@ -0,0 +1,103 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable interval tree of values with a closed date interval, e.g. applications for leave or sick notes.
+ *
+ * <p>The values are sorted by their start date and stored as an implicit balanced binary search tree in arrays. Every
+ * node knows the maximum end date of its subtree, so a query for all values overlapping a period can skip whole
+ * subtrees and takes O(log n + k) for k overlapping values.</p>
+ *
+ * @param <T> type of the values
+ */
+final class IntervalTree<T> {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final List<T> values;
+
+    private IntervalTree(long[] starts, long[] ends, List<T> values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new long[values.size()];
+        this.values = values;
+        computeMaxEnds(0, values.size());
+    }
+
+    /**
+     * @param values    to be indexed
+     * @param startDate first day of the interval of a value
+     * @param endDate   last day of the interval of a value
+     * @param <T>       type of the values
+     * @return interval tree containing all given values
+     */
+    static <T> IntervalTree<T> of(Collection<T> values, Function<T, LocalDate> startDate, Function<T, LocalDate> endDate) {
+
+        final List<T> sortedValues = values.stream()
+            .sorted(Comparator.comparing(startDate))
+            .toList();
+
+        final long[] starts = new long[sortedValues.size()];
+        final long[] ends = new long[sortedValues.size()];
+        for (int i = 0; i < sortedValues.size(); i++) {
+            starts[i] = startDate.apply(sortedValues.get(i)).toEpochDay();
+            ends[i] = endDate.apply(sortedValues.get(i)).toEpochDay();
+        }
+
+        return new IntervalTree<>(starts, ends, sortedValues);
+    }
+
+    /**
+     * @param startDate first day of the period
+     * @param endDate   last day of the period
+     * @return all values whose interval overlaps the period at least one day, sorted by their start date
+     */
+    List<T> overlapping(LocalDate startDate, LocalDate endDate) {
+        final List<T> overlapping = new ArrayList<>();
+        collectOverlapping(0, values.size(), startDate.toEpochDay(), endDate.toEpochDay(), overlapping);
+        return overlapping;
+    }
+
+    private long computeMaxEnds(int from, int to) {
+        if (from >= to) {
+            return Long.MIN_VALUE;
+        }
+
+        final int node = (from + to) >>> 1;
+        final long maxEnd = Math.max(ends[node], Math.max(computeMaxEnds(from, node), computeMaxEnds(node + 1, to)));
+        maxEnds[node] = maxEnd;
+        return maxEnd;
+    }
+
+    private void collectOverlapping(int from, int to, long start, long end, List<T> overlapping) {
+        if (from >= to) {
+            return;
+        }
+
+        final int node = (from + to) >>> 1;
+        if (maxEnds[node] < start) {
+            // every interval of this subtree ends before the period
+            return;
+        }
+
+        collectOverlapping(from, node, start, end, overlapping);
+
+        if (starts[node] > end) {
+            // this interval and all intervals of the right subtree start after the period
+            return;
+        }
+
+        if (ends[node] >= start) {
+            overlapping.add(values.get(node));
+        }
+
+        collectOverlapping(node + 1, to, start, end, overlapping);
+    }
+}
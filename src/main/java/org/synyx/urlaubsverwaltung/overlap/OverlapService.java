@@ -5,18 +5,24 @@ import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
@@ -33,6 +39,8 @@ import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING
 @Service
 public class OverlapService {
 
+    private static final List<ApplicationStatus> CONFLICTING_APPLICATION_STATUSES = List.of(WAITING, ALLOWED, ALLOWED_CANCELLATION_REQUESTED, TEMPORARY_ALLOWED);
+
     private final ApplicationService applicationService;
     private final SickNoteService sickNoteService;
 
@@ -54,16 +62,10 @@ public class OverlapService {
         final LocalDate startDate = application.getStartDate();
         final LocalDate endDate = application.getEndDate();
 
-        List<Application> applications = getRelevantApplicationsForLeave(person, startDate, endDate, application.getDayLength());
-        if (application.getId() != null) {
-            applications = applications.stream()
-                .filter(input -> input.getId() != null && !input.getId().equals(application.getId()))
-                .collect(toList());
-        }
-
-        final List<SickNote> sickNotes = getRelevantSickNotes(person, startDate, endDate);
+        final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person);
+        final List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, startDate, endDate);
 
-        return getOverlapCase(startDate, endDate, applications, sickNotes);
+        return new Absences(applications, sickNotes).overlapCase(application);
     }
 
     /**
@@ -78,16 +80,42 @@ public class OverlapService {
         final LocalDate startDate = sickNote.getStartDate();
         final LocalDate endDate = sickNote.getEndDate();
 
-        final List<Application> applications = getRelevantApplicationsForLeave(person, startDate, endDate, sickNote.getDayLength());
+        final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person);
+        final List<SickNote> sickNotes = sickNoteService.getByPersonAndPeriod(person, startDate, endDate);
 
-        List<SickNote> sickNotes = getRelevantSickNotes(person, startDate, endDate);
-        if (sickNote.getId() != null) {
-            sickNotes = sickNotes.stream()
-                .filter(input -> input.getId() != null && !input.getId().equals(sickNote.getId()))
-                .collect(toList());
-        }
+        return new Absences(applications, sickNotes).overlapCase(sickNote);
+    }
+
+    /**
+     * Check many applications for leave at once, e.g. on an import. The applications for leave and sick notes of all
+     * persons are loaded with one query each, regardless of the number of given applications for leave.
+     *
+     * @param applications to be checked if there are any overlaps
+     * @return {@link OverlapCase} for every given application for leave in the same order
+     */
+    public List<OverlapCase> checkOverlapOfApplications(List<Application> applications) {
 
-        return getOverlapCase(startDate, endDate, applications, sickNotes);
+        final Map<Person, Absences> absencesByPerson = getAbsencesByPerson(applications, Application::getPerson, Application::getStartDate, Application::getEndDate);
+
+        return applications.stream()
+            .map(application -> absencesByPerson.get(application.getPerson()).overlapCase(application))
+            .toList();
+    }
+
+    /**
+     * Check many sick notes at once, e.g. on an import. The applications for leave and sick notes of all
+     * persons are loaded with one query each, regardless of the number of given sick notes.
+     *
+     * @param sickNotes to be checked if there are any overlaps
+     * @return {@link OverlapCase} for every given sick note in the same order
+     */
+    public List<OverlapCase> checkOverlapOfSickNotes(List<SickNote> sickNotes) {
+
+        final Map<Person, Absences> absencesByPerson = getAbsencesByPerson(sickNotes, SickNote::getPerson, SickNote::getStartDate, SickNote::getEndDate);
+
+        return sickNotes.stream()
+            .map(sickNote -> absencesByPerson.get(sickNote.getPerson()).overlapCase(sickNote))
+            .toList();
     }
 
     /**
@@ -115,30 +143,61 @@ public class OverlapService {
             .collect(toList());
     }
 
+    private <T> Map<Person, Absences> getAbsencesByPerson(List<T> candidates, Function<T, Person> personOf,
+                                                         Function<T, LocalDate> startDateOf, Function<T, LocalDate> endDateOf) {
+
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Person> persons = candidates.stream().map(personOf).distinct().toList();
+        final LocalDate from = candidates.stream().map(startDateOf).min(LocalDate::compareTo).orElseThrow();
+        final LocalDate to = candidates.stream().map(endDateOf).max(LocalDate::compareTo).orElseThrow();
+
+        final Map<Person, List<Application>> applicationsByPerson = applicationService.getForStatesAndPerson(CONFLICTING_APPLICATION_STATUSES, persons, from, to).stream()
+            .collect(groupingBy(Application::getPerson));
+        final Map<Person, List<SickNote>> sickNotesByPerson = sickNoteService.getForStatesAndPerson(SickNoteStatus.activeStatuses(), persons, from, to).stream()
+            .collect(groupingBy(SickNote::getPerson));
+
+        final Map<Person, Absences> absencesByPerson = new HashMap<>();
+        for (Person person : persons) {
+            absencesByPerson.put(person, new Absences(applicationsByPerson.getOrDefault(person, List.of()), sickNotesByPerson.getOrDefault(person, List.of())));
+        }
+        return absencesByPerson;
+    }
+
     /**
-     * Determine the case of overlap for the given period and overlapping applications for leave and sick notes.
+     * Determine the case of overlap for the given period and the overlapping date ranges.
      *
-     * @param startDate    defines the start of the period to be checked
-     * @param endDate      defines the end of the period to be checked
-     * @param applications for leave that are overlapping in the given period
-     * @param sickNotes    that are overlapping in the given period
+     * @param startDate          defines the start of the period to be checked
+     * @param endDate            defines the end of the period to be checked
+     * @param overlappingPeriods of applications for leave and sick notes overlapping the period, sorted by start date
      * @return {@link OverlapCase} - none, partly, fully
      */
-    private OverlapCase getOverlapCase(LocalDate startDate, LocalDate endDate, List<Application> applications, List<SickNote> sickNotes) {
+    private static OverlapCase getOverlapCase(LocalDate startDate, LocalDate endDate, List<DateRange> overlappingPeriods) {
 
         // case (1): no overlap at all
-        if (applications.isEmpty() && sickNotes.isEmpty()) {
+        if (overlappingPeriods.isEmpty()) {
             return NO_OVERLAPPING;
         }
 
         // case (2) or (3): overlap
-
-        final List<DateRange> listOfOverlaps = getListOfOverlaps(startDate, endDate, applications, sickNotes);
-        final List<DateRange> listOfGaps = getListOfGaps(startDate, endDate, listOfOverlaps);
+        // walk through the periods and check if they leave a gap within the period to be checked.
+        // e.g. if period 1: 16.-18. and period 2: 19.-20 --> they abut
+        // e.g. if period 1: 16.-18. and period 2: 20.-22 --> they have a gap
+        LocalDate coveredUntil = startDate.minusDays(1);
+        for (DateRange overlappingPeriod : overlappingPeriods) {
+            if (overlappingPeriod.startDate().isAfter(coveredUntil.plusDays(1))) {
+                break;
+            }
+            if (overlappingPeriod.endDate().isAfter(coveredUntil)) {
+                coveredUntil = overlappingPeriod.endDate();
+            }
+        }
 
         // gaps between the intervals mean that you can apply vacation for this periods
         // this is case (3)
-        if (!listOfGaps.isEmpty()) {
+        if (coveredUntil.isBefore(endDate)) {
             /* (3) The period of the new application is part
              * of an existent application's period, but for a part of it you could apply new vacation; i.e. user
              * must be asked if he wants to apply for leave for the not overlapping period of the new
@@ -146,6 +205,7 @@ public class OverlapService {
              */
             return PARTLY_OVERLAPPING;
         }
+
         // no gaps mean that period of application is element of other periods of applications
         // i.e. you have no free periods to apply vacation for
         // this is case (2)
@@ -157,110 +217,61 @@ public class OverlapService {
         return FULLY_OVERLAPPING;
     }
 
-    /**
-     * Get all active applications for leave of the given person that are in the given period.
-     *
-     * @param person    to get overlapping applications for leave for
-     * @param startDate defines the start of the period
-     * @param endDate   defines the end of the period
-     * @param dayLength defines the time of day of the period
-     * @return {@link List} of {@link Application}s overlapping with the period
-     */
-    private List<Application> getRelevantApplicationsForLeave(Person person, LocalDate startDate, LocalDate endDate, DayLength dayLength) {
-
-        // get all applications for leave
-        final List<Application> applicationsForLeave = applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person);
-
-        // remove the non-relevant ones
-        return applicationsForLeave.stream()
-            .filter(withConflictingStatus().and(withOverlappingDayLength(dayLength)))
-            .collect(toList());
-    }
-
-    private Predicate<Application> withOverlappingDayLength(DayLength dayLength) {
+    private static Predicate<Application> withOverlappingDayLength(DayLength dayLength) {
         return application -> application.getDayLength().isFull() || dayLength.isFull() || application.getDayLength().equals(dayLength);
     }
 
-    private Predicate<Application> withConflictingStatus() {
+    private static Predicate<Application> withConflictingStatus() {
         return application -> application.hasStatus(WAITING) ||
             application.hasStatus(ALLOWED) ||
             application.hasStatus(ALLOWED_CANCELLATION_REQUESTED) ||
             application.hasStatus(TEMPORARY_ALLOWED);
     }
 
-    /**
-     * Get all active sick notes of the given person that are in the given period.
-     *
-     * @param person    to get overlapping sick notes for
-     * @param startDate defines the start of the period
-     * @param endDate   defines the end of the period
-     * @return {@link List} of {@link SickNote}s overlapping with the period of the given {@link Application}
-     */
-    private List<SickNote> getRelevantSickNotes(Person person, LocalDate startDate, LocalDate endDate) {
-        // only active sick notes are relevant
-        return sickNoteService.getByPersonAndPeriod(person, startDate, endDate)
-            .stream()
-            .filter(SickNote::isActive)
-            .collect(toList());
+    private static <T> Predicate<T> isNot(Long id, Function<T, Long> idOf) {
+        return value -> id == null || (idOf.apply(value) != null && !idOf.apply(value).equals(id));
     }
 
     /**
-     * Get a list of gaps within the given intervals.
-     *
-     * @param startDate      defines the start of the period
-     * @param endDate        defines the end of the period
-     * @param listOfOverlaps list of overlaps
-     * @return {@link List} of gaps
+     * The relevant applications for leave and sick notes of a person, i.e. applications for leave with a conflicting
+     * status and active sick notes, indexed by their period.
      */
-    private List<DateRange> getListOfGaps(LocalDate startDate, LocalDate endDate, List<DateRange> listOfOverlaps) {
-        // check start and end points
-        if (listOfOverlaps.isEmpty()) {
-            return List.of();
-        }
+    private static final class Absences {
 
-        final LocalDate firstOverlapStart = listOfOverlaps.getFirst().startDate();
-        final LocalDate lastOverlapEnd = listOfOverlaps.getLast().endDate();
+        private final IntervalTree<Application> applications;
+        private final IntervalTree<SickNote> sickNotes;
 
-        final List<DateRange> listOfGaps = new ArrayList<>();
-        if (startDate.isBefore(firstOverlapStart)) {
-            listOfGaps.add(new DateRange(startDate, firstOverlapStart));
+        Absences(List<Application> applications, List<SickNote> sickNotes) {
+            this.applications = IntervalTree.of(applications.stream().filter(withConflictingStatus()).toList(), Application::getStartDate, Application::getEndDate);
+            this.sickNotes = IntervalTree.of(sickNotes.stream().filter(SickNote::isActive).toList(), SickNote::getStartDate, SickNote::getEndDate);
         }
-        if (endDate.isAfter(lastOverlapEnd)) {
-            listOfGaps.add(new DateRange(lastOverlapEnd, endDate));
+
+        OverlapCase overlapCase(Application application) {
+            return overlapCase(application.getStartDate(), application.getEndDate(), application.getDayLength(),
+                isNot(application.getId(), Application::getId), sickNote -> true);
         }
 
-        // check if intervals abut or gap
-        for (int i = 0; (i + 1) < listOfOverlaps.size(); i++) {
-            // if they don't abut, you can calculate the gap
-            // test if end of interval is equals resp. one day plus of start of other interval
-            // e.g. if period 1: 16.-18. and period 2: 19.-20 --> they abut
-            // e.g. if period 1: 16.-18. and period 2: 20.-22 --> they have a gap
-            if (intervalsHaveGap(listOfOverlaps.get(i), listOfOverlaps.get(i + 1))) {
-                final Optional<DateRange> maybeGap = listOfOverlaps.get(i).gap(listOfOverlaps.get(i + 1));
-                maybeGap.ifPresent(listOfGaps::add);
-            }
+        OverlapCase overlapCase(SickNote sickNote) {
+            return overlapCase(sickNote.getStartDate(), sickNote.getEndDate(), sickNote.getDayLength(),
+                application -> true, isNot(sickNote.getId(), SickNote::getId));
         }
 
-        return listOfGaps;
-    }
+        private OverlapCase overlapCase(LocalDate startDate, LocalDate endDate, DayLength dayLength,
+                                        Predicate<Application> applicationFilter, Predicate<SickNote> sickNoteFilter) {
 
-    /**
-     * Check if the two given intervals have a gap or if they abut.
-     *
-     * <p>Some examples:</p>
-     * <p>(1) period 16.-18. and period 19.-20. --> they abut</p>
-     * <p>(2) period 16.-18. and period 20.-22. --> they have a gap</p>
-     *
-     * @param firstInterval
-     * @param secondInterval
-     * @return {@code true} if they have a gap between or {@code false} if they have no gap
-     */
-    private boolean intervalsHaveGap(DateRange firstInterval, DateRange secondInterval) {
+            final Stream<DateRange> applicationPeriods = applications.overlapping(startDate, endDate).stream()
+                .filter(applicationFilter.and(withOverlappingDayLength(dayLength)))
+                .map(application -> new DateRange(application.getStartDate(), application.getEndDate()));
+
+            final Stream<DateRange> sickNotePeriods = sickNotes.overlapping(startDate, endDate).stream()
+                .filter(sickNoteFilter)
+                .map(sickNote -> new DateRange(sickNote.getStartDate(), sickNote.getEndDate()));
 
-        // test if end of interval is equals resp. one day plus of start of other interval
-        final LocalDate endOfFirstInterval = firstInterval.endDate();
-        final LocalDate startOfSecondInterval = secondInterval.startDate();
+            final List<DateRange> overlappingPeriods = Stream.concat(applicationPeriods, sickNotePeriods)
+                .sorted(comparing(DateRange::startDate))
+                .toList();
 
-        return !(endOfFirstInterval.equals(startOfSecondInterval) || endOfFirstInterval.plusDays(1).equals(startOfSecondInterval));
+            return getOverlapCase(startDate, endDate, overlappingPeriods);
+        }
     }
 }
@@ -2,6 +2,9 @@ package org.synyx.urlaubsverwaltung.overtime;
 
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class OvertimeImportService {
 
@@ -18,13 +21,14 @@ public class OvertimeImportService {
         overtimeRepository.deleteAll();
     }
 
-    public Overtime importOvertime(Overtime overtime) {
-        return overtimeRepository.save(overtime);
+    public List<Overtime> importOvertimes(List<Overtime> overtimes) {
+        final List<Overtime> importedOvertimes = new ArrayList<>(overtimes.size());
+        overtimeRepository.saveAll(overtimes).forEach(importedOvertimes::add);
+        return importedOvertimes;
     }
 
-
-    public void importOvertimeComment(OvertimeComment overtimeComment) {
-        overtimeCommentRepository.save(overtimeComment);
+    public void importOvertimeComments(List<OvertimeComment> overtimeComments) {
+        overtimeCommentRepository.saveAll(overtimeComments);
     }
 
 }
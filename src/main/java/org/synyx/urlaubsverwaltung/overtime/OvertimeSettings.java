@@ -3,8 +3,14 @@ package org.synyx.urlaubsverwaltung.overtime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 @Embeddable
-public class OvertimeSettings {
+public class OvertimeSettings implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * Activates or deactivates overtime settings.
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.BatchSize;
 import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
 
 import java.util.Collection;
@@ -42,12 +43,15 @@ public class Person extends AbstractTenantAwareEntity {
     private String firstName;
     private String email;
 
+    // loaded for up to 100 persons at once, e.g. for all members of a department
     @ElementCollection(fetch = EAGER)
     @Enumerated(STRING)
+    @BatchSize(size = 100)
     private Collection<Role> permissions;
 
     @ElementCollection(fetch = EAGER)
     @Enumerated(STRING)
+    @BatchSize(size = 100)
     private Collection<MailNotification> notifications;
 
     public Person() {
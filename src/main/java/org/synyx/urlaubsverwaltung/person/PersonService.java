@@ -127,7 +127,8 @@ public interface PersonService {
     Page<Person> getInactivePersons(PageableSearchQuery personPageableSearchQuery);
 
     /**
-     * This method allows to get the signed in user.
+     * This method allows to get the signed in user. Within a request the same instance is returned to every caller,
+     * do not modify it without saving it with {@link #update(Person)}.
      *
      * @return user that is signed in
      */
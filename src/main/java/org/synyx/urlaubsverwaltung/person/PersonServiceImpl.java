@@ -54,15 +54,18 @@ class PersonServiceImpl implements PersonService {
     private final AccountInteractionService accountInteractionService;
     private final WorkingTimeWriteService workingTimeWriteService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final SignedInPersonCache signedInPersonCache;
 
     @Autowired
     PersonServiceImpl(PersonRepository personRepository, AccountInteractionService accountInteractionService,
-                      WorkingTimeWriteService workingTimeWriteService, ApplicationEventPublisher applicationEventPublisher) {
+                      WorkingTimeWriteService workingTimeWriteService, ApplicationEventPublisher applicationEventPublisher,
+                      SignedInPersonCache signedInPersonCache) {
 
         this.personRepository = personRepository;
         this.accountInteractionService = accountInteractionService;
         this.workingTimeWriteService = workingTimeWriteService;
         this.applicationEventPublisher = applicationEventPublisher;
+        this.signedInPersonCache = signedInPersonCache;
     }
 
     @Override
@@ -122,6 +125,7 @@ class PersonServiceImpl implements PersonService {
         }
 
         final Person updatedPerson = personRepository.save(normalizePerson(person));
+        signedInPersonCache.evict(updatedPerson.getId());
         LOG.info("Updated person: {}", updatedPerson);
 
         if (updatedPerson.isInactive()) {
@@ -145,6 +149,7 @@ class PersonServiceImpl implements PersonService {
         accountInteractionService.deleteAllByPerson(person);
         workingTimeWriteService.deleteAllByPerson(person);
         personRepository.delete(person);
+        signedInPersonCache.evict(person.getId());
 
         final String status = person.isActive() ? "active" : "inactive";
         LOG.info("person with id {} ({}) and status {} deleted by signed in user with id {}", person.getId(), person.getUsername(), status, signedInUser.getId());
@@ -211,7 +216,7 @@ class PersonServiceImpl implements PersonService {
         }
 
         final String username = authentication.getName();
-        final Optional<Person> person = getPersonByUsername(username);
+        final Optional<Person> person = signedInPersonCache.get(username, this::getPersonByUsername);
         if (person.isEmpty()) {
             throw new IllegalStateException("Can not get the person for the signed in user with username = " + username);
         }
@@ -240,6 +245,7 @@ class PersonServiceImpl implements PersonService {
         person.setPermissions(permissions);
 
         final Person savedPerson = personRepository.save(person);
+        signedInPersonCache.evict(savedPerson.getId());
 
         LOG.info("Add 'OFFICE' role to person: {}", person);
 
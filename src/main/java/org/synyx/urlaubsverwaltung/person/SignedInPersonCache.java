@@ -0,0 +1,64 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Memoises the signed in {@link Person} for the duration of the current request. The signed in person is needed by
+ * most controllers, permission checks and model attributes of a single request, loading it only once saves
+ * the repeated queries for the person and its permissions and notifications.
+ *
+ * <p>Outside of a request (e.g. scheduled jobs) nothing is memoised. The memoised person is shared by every caller
+ * of the request and has to be treated as read-only, changes are saved with {@link PersonService#update(Person)}
+ * which evicts it like every other write of the person.</p>
+ */
+@Component
+class SignedInPersonCache {
+
+    private static final String ATTRIBUTE_NAME = SignedInPersonCache.class.getName();
+
+    /**
+     * @param username of the signed in user
+     * @param loader   to load the person if it is not memoised for the current request yet
+     * @return the person of the signed in user
+     */
+    Optional<Person> get(String username, Function<String, Optional<Person>> loader) {
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return loader.apply(username);
+        }
+
+        if (requestAttributes.getAttribute(ATTRIBUTE_NAME, SCOPE_REQUEST) instanceof SignedInPerson signedInPerson
+            && signedInPerson.username().equals(username)) {
+            return Optional.of(signedInPerson.person());
+        }
+
+        final Optional<Person> person = loader.apply(username);
+        person.ifPresent(value -> requestAttributes.setAttribute(ATTRIBUTE_NAME, new SignedInPerson(username, value), SCOPE_REQUEST));
+
+        return person;
+    }
+
+    /**
+     * @param personId of the person that has been saved or deleted
+     */
+    void evict(Long personId) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+            && requestAttributes.getAttribute(ATTRIBUTE_NAME, SCOPE_REQUEST) instanceof SignedInPerson signedInPerson
+            && Objects.equals(signedInPerson.person().getId(), personId)) {
+            requestAttributes.removeAttribute(ATTRIBUTE_NAME, SCOPE_REQUEST);
+        }
+    }
+
+    private record SignedInPerson(String username, Person person) {
+    }
+}
@@ -14,7 +14,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -42,10 +44,12 @@ import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_BOSS_OR_OFFI
 public class PersonApiController {
 
     private final PersonService personService;
+    private final ApiDataVersions apiDataVersions;
 
     @Autowired
-    PersonApiController(PersonService personService) {
+    PersonApiController(PersonService personService, ApiDataVersions apiDataVersions) {
         this.personService = personService;
+        this.apiDataVersions = apiDataVersions;
     }
 
     @Operation(
@@ -110,7 +114,11 @@ public class PersonApiController {
     )
     @GetMapping(produces = {APPLICATION_JSON_VALUE, HAL_JSON_VALUE})
     @PreAuthorize(IS_BOSS_OR_OFFICE)
-    public ResponseEntity<PersonsDto> persons() {
+    public ResponseEntity<PersonsDto> persons(WebRequest webRequest) {
+
+        if (apiDataVersions.isPersonsNotModified(webRequest)) {
+            return null;
+        }
 
         final List<PersonDto> persons = personService.getActivePersons().stream()
             .map(PersonMapper::mapToDto)
@@ -7,9 +7,9 @@ import de.focus_shift.urlaubsverwaltung.extension.api.person.PersonUpdatedEventD
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.extension.ExtensionConfiguration;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonCreatedEvent;
@@ -18,6 +18,9 @@ import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
 
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
+
 @ConditionalOnBean(ExtensionConfiguration.class)
 @Component
 class PersonEventHandlerExtension {
@@ -34,8 +37,8 @@ class PersonEventHandlerExtension {
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
-    @Async
-    @EventListener
+    @Async(EXTENSION_EXECUTOR)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     void on(PersonCreatedEvent event) {
         personService.getPersonByUsername(event.getUsername())
             .ifPresent(existing -> {
@@ -44,8 +47,8 @@ class PersonEventHandlerExtension {
             });
     }
 
-    @Async
-    @EventListener
+    @Async(EXTENSION_EXECUTOR)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     void on(PersonUpdatedEvent event) {
         personService.getPersonByUsername(event.getUsername())
             .ifPresent(existing -> {
@@ -54,8 +57,8 @@ class PersonEventHandlerExtension {
             });
     }
 
-    @Async
-    @EventListener
+    @Async(EXTENSION_EXECUTOR)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     void on(PersonDisabledEvent event) {
         personService.getPersonByUsername(event.getUsername())
             .ifPresent(existing -> {
@@ -64,8 +67,8 @@ class PersonEventHandlerExtension {
             });
     }
 
-    @Async
-    @EventListener
+    @Async(EXTENSION_EXECUTOR)
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     void on(PersonDeletedEvent event) {
         final Person person = event.person();
         final PersonDeletedEventDTO eventToPublish = PersonDeletedEventDTO.create(tenantSupplier.get(), person.getId(), person.getUsername(), person.getLastName(), person.getFirstName(), person.getEmail(), person.isActive());
@@ -2,10 +2,15 @@ package org.synyx.urlaubsverwaltung.person.settings;
 
 import jakarta.persistence.Embeddable;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Objects;
 
 @Embeddable
-public class AvatarSettings {
+public class AvatarSettings implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * Is gravatar used for avatar images
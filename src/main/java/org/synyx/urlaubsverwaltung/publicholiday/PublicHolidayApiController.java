@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -46,14 +48,17 @@ public class PublicHolidayApiController {
     private final PersonService personService;
     private final WorkingTimeService workingTimeService;
     private final SettingsService settingsService;
+    private final ApiDataVersions apiDataVersions;
 
     @Autowired
     public PublicHolidayApiController(PublicHolidaysService publicHolidaysService, PersonService personService,
-                                      WorkingTimeService workingTimeService, SettingsService settingsService) {
+                                      WorkingTimeService workingTimeService, SettingsService settingsService,
+                                      ApiDataVersions apiDataVersions) {
         this.publicHolidaysService = publicHolidaysService;
         this.personService = personService;
         this.workingTimeService = workingTimeService;
         this.settingsService = settingsService;
+        this.apiDataVersions = apiDataVersions;
     }
 
     @Operation(
@@ -75,10 +80,15 @@ public class PublicHolidayApiController {
         @Parameter(description = "End date with pattern yyyy-MM-dd")
         @RequestParam("to")
         @DateTimeFormat(iso = ISO.DATE)
-        LocalDate endDate) {
+        LocalDate endDate,
+        WebRequest webRequest) {
 
         checkValidPeriod(startDate, endDate);
 
+        if (apiDataVersions.isNotModified(webRequest)) {
+            return null;
+        }
+
         final WorkingTimeSettings workingTimeSettings = settingsService.getSettings().getWorkingTimeSettings();
         final FederalState federalState = workingTimeSettings.getFederalState();
 
@@ -117,10 +127,15 @@ public class PublicHolidayApiController {
         @Parameter(description = "End date with pattern yyyy-MM-dd")
         @RequestParam("to")
         @DateTimeFormat(iso = ISO.DATE)
-        LocalDate endDate) {
+        LocalDate endDate,
+        WebRequest webRequest) {
 
         checkValidPeriod(startDate, endDate);
 
+        if (apiDataVersions.isPersonNotModified(webRequest, personId)) {
+            return null;
+        }
+
         final Optional<Person> optionalPerson = personService.getPersonByID(personId);
         if (optionalPerson.isEmpty()) {
             throw new ResponseStatusException(BAD_REQUEST, "No person found for ID=" + personId);
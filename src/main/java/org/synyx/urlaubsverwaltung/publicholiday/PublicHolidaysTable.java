@@ -0,0 +1,118 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.Holiday;
+import de.focus_shift.jollyday.core.HolidayManager;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static de.focus_shift.jollyday.core.HolidayType.PUBLIC_HOLIDAY;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * In-memory table of the holidays of a {@link FederalState} per year.
+ *
+ * <p>Every (federal state, year) combination is evaluated by jollyday exactly once. Afterwards, looking up the
+ * holidays of a date is a single map access. The table only contains the calendar information provided by jollyday
+ * (plus Christmas Eve and New Year's Eve). Settings dependent information like the configured working duration of
+ * Christmas Eve is not part of the table and has to be applied by the caller.</p>
+ */
+class PublicHolidaysTable {
+
+    private final Map<String, HolidayManager> holidayManagers;
+    private final Map<FederalStateYear, HolidaysOfYear> holidaysByFederalStateYear = new ConcurrentHashMap<>();
+
+    PublicHolidaysTable(Map<String, HolidayManager> holidayManagers) {
+        this.holidayManagers = holidayManagers;
+    }
+
+    /**
+     * @param date         date to check
+     * @param federalState federal state to check
+     * @return {@code true} when there is any kind of holiday (not only public holidays) at the given date
+     */
+    boolean isHoliday(LocalDate date, FederalState federalState) {
+        return holidaysOf(date.getYear(), federalState).holidayDates().contains(date);
+    }
+
+    /**
+     * @param date         date to get the public holidays for
+     * @param federalState federal state to get the public holidays for
+     * @return public holidays at the given date, never {@code null}
+     */
+    List<Holiday> getPublicHolidays(LocalDate date, FederalState federalState) {
+        return holidaysOf(date.getYear(), federalState).publicHolidaysByDate().getOrDefault(date, List.of());
+    }
+
+    /**
+     * @param from         start date (inclusive)
+     * @param to           end date (inclusive)
+     * @param federalState federal state to get the public holidays for
+     * @return public holidays within the given date range sorted by date, never {@code null}
+     */
+    List<Holiday> getPublicHolidays(LocalDate from, LocalDate to, FederalState federalState) {
+        final List<Holiday> holidays = new ArrayList<>();
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            for (Holiday holiday : holidaysOf(year, federalState).publicHolidays()) {
+                final LocalDate date = holiday.getDate();
+                if (!date.isBefore(from) && !date.isAfter(to)) {
+                    holidays.add(holiday);
+                }
+            }
+        }
+        return holidays;
+    }
+
+    private HolidaysOfYear holidaysOf(int year, FederalState federalState) {
+        return holidaysByFederalStateYear.computeIfAbsent(new FederalStateYear(federalState, year), this::computeHolidaysOfYear);
+    }
+
+    private HolidaysOfYear computeHolidaysOfYear(FederalStateYear federalStateYear) {
+
+        final FederalState federalState = federalStateYear.federalState();
+        final Year year = Year.of(federalStateYear.year());
+
+        final Set<Holiday> allHolidays = getHolidayManager(federalState)
+            .map(holidayManager -> holidayManager.getHolidays(year, federalState.getCodes()))
+            .orElseGet(Set::of);
+
+        final Set<Holiday> publicHolidaySet = allHolidays.stream().filter(holiday -> holiday.getType() == PUBLIC_HOLIDAY).collect(toCollection(HashSet::new));
+        publicHolidaySet.add(new Holiday(year.atMonth(Month.DECEMBER).atDay(24), "CHRISTMAS_EVE", PUBLIC_HOLIDAY));
+        publicHolidaySet.add(new Holiday(year.atMonth(Month.DECEMBER).atDay(31), "NEW_YEARS_EVE", PUBLIC_HOLIDAY));
+
+        final List<Holiday> publicHolidays = new ArrayList<>(publicHolidaySet);
+        publicHolidays.sort(Comparator.comparing(Holiday::getDate));
+
+        final Map<LocalDate, List<Holiday>> publicHolidaysByDate = new HashMap<>();
+        for (Holiday publicHoliday : publicHolidays) {
+            publicHolidaysByDate.computeIfAbsent(publicHoliday.getDate(), date -> new ArrayList<>()).add(publicHoliday);
+        }
+        publicHolidaysByDate.replaceAll((date, holidaysOfDate) -> List.copyOf(holidaysOfDate));
+
+        final Set<LocalDate> holidayDates = allHolidays.stream().map(Holiday::getDate).collect(toSet());
+
+        return new HolidaysOfYear(List.copyOf(publicHolidays), Map.copyOf(publicHolidaysByDate), Set.copyOf(holidayDates));
+    }
+
+    private Optional<HolidayManager> getHolidayManager(FederalState federalState) {
+        return Optional.ofNullable(holidayManagers.get(federalState.getCountry()));
+    }
+
+    private record FederalStateYear(FederalState federalState, int year) {
+    }
+
+    private record HolidaysOfYear(List<Holiday> publicHolidays, Map<LocalDate, List<Holiday>> publicHolidaysByDate, Set<LocalDate> holidayDates) {
+    }
+}
@@ -0,0 +1,117 @@
+package org.synyx.urlaubsverwaltung.search;
+
+import org.slf4j.Logger;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Read access to a (nested) property path like {@code person.firstName} of a type.
+ *
+ * <p>The getters of the path are resolved once into {@link MethodHandle}s and memoised per type. Reading a value
+ * afterward does not need any reflective lookup anymore.</p>
+ */
+final class PropertyPathAccessor {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final PropertyPathAccessor UNKNOWN = new PropertyPathAccessor("", new MethodHandle[0]);
+
+    private static final ClassValue<Map<String, PropertyPathAccessor>> ACCESSORS_BY_TYPE = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyPathAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String propertyPath;
+    private final MethodHandle[] getters;
+
+    private PropertyPathAccessor(String propertyPath, MethodHandle[] getters) {
+        this.propertyPath = propertyPath;
+        this.getters = getters;
+    }
+
+    /**
+     * @param type         type that contains the first property of the path
+     * @param propertyPath dot separated property path, e.g. {@code person.firstName}
+     * @return accessor of the property path. reading an unknown property path results in {@code null}.
+     */
+    static PropertyPathAccessor of(Class<?> type, String propertyPath) {
+        final Map<String, PropertyPathAccessor> accessors = ACCESSORS_BY_TYPE.get(type);
+
+        final PropertyPathAccessor cachedAccessor = accessors.get(propertyPath);
+        if (cachedAccessor != null) {
+            return cachedAccessor;
+        }
+
+        final PropertyPathAccessor accessor = resolve(type, propertyPath);
+        if (accessor != UNKNOWN) {
+            // unknown paths are not memoised since sort properties are provided by the client
+            accessors.putIfAbsent(propertyPath, accessor);
+        }
+
+        return accessor;
+    }
+
+    /**
+     * @param entity to read the property path from
+     * @return the value of the property path or {@code null} if the path is unknown or any property on the way is {@code null}
+     */
+    Object read(Object entity) {
+        if (getters.length == 0) {
+            return null;
+        }
+
+        Object value = entity;
+        for (MethodHandle getter : getters) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                value = getter.invokeExact(value);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new SortComparatorException(format("could not read property=\"%s\" of %s.", propertyPath, entity), e);
+            }
+        }
+
+        return value;
+    }
+
+    private static PropertyPathAccessor resolve(Class<?> type, String propertyPath) {
+
+        final String[] properties = propertyPath.split("\\.");
+        final MethodHandle[] getters = new MethodHandle[properties.length];
+
+        Class<?> currentType = type;
+        for (int i = 0; i < properties.length; i++) {
+            final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(currentType, properties[i]);
+            if (propertyDescriptor == null || propertyDescriptor.getReadMethod() == null) {
+                LOG.debug("type=\"{}\" does not contain property=\"{}\".", type, propertyPath);
+                return UNKNOWN;
+            }
+
+            final Method readMethod = propertyDescriptor.getReadMethod();
+            try {
+                getters[i] = lookup().unreflect(readMethod).asType(methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new SortComparatorException(format("type=\"%s\" does not allow to read property=\"%s\".", type, propertyPath), e);
+            }
+
+            currentType = readMethod.getReturnType();
+        }
+
+        return new PropertyPathAccessor(propertyPath, getters);
+    }
+}
@@ -1,14 +1,17 @@
 package org.synyx.urlaubsverwaltung.settings;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SettingsImportService {
 
     private final SettingsRepository settingsRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public SettingsImportService(SettingsRepository settingsRepository) {
+    public SettingsImportService(SettingsRepository settingsRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.settingsRepository = settingsRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     public void deleteAll() {
@@ -16,6 +19,7 @@ public class SettingsImportService {
     }
 
     public void importSettings(Settings settings) {
-        settingsRepository.save(settings);
+        final Settings importedSettings = settingsRepository.save(settings);
+        applicationEventPublisher.publishEvent(SettingsUpdatedEvent.of(importedSettings));
     }
 }
@@ -0,0 +1,41 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@Component
+@ConfigurationProperties("uv.settings")
+@Validated
+public class SettingsProperties {
+
+    /**
+     * Defines how long the in-memory settings snapshot is used before it is reloaded from the database.
+     * Changes made on this instance are visible immediately. The interval only matters when several instances
+     * share one database and defines how long it takes until a change made on another instance is visible.
+     * <p>
+     * Possible inputs:
+     * <p><ul>
+     * <li>1 (1 Minute)
+     * <li>PT1M (1 Minute in ISO-8601 Format)
+     * <li>1m (1 Minute)
+     * </ul><p>
+     * Default refresh interval is one minute (PT1M).
+     */
+    @NotNull
+    @DurationUnit(ChronoUnit.MINUTES)
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+}
@@ -2,13 +2,31 @@ package org.synyx.urlaubsverwaltung.settings;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.SerializationUtils;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 /**
  * Implementation for {@link org.synyx.urlaubsverwaltung.settings.SettingsService}.
+ *
+ * <p>The settings are held as an in-memory snapshot per tenant. The snapshot is replaced after the commit of every
+ * {@link SettingsUpdatedEvent} and reloaded from the database after {@link SettingsProperties#getRefreshInterval()}
+ * to pick up changes of other instances sharing the same database. Callers get a copy of the snapshot, so modifying
+ * the returned settings never changes the snapshot.</p>
  */
 @Service
 public class SettingsServiceImpl implements SettingsService {
@@ -16,23 +34,48 @@ public class SettingsServiceImpl implements SettingsService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final SettingsRepository settingsRepository;
+    private final TenantContextHolder tenantContextHolder;
+    private final SettingsProperties settingsProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+
+    private final Map<TenantId, SettingsSnapshot> snapshotByTenant = new ConcurrentHashMap<>();
 
     @Autowired
-    public SettingsServiceImpl(SettingsRepository settingsRepository) {
+    public SettingsServiceImpl(SettingsRepository settingsRepository, TenantContextHolder tenantContextHolder,
+                               SettingsProperties settingsProperties, ApplicationEventPublisher applicationEventPublisher,
+                               Clock clock) {
         this.settingsRepository = settingsRepository;
+        this.tenantContextHolder = tenantContextHolder;
+        this.settingsProperties = settingsProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.clock = clock;
     }
 
     @Override
     public Settings save(Settings settings) {
         final Settings savedSettings = settingsRepository.save(settings);
         LOG.info("Updated settings: {}", savedSettings);
+        applicationEventPublisher.publishEvent(SettingsUpdatedEvent.of(savedSettings));
         return savedSettings;
     }
 
     @Override
     public Settings getSettings() {
-        return settingsRepository.findAll().stream().findFirst()
-            .orElseThrow(() -> new IllegalStateException("No settings found in database!"));
+
+        final Optional<TenantId> maybeTenantId = tenantContextHolder.getCurrentTenantId();
+        if (maybeTenantId.isEmpty()) {
+            return loadSettings();
+        }
+
+        final Instant now = Instant.now(clock);
+        final SettingsSnapshot snapshot = snapshotByTenant.compute(maybeTenantId.get(), (tenantId, current) ->
+            current == null || current.isOutdated(now, settingsProperties.getRefreshInterval())
+                ? new SettingsSnapshot(copyOf(loadSettings()), now)
+                : current
+        );
+
+        return copyOf(snapshot.settings());
     }
 
     @Override
@@ -46,4 +89,30 @@ public class SettingsServiceImpl implements SettingsService {
             LOG.info("Saved initial settings {}", savedSettings);
         }
     }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void on(SettingsUpdatedEvent event) {
+        tenantContextHolder.getCurrentTenantId().ifPresent(tenantId ->
+            snapshotByTenant.put(tenantId, new SettingsSnapshot(copyOf(event.settings()), Instant.now(clock)))
+        );
+    }
+
+    private Settings loadSettings() {
+        return settingsRepository.findAll().stream().findFirst()
+            .orElseThrow(() -> new IllegalStateException("No settings found in database!"));
+    }
+
+    private static Settings copyOf(Settings settings) {
+        return SerializationUtils.clone(settings);
+    }
+
+    /**
+     * Snapshot of the settings. The contained settings are a copy of the loaded or saved settings,
+     * so they are never managed by an entity manager and only changed by replacing the snapshot.
+     */
+    private record SettingsSnapshot(Settings settings, Instant loadedAt) {
+        boolean isOutdated(Instant now, Duration refreshInterval) {
+            return !loadedAt.plus(refreshInterval).isAfter(now);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SettingsUpdatedEvent(UUID id, Instant createdAt, Settings settings) {
+
+    public static SettingsUpdatedEvent of(Settings settings) {
+        return new SettingsUpdatedEvent(UUID.randomUUID(), Instant.now(), settings);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.person.Person;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,6 +16,8 @@ interface SickNoteCommentEntityRepository extends CrudRepository<SickNoteComment
 
     List<SickNoteCommentEntity> findBySickNoteId(Long sickNoteId);
 
+    List<SickNoteCommentEntity> findBySickNoteIdIn(Collection<Long> sickNoteIds);
+
     List<SickNoteCommentEntity> findByPerson(Person author);
 
     @Modifying
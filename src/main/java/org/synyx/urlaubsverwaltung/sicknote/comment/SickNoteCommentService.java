@@ -4,6 +4,7 @@ import jakarta.annotation.Nullable;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -42,6 +43,14 @@ public interface SickNoteCommentService {
      */
     List<SickNoteCommentEntity> getCommentsBySickNote(SickNote sickNote);
 
+    /**
+     * Gets all comments for the given sick notes at once.
+     *
+     * @param sickNotes to get the comments for
+     * @return all comments for the given sick notes.
+     */
+    List<SickNoteCommentEntity> getCommentsBySickNotes(Collection<SickNote> sickNotes);
+
     /**
      * Deletes all {@link SickNoteCommentEntity} in the database for given person.
      * This does not delete comments of this person on other persons sicknotes
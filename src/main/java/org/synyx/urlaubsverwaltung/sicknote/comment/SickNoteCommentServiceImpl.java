@@ -7,6 +7,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.List;
 
 import static java.util.Objects.requireNonNullElse;
@@ -48,6 +49,17 @@ class SickNoteCommentServiceImpl implements SickNoteCommentService {
         return sickNoteCommentEntityRepository.findBySickNoteId(sickNote.getId());
     }
 
+    @Override
+    public List<SickNoteCommentEntity> getCommentsBySickNotes(Collection<SickNote> sickNotes) {
+
+        if (sickNotes.isEmpty()) {
+            return List.of();
+        }
+
+        final List<Long> sickNoteIds = sickNotes.stream().map(SickNote::getId).toList();
+        return sickNoteCommentEntityRepository.findBySickNoteIdIn(sickNoteIds);
+    }
+
     @Override
     public void deleteAllBySickNotePerson(Person sickNotePerson) {
         sickNoteCommentEntityRepository.deleteBySickNotePerson(sickNotePerson);
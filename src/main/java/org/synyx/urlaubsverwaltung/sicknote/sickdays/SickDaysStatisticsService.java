@@ -14,6 +14,7 @@ import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.lang.Integer.MAX_VALUE;
 import static java.util.stream.Collectors.groupingBy;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -37,6 +39,8 @@ import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIV
 @Transactional
 public class SickDaysStatisticsService {
 
+    private static final int STREAM_PAGE_SIZE = 100;
+
     private final SickNoteService sickNoteService;
     private final DepartmentService departmentService;
     private final PersonBasedataService personBasedataService;
@@ -94,6 +98,26 @@ public class SickDaysStatisticsService {
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
+    /**
+     * Streams all sick notes detailed statistics that the person is allowed to access, e.g. to export them.
+     * As long as the statistics are sorted by person attributes, the members are fetched and their statistics are
+     * computed page by page while the stream is consumed. Sorting by other attributes needs all statistics at once.
+     *
+     * @param person to ask for the statistics
+     * @param from   a specific date
+     * @param to     a specific date
+     * @param sort   order of the statistics
+     * @return lazily computed stream of all {@link SickDaysDetailedStatistics} that the person can access
+     */
+    Stream<SickDaysDetailedStatistics> streamAll(Person person, LocalDate from, LocalDate to, Sort sort) {
+        if (!isSortByPersonAttribute(sort)) {
+            return getAll(person, from, to, new PageableSearchQuery(PageRequest.of(0, MAX_VALUE, sort), "")).stream();
+        }
+
+        return PageStreamSupport.stream(pageable ->
+            getAll(person, from, to, new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort), "")), STREAM_PAGE_SIZE);
+    }
+
     private Function<Map.Entry<Person, List<SickNote>>, SickDaysDetailedStatistics> toSickNoteDetailedStatistics(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
         return personListEntry ->
         {
@@ -115,7 +139,7 @@ public class SickDaysStatisticsService {
 
     private Page<Person> getMembersForPerson(Person person, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean sortByPerson = isSortByPersonAttribute(pageable.getSort());
 
         if (person.hasRole(OFFICE) || person.hasRole(BOSS) && person.hasRole(SICK_NOTE_VIEW)) {
             final PageableSearchQuery query = sortByPerson
@@ -129,8 +153,8 @@ public class SickDaysStatisticsService {
         return departmentService.getManagedMembersOfPerson(person, query);
     }
 
-    private boolean isSortByPersonAttribute(Pageable pageable) {
-        for (Sort.Order order : pageable.getSort()) {
+    private boolean isSortByPersonAttribute(Sort sort) {
+        for (Sort.Order order : sort) {
             if (!order.getProperty().startsWith("person.")) {
                 return false;
             }
@@ -1,9 +1,9 @@
 package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
@@ -23,14 +23,17 @@ import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.IOException;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Locale;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.OK;
 
 /**
@@ -62,7 +65,6 @@ class SickDaysStatisticsViewController {
     @GetMapping("/download")
     public ResponseEntity<ByteArrayResource> downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
                                                          @RequestParam(value = "to", defaultValue = "") String to,
-                                                         @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
                                                          @RequestParam(value = "query", required = false, defaultValue = "") String query,
                                                          @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
                                                          Locale locale) {
@@ -76,9 +78,7 @@ class SickDaysStatisticsViewController {
 
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
 
         final Page<SickDaysDetailedStatistics> sickDaysStatisticsPage =
             sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
@@ -92,6 +92,35 @@ class SickDaysStatisticsViewController {
         return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
     }
 
+    /**
+     * Writes the csv of everyone directly into the response while the SickDaysDetailedStatistics are computed page by page.
+     * The content length is not known upfront, therefore the response is sent chunked.
+     */
+    @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_VIEW')")
+    @GetMapping(value = "/download", params = "allElements=true")
+    public void downloadCSVOfAll(@RequestParam(value = "from", defaultValue = "") String from,
+                                 @RequestParam(value = "to", defaultValue = "") String to,
+                                 @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+                                 Locale locale, HttpServletResponse response) throws IOException {
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+
+        // NOTE: Not supported at the moment
+        if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
+            response.setStatus(BAD_REQUEST.value());
+            return;
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
+        final String fileName = sickDaysDetailedStatisticsCsvExportService.fileName(period, locale);
+
+        response.setContentType(new MediaType("text", "csv", UTF_8).toString());
+        response.setHeader(CONTENT_DISPOSITION, ContentDisposition.builder("attachment").filename(fileName, UTF_8).build().toString());
+
+        try (Stream<SickDaysDetailedStatistics> statistics = sickDaysStatisticsService.streamAll(signedInUser, period.getStartDate(), period.getEndDate(), pageable.getSort())) {
+            sickDaysDetailedStatisticsCsvExportService.streamCSV(period, locale, statistics, response.getOutputStream());
+        }
+    }
+
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
         final LocalDate firstDayOfYear = Year.now(clock).atDay(1);
         final LocalDate startDate = dateFormatAware.parse(startDateString, locale).orElse(firstDayOfYear);
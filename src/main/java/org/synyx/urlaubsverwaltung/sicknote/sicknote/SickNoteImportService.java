@@ -2,6 +2,9 @@ package org.synyx.urlaubsverwaltung.sicknote.sicknote;
 
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class SickNoteImportService {
 
@@ -15,7 +18,9 @@ public class SickNoteImportService {
         sickNoteRepository.deleteAll();
     }
 
-    public SickNoteEntity importSickNote(SickNoteEntity sickNoteEntity) {
-        return sickNoteRepository.save(sickNoteEntity);
+    public List<SickNoteEntity> importSickNotes(List<SickNoteEntity> sickNoteEntities) {
+        final List<SickNoteEntity> importedSickNotes = new ArrayList<>(sickNoteEntities.size());
+        sickNoteRepository.saveAll(sickNoteEntities).forEach(importedSickNotes::add);
+        return importedSickNotes;
     }
 }
@@ -2,7 +2,6 @@ package org.synyx.urlaubsverwaltung.sicknote.sicknote;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailRecipientService;
@@ -59,7 +58,6 @@ public class SickNoteMailService {
     /**
      * Sends mail to person and office if sick pay (gesetzliche Lohnfortzahlung im Krankheitsfall) is about to end.
      */
-    @Async
     public void sendEndOfSickPayNotification() {
 
         final List<SickNote> sickNotes = sickNoteService.getSickNotesReachingEndOfSickPay();
@@ -105,7 +103,6 @@ public class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
     void sendCreatedToSickPerson(SickNote sickNote) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(sickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_CREATED_BY_MANAGEMENT)
@@ -121,7 +118,6 @@ public class SickNoteMailService {
      *
      * @param sickNote that has been accepted or created
      */
-    @Async
     void sendCreatedOrAcceptedToColleagues(SickNote sickNote) {
 
         // Inform colleagues of applicant which are in same department
@@ -140,7 +136,6 @@ public class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
     void sendEditedToSickPerson(SickNote sickNote) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(sickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_EDITED_BY_MANAGEMENT)
@@ -155,7 +150,6 @@ public class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
     void sendCancelledToSickPerson(SickNote sickNote) {
         final Mail mailToRelevantColleagues = Mail.builder()
             .withRecipient(sickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_CANCELLED_BY_MANAGEMENT)
@@ -171,7 +165,6 @@ public class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
     void sendCancelToColleagues(SickNote sickNote) {
 
         // Inform colleagues of applicant which are in same department
@@ -185,7 +178,6 @@ public class SickNoteMailService {
         mailService.send(mailToRelevantColleagues);
     }
 
-    @Async
     void sendSickNoteSubmittedNotificationToSickPerson(SickNote submittedSickNote) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(submittedSickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_SUBMITTED_BY_USER_TO_USER)
@@ -195,7 +187,6 @@ public class SickNoteMailService {
         mailService.send(mailToApplicant);
     }
 
-    @Async
     void sendSickNoteAcceptedNotificationToSickPerson(SickNote acceptedSickNote, Person maintainer) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(acceptedSickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_ACCEPTED_BY_MANAGEMENT_TO_USER)
@@ -205,7 +196,6 @@ public class SickNoteMailService {
         mailService.send(mailToApplicant);
     }
 
-    @Async
     void sendSickNoteSubmittedNotificationToOfficeAndResponsibleManagement(SickNote submittedSickNote) {
 
         final List<Person> recipients =
@@ -219,7 +209,6 @@ public class SickNoteMailService {
         mailService.send(mailToOfficeAndResponsibleManagement);
     }
 
-    @Async
     void sendSickNoteCreatedNotificationToOfficeAndResponsibleManagement(SickNote createdSickNote, String comment) {
 
         final List<Person> recipientsWithoutApplier =
@@ -236,7 +225,6 @@ public class SickNoteMailService {
     }
 
 
-    @Async
     void sendSickNoteAcceptedNotificationToOfficeAndResponsibleManagement(SickNote acceptedSickNote, Person maintainer) {
         final List<Person> recipients =
             mailRecipientService.getRecipientsOfInterest(acceptedSickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_ACCEPTED_BY_MANAGEMENT_TO_MANAGEMENT)
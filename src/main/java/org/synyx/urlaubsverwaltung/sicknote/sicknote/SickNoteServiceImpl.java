@@ -84,7 +84,7 @@ class SickNoteServiceImpl implements SickNoteService {
             final SickNoteEntity sickNoteEntity = lastSickNote.get();
             final boolean isSickNoteOfYesterday = sickNoteEntity.getEndDate().isEqual(now.minusDays(1));
             final boolean isSickNoteOfLastWorkDay = workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), new DateRange(sickNoteEntity.getEndDate(), now))
-                    .get(person).workingDays().size() == 2;
+                    .get(person).numberOfDays() == 2;
 
             if (isSickNoteOfYesterday || isSickNoteOfLastWorkDay) {
                 final WorkingTimeCalendar workingTimes = getWorkingTimeCalendar(sickNoteEntity);
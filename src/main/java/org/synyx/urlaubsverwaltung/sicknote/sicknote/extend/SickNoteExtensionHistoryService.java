@@ -1,8 +1,18 @@
 package org.synyx.urlaubsverwaltung.sicknote.sicknote.extend;
 
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface SickNoteExtensionHistoryService {
     List<SickNoteExtensionHistory> getSickNoteExtensionHistory(Long sickNoteId);
+
+    /**
+     * Gets the extension histories of the given sick notes at once.
+     *
+     * @param sickNoteIds ids of the sick notes
+     * @return extension histories by sick note id, sick notes without extensions are missing
+     */
+    Map<Long, List<SickNoteExtensionHistory>> getSickNoteExtensionHistories(Collection<Long> sickNoteIds);
 }
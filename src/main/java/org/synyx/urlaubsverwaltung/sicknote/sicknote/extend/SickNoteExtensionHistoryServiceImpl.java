@@ -2,7 +2,13 @@ package org.synyx.urlaubsverwaltung.sicknote.sicknote.extend;
 
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 
 @Service
 class SickNoteExtensionHistoryServiceImpl implements SickNoteExtensionHistoryService {
@@ -15,7 +21,21 @@ class SickNoteExtensionHistoryServiceImpl implements SickNoteExtensionHistorySer
 
     @Override
     public List<SickNoteExtensionHistory> getSickNoteExtensionHistory(Long sickNoteId) {
-        return sickNoteExtensionRepository.findAllBySickNoteId(sickNoteId).stream().map(sickNoteExtension -> new SickNoteExtensionHistory(sickNoteExtension.getCreatedAt(), sickNoteExtension.getNewEndDate(), sickNoteExtension.isAub(), sickNoteExtension.getStatus())).toList();
+        return sickNoteExtensionRepository.findAllBySickNoteId(sickNoteId).stream().map(SickNoteExtensionHistoryServiceImpl::toHistory).toList();
     }
 
+    @Override
+    public Map<Long, List<SickNoteExtensionHistory>> getSickNoteExtensionHistories(Collection<Long> sickNoteIds) {
+
+        if (sickNoteIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return sickNoteExtensionRepository.findAllBySickNoteIdIn(sickNoteIds).stream()
+            .collect(groupingBy(SickNoteExtensionEntity::getSickNoteId, mapping(SickNoteExtensionHistoryServiceImpl::toHistory, toList())));
+    }
+
+    private static SickNoteExtensionHistory toHistory(SickNoteExtensionEntity sickNoteExtension) {
+        return new SickNoteExtensionHistory(sickNoteExtension.getCreatedAt(), sickNoteExtension.getNewEndDate(), sickNoteExtension.isAub(), sickNoteExtension.getStatus());
+    }
 }
@@ -22,4 +22,6 @@ interface SickNoteExtensionRepository extends CrudRepository<SickNoteExtensionEn
     List<SickNoteExtensionProjection> findAllByStatusAndPersonIsIn(@Param("status") SickNoteExtensionStatus status, @Param("personIds") Collection<Long> personIds);
 
     List<SickNoteExtensionEntity> findAllBySickNoteId(Long sickNoteId);
+
+    List<SickNoteExtensionEntity> findAllBySickNoteIdIn(Collection<Long> sickNoteIds);
 }
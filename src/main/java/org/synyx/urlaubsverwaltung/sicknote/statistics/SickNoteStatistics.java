@@ -1,7 +1,9 @@
 package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
@@ -9,6 +11,7 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
@@ -68,20 +71,22 @@ public class SickNoteStatistics {
 
     private BigDecimal calculateTotalNumberOfSickDays(WorkDaysCountService workDaysCountService, List<SickNote> sickNotes) {
 
-        BigDecimal numberOfSickDays = ZERO;
-        for (final SickNote sickNote : sickNotes) {
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
 
-            final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-            final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+        final List<WorkDaysCountQuery> queries = sickNotes.stream()
+            .map(sickNote -> {
+                final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
+                final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
+                return new WorkDaysCountQuery(sickNote.getPerson(), new DateRange(startDate, endDate), sickNote.getDayLength());
+            })
+            .toList();
 
-            final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
-            final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
+        final Map<WorkDaysCountQuery, BigDecimal> workDaysCounts = workDaysCountService.getWorkDaysCounts(queries);
 
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson());
-            numberOfSickDays = numberOfSickDays.add(workDays);
-        }
-
-        return numberOfSickDays;
+        return queries.stream()
+            .map(workDaysCounts::get)
+            .reduce(ZERO, BigDecimal::add);
     }
 
     @Override
@@ -1,10 +1,12 @@
 package org.synyx.urlaubsverwaltung.user.pagination;
 
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.web.pageable.PageableDefaultSizeChangedEvent;
 
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
 @Component
 class PageableDefaultSizeChangedEventConsumer {
 
@@ -15,7 +17,7 @@ class PageableDefaultSizeChangedEventConsumer {
     }
 
     @Async
-    @EventListener
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
     public void onPageableDefaultSizeChanged(PageableDefaultSizeChangedEvent event) {
         userPaginationSettingsService.updatePageableDefaultSize(event.getPersonId(), event.getNewPageableDefaultSize());
     }
@@ -12,7 +12,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -45,12 +47,15 @@ public class VacationApiController {
     private final PersonService personService;
     private final ApplicationService applicationService;
     private final DepartmentService departmentService;
+    private final ApiDataVersions apiDataVersions;
 
     @Autowired
-    VacationApiController(PersonService personService, ApplicationService applicationService, DepartmentService departmentService) {
+    VacationApiController(PersonService personService, ApplicationService applicationService, DepartmentService departmentService,
+                          ApiDataVersions apiDataVersions) {
         this.personService = personService;
         this.applicationService = applicationService;
         this.departmentService = departmentService;
+        this.apiDataVersions = apiDataVersions;
     }
 
     @Operation(
@@ -87,13 +92,18 @@ public class VacationApiController {
         LocalDate endDate,
         @Parameter(description = "List of the vacation status to return. Default are all active status - waiting, temporary_allowed, allowed, allowed_cancellation_requested")
         @RequestParam(value = "status", required = false, defaultValue = "waiting, temporary_allowed, allowed, allowed_cancellation_requested")
-        List<String> applicationStatus) {
+        List<String> applicationStatus,
+        WebRequest webRequest) {
 
         if (startDate.isAfter(endDate)) {
             throw new ResponseStatusException(BAD_REQUEST, "Parameter 'from' must be before or equals to 'to' parameter");
         }
 
         final List<ApplicationStatus> requestedApplicationStatus = toApplicationStatus(applicationStatus);
+        if (apiDataVersions.isPersonNotModified(webRequest, personId)) {
+            return null;
+        }
+
         final List<Person> requestedPerson = List.of(getPerson(personId));
 
         final List<Application> applications = applicationService.getForStatesAndPerson(requestedApplicationStatus, requestedPerson, startDate, endDate);
@@ -12,7 +12,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -41,11 +43,13 @@ public class WorkDaysCountApiController {
 
     private final PersonService personService;
     private final WorkDaysCountService workDaysCountService;
+    private final ApiDataVersions apiDataVersions;
 
     @Autowired
-    WorkDaysCountApiController(PersonService personService, WorkDaysCountService workDaysCountService) {
+    WorkDaysCountApiController(PersonService personService, WorkDaysCountService workDaysCountService, ApiDataVersions apiDataVersions) {
         this.personService = personService;
         this.workDaysCountService = workDaysCountService;
+        this.apiDataVersions = apiDataVersions;
     }
 
     /**
@@ -91,12 +95,17 @@ public class WorkDaysCountApiController {
         LocalDate endDate,
         @Parameter(description = "Day Length")
         @RequestParam(value = "length", required = false)
-        DayLength length) {
+        DayLength length,
+        WebRequest webRequest) {
 
         if (startDate.isAfter(endDate)) {
             throw new ResponseStatusException(BAD_REQUEST, "Parameter 'from' must be before or equals to 'to' parameter");
         }
 
+        if (apiDataVersions.isPersonNotModified(webRequest, personId)) {
+            return null;
+        }
+
         final Optional<Person> person = personService.getPersonByID(personId);
         if (person.isEmpty()) {
             throw new ResponseStatusException(BAD_REQUEST, "No person found for ID=" + personId);
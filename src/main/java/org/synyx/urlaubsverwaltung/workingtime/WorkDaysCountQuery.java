@@ -0,0 +1,15 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+/**
+ * Period of a person to calculate the workdays of with {@link WorkDaysCountService#getWorkDaysCounts(java.util.Collection)}.
+ *
+ * @param person    to calculate workdays of
+ * @param dateRange of the period
+ * @param dayLength personal daily working time of the given person
+ */
+public record WorkDaysCountQuery(Person person, DateRange dateRange, DayLength dayLength) {
+}
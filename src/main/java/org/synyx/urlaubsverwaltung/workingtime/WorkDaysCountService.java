@@ -10,12 +10,22 @@ import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static java.math.RoundingMode.UNNECESSARY;
 import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
 
 @Service
@@ -48,20 +58,67 @@ public class WorkDaysCountService {
 
         final Map<DateRange, WorkingTime> workingTimes = workingTimeService.getWorkingTimesByPersonAndDateRange(person, dateRange);
         if (workingTimes.isEmpty()) {
-            throw new WorkDaysCountException("No working times found for user '" + person.getId()
-                + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
+            throw noWorkingTimesFound(person, dateRange);
         }
 
         final Map<LocalDate, WorkingTime> workingTimesByDate = toLocalDateWorkingTime(workingTimes);
 
+        return countWorkDays(dayLength, dateRange, workingTimesByDate::get, publicHolidaysService::getPublicHoliday);
+    }
+
+    /**
+     * Calculates the workdays of many periods at once, the result of every period is equal to
+     * {@link #getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)}. The working times of all persons are loaded
+     * at once and the public holidays once per federal state.
+     *
+     * @param queries periods of persons to calculate the workdays of
+     * @return number of workdays per query
+     */
+    public Map<WorkDaysCountQuery, BigDecimal> getWorkDaysCounts(Collection<WorkDaysCountQuery> queries) {
+
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Person> persons = queries.stream().map(WorkDaysCountQuery::person).distinct().toList();
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeService.getByPersons(persons).stream()
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .collect(groupingBy(WorkingTime::getPerson));
+
+        final LocalDate from = queries.stream().map(query -> query.dateRange().startDate()).min(naturalOrder()).orElseThrow();
+        final LocalDate to = queries.stream().map(query -> query.dateRange().endDate()).max(naturalOrder()).orElseThrow();
+        final Map<FederalState, Map<LocalDate, PublicHoliday>> publicHolidaysByFederalState = new EnumMap<>(FederalState.class);
+        final BiFunction<LocalDate, FederalState, Optional<PublicHoliday>> publicHolidayAt = (date, federalState) ->
+            Optional.ofNullable(publicHolidaysByFederalState.computeIfAbsent(federalState, state -> publicHolidaysByDate(from, to, state)).get(date));
+
+        final Map<WorkDaysCountQuery, BigDecimal> workDaysCounts = new HashMap<>();
+        for (WorkDaysCountQuery query : queries) {
+            final Person person = query.person();
+            final DateRange dateRange = query.dateRange();
+
+            // working times are sorted descending, the first one that is not after the date is valid at the date
+            final List<WorkingTime> workingTimes = workingTimesByPerson.getOrDefault(person, List.of());
+            final Function<LocalDate, WorkingTime> workingTimeAt = date -> workingTimes.stream()
+                .filter(workingTime -> !workingTime.getValidFrom().isAfter(date))
+                .findFirst()
+                .orElseThrow(() -> noWorkingTimesFound(person, dateRange));
+
+            workDaysCounts.put(query, countWorkDays(query.dayLength(), dateRange, workingTimeAt, publicHolidayAt));
+        }
+
+        return workDaysCounts;
+    }
+
+    private static BigDecimal countWorkDays(DayLength dayLength, DateRange dateRange, Function<LocalDate, WorkingTime> workingTimeAt,
+                                            BiFunction<LocalDate, FederalState, Optional<PublicHoliday>> publicHolidayAt) {
+
         BigDecimal vacationDays = BigDecimal.ZERO;
-        LocalDate day = startDate;
-        while (!day.isAfter(endDate)) {
+        for (LocalDate day : dateRange) {
 
-            final WorkingTime workingTime = workingTimesByDate.get(day);
+            final WorkingTime workingTime = workingTimeAt.apply(day);
 
             // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
-            final Optional<PublicHoliday> maybePublicHoliday = publicHolidaysService.getPublicHoliday(day, workingTime.getFederalState());
+            final Optional<PublicHoliday> maybePublicHoliday = publicHolidayAt.apply(day, workingTime.getFederalState());
             final BigDecimal duration = maybePublicHoliday.isPresent() ? maybePublicHoliday.get().getWorkingDuration() : BigDecimal.ONE;
 
             final BigDecimal workingDuration = workingTime.getDayLengthForWeekDay(day.getDayOfWeek()).getDuration();
@@ -69,8 +126,6 @@ public class WorkDaysCountService {
             final BigDecimal result = duration.multiply(workingDuration);
 
             vacationDays = vacationDays.add(result);
-
-            day = day.plusDays(1);
         }
 
         // vacation days < 1 day --> must not be divided, else an ArithmeticException is thrown
@@ -81,6 +136,16 @@ public class WorkDaysCountService {
         return vacationDays.multiply(dayLength.getDuration()).setScale(1, UNNECESSARY);
     }
 
+    private Map<LocalDate, PublicHoliday> publicHolidaysByDate(LocalDate from, LocalDate to, FederalState federalState) {
+        return publicHolidaysService.getPublicHolidays(from, to, federalState).stream()
+            .collect(toMap(PublicHoliday::date, identity(), (first, second) -> first));
+    }
+
+    private static WorkDaysCountException noWorkingTimesFound(Person person, DateRange dateRange) {
+        return new WorkDaysCountException("No working times found for user '" + person.getId()
+            + "' in period " + dateRange.startDate().format(ofPattern(DD_MM_YYYY)) + " - " + dateRange.endDate().format(ofPattern(DD_MM_YYYY)));
+    }
+
     private Map<LocalDate, WorkingTime> toLocalDateWorkingTime(Map<DateRange, WorkingTime> workingTimes) {
         final Map<LocalDate, WorkingTime> localDateWorkingTimeMap = new HashMap<>();
         workingTimes.forEach((key, value) -> key.iterator().forEachRemaining(localDate -> localDateWorkingTimeMap.put(localDate, value)));
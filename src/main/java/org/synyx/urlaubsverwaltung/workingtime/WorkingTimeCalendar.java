@@ -3,12 +3,19 @@ package org.synyx.urlaubsverwaltung.workingtime;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
 
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
 
@@ -24,8 +31,61 @@ import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.Workin
  * </ul>
  * <p>
  * Should be used in combination with a {@link Map} to keep relation to a {@link org.synyx.urlaubsverwaltung.person.Person} for example.
+ * <p>
+ * The calendar is dense: the information of every day is packed into one byte of an array indexed by the epoch day
+ * offset to the first day of the calendar. Looking up a day does not allocate, the returned values are shared constants.
+ * The map of {@link #workingDays()} is only built on first use.
  */
-public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingDays) {
+public final class WorkingTimeCalendar {
+
+    private static final int NULL_ENTRY_TYPE = 0b11;
+    private static final int PRESENT = 1 << 6;
+    private static final int NULL_DAY_LENGTH = 1 << 7;
+    private static final DayLength[] DAY_LENGTHS = DayLength.values();
+    private static final WorkingTimeCalendarEntryType[] ENTRY_TYPES = WorkingTimeCalendarEntryType.values();
+
+    private static final List<Optional<DayLength>> DAY_LENGTH_BY_ORDINAL = Arrays.stream(DAY_LENGTHS).map(Optional::of).toList();
+    private static final List<Optional<BigDecimal>> DURATION_BY_ORDINAL = Arrays.stream(DAY_LENGTHS).map(DayLength::getDuration).map(Optional::of).toList();
+    private static final List<Optional<WorkingDayInformation>> WORKING_DAY_INFORMATION_BY_PACKED = IntStream.range(0, 1 << 8).mapToObj(WorkingTimeCalendar::unpack).toList();
+
+    private final long firstEpochDay;
+    private final byte[] days;
+    private volatile Map<LocalDate, WorkingDayInformation> workingDays;
+
+    /**
+     * Creates a calendar containing the given days. Days not contained in the map have no entry in the calendar.
+     *
+     * @param workingDays information of the working days by date
+     */
+    public WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingDays) {
+        final WorkingTimeCalendar workingTimeCalendar = of(workingDays);
+        this.firstEpochDay = workingTimeCalendar.firstEpochDay;
+        this.days = workingTimeCalendar.days;
+    }
+
+    private WorkingTimeCalendar(long firstEpochDay, byte[] days) {
+        this.firstEpochDay = firstEpochDay;
+        this.days = days;
+    }
+
+    /**
+     * @param from first day of the calendar
+     * @param to   last day of the calendar
+     * @return builder for a calendar covering at most the given days
+     */
+    static Builder builder(LocalDate from, LocalDate to) {
+        return new Builder(from, to);
+    }
+
+    private static WorkingTimeCalendar of(Map<LocalDate, WorkingDayInformation> workingDays) {
+        if (workingDays.isEmpty()) {
+            return new WorkingTimeCalendar(0, new byte[0]);
+        }
+
+        final Builder builder = builder(Collections.min(workingDays.keySet()), Collections.max(workingDays.keySet()));
+        workingDays.forEach(builder::set);
+        return builder.build();
+    }
 
     /**
      * Calculates the next date of a working day.
@@ -79,8 +139,8 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
             BigDecimal workingTimeSum = BigDecimal.ZERO;
             for (LocalDate localDate : overlap.get()) {
                 final BigDecimal workingTime = workingTime(localDate).orElse(BigDecimal.ZERO);
-                final WorkingDayInformation workingDayInformation = this.workingDays().get(application.getStartDate());
-                if (application.getDayLength().isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday()) {
+                final Optional<WorkingDayInformation> workingDayInformation = workingDayInformation(application.getStartDate());
+                if (application.getDayLength().isHalfDay() && workingDayInformation.isPresent() && !workingDayInformation.get().hasHalfDayPublicHoliday()) {
                     workingTimeSum = workingTimeSum.add(workingTime.divide(BigDecimal.valueOf(2), 1, RoundingMode.CEILING));
                 } else {
                     workingTimeSum = workingTimeSum.add(workingTime);
@@ -102,7 +162,8 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
      * @return the dayLength workingTime for the given date (e.g. 0.5 days), or empty {@linkplain Optional} when there is no entry found.
      */
     public Optional<BigDecimal> workingTime(LocalDate localDate) {
-        return workingTimeDayLength(localDate).map(DayLength::getDuration);
+        final int packed = packed(localDate);
+        return hasDayLength(packed) ? DURATION_BY_ORDINAL.get(dayLengthOrdinal(packed)) : Optional.empty();
     }
 
     /**
@@ -112,10 +173,61 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
      * @return the {@linkplain DayLength} workingTime for the given date (e.g. DayLength.MORNING), or empty {@linkplain Optional} when there is no entry found.
      */
     public Optional<DayLength> workingTimeDayLength(LocalDate localDate) {
-        if (workingDays.containsKey(localDate)) {
-            return Optional.of(workingDays.get(localDate).dayLength());
+        final int packed = packed(localDate);
+        return hasDayLength(packed) ? DAY_LENGTH_BY_ORDINAL.get(dayLengthOrdinal(packed)) : Optional.empty();
+    }
+
+    /**
+     * Return the {@linkplain WorkingDayInformation} for the given date.
+     *
+     * @param localDate
+     * @return the {@linkplain WorkingDayInformation} for the given date, or empty {@linkplain Optional} when there is no entry found.
+     */
+    public Optional<WorkingDayInformation> workingDayInformation(LocalDate localDate) {
+        return WORKING_DAY_INFORMATION_BY_PACKED.get(packed(localDate));
+    }
+
+    /**
+     * Prefer {@linkplain #workingDayInformation(LocalDate)} or {@linkplain #forEachWorkingDay(BiConsumer)}, this map
+     * is built from the dense representation on first use.
+     *
+     * @return unmodifiable map of the {@linkplain WorkingDayInformation} by date of every day of this calendar
+     */
+    public Map<LocalDate, WorkingDayInformation> workingDays() {
+        Map<LocalDate, WorkingDayInformation> map = workingDays;
+        if (map == null) {
+            final Map<LocalDate, WorkingDayInformation> workingDaysByDate = new LinkedHashMap<>();
+            forEachWorkingDay(workingDaysByDate::put);
+            map = Collections.unmodifiableMap(workingDaysByDate);
+            workingDays = map;
         }
-        return Optional.empty();
+        return map;
+    }
+
+    /**
+     * Performs the given action for every day of this calendar in ascending order.
+     *
+     * @param action to perform with the date and its {@linkplain WorkingDayInformation}
+     */
+    public void forEachWorkingDay(BiConsumer<LocalDate, WorkingDayInformation> action) {
+        for (int index = 0; index < days.length; index++) {
+            if (days[index] != 0) {
+                action.accept(LocalDate.ofEpochDay(firstEpochDay + index), WORKING_DAY_INFORMATION_BY_PACKED.get(days[index] & 0xFF).orElseThrow());
+            }
+        }
+    }
+
+    /**
+     * @return number of days this calendar has {@linkplain WorkingDayInformation} for
+     */
+    public int numberOfDays() {
+        int numberOfDays = 0;
+        for (byte day : days) {
+            if (day != 0) {
+                numberOfDays++;
+            }
+        }
+        return numberOfDays;
     }
 
     /**
@@ -129,19 +241,116 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
             return BigDecimal.ZERO;
         }
 
-        BigDecimal sum = BigDecimal.ZERO;
+        final int fromIndex = (int) Math.clamp(from.toEpochDay() - firstEpochDay, 0, days.length);
+        final int toIndex = (int) Math.clamp(to.toEpochDay() - firstEpochDay, -1, days.length - 1L);
 
-        for (Map.Entry<LocalDate, WorkingDayInformation> entry : workingDays.entrySet()) {
-            final LocalDate localDate = entry.getKey();
-            if (!localDate.isBefore(from) && !localDate.isAfter(to)) {
-                final DayLength dayLength = entry.getValue().dayLength();
-                sum = sum.add(dayLength.getDuration());
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int index = fromIndex; index <= toIndex; index++) {
+            if (hasDayLength(days[index])) {
+                sum = sum.add(DAY_LENGTHS[dayLengthOrdinal(days[index])].getDuration());
             }
         }
 
         return sum;
     }
 
+    private int packed(LocalDate localDate) {
+        final long index = localDate.toEpochDay() - firstEpochDay;
+        return index < 0 || index >= days.length ? 0 : days[(int) index] & 0xFF;
+    }
+
+    private static boolean hasDayLength(int packed) {
+        return (packed & PRESENT) != 0 && (packed & NULL_DAY_LENGTH) == 0;
+    }
+
+    private static int dayLengthOrdinal(int packed) {
+        return packed & 0b11;
+    }
+
+    private static byte pack(WorkingDayInformation workingDayInformation) {
+        final DayLength dayLength = workingDayInformation.dayLength();
+        return (byte) (PRESENT
+            | (dayLength == null ? NULL_DAY_LENGTH : dayLength.ordinal())
+            | packEntryType(workingDayInformation.morning()) << 2
+            | packEntryType(workingDayInformation.noon()) << 4);
+    }
+
+    private static int packEntryType(WorkingTimeCalendarEntryType entryType) {
+        return entryType == null ? NULL_ENTRY_TYPE : entryType.ordinal();
+    }
+
+    private static Optional<WorkingDayInformation> unpack(int packed) {
+        if ((packed & PRESENT) == 0 || (packed & NULL_DAY_LENGTH) != 0 && dayLengthOrdinal(packed) != 0) {
+            return Optional.empty();
+        }
+        final DayLength dayLength = (packed & NULL_DAY_LENGTH) == 0 ? DAY_LENGTHS[dayLengthOrdinal(packed)] : null;
+        return Optional.of(new WorkingDayInformation(dayLength, unpackEntryType(packed >> 2 & 0b11), unpackEntryType(packed >> 4 & 0b11)));
+    }
+
+    private static WorkingTimeCalendarEntryType unpackEntryType(int entryType) {
+        return entryType == NULL_ENTRY_TYPE ? null : ENTRY_TYPES[entryType];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final WorkingTimeCalendar that = (WorkingTimeCalendar) o;
+        return (days.length == 0 || firstEpochDay == that.firstEpochDay) && Arrays.equals(days, that.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return days.length == 0 ? 0 : 31 * Long.hashCode(firstEpochDay) + Arrays.hashCode(days);
+    }
+
+    @Override
+    public String toString() {
+        return days.length == 0
+            ? "WorkingTimeCalendar{}"
+            : "WorkingTimeCalendar{from=" + LocalDate.ofEpochDay(firstEpochDay) + ", to=" + LocalDate.ofEpochDay(firstEpochDay + days.length - 1) + '}';
+    }
+
+    /**
+     * Builds a {@link WorkingTimeCalendar}. The calendar is trimmed to the first and last day with an entry, therefore
+     * calendars with equal entries are equal regardless of the range of the builder.
+     */
+    static final class Builder {
+
+        private final long firstEpochDay;
+        private final byte[] days;
+
+        private Builder(LocalDate from, LocalDate to) {
+            this.firstEpochDay = from.toEpochDay();
+            this.days = new byte[(int) Math.max(0, to.toEpochDay() - firstEpochDay + 1)];
+        }
+
+        Builder set(LocalDate date, WorkingDayInformation workingDayInformation) {
+            final long index = date.toEpochDay() - firstEpochDay;
+            if (index < 0 || index >= days.length) {
+                throw new IllegalArgumentException("date " + date + " is out of the range of the calendar");
+            }
+            days[(int) index] = pack(workingDayInformation);
+            return this;
+        }
+
+        WorkingTimeCalendar build() {
+            int first = 0;
+            while (first < days.length && days[first] == 0) {
+                first++;
+            }
+            int last = days.length - 1;
+            while (last >= first && days[last] == 0) {
+                last--;
+            }
+            return new WorkingTimeCalendar(firstEpochDay + first, Arrays.copyOfRange(days, first, last + 1));
+        }
+    }
+
     public record WorkingDayInformation(
         DayLength dayLength,
         WorkingDayInformation.WorkingTimeCalendarEntryType morning,
@@ -16,7 +16,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -130,7 +129,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 .filter(workingTime -> !workingTime.getValidFrom().isAfter(end))
                 .toList();
 
-            final Map<LocalDate, WorkingDayInformation> dayLengthByDate = new HashMap<>();
+            final WorkingTimeCalendar.Builder workingTimeCalendar = WorkingTimeCalendar.builder(start, end);
 
             LocalDate nextEnd = end;
 
@@ -144,7 +143,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 }
 
                 for (LocalDate date : workingTimeDateRange) {
-                    dayLengthByDate.put(date, getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings));
+                    workingTimeCalendar.set(date, getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings));
                 }
 
                 if (workingTimeDateRange.startDate().equals(start)) {
@@ -154,7 +153,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 nextEnd = workingTime.getValidFrom().minusDays(1);
             }
 
-            return Map.entry(person, new WorkingTimeCalendar(dayLengthByDate));
+            return Map.entry(person, workingTimeCalendar.build());
         }).collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
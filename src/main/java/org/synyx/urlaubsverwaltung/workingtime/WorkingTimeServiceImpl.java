@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.workingtime;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.CachedSupplier;
@@ -36,13 +37,16 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
     private final WorkingTimeRepository workingTimeRepository;
     private final SettingsService settingsService;
     private final Clock clock;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
     public WorkingTimeServiceImpl(WorkingTimeRepository workingTimeRepository,
-                                  SettingsService settingsService, Clock clock) {
+                                  SettingsService settingsService, Clock clock,
+                                  ApplicationEventPublisher applicationEventPublisher) {
         this.workingTimeRepository = workingTimeRepository;
         this.settingsService = settingsService;
         this.clock = clock;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -74,6 +78,8 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
 
         workingTimeRepository.save(workingTimeEntity);
         LOG.info("Created working time {} for person {}", workingTimeEntity, person);
+
+        applicationEventPublisher.publishEvent(WorkingTimeUpdatedEvent.of(person));
     }
 
     @Override
@@ -4,6 +4,8 @@ import jakarta.persistence.Embeddable;
 import jakarta.persistence.Enumerated;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,7 +20,10 @@ import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN
  * Settings concerning working time of persons, like settings for public holidays.
  */
 @Embeddable
-public class WorkingTimeSettings {
+public class WorkingTimeSettings implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @Enumerated(STRING)
     private DayLength monday = FULL;
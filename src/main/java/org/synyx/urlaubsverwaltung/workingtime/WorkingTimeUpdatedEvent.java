@@ -0,0 +1,13 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record WorkingTimeUpdatedEvent(UUID id, Instant createdAt, Person person) {
+
+    public static WorkingTimeUpdatedEvent of(Person person) {
+        return new WorkingTimeUpdatedEvent(UUID.randomUUID(), Instant.now(), person);
+    }
+}
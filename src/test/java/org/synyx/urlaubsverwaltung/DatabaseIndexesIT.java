@@ -0,0 +1,173 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.CONVERTED_TO_VACATION;
+
+/**
+ * Explains the sql that hibernate generates for the repositories, so the plans match the queries of the application.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.synyx.urlaubsverwaltung.DatabaseIndexesIT$RecordingStatementInspector")
+@Transactional
+class DatabaseIndexesIT extends SingleTenantTestContainersBase {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private SickNoteService sickNoteService;
+    @Autowired
+    private OvertimeService overtimeService;
+    @Autowired
+    private WorkingTimeCalendarService workingTimeCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        // tables are nearly empty in tests, therefore the planner would always prefer a sequential scan.
+        // disabling it for the current transaction shows whether an index is usable for the query at all.
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        // the statements are prepared with parameters, the generic plan must not depend on their values
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    @Test
+    void ensureApplicationsOfPersonsInDateRangeUseIndex() {
+        final Person person = person("batman");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        applicationService.getForStatesAndPerson(List.of(WAITING, ALLOWED), List.of(person), START, END);
+
+        assertThat(explainLastSelectFrom("application")).contains("application_person_id_end_date_start_date_idx");
+    }
+
+    @Test
+    void ensureApplicationsInDateRangeUseIndex() {
+        RecordingStatementInspector.STATEMENTS.clear();
+        applicationService.getForStates(List.of(WAITING, ALLOWED), START, END);
+
+        assertThat(explainLastSelectFrom("application")).contains("application_status_end_date_start_date_idx");
+    }
+
+    @Test
+    void ensureSickNotesOfPersonsInDateRangeUseIndex() {
+        final Person person = person("batman");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        sickNoteService.getForStatesAndPerson(List.of(ACTIVE, CONVERTED_TO_VACATION), List.of(person), START, END);
+
+        assertThat(explainLastSelectFrom("sick_note")).contains("sick_note_person_id_end_date_start_date_idx");
+    }
+
+    @Test
+    void ensureSickNotesInDateRangeUseIndex() {
+        RecordingStatementInspector.STATEMENTS.clear();
+        sickNoteService.getAllActiveByPeriod(START, END);
+
+        assertThat(explainLastSelectFrom("sick_note")).contains("sick_note_status_end_date_start_date_idx");
+    }
+
+    @Test
+    void ensureOvertimeOfPersonsInDateRangeUseIndex() {
+        final Person person = person("batman");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(List.of(person), List.of(), START, END);
+
+        assertThat(explainLastSelectFrom("overtime")).contains("overtime_person_id_end_date_start_date_idx");
+    }
+
+    @Test
+    void ensureWorkingTimesOfPersonsUseIndex() {
+        final Person person = person("batman");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), new DateRange(START, END));
+
+        assertThat(explainLastSelectFrom("working_time")).contains("working_time_person_id_valid_from_idx");
+    }
+
+    @Test
+    void ensurePersonNameSearchUsesTrigramIndexes() {
+        RecordingStatementInspector.STATEMENTS.clear();
+        personService.getActivePersons(new PageableSearchQuery(PageRequest.of(0, 10), "rlen"));
+
+        assertThat(explainLastSelectFrom("person"))
+            .contains("person_lower_first_name_trgm_idx")
+            .contains("person_lower_last_name_trgm_idx");
+    }
+
+    private Person person(String username) {
+        return personService.create(username, "Bruce", "Wayne", username + "@example.org");
+    }
+
+    /**
+     * Explains the generic plan of the last select statement on the given table, that has been sent by hibernate.
+     */
+    private String explainLastSelectFrom(String table) {
+
+        final String sql = RecordingStatementInspector.STATEMENTS.reversed().stream()
+            .filter(statement -> statement.startsWith("select") && statement.contains(" from " + table + " "))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("no select statement on " + table + " recorded"));
+
+        final StringBuilder preparedSql = new StringBuilder();
+        int parameterCount = 0;
+        for (char character : sql.toCharArray()) {
+            if (character == '?') {
+                preparedSql.append('$').append(++parameterCount);
+            } else {
+                preparedSql.append(character);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE repository_query AS " + preparedSql);
+        try {
+            final String parameters = parameterCount == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameterCount, "NULL")) + ")";
+            final List<String> planLines = jdbcTemplate.queryForList("EXPLAIN EXECUTE repository_query" + parameters, String.class);
+            return String.join("\n", planLines);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE repository_query");
+        }
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
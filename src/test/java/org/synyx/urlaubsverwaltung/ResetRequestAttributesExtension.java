@@ -0,0 +1,24 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resets the request attributes bound to the thread around every test, so request scoped state like the memoised
+ * signed in person never leaks from one test into the next. Registered for all tests by the
+ * {@code junit-platform.properties}.
+ */
+public class ResetRequestAttributesExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
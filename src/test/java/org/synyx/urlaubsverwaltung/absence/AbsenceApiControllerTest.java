@@ -8,10 +8,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
+import org.synyx.urlaubsverwaltung.api.ApiProperties;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceExceptionHandler;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -19,11 +23,14 @@ import java.util.Optional;
 import static java.time.Month.DECEMBER;
 import static java.time.Month.FEBRUARY;
 import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.json.JsonCompareMode.STRICT;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ACTIVE;
 import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.WAITING;
@@ -38,9 +45,12 @@ class AbsenceApiControllerTest {
     @Mock
     private AbsenceService absenceService;
 
+    private final ApiDataVersions apiDataVersions = new ApiDataVersions(new TenantContextHolder() {
+    }, new ApiProperties(), Clock.systemUTC());
+
     @BeforeEach
     void setUp() {
-        sut = new AbsenceApiController(personService, absenceService);
+        sut = new AbsenceApiController(personService, absenceService, apiDataVersions);
     }
 
     @Test
@@ -856,6 +866,41 @@ class AbsenceApiControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void ensureNotModifiedAbsencesAreNotLoadedAgain() throws Exception {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(personService.getPersonByID(23L)).thenReturn(Optional.of(person));
+
+        final LocalDate startDate = LocalDate.of(2016, JANUARY, 1);
+        final LocalDate endDate = LocalDate.of(2016, JANUARY, 7);
+        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of());
+
+        final String eTag = perform(
+            get("/api/persons/23/absences")
+                .param("from", "2016-01-01")
+                .param("to", "2016-01-07")
+        )
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        assertThat(eTag).startsWith("W/");
+
+        perform(
+            get("/api/persons/23/absences")
+                .param("from", "2016-01-01")
+                .param("to", "2016-01-07")
+                .header("If-None-Match", eTag)
+        )
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag))
+            .andExpect(content().string(""));
+
+        verify(personService).getPersonByID(23L);
+        verify(absenceService).getOpenAbsences(person, startDate, endDate);
+    }
+
     private static AbsencePeriod.Record anyVacationRecord(Person person, LocalDate date) {
         final AbsencePeriod.RecordMorning morning = new AbsencePeriod.RecordMorningVacation(person, 42L, WAITING, "HOLIDAY", 1L, false);
         return new AbsencePeriod.Record(date, person, morning);
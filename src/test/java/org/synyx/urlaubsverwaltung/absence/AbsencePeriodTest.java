@@ -4,9 +4,12 @@ import org.junit.jupiter.api.Test;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ACTIVE;
 import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ALLOWED_CANCELLATION_REQUESTED;
@@ -261,6 +264,62 @@ class AbsencePeriodTest {
         assertThat(noon.isVisibleToEveryone()).isFalse();
     }
 
+    @Test
+    void ensureRangeRecordsAreCreatedForEveryDay() {
+        final Person person = anyPerson();
+        final AbsencePeriod.RecordMorningSick morning = new AbsencePeriod.RecordMorningSick(person, 1L, ACTIVE, "SICK_NOTE", 1L);
+        final AbsencePeriod.RecordNoonSick noon = new AbsencePeriod.RecordNoonSick(person, 1L, ACTIVE, "SICK_NOTE", 1L);
+
+        final AbsencePeriod sut = AbsencePeriod.ofRanges(List.of(
+            new AbsencePeriod.Range(LocalDate.of(2013, NOVEMBER, 18), LocalDate.of(2013, NOVEMBER, 20), person, morning, noon),
+            new AbsencePeriod.Range(LocalDate.of(2013, NOVEMBER, 21), LocalDate.of(2013, NOVEMBER, 21), person, morning, null)
+        ));
+
+        assertThat(sut.getAbsenceRecords())
+            .extracting(AbsencePeriod.Record::getDate, AbsencePeriod.Record::isHalfDayAbsence)
+            .containsExactly(
+                tuple(LocalDate.of(2013, NOVEMBER, 18), false),
+                tuple(LocalDate.of(2013, NOVEMBER, 19), false),
+                tuple(LocalDate.of(2013, NOVEMBER, 20), false),
+                tuple(LocalDate.of(2013, NOVEMBER, 21), true)
+            );
+        assertThat(sut.getAbsenceRecords().get(3).getMorning()).hasValue(morning);
+        assertThatThrownBy(() -> sut.getAbsenceRecords().get(4)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ensureRecordsWithSameAbsenceInfosAreCombinedToRanges() {
+        final Person person = anyPerson();
+        final AbsencePeriod.RecordMorningSick morning = new AbsencePeriod.RecordMorningSick(person, 1L, ACTIVE, "SICK_NOTE", 1L);
+        final AbsencePeriod.RecordNoonSick noon = new AbsencePeriod.RecordNoonSick(person, 1L, ACTIVE, "SICK_NOTE", 1L);
+
+        final List<AbsencePeriod.Record> absenceRecords = List.of(
+            new AbsencePeriod.Record(LocalDate.of(2013, NOVEMBER, 18), person, morning, noon),
+            new AbsencePeriod.Record(LocalDate.of(2013, NOVEMBER, 19), person, morning, noon),
+            new AbsencePeriod.Record(LocalDate.of(2013, NOVEMBER, 20), person, morning),
+            new AbsencePeriod.Record(LocalDate.of(2013, NOVEMBER, 22), person, morning)
+        );
+        final AbsencePeriod sut = new AbsencePeriod(absenceRecords);
+
+        assertThat(sut.getRanges())
+            .extracting(AbsencePeriod.Range::getStartDate, AbsencePeriod.Range::getEndDate, AbsencePeriod.Range::isHalfDayAbsence)
+            .containsExactly(
+                tuple(LocalDate.of(2013, NOVEMBER, 18), LocalDate.of(2013, NOVEMBER, 19), false),
+                tuple(LocalDate.of(2013, NOVEMBER, 20), LocalDate.of(2013, NOVEMBER, 20), true),
+                tuple(LocalDate.of(2013, NOVEMBER, 22), LocalDate.of(2013, NOVEMBER, 22), true)
+            );
+        assertThat(sut.getAbsenceRecords()).isEqualTo(absenceRecords);
+    }
+
+    @Test
+    void ensureRangeMustNotEndBeforeItStarts() {
+        final LocalDate startDate = LocalDate.of(2013, NOVEMBER, 19);
+        final LocalDate endDate = LocalDate.of(2013, NOVEMBER, 18);
+        final Person person = anyPerson();
+        assertThatThrownBy(() -> new AbsencePeriod.Range(startDate, endDate, person, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private Person anyPerson() {
         return new Person("muster", "Muster", "Marlene", "muster@example.org");
     }
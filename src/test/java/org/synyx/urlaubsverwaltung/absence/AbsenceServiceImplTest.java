@@ -33,10 +33,13 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
 import static java.time.Month.DECEMBER;
 import static java.time.Month.JUNE;
 import static java.time.Month.MAY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +57,7 @@ import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.CONVERTED_TO_VACATION;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.SUBMITTED;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
 
@@ -810,6 +814,69 @@ class AbsenceServiceImplTest {
         });
     }
 
+    @Test
+    void ensureConsecutiveDaysWithSameAbsenceAreCombinedToRanges() {
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final Map<LocalDate, WorkingDayInformation> personWorkingTimeByDate = buildWorkingTimeByDate(start, end, date -> {
+            if (date.getDayOfWeek() == SATURDAY || date.getDayOfWeek() == SUNDAY) {
+                return new WorkingDayInformation(ZERO, NO_WORKDAY, NO_WORKDAY);
+            } else {
+                return fullWorkDay();
+            }
+        });
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(personWorkingTimeByDate);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(batman), new DateRange(start, end))).thenReturn(Map.of(batman, workingTimeCalendar));
+
+        final Application application = new Application();
+        application.setId(42L);
+        application.setPerson(batman);
+        application.setStartDate(LocalDate.of(2021, MAY, 3));
+        application.setEndDate(LocalDate.of(2021, MAY, 14));
+        application.setDayLength(FULL);
+        application.setStatus(ALLOWED);
+        application.setVacationType(anyVacationType());
+
+        when(applicationService.getForStatesAndPerson(any(), any(), any(), any())).thenReturn(List.of(application));
+
+        final List<AbsencePeriod> actualAbsences = sut.getOpenAbsences(List.of(batman), start, end);
+
+        // vacation and five weekends
+        assertThat(actualAbsences).hasSize(6);
+
+        assertThat(actualAbsences.get(0).getRanges())
+            .extracting(AbsencePeriod.Range::getStartDate, AbsencePeriod.Range::getEndDate)
+            .containsExactly(
+                tuple(LocalDate.of(2021, MAY, 3), LocalDate.of(2021, MAY, 7)),
+                tuple(LocalDate.of(2021, MAY, 10), LocalDate.of(2021, MAY, 14))
+            );
+        assertThat(actualAbsences.get(0).getAbsenceRecords())
+            .hasSize(10)
+            .allSatisfy(absenceRecord -> {
+                assertThat(absenceRecord.getPerson()).isSameAs(batman);
+                assertThat(absenceRecord.getMorning().flatMap(AbsencePeriod.RecordInfo::getId)).hasValue(42L);
+                assertThat(absenceRecord.getNoon().flatMap(AbsencePeriod.RecordInfo::getId)).hasValue(42L);
+            });
+
+        assertThat(actualAbsences.subList(1, 6))
+            .flatExtracting(AbsencePeriod::getRanges)
+            .extracting(AbsencePeriod.Range::getStartDate, AbsencePeriod.Range::getEndDate, AbsencePeriod.Range::isHalfDayAbsence)
+            .containsExactly(
+                tuple(LocalDate.of(2021, MAY, 1), LocalDate.of(2021, MAY, 2), false),
+                tuple(LocalDate.of(2021, MAY, 8), LocalDate.of(2021, MAY, 9), false),
+                tuple(LocalDate.of(2021, MAY, 15), LocalDate.of(2021, MAY, 16), false),
+                tuple(LocalDate.of(2021, MAY, 22), LocalDate.of(2021, MAY, 23), false),
+                tuple(LocalDate.of(2021, MAY, 29), LocalDate.of(2021, MAY, 30), false)
+            );
+        assertThat(actualAbsences.get(1).getAbsenceRecords())
+            .extracting(AbsencePeriod.Record::getDate)
+            .containsExactly(LocalDate.of(2021, MAY, 1), LocalDate.of(2021, MAY, 2));
+    }
+
     @Test
     void ensureMultipleVacationDaysWithPublicHolidayNoon() {
         final LocalDate start = LocalDate.of(2021, DECEMBER, 1);
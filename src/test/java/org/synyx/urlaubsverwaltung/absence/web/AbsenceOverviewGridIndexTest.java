@@ -0,0 +1,123 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+
+class AbsenceOverviewGridIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2024, JANUARY, 1);
+    private static final LocalDate END = LocalDate.of(2024, JANUARY, 31);
+
+    @Test
+    void ensureAbsenceRecordsAreBucketedByPersonAndDate() {
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+
+        final AbsencePeriod.Record batmanRecord = vacationMorning(LocalDate.of(2024, JANUARY, 3), batman);
+        final AbsencePeriod.Record robinRecord = vacationMorning(LocalDate.of(2024, JANUARY, 3), robin);
+        final AbsencePeriod.Record robinRecordNextDay = vacationMorning(LocalDate.of(2024, JANUARY, 4), robin);
+        final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(batmanRecord, robinRecord, robinRecordNextDay));
+
+        final AbsenceOverviewGridIndex sut = AbsenceOverviewGridIndex.of(new DateRange(START, END), List.of(batman, robin), List.of(), List.of(absencePeriod));
+
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, JANUARY, 3))).containsExactly(batmanRecord);
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, JANUARY, 4))).isEmpty();
+        assertThat(sut.absenceRecords(robin, LocalDate.of(2024, JANUARY, 3))).containsExactly(robinRecord);
+        assertThat(sut.absenceRecords(robin, LocalDate.of(2024, JANUARY, 4))).containsExactly(robinRecordNextDay);
+    }
+
+    @Test
+    void ensureAbsenceRecordsIgnoresRecordsOutOfDateRangeAndUnknownPersons() {
+        final Person batman = person(1L);
+        final Person joker = person(42L);
+
+        final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(
+            vacationMorning(LocalDate.of(2023, 12, 31), batman),
+            vacationMorning(LocalDate.of(2024, 2, 1), batman),
+            vacationMorning(LocalDate.of(2024, JANUARY, 10), joker)
+        ));
+
+        final AbsenceOverviewGridIndex sut = AbsenceOverviewGridIndex.of(new DateRange(START, END), List.of(batman), List.of(), List.of(absencePeriod));
+
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2023, 12, 31))).isEmpty();
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, 2, 1))).isEmpty();
+        assertThat(sut.absenceRecords(joker, LocalDate.of(2024, JANUARY, 10))).isEmpty();
+    }
+
+    @Test
+    void ensureAbsenceRangesAreClippedToDateRange() {
+        final Person batman = person(1L);
+        final AbsencePeriod.RecordMorningVacation morning = new AbsencePeriod.RecordMorningVacation(batman, 1L, ALLOWED, "HOLIDAY", 42L, false);
+
+        final AbsencePeriod absencePeriod = AbsencePeriod.ofRanges(List.of(
+            new AbsencePeriod.Range(LocalDate.of(2023, 12, 30), LocalDate.of(2024, JANUARY, 2), batman, morning, null),
+            new AbsencePeriod.Range(LocalDate.of(2024, JANUARY, 31), LocalDate.of(2024, 2, 2), batman, morning, null)
+        ));
+
+        final AbsenceOverviewGridIndex sut = AbsenceOverviewGridIndex.of(new DateRange(START, END), List.of(batman), List.of(), List.of(absencePeriod));
+
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2023, 12, 31))).isEmpty();
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, JANUARY, 1))).containsExactly(new AbsencePeriod.Record(LocalDate.of(2024, JANUARY, 1), batman, morning));
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, JANUARY, 2))).containsExactly(new AbsencePeriod.Record(LocalDate.of(2024, JANUARY, 2), batman, morning));
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, JANUARY, 3))).isEmpty();
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, JANUARY, 31))).containsExactly(new AbsencePeriod.Record(LocalDate.of(2024, JANUARY, 31), batman, morning));
+        assertThat(sut.absenceRecords(batman, LocalDate.of(2024, 2, 1))).isEmpty();
+    }
+
+    @Test
+    void ensureIsWorkdayUsesWorkingTimeValidAtDate() {
+        final Person batman = person(1L);
+
+        final WorkingTime mondays = new WorkingTime(batman, LocalDate.of(2023, 6, 1), GERMANY_BADEN_WUERTTEMBERG, false);
+        mondays.setWorkingDays(List.of(MONDAY), FULL);
+
+        final WorkingTime tuesdays = new WorkingTime(batman, LocalDate.of(2024, JANUARY, 10), GERMANY_BADEN_WUERTTEMBERG, false);
+        tuesdays.setWorkingDays(List.of(TUESDAY), FULL);
+
+        final AbsenceOverviewGridIndex sut = AbsenceOverviewGridIndex.of(new DateRange(START, END), List.of(batman), List.of(tuesdays, mondays), List.of());
+
+        assertThat(sut.isWorkday(batman, LocalDate.of(2024, JANUARY, 1))).isTrue();
+        assertThat(sut.isWorkday(batman, LocalDate.of(2024, JANUARY, 2))).isFalse();
+        assertThat(sut.isWorkday(batman, LocalDate.of(2024, JANUARY, 15))).isFalse();
+        assertThat(sut.isWorkday(batman, LocalDate.of(2024, JANUARY, 16))).isTrue();
+    }
+
+    @Test
+    void ensureIsWorkdayIsFalseWithoutWorkingTime() {
+        final Person batman = person(1L);
+
+        final WorkingTime workingTime = new WorkingTime(batman, LocalDate.of(2024, JANUARY, 10), GERMANY_BADEN_WUERTTEMBERG, false);
+        workingTime.setWorkingDays(List.of(MONDAY), FULL);
+
+        final AbsenceOverviewGridIndex sut = AbsenceOverviewGridIndex.of(new DateRange(START, END), List.of(batman), List.of(workingTime), List.of());
+
+        assertThat(sut.isWorkday(batman, LocalDate.of(2024, JANUARY, 8))).isFalse();
+        assertThat(sut.isWorkday(batman, LocalDate.of(2024, JANUARY, 15))).isTrue();
+        assertThat(sut.isWorkday(person(2L), LocalDate.of(2024, JANUARY, 15))).isFalse();
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person("username-" + id, "Wayne", "Bruce", "bruce@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static AbsencePeriod.Record vacationMorning(LocalDate date, Person person) {
+        final AbsencePeriod.RecordMorningVacation morning = new AbsencePeriod.RecordMorningVacation(person, 1L, ALLOWED, "HOLIDAY", 42L, false);
+        return new AbsencePeriod.Record(date, person, morning);
+    }
+}
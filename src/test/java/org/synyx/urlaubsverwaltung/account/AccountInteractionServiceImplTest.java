@@ -18,6 +18,8 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -32,6 +34,7 @@ import static java.time.Month.OCTOBER;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -243,7 +246,7 @@ class AccountInteractionServiceImplTest {
         sut.updateRemainingVacationDays(2012, person);
         assertThat(nextYearAccount.getRemainingVacationDays()).isEqualTo(remainingVacationDays);
 
-        verify(vacationDaysService, never()).calculateTotalLeftVacationDays(any());
+        verify(vacationDaysService, never()).calculateTotalLeftVacationDays(any(Account.class));
         verify(accountService, never()).save(any());
     }
 
@@ -321,6 +324,72 @@ class AccountInteractionServiceImplTest {
         verify(accountService).getHolidaysAccount(nextYear, person);
     }
 
+    @Test
+    void ensureCreatesOrUpdatesNextYearsHolidaysAccountsInBulk() {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person person2 = new Person("batman", "Wayne", "Bruce", "batman@example.org");
+        person2.setId(2L);
+
+        final Account referenceAccount = new Account(person, LocalDate.of(2014, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31), true,
+            LocalDate.of(2014, APRIL, 1), BigDecimal.valueOf(30), BigDecimal.valueOf(8), BigDecimal.valueOf(4), "comment");
+        referenceAccount.setId(1L);
+        final Account referenceAccount2 = new Account(person2, LocalDate.of(2014, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31), null,
+            null, BigDecimal.valueOf(28), BigDecimal.valueOf(2), ZERO, "comment 2");
+        referenceAccount2.setId(2L);
+
+        final Account nextYearAccount = new Account(person, LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31), true,
+            LocalDate.of(2015, APRIL, 1), BigDecimal.valueOf(30), ZERO, TEN, "next year");
+        nextYearAccount.setId(3L);
+
+        when(accountService.getHolidaysAccount(2015, List.of(person, person2))).thenReturn(List.of(nextYearAccount));
+        when(vacationDaysService.calculateTotalLeftVacationDays(List.of(referenceAccount, referenceAccount2)))
+            .thenReturn(Map.of(referenceAccount, BigDecimal.valueOf(7), referenceAccount2, ONE));
+        when(accountService.saveAll(any())).then(returnsFirstArg());
+
+        final List<Account> accounts = sut.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(referenceAccount, referenceAccount2));
+        assertThat(accounts).hasSize(2);
+
+        final Account updatedAccount = accounts.get(0);
+        assertThat(updatedAccount).isSameAs(nextYearAccount);
+        assertThat(updatedAccount.getRemainingVacationDays()).isEqualTo(BigDecimal.valueOf(7));
+        assertThat(updatedAccount.getRemainingVacationDaysNotExpiring()).isEqualTo(BigDecimal.valueOf(7));
+        assertThat(updatedAccount.getComment()).isEqualTo("next year");
+
+        final Account createdAccount = accounts.get(1);
+        assertThat(createdAccount.getId()).isNull();
+        assertThat(createdAccount.getPerson()).isEqualTo(person2);
+        assertThat(createdAccount.getValidFrom()).isEqualTo(LocalDate.of(2015, 1, 1));
+        assertThat(createdAccount.getValidTo()).isEqualTo(LocalDate.of(2015, 12, 31));
+        assertThat(createdAccount.getAnnualVacationDays()).isEqualTo(BigDecimal.valueOf(28));
+        assertThat(createdAccount.getActualVacationDays()).isEqualTo(BigDecimal.valueOf(28));
+        assertThat(createdAccount.getRemainingVacationDays()).isEqualTo(ONE);
+        assertThat(createdAccount.getRemainingVacationDaysNotExpiring()).isEqualTo(ZERO);
+        assertThat(createdAccount.getExpiryDateLocally()).isNull();
+        assertThat(createdAccount.isDoRemainingVacationDaysExpireLocally()).isNull();
+        assertThat(createdAccount.getComment()).isEqualTo("comment 2");
+
+        verify(accountService).saveAll(List.of(nextYearAccount, createdAccount));
+    }
+
+    @Test
+    void ensureBulkCreationOfNextYearsHolidaysAccountsRequiresAccountsOfSameYear() {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Account account2014 = new Account(person, LocalDate.of(2014, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31), null,
+            null, BigDecimal.valueOf(30), ZERO, ZERO, "");
+        final Account account2015 = new Account(person, LocalDate.of(2015, JANUARY, 1), LocalDate.of(2015, DECEMBER, 31), null,
+            null, BigDecimal.valueOf(30), ZERO, ZERO, "");
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> sut.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(account2014, account2015)));
+    }
+
+    @Test
+    void ensureBulkCreationOfNextYearsHolidaysAccountsDoesNothingWithoutAccounts() {
+        assertThat(sut.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of())).isEmpty();
+        verify(accountService, never()).saveAll(any());
+    }
+
     @Test
     void createHolidaysAccount() {
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
@@ -24,6 +24,7 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -334,6 +335,42 @@ class AccountServiceImplTest {
         assertThat(actual.getComment()).isEqualTo("awesome comment");
     }
 
+    @Test
+    void ensureSaveAll() {
+
+        final Account account = new Account();
+        account.setValidFrom(LocalDate.of(2022, 1, 1));
+        account.setValidTo(LocalDate.of(2022, 12, 31));
+        account.setAnnualVacationDays(BigDecimal.valueOf(30));
+        account.setRemainingVacationDays(BigDecimal.valueOf(10));
+        account.setRemainingVacationDaysNotExpiring(BigDecimal.valueOf(5));
+
+        final Account account2 = new Account();
+        account2.setId(2L);
+        account2.setValidFrom(LocalDate.of(2022, 1, 1));
+        account2.setValidTo(LocalDate.of(2022, 12, 31));
+        account2.setAnnualVacationDays(BigDecimal.valueOf(28));
+        account2.setRemainingVacationDays(BigDecimal.valueOf(3));
+        account2.setRemainingVacationDaysNotExpiring(BigDecimal.ZERO);
+
+        when(accountRepository.saveAll(anyList())).thenAnswer(returnsFirstArg());
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final List<Account> actual = sut.saveAll(List.of(account, account2));
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<AccountEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AccountEntity::getId).containsExactly(null, 2L);
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getAnnualVacationDays()).isEqualTo(BigDecimal.valueOf(30));
+        assertThat(actual.get(0).getExpiryDate()).isEqualTo(LocalDate.of(2022, APRIL, 1));
+        assertThat(actual.get(1).getId()).isEqualTo(2L);
+        assertThat(actual.get(1).getRemainingVacationDays()).isEqualTo(BigDecimal.valueOf(3));
+    }
+
     @Test
     void ensureToCalculateGlobalExpiryDateAfterSaveOnMapping() {
 
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,13 +17,13 @@ import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Year;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.IntStream;
 
-import static java.util.Arrays.asList;
 import static java.util.Locale.GERMAN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -49,9 +51,12 @@ class TurnOfTheYearAccountUpdaterServiceTest {
     @Mock
     private VacationDaysReminderService vacationDaysReminderService;
 
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService, vacationDaysReminderService, mailService, clock);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService, vacationDaysReminderService, mailService, clock, meterRegistry);
     }
 
     @Test
@@ -68,15 +73,15 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         final Account account3 = createHolidaysAccount(user3, LAST_YEAR);
         account3.setId(3L);
 
-        when(personService.getActivePersons()).thenReturn(asList(user1, user2, user3));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user1)).thenReturn(Optional.of(account1));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user2)).thenReturn(Optional.of(account2));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user3)).thenReturn(Optional.of(account3));
+        final List<Person> persons = List.of(user1, user2, user3);
+        when(personService.getActivePersons()).thenReturn(persons);
+        when(accountService.getHolidaysAccount(LAST_YEAR, persons)).thenReturn(List.of(account1, account2, account3));
 
         final Account newAccount = mock(Account.class);
+        when(newAccount.getPerson()).thenReturn(user1);
         when(newAccount.getRemainingVacationDays()).thenReturn(BigDecimal.TEN);
-        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class)))
-            .thenReturn(newAccount);
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(account1, account2, account3)))
+            .thenReturn(List.of(newAccount, newAccount, newAccount));
 
         final Person office = new Person("muster", "Muster", "Marlene", "muster@example.org");
         when(personService.getActivePersonsByRole(OFFICE)).thenReturn(List.of(office));
@@ -84,18 +89,8 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         sut.updateAccountsForNextPeriod();
 
         verify(personService).getActivePersons();
-
-        verify(accountService, times(3))
-            .getHolidaysAccount(anyInt(), any(Person.class));
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user1);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user2);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user3);
-
-        verify(accountInteractionService, times(3))
-            .autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class));
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account1);
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account2);
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account3);
+        verify(accountService).getHolidaysAccount(LAST_YEAR, persons);
+        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(account1, account2, account3));
 
         verify(vacationDaysReminderService).remindForRemainingVacationDays();
 
@@ -106,5 +101,44 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         assertThat(mail.getSubjectMessageKey()).isEqualTo("subject.account.updatedRemainingDays");
         assertThat(mail.getTemplateName()).isEqualTo("account_cron_updated_accounts_turn_of_the_year");
         assertThat(mail.getTemplateModel(GERMAN)).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(30));
+
+        assertThat(meterRegistry.get("accounts.turn.of.year.updated").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("accounts.turn.of.year.duration").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureIgnoresAccountsWithoutAnnualVacationDays() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Account account = createHolidaysAccount(person, LAST_YEAR);
+        account.setAnnualVacationDays(null);
+
+        when(personService.getActivePersons()).thenReturn(List.of(person));
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(person))).thenReturn(List.of(account));
+
+        sut.updateAccountsForNextPeriod();
+
+        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccounts(List.of());
+    }
+
+    @Test
+    void ensureUpdatesHolidaysAccountsInChunks() {
+
+        final List<Person> persons = IntStream.range(0, 1200)
+            .mapToObj(i -> {
+                final Person person = new Person("person" + i, "Muster", "Marlene", "person" + i + "@example.org");
+                person.setId((long) i);
+                return person;
+            })
+            .toList();
+        when(personService.getActivePersons()).thenReturn(persons);
+
+        sut.updateAccountsForNextPeriod();
+
+        verify(accountService).getHolidaysAccount(LAST_YEAR, persons.subList(0, 500));
+        verify(accountService).getHolidaysAccount(LAST_YEAR, persons.subList(500, 1000));
+        verify(accountService).getHolidaysAccount(LAST_YEAR, persons.subList(1000, 1200));
+        verify(accountService, times(3)).getHolidaysAccount(eq(LAST_YEAR), anyList());
+        verify(accountInteractionService, times(3)).autoCreateOrUpdateNextYearsHolidaysAccounts(any());
     }
 }
@@ -15,6 +15,7 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
@@ -29,6 +30,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static java.time.DayOfWeek.SATURDAY;
@@ -45,7 +47,10 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.Map.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationType;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -433,6 +438,113 @@ class VacationDaysServiceTest {
         assertThat(leftDays).isEqualTo(new BigDecimal("30"));
     }
 
+    @Test
+    void ensureCalculatesTotalLeftVacationDaysOfAccountsInBulk() {
+
+        final Person person = anyPerson();
+        final Person person2 = new Person("batman", "Wayne", "Bruce", "batman@example.org");
+        person2.setId(2L);
+
+        // 4 days before expiry date
+        final Application application4Days = anyApplication(person);
+        application4Days.setStartDate(LocalDate.of(2022, JANUARY, 3));
+        application4Days.setEndDate(LocalDate.of(2022, JANUARY, 6));
+        application4Days.setStatus(ALLOWED);
+        final WorkDaysCountQuery application4DaysQuery = workDaysCountQuery(application4Days, application4Days.getStartDate(), application4Days.getEndDate());
+
+        // 1 day after expiry date
+        final Application application1Day = anyApplication(person);
+        application1Day.setStartDate(LocalDate.of(2022, MAY, 2));
+        application1Day.setEndDate(LocalDate.of(2022, MAY, 2));
+        application1Day.setStatus(ALLOWED);
+        final WorkDaysCountQuery application1DayQuery = workDaysCountQuery(application1Day, application1Day.getStartDate(), application1Day.getEndDate());
+
+        // 3 days of a person whose remaining vacation days do not expire
+        final Application application3Days = anyApplication(person2);
+        application3Days.setStartDate(LocalDate.of(2022, MAY, 2));
+        application3Days.setEndDate(LocalDate.of(2022, MAY, 4));
+        application3Days.setStatus(ALLOWED);
+        final WorkDaysCountQuery application3DaysQuery = workDaysCountQuery(application3Days, application3Days.getStartDate(), application3Days.getEndDate());
+
+        // not a holiday, therefore ignored
+        final Application overtimeApplication = anyApplication(person2);
+        overtimeApplication.setVacationType(createVacationType(2L, VacationCategory.OVERTIME, new StaticMessageSource()));
+        overtimeApplication.setStartDate(LocalDate.of(2022, JUNE, 1));
+        overtimeApplication.setEndDate(LocalDate.of(2022, JUNE, 1));
+        overtimeApplication.setStatus(ALLOWED);
+
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(person, person2), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)))
+            .thenReturn(List.of(application4Days, application1Day, application3Days, overtimeApplication));
+        // the queries of all accounts are counted at once, in no particular order
+        when(workDaysCountService.getWorkDaysCounts(anyCollection())).thenReturn(Map.of(
+            application4DaysQuery, BigDecimal.valueOf(4L),
+            application1DayQuery, BigDecimal.valueOf(1L),
+            application3DaysQuery, BigDecimal.valueOf(3L)
+        ));
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setId(1L);
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        account.setDoRemainingVacationDaysExpireLocally(true);
+
+        final Account account2 = anyAccount(person2, Year.of(2022));
+        account2.setId(2L);
+        account2.setRemainingVacationDays(new BigDecimal("5"));
+        account2.setRemainingVacationDaysNotExpiring(ZERO);
+        account2.setDoRemainingVacationDaysExpireLocally(false);
+
+        final Map<Account, BigDecimal> leftDays = sut.calculateTotalLeftVacationDays(List.of(account, account2));
+        // same as the calculation of a single account: 31 = 30 + 1
+        assertThat(leftDays).containsEntry(account, new BigDecimal("31"));
+        // 32 = 30 + (5 - 3)
+        assertThat(leftDays).containsEntry(account2, new BigDecimal("32"));
+    }
+
+    @Test
+    void ensureCalculatesTotalLeftVacationDaysOfNoAccounts() {
+        assertThat(sut.calculateTotalLeftVacationDays(List.<Account>of())).isEmpty();
+    }
+
+    @Test
+    void ensureCountsWorkDaysOfAllAccountsWithOneBulkCount() {
+
+        final Person person = anyPerson();
+        final Person person2 = new Person("batman", "Wayne", "Bruce", "batman@example.org");
+        person2.setId(2L);
+
+        final Application application = anyApplication(person);
+        application.setStartDate(LocalDate.of(2022, MAY, 2));
+        application.setEndDate(LocalDate.of(2022, MAY, 2));
+        application.setStatus(ALLOWED);
+        final WorkDaysCountQuery applicationQuery = workDaysCountQuery(application, application.getStartDate(), application.getEndDate());
+
+        final Application application2 = anyApplication(person2);
+        application2.setStartDate(LocalDate.of(2022, MAY, 3));
+        application2.setEndDate(LocalDate.of(2022, MAY, 3));
+        application2.setStatus(ALLOWED);
+        final WorkDaysCountQuery application2Query = workDaysCountQuery(application2, application2.getStartDate(), application2.getEndDate());
+
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(person, person2), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)))
+            .thenReturn(List.of(application, application2));
+        when(workDaysCountService.getWorkDaysCounts(anyCollection())).thenReturn(Map.of(
+            applicationQuery, ONE,
+            application2Query, ONE
+        ));
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setId(1L);
+        final Account account2 = anyAccount(person2, Year.of(2022));
+        account2.setId(2L);
+
+        final Map<Account, BigDecimal> leftDays = sut.calculateTotalLeftVacationDays(List.of(account, account2));
+        assertThat(leftDays).containsEntry(account, new BigDecimal("29"));
+        assertThat(leftDays).containsEntry(account2, new BigDecimal("29"));
+
+        verify(workDaysCountService).getWorkDaysCounts(anyCollection());
+        verifyNoMoreInteractions(workDaysCountService);
+    }
+
     @ParameterizedTest
     @EnumSource(value = VacationCategory.class, names = {"SPECIALLEAVE", "UNPAIDLEAVE", "OVERTIME", "OTHER"})
     void ensureGetVacationDaysLeftIgnoresVacationType(VacationCategory category) {
@@ -799,6 +911,10 @@ class VacationDaysServiceTest {
         return account;
     }
 
+    private static WorkDaysCountQuery workDaysCountQuery(Application application, LocalDate startDate, LocalDate endDate) {
+        return new WorkDaysCountQuery(application.getPerson(), new DateRange(startDate, endDate), application.getDayLength());
+    }
+
     private static Application anyApplication(Person person) {
         final Application application = new Application();
         application.setId(1L);
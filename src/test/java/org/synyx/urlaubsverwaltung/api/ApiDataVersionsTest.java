@@ -0,0 +1,172 @@
+package org.synyx.urlaubsverwaltung.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApiDataVersionsTest {
+
+    private ApiDataVersions sut;
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private Clock clock;
+    private String currentTenantId;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        currentTenantId = "tenant-one";
+
+        final TenantContextHolder tenantContextHolder = new TenantContextHolder() {
+            @Override
+            public Optional<TenantId> getCurrentTenantId() {
+                return Optional.of(new TenantId(currentTenantId));
+            }
+        };
+
+        sut = new ApiDataVersions(tenantContextHolder, new ApiProperties(), clock);
+    }
+
+    @Test
+    void ensureSetsWeakETagAndCacheControl() {
+        final ServletWebRequest request = request(null);
+
+        assertThat(sut.isPersonNotModified(request, 1L)).isFalse();
+        assertThat(request.getResponse().getHeader("ETag")).startsWith("W/\"");
+        assertThat(request.getResponse().getHeader("Cache-Control")).isEqualTo("no-cache, private");
+    }
+
+    @Test
+    void ensureIsNotModifiedWithCurrentETag() {
+        final String eTag = personETag(1L);
+
+        final ServletWebRequest request = request(eTag);
+        assertThat(sut.isPersonNotModified(request, 1L)).isTrue();
+        assertThat(request.getResponse().getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void ensureApplicationEventChangesETagOfPersonOnly() {
+        final String eTagOfBatman = personETag(1L);
+        final String eTagOfRobin = personETag(2L);
+
+        final Application application = new Application();
+        application.setPerson(person(1L));
+        sut.on(ApplicationAllowedEvent.of(application));
+
+        assertThat(sut.isPersonNotModified(request(eTagOfBatman), 1L)).isFalse();
+        assertThat(sut.isPersonNotModified(request(eTagOfRobin), 2L)).isTrue();
+    }
+
+    @Test
+    void ensureSickNoteEventChangesETagOfPerson() {
+        final String eTag = personETag(1L);
+
+        sut.on(SickNoteUpdatedEvent.of(SickNote.builder().person(person(1L)).build()));
+
+        assertThat(sut.isPersonNotModified(request(eTag), 1L)).isFalse();
+    }
+
+    @Test
+    void ensureWorkingTimeEventChangesETagOfPerson() {
+        final String eTag = personETag(1L);
+
+        sut.on(WorkingTimeUpdatedEvent.of(person(1L)));
+
+        assertThat(sut.isPersonNotModified(request(eTag), 1L)).isFalse();
+    }
+
+    @Test
+    void ensurePersonDeletedEventChangesETagOfPersons() {
+        final String eTag = personsETag();
+
+        sut.on(new PersonDeletedEvent(person(1L)));
+
+        assertThat(sut.isPersonsNotModified(request(eTag))).isFalse();
+    }
+
+    @Test
+    void ensureSettingsEventChangesAllETags() {
+        final String tenantETag = tenantETag();
+        final String personETag = personETag(1L);
+
+        sut.onTenantDataChanged();
+
+        assertThat(sut.isNotModified(request(tenantETag))).isFalse();
+        assertThat(sut.isPersonNotModified(request(personETag), 1L)).isFalse();
+    }
+
+    @Test
+    void ensureEventsOfOtherTenantDoNotChangeETag() {
+        final String eTag = personETag(1L);
+
+        currentTenantId = "tenant-two";
+        sut.on(WorkingTimeUpdatedEvent.of(person(1L)));
+        sut.onTenantDataChanged();
+
+        currentTenantId = "tenant-one";
+        assertThat(sut.isPersonNotModified(request(eTag), 1L)).isTrue();
+    }
+
+    @Test
+    void ensureETagChangesAfterTimeToLive() {
+        final String eTag = personETag(1L);
+
+        when(clock.instant()).thenReturn(NOW.plus(new ApiProperties().getEtagTimeToLive()));
+
+        assertThat(sut.isPersonNotModified(request(eTag), 1L)).isFalse();
+    }
+
+    private String tenantETag() {
+        final ServletWebRequest request = request(null);
+        sut.isNotModified(request);
+        return request.getResponse().getHeader("ETag");
+    }
+
+    private String personsETag() {
+        final ServletWebRequest request = request(null);
+        sut.isPersonsNotModified(request);
+        return request.getResponse().getHeader("ETag");
+    }
+
+    private String personETag(Long personId) {
+        final ServletWebRequest request = request(null);
+        sut.isPersonNotModified(request, personId);
+        return request.getResponse().getHeader("ETag");
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/persons");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+}
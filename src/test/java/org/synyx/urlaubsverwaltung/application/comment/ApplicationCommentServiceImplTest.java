@@ -16,11 +16,13 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
 import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.ALLOWED;
@@ -142,4 +144,41 @@ class ApplicationCommentServiceImplTest {
 
         verify(commentRepository).deleteByApplicationPerson(person);
     }
+
+    @Test
+    void ensureGetsCommentsOfAllApplicationsWithOneQuery() {
+
+        final Application application = new Application();
+        application.setId(1L);
+        final Application otherApplication = new Application();
+        otherApplication.setId(2L);
+
+        final Person author = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        final ApplicationCommentEntity comment = new ApplicationCommentEntity(author, Clock.systemUTC());
+        comment.setId(10L);
+        comment.setApplicationId(1L);
+        comment.setAction(ALLOWED);
+        final ApplicationCommentEntity otherComment = new ApplicationCommentEntity(author, Clock.systemUTC());
+        otherComment.setId(20L);
+        otherComment.setApplicationId(2L);
+        otherComment.setAction(REJECTED);
+
+        when(commentRepository.findByApplicationIdIn(Set.of(1L, 2L))).thenReturn(List.of(comment, otherComment));
+
+        final List<ApplicationComment> comments = sut.getCommentsByApplications(List.of(application, otherApplication));
+
+        assertThat(comments).extracting(ApplicationComment::id).containsExactly(10L, 20L);
+        assertThat(comments).extracting(ApplicationComment::application).containsExactly(application, otherApplication);
+        assertThat(comments).extracting(ApplicationComment::action).containsExactly(ALLOWED, REJECTED);
+        verifyNoInteractions(applicationService);
+    }
+
+    @Test
+    void ensureGetsNoCommentsWithoutApplications() {
+
+        assertThat(sut.getCommentsByApplications(List.of())).isEmpty();
+
+        verifyNoInteractions(commentRepository);
+    }
 }
@@ -98,7 +98,7 @@ class ApplicationForLeaveCsvExportServiceTest {
         addMessageSource("FULL", locale);
         addMessageSource("messagekey.holiday", locale);
 
-        sut.write(period, locale, applicationForLeaveExports, csvWriter);
+        sut.write(period, locale, applicationForLeaveExports.stream(), csvWriter);
         verify(csvWriter).writeNext(new String[]{"{person.account.basedata.personnelNumber}", "{person.data.firstName}", "{person.data.lastName}", "{applications.export.departments}", "{applications.export.from}", "{applications.export.to}", "{applications.export.length}", "{applications.export.type}", "{applications.export.days}"});
         verify(csvWriter).writeNext(new String[]{"1", "personOneFirstName", "personOneLastName", "departmentA", "2018/01/01", "2018/12/31", "{FULL}", "{messagekey.holiday}", "10"});
     }
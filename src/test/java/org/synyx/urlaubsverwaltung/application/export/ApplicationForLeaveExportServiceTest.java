@@ -27,8 +27,11 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -261,4 +264,74 @@ class ApplicationForLeaveExportServiceTest {
         assertThat(applicationForLeaveExport.getDepartments()).containsExactly("department");
         assertThat(applicationForLeaveExport.getApplicationForLeaves()).containsExactly(app);
     }
+
+    @Test
+    void streamAllFetchesPersonsPageByPageWhenSortedByPersonAttribute() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person marlene = new Person();
+        marlene.setId(2L);
+        marlene.setPermissions(List.of(USER));
+        marlene.setFirstName("Marlene");
+
+        final Person max = new Person();
+        max.setId(3L);
+        max.setPermissions(List.of(USER));
+        max.setFirstName("Max");
+
+        final PageRequest firstPersonPageRequest = PageRequest.of(0, 100, Sort.Direction.ASC, "firstName");
+        when(personService.getActivePersons(new PageableSearchQuery(firstPersonPageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(marlene), firstPersonPageRequest, 101));
+        final PageRequest secondPersonPageRequest = PageRequest.of(1, 100, Sort.Direction.ASC, "firstName");
+        when(personService.getActivePersons(new PageableSearchQuery(secondPersonPageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(max), secondPersonPageRequest, 101));
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+        final ApplicationForLeave marlenesApplication = new ApplicationForLeave(new Application(), workDaysCountService);
+        marlenesApplication.setId(1L);
+        marlenesApplication.setPerson(marlene);
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(marlene), from, to)).thenReturn(List.of(marlenesApplication));
+        final ApplicationForLeave maxApplication = new ApplicationForLeave(new Application(), workDaysCountService);
+        maxApplication.setId(2L);
+        maxApplication.setPerson(max);
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(max), from, to)).thenReturn(List.of(maxApplication));
+
+        final Stream<ApplicationForLeaveExport> export = sut.streamAll(office, from, to, Sort.by(Sort.Direction.ASC, "person.firstName"));
+
+        // only the first page is fetched until the stream is consumed
+        verify(personService, never()).getActivePersons(new PageableSearchQuery(secondPersonPageRequest, ""));
+
+        assertThat(export).extracting(ApplicationForLeaveExport::getFirstName).containsExactly("Marlene", "Max");
+    }
+
+    @Test
+    void streamAllFetchesAllPersonsAtOnceWhenSortedByNonPersonAttribute() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person user = new Person();
+        user.setId(2L);
+        user.setPermissions(List.of(USER));
+        user.setFirstName("Marlene");
+
+        when(personService.getActivePersons(new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE), "")))
+            .thenReturn(new PageImpl<>(List.of(user)));
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+        final ApplicationForLeave app = new ApplicationForLeave(new Application(), workDaysCountService);
+        app.setId(1L);
+        app.setPerson(user);
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(user), from, to)).thenReturn(List.of(app));
+
+        final Stream<ApplicationForLeaveExport> export = sut.streamAll(office, from, to, Sort.by(Sort.Direction.ASC, "totalAllowedVacationDays"));
+
+        assertThat(export).extracting(ApplicationForLeaveExport::getFirstName).containsExactly("Marlene");
+    }
 }
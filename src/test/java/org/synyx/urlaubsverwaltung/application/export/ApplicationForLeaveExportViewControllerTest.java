@@ -26,17 +26,23 @@ import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.math.BigDecimal.TEN;
 import static java.util.Locale.JAPANESE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -221,11 +227,14 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
+        final Stream<ApplicationForLeaveExport> exportStream = Stream.of(applicationForLeaveExport);
+        when(applicationForLeaveExportService.streamAll(signedInUser, startDate, endDate, Sort.by(Sort.Direction.ASC, "person.firstName"))).thenReturn(exportStream);
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("csv-resource".getBytes());
+            return null;
+        }).when(applicationForLeaveCsvExportService).streamCSV(eq(filterPeriod), eq(locale), eq(exportStream), any(OutputStream.class));
 
         perform(get("/web/application/export")
             .locale(locale)
@@ -233,6 +242,8 @@ class ApplicationForLeaveExportViewControllerTest {
             .param("to", "01.08.2019")
             .param("allElements", "true"))
             .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"=?UTF-8?Q?csv-file-name?=\"; filename*=UTF-8''csv-file-name"))
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
             .andExpect(content().string("csv-resource"));
     }
 
@@ -269,11 +280,14 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
-
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final Stream<ApplicationForLeaveExport> exportStream = Stream.of(applicationForLeaveExport);
+        when(applicationForLeaveExportService.streamAll(signedInUser, startDate, endDate, Sort.by(Sort.Direction.ASC, "person.firstName"))).thenReturn(exportStream);
+
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("csv-resource".getBytes());
+            return null;
+        }).when(applicationForLeaveCsvExportService).streamCSV(eq(filterPeriod), eq(locale), eq(exportStream), any(OutputStream.class));
 
         when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
         when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
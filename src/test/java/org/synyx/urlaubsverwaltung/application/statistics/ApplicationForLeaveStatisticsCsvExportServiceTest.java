@@ -87,7 +87,7 @@ class ApplicationForLeaveStatisticsCsvExportServiceTest {
 
         when(vacationTypeService.getAllVacationTypes()).thenReturn(List.of(vacationType));
 
-        sut.write(period, locale, statistics, csvWriter);
+        sut.write(period, locale, statistics.stream(), csvWriter);
         verify(csvWriter).writeNext(new String[]{"{person.account.basedata.personnelNumber}", "{person.data.firstName}", "{person.data.lastName}", "", "{applications.statistics.allowed}", "{applications.statistics.waiting}", "{applications.statistics.left}", "", "{applications.statistics.left} (2018)", "", "{person.account.basedata.additionalInformation}"});
         verify(csvWriter).writeNext(new String[]{"", "", "", "", "", "", "{duration.vacationDays}", "{duration.overtime}", "{duration.vacationDays}", "{duration.overtime}"});
         verify(csvWriter).writeNext(new String[]{null, null, null, "{holiday}", "0", "1", null, null, null, null, null});
@@ -143,7 +143,7 @@ class ApplicationForLeaveStatisticsCsvExportServiceTest {
 
         when(vacationTypeService.getAllVacationTypes()).thenReturn(List.of(vacationType));
 
-        sut.write(period, locale, statistics, csvWriter);
+        sut.write(period, locale, statistics.stream(), csvWriter);
         verify(csvWriter).writeNext(new String[]{"{person.account.basedata.personnelNumber}", "{person.data.firstName}",
             "{person.data.lastName}", "", "{applications.statistics.allowed}", "{applications.statistics.waiting}",
             "{applications.statistics.left}", "", "{applications.statistics.left} (2019)", "",
@@ -29,8 +29,11 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
@@ -253,4 +256,77 @@ class ApplicationForLeaveStatisticsServiceTest {
         assertThat(statisticsPage.getContent().get(0).getPerson()).isEqualTo(departmentMember);
         assertThat(statisticsPage.getContent().get(1).getPerson()).isEqualTo(departmentMemberTwo);
     }
+
+    @Test
+    void streamStatisticsFetchesPersonsPageByPageWhenSortedByPersonAttribute() {
+
+        final LocalDate startDate = LocalDate.parse("2018-01-01");
+        final LocalDate endDate = LocalDate.parse("2018-12-31");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        final Person anton = new Person();
+        anton.setId(2L);
+        anton.setPermissions(List.of(USER));
+
+        final Person bernd = new Person();
+        bernd.setId(3L);
+        bernd.setPermissions(List.of(USER));
+
+        final PageRequest firstPersonPageRequest = PageRequest.of(0, 100, Sort.Direction.ASC, "firstName");
+        when(personService.getActivePersons(new PageableSearchQuery(firstPersonPageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(anton), firstPersonPageRequest, 101));
+        final PageRequest secondPersonPageRequest = PageRequest.of(1, 100, Sort.Direction.ASC, "firstName");
+        when(personService.getActivePersons(new PageableSearchQuery(secondPersonPageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(bernd), secondPersonPageRequest, 101));
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
+        final List<VacationType<?>> vacationTypes = List.of(vacationType);
+        when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
+
+        when(applicationForLeaveStatisticsBuilder.build(List.of(anton), startDate, endDate, vacationTypes))
+            .thenReturn(Map.of(anton, new ApplicationForLeaveStatistics(anton, vacationTypes)));
+        when(applicationForLeaveStatisticsBuilder.build(List.of(bernd), startDate, endDate, vacationTypes))
+            .thenReturn(Map.of(bernd, new ApplicationForLeaveStatistics(bernd, vacationTypes)));
+
+        final Stream<ApplicationForLeaveStatistics> statistics = sut.streamStatistics(office, filterPeriod, Sort.by(Sort.Direction.ASC, "person.firstName"));
+
+        // only the first page is fetched until the stream is consumed
+        verify(personService, never()).getActivePersons(new PageableSearchQuery(secondPersonPageRequest, ""));
+
+        assertThat(statistics).extracting(ApplicationForLeaveStatistics::getPerson).containsExactly(anton, bernd);
+    }
+
+    @Test
+    void streamStatisticsFetchesAllPersonsAtOnceWhenSortedByStatisticsAttribute() {
+
+        final LocalDate startDate = LocalDate.parse("2018-01-01");
+        final LocalDate endDate = LocalDate.parse("2018-12-31");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        final Person anyPerson = new Person();
+        anyPerson.setId(2L);
+        anyPerson.setPermissions(List.of(USER));
+
+        when(personService.getActivePersons(new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE), "")))
+            .thenReturn(new PageImpl<>(List.of(anyPerson)));
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
+        final List<VacationType<?>> vacationTypes = List.of(vacationType);
+        when(vacationTypeService.getActiveVacationTypes()).thenReturn(vacationTypes);
+
+        when(applicationForLeaveStatisticsBuilder.build(List.of(anyPerson), startDate, endDate, vacationTypes))
+            .thenReturn(Map.of(anyPerson, new ApplicationForLeaveStatistics(anyPerson, vacationTypes)));
+
+        final Stream<ApplicationForLeaveStatistics> statistics = sut.streamStatistics(office, filterPeriod, Sort.by(Sort.Direction.ASC, "leftVacationDaysForYear"));
+
+        assertThat(statistics).extracting(ApplicationForLeaveStatistics::getPerson).containsExactly(anyPerson);
+    }
 }
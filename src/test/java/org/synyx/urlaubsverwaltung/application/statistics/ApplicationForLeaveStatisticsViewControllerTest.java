@@ -31,12 +31,14 @@ import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.math.BigDecimal;
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Locale.JAPANESE;
 import static org.hamcrest.Matchers.aMapWithSize;
@@ -48,6 +50,7 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -461,12 +464,15 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
 
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
-            .thenReturn(new PageImpl<>(List.of(statistics)));
+        final Stream<ApplicationForLeaveStatistics> statisticsStream = Stream.of(statistics);
+        when(applicationForLeaveStatisticsService.streamStatistics(signedInUser, filterPeriod, Sort.by(Sort.Direction.ASC, "person.firstName")))
+            .thenReturn(statisticsStream);
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        when(applicationForLeaveStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("csv-resource".getBytes());
+            return null;
+        }).when(applicationForLeaveStatisticsCsvExportService).streamCSV(eq(filterPeriod), eq(locale), eq(statisticsStream), any(OutputStream.class));
 
         when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
         when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
@@ -477,6 +483,8 @@ class ApplicationForLeaveStatisticsViewControllerTest {
             .param("to", "01.08.2019")
             .param("allElements", "true"))
             .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"=?UTF-8?Q?csv-file-name?=\"; filename*=UTF-8''csv-file-name"))
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
             .andExpect(content().string("csv-resource"));
     }
 
@@ -496,12 +504,15 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
 
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
-            .thenReturn(new PageImpl<>(List.of(statistics)));
-
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        final Stream<ApplicationForLeaveStatistics> statisticsStream = Stream.of(statistics);
+        when(applicationForLeaveStatisticsService.streamStatistics(signedInUser, filterPeriod, Sort.by(Sort.Direction.ASC, "person.firstName")))
+            .thenReturn(statisticsStream);
+
+        when(applicationForLeaveStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("csv-resource".getBytes());
+            return null;
+        }).when(applicationForLeaveStatisticsCsvExportService).streamCSV(eq(filterPeriod), eq(locale), eq(statisticsStream), any(OutputStream.class));
 
         when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
         when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
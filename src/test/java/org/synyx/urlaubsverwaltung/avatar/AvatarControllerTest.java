@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.avatar;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -43,8 +44,8 @@ class AvatarControllerTest {
     }, ignoreLeadingAndTrailingWhitespace = false)
     void ensureGeneratesAvatarWithInitials(String name, String expectedInitials) throws Exception {
 
-        when(svgService.createSvg("svg/avatar", Locale.GERMAN, Map.of("initials", expectedInitials)))
-            .thenReturn("<svg></svg>");
+        when(svgService.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", expectedInitials)))
+            .thenReturn(new RenderedSvg("<svg></svg>", "\"hash\""));
 
         perform(get("/web/avatar")
             .locale(Locale.GERMAN)
@@ -52,9 +53,24 @@ class AvatarControllerTest {
             .andExpect(status().isOk())
             .andExpect(content().contentType("image/svg+xml"))
             .andExpect(header().string("Cache-Control", "max-age=31536000"))
+            .andExpect(header().string("ETag", "\"hash\""))
             .andExpect(content().string("<svg></svg>"));
     }
 
+    @Test
+    void ensureAnswersNotModifiedForMatchingETag() throws Exception {
+
+        when(svgService.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "TB")))
+            .thenReturn(new RenderedSvg("<svg></svg>", "\"hash\""));
+
+        perform(get("/web/avatar")
+            .locale(Locale.GERMAN)
+            .param("name", "The Batman")
+            .header("If-None-Match", "\"hash\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.context.MessageSource;
 
 import java.util.Locale;
@@ -22,7 +23,7 @@ class SvgServiceTest {
 
     @BeforeEach
     void setUp() {
-        sut = new SvgService(messageSource);
+        sut = new SvgService(messageSource, new ThymeleafProperties());
     }
 
     @Test
@@ -51,4 +52,34 @@ class SvgServiceTest {
             "  >TB</text>\n" +
             "</svg>\n");
     }
+
+    @Test
+    void ensuresToRenderSvgOnlyOnceForSameModel() {
+        final RenderedSvg svg = sut.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "TB"));
+        assertThat(svg.content()).contains(">TB</text>");
+        assertThat(svg.eTag()).matches("\"[0-9a-f]{32}\"");
+
+        assertThat(sut.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "TB"))).isSameAs(svg);
+    }
+
+    @Test
+    void ensuresToRenderSvgAgainIfCacheIsDisabled() {
+        final ThymeleafProperties thymeleafProperties = new ThymeleafProperties();
+        thymeleafProperties.setCache(false);
+        sut = new SvgService(messageSource, thymeleafProperties);
+
+        final RenderedSvg svg = sut.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "TB"));
+        final RenderedSvg svgRenderedAgain = sut.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "TB"));
+
+        assertThat(svgRenderedAgain).isNotSameAs(svg).isEqualTo(svg);
+    }
+
+    @Test
+    void ensuresDifferentETagsForDifferentSvgs() {
+        final RenderedSvg batman = sut.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "TB"));
+        final RenderedSvg robin = sut.getSvg("svg/avatar", Locale.GERMAN, Map.of("initials", "R"));
+
+        assertThat(robin.content()).contains(">R</text>");
+        assertThat(robin.eTag()).isNotEqualTo(batman.eTag());
+    }
 }
@@ -0,0 +1,225 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import net.fortuna.ical4j.model.Calendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.calendar.CalendarFeedScope.COMPANY;
+import static org.synyx.urlaubsverwaltung.calendar.CalendarFeedScope.department;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarFeedCacheTest {
+
+    private static final LocalDate SINCE_DATE = LocalDate.of(2024, 1, 1);
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private CalendarFeedCache sut;
+
+    @Mock
+    private ICalService iCalService;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    private CalendarProperties calendarProperties;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        calendarProperties = new CalendarProperties();
+        clock = mock(Clock.class);
+        sut = new CalendarFeedCache(iCalService, tenantContextHolder, calendarProperties, clock);
+    }
+
+    @Test
+    void ensureCalendarIsRenderedOnceForAllRecipients() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+        final List<Absence> absences = List.of();
+
+        final SharedCalendar sharedCalendar = new SharedCalendar(new Calendar(), "content", "hash", Map.of(1L, Set.of(0)));
+        when(iCalService.getSharedCalendar("title", absences)).thenReturn(sharedCalendar);
+        final ByteArrayResource batmanCalendar = new ByteArrayResource("batman".getBytes());
+        when(iCalService.getCalendar(sharedCalendar, batman)).thenReturn(batmanCalendar);
+        final ByteArrayResource robinCalendar = new ByteArrayResource("robin".getBytes());
+        when(iCalService.getCalendar(sharedCalendar, robin)).thenReturn(robinCalendar);
+
+        final CalendarFeed batmanFeed = sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        assertThat(batmanFeed.iCal()).isSameAs(batmanCalendar);
+        assertThat(batmanFeed.eTag()).isEqualTo("\"hash-1\"");
+        assertThat(batmanFeed.lastModified()).isEqualTo(NOW);
+
+        final CalendarFeed robinFeed = sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", robin, () -> absences);
+        assertThat(robinFeed.iCal()).isSameAs(robinCalendar);
+        assertThat(robinFeed.eTag()).isEqualTo("\"hash-2\"");
+
+        verify(iCalService, times(1)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureCalendarIsRenderedPerScopeSinceDateAndTitle() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(department(1L, List.of(1L)), SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(COMPANY, SINCE_DATE.plusDays(1), "title", batman, () -> absences);
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "Titel", batman, () -> absences);
+
+        verify(iCalService, times(3)).getSharedCalendar("title", absences);
+        verify(iCalService, times(1)).getSharedCalendar("Titel", absences);
+    }
+
+    @Test
+    void ensureDepartmentCalendarIsSharedRegardlessOfMemberOrder() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(department(1L, List.of(1L, 2L)), SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(department(1L, List.of(2L, 1L)), SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(department(1L, List.of(1L)), SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(department(2L, List.of(1L, 2L)), SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(3)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureEldestCalendarIsDroppedWhenCacheIsFull() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW, NOW.plusMillis(1), NOW.plusMillis(2));
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        for (int day = 0; day <= 1000; day++) {
+            sut.getCalendarFeed(COMPANY, SINCE_DATE.plusDays(day), "title", batman, () -> absences);
+        }
+        // the calendar of the last day is still cached, the calendar of the first day has been dropped
+        sut.getCalendarFeed(COMPANY, SINCE_DATE.plusDays(1000), "title", batman, () -> absences);
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(1002)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureCalendarIsRenderedAgainAfterTimeToLive() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW, NOW.plus(calendarProperties.getCacheTimeToLive()));
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(2)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureEvictionRendersCalendarAgain() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        sut.evictCalendarsOfCurrentTenant();
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(2)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureCalendarRenderedDuringEvictionIsNotCached() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> {
+            // a change is committed while the absences of before the change are rendered
+            sut.evictCalendarsOfCurrentTenant();
+            return absences;
+        });
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(2)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureEvictionKeepsCalendarsOfOtherTenants() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")), Optional.of(new TenantId("other")), Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        sut.evictCalendarsOfCurrentTenant();
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(1)).getSharedCalendar("title", absences);
+    }
+
+    @Test
+    void ensureCalendarIsNotCachedWithoutTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.empty());
+        when(clock.instant()).thenReturn(NOW);
+
+        final Person batman = person(1L);
+        final List<Absence> absences = List.of();
+        when(iCalService.getSharedCalendar(anyString(), eq(absences))).thenReturn(new SharedCalendar(new Calendar(), "content", "hash", Map.of()));
+
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+        sut.getCalendarFeed(COMPANY, SINCE_DATE, "title", batman, () -> absences);
+
+        verify(iCalService, times(2)).getSharedCalendar("title", absences);
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person("username-" + id, "Wayne", "Bruce", "bruce@example.org");
+        person.setId(id);
+        return person;
+    }
+}
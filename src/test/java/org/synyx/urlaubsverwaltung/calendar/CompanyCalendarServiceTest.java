@@ -18,9 +18,11 @@ import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Locale.GERMAN;
@@ -48,7 +50,7 @@ class CompanyCalendarServiceTest {
     @Mock
     private CompanyCalendarRepository companyCalendarRepository;
     @Mock
-    private ICalService iCalService;
+    private CalendarFeedCache calendarFeedCache;
     @Mock
     private PersonService personService;
     @Mock
@@ -61,7 +63,7 @@ class CompanyCalendarServiceTest {
     @BeforeEach
     void setUp() {
 
-        sut = new CompanyCalendarService(absenceService, companyCalendarRepository, iCalService, personService, messageSource, Clock.systemUTC());
+        sut = new CompanyCalendarService(absenceService, companyCalendarRepository, calendarFeedCache, personService, messageSource, Clock.systemUTC());
     }
 
     @Test
@@ -80,11 +82,15 @@ class CompanyCalendarServiceTest {
         when(companyCalendarRepository.findBySecretAndPerson("secret", person)).thenReturn(Optional.of(companyCalendar));
 
         when(messageSource.getMessage(eq("calendar.company.title"), any(), eq(GERMAN))).thenReturn("Abwesenheitskalender der Firma");
-        final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar.ics");
-        when(iCalService.getCalendar("Abwesenheitskalender der Firma", absences, person)).thenReturn(iCal);
-
-        final ByteArrayResource calendar = sut.getCalendarForAll(10L, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendarFeed = new CalendarFeed(new ByteArrayResource(new byte[]{}, "calendar.ics"), "\"etag\"", Instant.now());
+        when(calendarFeedCache.getCalendarFeed(eq(CalendarFeedScope.COMPANY), any(LocalDate.class), eq("Abwesenheitskalender der Firma"), eq(person), any())).thenAnswer(invocation -> {
+            final Supplier<List<Absence>> absencesSupplier = invocation.getArgument(4);
+            assertThat(absencesSupplier.get()).isEqualTo(absences);
+            return calendarFeed;
+        });
+
+        final CalendarFeed calendar = sut.getCalendarForAll(10L, "secret", GERMAN);
+        assertThat(calendar).isEqualTo(calendarFeed);
     }
 
     @Test
@@ -25,6 +25,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.time.LocalDate.parse;
 import static java.time.format.DateTimeFormatter.ofPattern;
@@ -55,7 +56,7 @@ class DepartmentCalendarServiceTest {
     @Mock
     private DepartmentCalendarRepository departmentCalendarRepository;
     @Mock
-    private ICalService iCalService;
+    private CalendarFeedCache calendarFeedCache;
     @Mock
     private MessageSource messageSource;
 
@@ -63,7 +64,7 @@ class DepartmentCalendarServiceTest {
     void setUp() {
 
         sut = new DepartmentCalendarService(absenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, Clock.systemUTC());
+            departmentCalendarRepository, calendarFeedCache, messageSource, Clock.systemUTC());
     }
 
     @Test
@@ -116,11 +117,15 @@ class DepartmentCalendarServiceTest {
         when(absenceService.getOpenAbsencesSince(eq(List.of(person)), any(LocalDate.class))).thenReturn(fullDayAbsences);
 
         when(messageSource.getMessage(eq("calendar.department.title"), any(), eq(GERMAN))).thenReturn("Abwesenheitskalender der Abteilung DepartmentName");
-        final ByteArrayResource iCal = new ByteArrayResource(new byte[]{}, "calendar");
-        when(iCalService.getCalendar("Abwesenheitskalender der Abteilung DepartmentName", fullDayAbsences, person)).thenReturn(iCal);
-
-        final ByteArrayResource calendar = sut.getCalendarForDepartment(1L, 10L, "secret", GERMAN);
-        assertThat(calendar).isEqualTo(iCal);
+        final CalendarFeed calendarFeed = new CalendarFeed(new ByteArrayResource(new byte[]{}, "calendar"), "\"etag\"", Instant.now());
+        when(calendarFeedCache.getCalendarFeed(eq(CalendarFeedScope.department(1L, List.of(10L))), any(LocalDate.class), eq("Abwesenheitskalender der Abteilung DepartmentName"), eq(person), any())).thenAnswer(invocation -> {
+            final Supplier<List<Absence>> absencesSupplier = invocation.getArgument(4);
+            assertThat(absencesSupplier.get()).isEqualTo(fullDayAbsences);
+            return calendarFeed;
+        });
+
+        final CalendarFeed calendar = sut.getCalendarForDepartment(1L, 10L, "secret", GERMAN);
+        assertThat(calendar).isEqualTo(calendarFeed);
     }
 
     @Test
@@ -272,7 +277,7 @@ class DepartmentCalendarServiceTest {
 
         final Clock clock = Clock.fixed(Instant.parse("2019-04-15T10:00:00.00Z"), ZoneId.of("UTC"));
         final DepartmentCalendarService sut = new DepartmentCalendarService(absenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, clock);
+            departmentCalendarRepository, calendarFeedCache, messageSource, clock);
 
         final Department department = createDepartment("DepartmentName");
         department.setId(1L);
@@ -295,6 +300,12 @@ class DepartmentCalendarServiceTest {
         final List<Absence> fullDayAbsences = List.of(absence(person, parse("2018-03-26", ofPattern("yyyy-MM-dd")), parse("2018-03-26", ofPattern("yyyy-MM-dd")), FULL));
         when(absenceService.getOpenAbsencesSince(List.of(person), createdAt)).thenReturn(fullDayAbsences);
 
+        when(calendarFeedCache.getCalendarFeed(eq(CalendarFeedScope.department(1L, List.of(10L))), eq(createdAt), any(), eq(person), any())).thenAnswer(invocation -> {
+            final Supplier<List<Absence>> absencesSupplier = invocation.getArgument(4);
+            absencesSupplier.get();
+            return null;
+        });
+
         sut.getCalendarForDepartment(1L, 10L, "secret", GERMAN);
         verify(absenceService).getOpenAbsencesSince(List.of(person), createdAt);
     }
@@ -304,7 +315,7 @@ class DepartmentCalendarServiceTest {
 
         final Clock clock = Clock.fixed(Instant.parse("2019-06-15T10:00:00.00Z"), ZoneId.of("UTC"));
         final DepartmentCalendarService sut = new DepartmentCalendarService(absenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, clock);
+            departmentCalendarRepository, calendarFeedCache, messageSource, clock);
 
         final Department department = createDepartment("DepartmentName");
         department.setId(1L);
@@ -327,6 +338,12 @@ class DepartmentCalendarServiceTest {
         final List<Absence> fullDayAbsences = List.of(absence(person, parse("2018-03-26", ofPattern("yyyy-MM-dd")), parse("2018-03-26", ofPattern("yyyy-MM-dd")), FULL));
         when(absenceService.getOpenAbsencesSince(List.of(person), LocalDate.of(2018, 6, 15))).thenReturn(fullDayAbsences);
 
+        when(calendarFeedCache.getCalendarFeed(eq(CalendarFeedScope.department(1L, List.of(10L))), eq(LocalDate.of(2018, 6, 15)), any(), eq(person), any())).thenAnswer(invocation -> {
+            final Supplier<List<Absence>> absencesSupplier = invocation.getArgument(4);
+            absencesSupplier.get();
+            return null;
+        });
+
         sut.getCalendarForDepartment(1L, 10L, "secret", GERMAN);
         verify(absenceService).getOpenAbsencesSince(List.of(person), LocalDate.of(2018, 6, 15));
     }
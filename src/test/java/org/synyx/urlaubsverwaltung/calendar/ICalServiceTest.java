@@ -397,6 +397,46 @@ class ICalServiceTest {
                 """);
     }
 
+    @Test
+    void ensureSharedCalendarRenderedForRecipientEqualsCalendarOfRecipient() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person other = new Person("other", "Other", "Oliver", "other@example.org");
+        other.setId(2L);
+
+        final List<Absence> absences = List.of(
+            absence(person, toDateTime("2019-03-26"), toDateTime("2019-03-26"), FULL),
+            absence(other, toDateTime("2019-03-27"), toDateTime("2019-03-27"), MORNING),
+            holidayReplacement(person, toDateTime("2019-03-28"), toDateTime("2019-03-28"), FULL),
+            absence(person, toDateTime("2019-03-29"), toDateTime("2019-03-29"), NOON)
+        );
+
+        final SharedCalendar sharedCalendar = sut.getSharedCalendar("Abwesenheitskalender", absences);
+
+        assertThat(convertCalendar(sut.getCalendar(sharedCalendar, person)))
+            .isEqualTo(convertCalendar(sut.getCalendar("Abwesenheitskalender", absences, person)));
+        assertThat(convertCalendar(sut.getCalendar(sharedCalendar, other)))
+            .isEqualTo(convertCalendar(sut.getCalendar("Abwesenheitskalender", absences, other)));
+    }
+
+    @Test
+    void ensureSharedCalendarIsTransparentForPersonWithoutAbsences() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person recipient = new Person("other", "Other", "Oliver", "other@example.org");
+        recipient.setId(2L);
+
+        final List<Absence> absences = List.of(absence(person, toDateTime("2019-03-26"), toDateTime("2019-03-26"), FULL));
+        final SharedCalendar sharedCalendar = sut.getSharedCalendar("Abwesenheitskalender", absences);
+
+        assertThat(sharedCalendar.ownEventIndicesByPersonId()).containsOnlyKeys(1L);
+        assertThat(new String(sut.getCalendar(sharedCalendar, recipient).getByteArray(), UTF_8))
+            .isEqualTo(sharedCalendar.content())
+            .contains("TRANSP:TRANSPARENT");
+    }
+
     private Absence absence(Person person, LocalDate start, LocalDate end, DayLength length) {
         return absence(person, start, end, length, AbsenceType.DEFAULT);
     }
@@ -10,6 +10,8 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.web.context.WebApplicationContext;
 import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
 
+import java.time.Instant;
+
 import static java.util.Locale.GERMAN;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -45,7 +47,7 @@ class ICalViewControllerSecurityIT extends SingleTenantTestContainersBase {
     void getDepartmentCalendarUnauthorized() throws Exception {
 
         final String secret = "eid5ae0zooKu";
-        when(departmentCalendarService.getCalendarForDepartment(1L, 2L, secret, GERMAN)).thenReturn(new ByteArrayResource("calendar".getBytes()));
+        when(departmentCalendarService.getCalendarForDepartment(1L, 2L, secret, GERMAN)).thenReturn(new CalendarFeed(new ByteArrayResource("calendar".getBytes()), "\"etag\"", Instant.now()));
 
         perform(get("/web/departments/1/persons/2/calendar")
             .locale(GERMAN).param("secret", secret))
@@ -56,7 +58,7 @@ class ICalViewControllerSecurityIT extends SingleTenantTestContainersBase {
     void getCompanyCalendarUnauthorized() throws Exception {
 
         final String secret = "eid5ae0zooKu";
-        when(companyCalendarService.getCalendarForAll(1L, secret, GERMAN)).thenReturn(new ByteArrayResource("calendar".getBytes()));
+        when(companyCalendarService.getCalendarForAll(1L, secret, GERMAN)).thenReturn(new CalendarFeed(new ByteArrayResource("calendar".getBytes()), "\"etag\"", Instant.now()));
 
         perform(get("/web/company/persons/1/calendar")
             .locale(GERMAN).param("secret", secret))
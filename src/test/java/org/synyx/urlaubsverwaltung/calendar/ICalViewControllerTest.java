@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
@@ -31,6 +32,8 @@ import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standal
 @ExtendWith(MockitoExtension.class)
 class ICalViewControllerTest {
 
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-01-01T10:00:00Z");
+
     private ICalViewController sut;
 
     @Mock
@@ -84,7 +87,7 @@ class ICalViewControllerTest {
     @Test
     void getCalendarForDepartment() throws Exception {
 
-        when(departmentCalendarService.getCalendarForDepartment(1L, 2L, "secret", GERMAN)).thenReturn(new ByteArrayResource("calendar department".getBytes()));
+        when(departmentCalendarService.getCalendarForDepartment(1L, 2L, "secret", GERMAN)).thenReturn(calendarFeed("calendar department"));
 
         perform(get("/web/departments/1/persons/2/calendar")
             .locale(GERMAN)
@@ -92,9 +95,23 @@ class ICalViewControllerTest {
             .andExpect(status().isOk())
             .andExpect(header().string("Content-Type", "text/calendar;charset=UTF-8"))
             .andExpect(header().string("Content-Disposition", "attachment; filename=calendar.ics"))
+            .andExpect(header().string("ETag", "\"etag\""))
             .andExpect(content().string(containsString("calendar department")));
     }
 
+    @Test
+    void getCalendarForDepartmentNotModified() throws Exception {
+
+        when(departmentCalendarService.getCalendarForDepartment(1L, 2L, "secret", GERMAN)).thenReturn(calendarFeed("calendar department"));
+
+        perform(get("/web/departments/1/persons/2/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret")
+            .header("If-None-Match", "\"etag\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
     @Test
     void getCalendarForDepartmentWithBadRequest() throws Exception {
 
@@ -120,7 +137,7 @@ class ICalViewControllerTest {
     @Test
     void getCalendarForAll() throws Exception {
 
-        when(companyCalendarService.getCalendarForAll(2L, "secret", GERMAN)).thenReturn(new ByteArrayResource("calendar all".getBytes()));
+        when(companyCalendarService.getCalendarForAll(2L, "secret", GERMAN)).thenReturn(calendarFeed("calendar all"));
 
         perform(get("/web/company/persons/2/calendar")
             .locale(GERMAN)
@@ -128,9 +145,49 @@ class ICalViewControllerTest {
             .andExpect(status().isOk())
             .andExpect(header().string("Content-Type", "text/calendar;charset=UTF-8"))
             .andExpect(header().string("Content-Disposition", "attachment; filename=calendar.ics"))
+            .andExpect(header().string("ETag", "\"etag\""))
+            .andExpect(header().dateValue("Last-Modified", LAST_MODIFIED.toEpochMilli()))
             .andExpect(content().string(containsString("calendar all")));
     }
 
+    @Test
+    void getCalendarForAllNotModifiedByETag() throws Exception {
+
+        when(companyCalendarService.getCalendarForAll(2L, "secret", GERMAN)).thenReturn(calendarFeed("calendar all"));
+
+        perform(get("/web/company/persons/2/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret")
+            .header("If-None-Match", "\"etag\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void getCalendarForAllModifiedWithOutdatedETag() throws Exception {
+
+        when(companyCalendarService.getCalendarForAll(2L, "secret", GERMAN)).thenReturn(calendarFeed("calendar all"));
+
+        perform(get("/web/company/persons/2/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret")
+            .header("If-None-Match", "\"outdated\""))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("calendar all")));
+    }
+
+    @Test
+    void getCalendarForAllNotModifiedSince() throws Exception {
+
+        when(companyCalendarService.getCalendarForAll(2L, "secret", GERMAN)).thenReturn(calendarFeed("calendar all"));
+
+        perform(get("/web/company/persons/2/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret")
+            .header("If-Modified-Since", LAST_MODIFIED.toEpochMilli()))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     void getCalendarForAllWithNoContent() throws Exception {
 
@@ -153,6 +210,10 @@ class ICalViewControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    private static CalendarFeed calendarFeed(String content) {
+        return new CalendarFeed(new ByteArrayResource(content.getBytes()), "\"etag\"", LAST_MODIFIED);
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
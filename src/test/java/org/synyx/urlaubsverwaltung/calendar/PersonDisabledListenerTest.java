@@ -0,0 +1,137 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.config.AsyncConfiguration;
+import org.synyx.urlaubsverwaltung.config.AsyncProperties;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Runs the listener with a worker for the calendar sync, unlike the integration tests that execute every
+ * asynchronous task in the calling thread.
+ */
+@SpringJUnitConfig(PersonDisabledListenerTest.Config.class)
+class PersonDisabledListenerTest {
+
+    @MockitoBean
+    private PersonCalendarService personCalendarService;
+    @MockitoBean
+    private DepartmentCalendarService departmentCalendarService;
+    @MockitoBean
+    private CompanyCalendarService companyCalendarService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void ensureDeletesCalendarsInWorkerAfterCommit() {
+
+        final AtomicReference<Thread> executingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            executingThread.set(Thread.currentThread());
+            return null;
+        }).when(personCalendarService).deletePersonalCalendarForPerson(42);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(new PersonDisabledEvent(this, 42L, "niceName", "username", "email"));
+            verifyNoInteractions(personCalendarService, departmentCalendarService, companyCalendarService);
+        });
+
+        verify(personCalendarService, timeout(5000)).deletePersonalCalendarForPerson(42);
+        verify(departmentCalendarService, timeout(5000)).deleteDepartmentsCalendarsForPerson(42);
+        verify(companyCalendarService, timeout(5000)).deleteCalendarForPerson(42);
+        assertThat(executingThread.get().getName()).startsWith(AsyncConfiguration.CALENDAR_SYNC_EXECUTOR + "-");
+    }
+
+    @Test
+    void ensureDeletesNoCalendarsIfTransactionIsRolledBack() {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(new PersonDisabledEvent(this, 42L, "niceName", "username", "email"));
+            status.setRollbackOnly();
+        });
+
+        verify(personCalendarService, after(500).never()).deletePersonalCalendarForPerson(42);
+        verifyNoInteractions(departmentCalendarService, companyCalendarService);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({AsyncConfiguration.class, PersonDisabledListener.class})
+    static class Config {
+
+        @Bean
+        AsyncProperties asyncProperties() {
+            final AsyncProperties asyncProperties = new AsyncProperties();
+            asyncProperties.getCalendarSync().setConcurrency(1);
+            return asyncProperties;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder() {
+            return new SimpleAsyncTaskExecutorBuilder();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+    }
+
+    /**
+     * Transaction manager without resources, it only drives the transaction synchronizations.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            // nothing to begin
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            // nothing to commit
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            // nothing to roll back
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.stream.Collectors.groupingBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.SYNC;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncRequest.Type.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncRequest.Type.UPDATE;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSyncOutboxTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private CalendarSyncOutbox sut;
+
+    @Mock
+    private CalendarSyncOutboxRepository calendarSyncOutboxRepository;
+    @Mock
+    private AbsenceMappingRepository absenceMappingRepository;
+    @Mock
+    private CalendarProviderService calendarProviderService;
+    @Mock
+    private CalendarSettingsService calendarSettingsService;
+    @Mock
+    private SettingsService settingsService;
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private SickNoteService sickNoteService;
+    @Mock
+    private CalendarProvider calendarProvider;
+
+    @Captor
+    private ArgumentCaptor<List<CalendarSyncRequest>> requestsCaptor;
+
+    private CalendarSyncProperties calendarSyncProperties;
+
+    @BeforeEach
+    void setUp() {
+        calendarSyncProperties = new CalendarSyncProperties();
+        sut = new CalendarSyncOutbox(calendarSyncOutboxRepository, absenceMappingRepository, calendarProviderService,
+            calendarSettingsService, settingsService, applicationService, sickNoteService, calendarSyncProperties,
+            Clock.fixed(NOW, UTC));
+    }
+
+    @Test
+    void ensureEnqueueAddsEntry() {
+
+        sut.enqueue(1L, VACATION, SYNC);
+
+        final ArgumentCaptor<CalendarSyncOutboxEntry> captor = ArgumentCaptor.forClass(CalendarSyncOutboxEntry.class);
+        verify(calendarSyncOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue()).satisfies(entry -> {
+            assertThat(entry.getAbsenceId()).isEqualTo(1L);
+            assertThat(entry.getAbsenceMappingType()).isEqualTo(VACATION);
+            assertThat(entry.getOperation()).isEqualTo(SYNC);
+            assertThat(entry.getAttempts()).isZero();
+            assertThat(entry.getNextAttemptAt()).isEqualTo(NOW);
+            assertThat(entry.getEventId()).matches("[0-9a-f]{32}");
+        });
+    }
+
+    @Test
+    void ensureEnqueueOnlyAddsEntriesForFurtherChanges() {
+
+        sut.enqueue(1L, VACATION, SYNC);
+        sut.enqueue(1L, VACATION, DELETE);
+
+        final ArgumentCaptor<CalendarSyncOutboxEntry> captor = ArgumentCaptor.forClass(CalendarSyncOutboxEntry.class);
+        verify(calendarSyncOutboxRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(CalendarSyncOutboxEntry::getOperation).containsExactly(SYNC, DELETE);
+        assertThat(captor.getAllValues()).extracting(CalendarSyncOutboxEntry::getEventId).doesNotHaveDuplicates();
+        verifyNoMoreInteractions(calendarSyncOutboxRepository);
+    }
+
+    @Test
+    void ensureFlushDoesNothingWithoutCalendarProvider() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.empty());
+
+        sut.flush();
+
+        verifyNoInteractions(calendarSyncOutboxRepository);
+    }
+
+    @Test
+    void ensureFlushAddsEventAndRemembersMapping() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, SYNC);
+        prepareFlush(List.of(entry));
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.empty());
+        when(calendarProvider.sync(requestsCaptor.capture(), any())).thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.flush();
+
+        assertThat(requestsCaptor.getValue()).singleElement().satisfies(request -> {
+            assertThat(request.type()).isEqualTo(ADD);
+            assertThat(request.eventId()).isEqualTo(entry.getEventId());
+        });
+        final ArgumentCaptor<AbsenceMapping> captor = ArgumentCaptor.forClass(AbsenceMapping.class);
+        verify(absenceMappingRepository).save(captor.capture());
+        assertThat(captor.getValue().getAbsenceId()).isEqualTo(1L);
+        assertThat(captor.getValue().getAbsenceMappingType()).isEqualTo(VACATION);
+        assertThat(captor.getValue().getEventId()).isEqualTo("eventId");
+        verify(calendarSyncOutboxRepository).delete(entry);
+    }
+
+    @Test
+    void ensureFlushUpdatesExistingEvent() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, SYNC);
+        prepareFlush(List.of(entry));
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
+        when(calendarProvider.sync(requestsCaptor.capture(), any())).thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.flush();
+
+        assertThat(requestsCaptor.getValue()).singleElement().satisfies(request -> {
+            assertThat(request.type()).isEqualTo(UPDATE);
+            assertThat(request.eventId()).isEqualTo("eventId");
+        });
+        verify(absenceMappingRepository, never()).save(any());
+        verify(calendarSyncOutboxRepository).delete(entry);
+    }
+
+    @Test
+    void ensureFlushDeletesEventAndMapping() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, DELETE);
+        prepareFlush(List.of(entry));
+        final AbsenceMapping absenceMapping = new AbsenceMapping(1L, VACATION, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
+        when(calendarProvider.sync(requestsCaptor.capture(), any())).thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.flush();
+
+        assertThat(requestsCaptor.getValue()).containsExactly(CalendarSyncRequest.delete("eventId"));
+        verify(absenceMappingRepository).delete(absenceMapping);
+        verify(calendarSyncOutboxRepository).delete(entry);
+    }
+
+    @Test
+    void ensureFlushRemovesDeleteWithoutEvent() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, DELETE);
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(calendarProvider));
+        when(calendarSyncOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, Limit.of(50))).thenReturn(List.of(entry));
+        when(calendarSyncOutboxRepository.findByAbsenceIdAndAbsenceMappingTypeOrderByIdAsc(1L, VACATION)).thenReturn(List.of(entry));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.empty());
+
+        sut.flush();
+
+        verify(calendarSyncOutboxRepository).delete(entry);
+        verifyNoInteractions(calendarProvider);
+    }
+
+    @Test
+    void ensureFlushSendsLatestOperationOfAbsenceOnlyOnce() {
+
+        final CalendarSyncOutboxEntry olderEntry = entry(10L, 1L, SYNC);
+        final CalendarSyncOutboxEntry latestEntry = entry(11L, 1L, DELETE);
+        prepareFlush(List.of(olderEntry, latestEntry));
+        final AbsenceMapping absenceMapping = new AbsenceMapping(1L, VACATION, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
+        when(calendarProvider.sync(requestsCaptor.capture(), any())).thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.flush();
+
+        assertThat(requestsCaptor.getValue()).containsExactly(CalendarSyncRequest.delete("eventId"));
+        verify(calendarSyncOutboxRepository).delete(olderEntry);
+        verify(calendarSyncOutboxRepository).delete(latestEntry);
+    }
+
+    @Test
+    void ensureFlushSupersedesPendingEntriesThatAreNotDueYet() {
+
+        final CalendarSyncOutboxEntry backedOffEntry = entry(10L, 1L, SYNC);
+        backedOffEntry.setAttempts(2);
+        backedOffEntry.setNextAttemptAt(NOW.plus(Duration.ofMinutes(2)));
+        final CalendarSyncOutboxEntry latestEntry = entry(11L, 1L, DELETE);
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(calendarProvider));
+        when(calendarSyncOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, Limit.of(50))).thenReturn(List.of(latestEntry));
+        when(calendarSyncOutboxRepository.findByAbsenceIdAndAbsenceMappingTypeOrderByIdAsc(1L, VACATION)).thenReturn(List.of(backedOffEntry, latestEntry));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(calendarSettingsService.getCalendarSettings()).thenReturn(new CalendarSettings());
+        final AbsenceMapping absenceMapping = new AbsenceMapping(1L, VACATION, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
+        when(calendarProvider.sync(requestsCaptor.capture(), any())).thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.flush();
+
+        assertThat(requestsCaptor.getValue()).containsExactly(CalendarSyncRequest.delete("eventId"));
+        verify(calendarSyncOutboxRepository).delete(backedOffEntry);
+        verify(calendarSyncOutboxRepository).delete(latestEntry);
+    }
+
+    @Test
+    void ensureFlushStartsNoFurtherBatchAfterMaxFlushDuration() {
+
+        // every look at the clock takes one minute
+        final Clock clock = new Clock() {
+            private Instant now = NOW;
+
+            @Override
+            public ZoneId getZone() {
+                return UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                final Instant instant = now;
+                now = now.plus(Duration.ofMinutes(1));
+                return instant;
+            }
+        };
+        calendarSyncProperties.setBatchSize(1);
+        calendarSyncProperties.setMaxFlushDuration(Duration.ofMinutes(4));
+        sut = new CalendarSyncOutbox(calendarSyncOutboxRepository, absenceMappingRepository, calendarProviderService,
+            calendarSettingsService, settingsService, applicationService, sickNoteService, calendarSyncProperties, clock);
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, DELETE);
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(calendarProvider));
+        when(calendarSyncOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(any(), eq(Limit.of(1)))).thenReturn(List.of(entry));
+        when(calendarSyncOutboxRepository.findByAbsenceIdAndAbsenceMappingTypeOrderByIdAsc(1L, VACATION)).thenReturn(List.of(entry));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(calendarSettingsService.getCalendarSettings()).thenReturn(new CalendarSettings());
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
+        when(calendarProvider.sync(any(), any())).thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.flush();
+
+        // started at minute 0, batches at minute 1 and 3, no batch after the check at minute 4
+        verify(calendarProvider, times(2)).sync(any(), any());
+    }
+
+    @Test
+    void ensureFlushAddsEventWithEventIdOfOldestPendingEntry() {
+
+        final CalendarSyncOutboxEntry retriedEntry = entry(10L, 1L, SYNC);
+        retriedEntry.setAttempts(1);
+        final CalendarSyncOutboxEntry latestEntry = entry(11L, 1L, SYNC);
+        prepareFlush(List.of(retriedEntry, latestEntry));
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.empty());
+        when(calendarProvider.sync(requestsCaptor.capture(), any())).thenReturn(List.of(CalendarSyncResult.success(retriedEntry.getEventId())));
+
+        sut.flush();
+
+        assertThat(requestsCaptor.getValue()).singleElement().satisfies(request -> {
+            assertThat(request.type()).isEqualTo(ADD);
+            assertThat(request.eventId()).isEqualTo(retriedEntry.getEventId());
+        });
+    }
+
+    @Test
+    void ensureFlushBacksOffExponentiallyOnRetry() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, DELETE);
+        entry.setAttempts(2);
+        prepareFlush(List.of(entry));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
+        when(calendarProvider.sync(any(), any())).thenReturn(List.of(CalendarSyncResult.retry()));
+
+        sut.flush();
+
+        verify(calendarSyncOutboxRepository).saveAll(List.of(entry));
+        verify(calendarSyncOutboxRepository, never()).delete(any());
+        assertThat(entry.getAttempts()).isEqualTo(3);
+        assertThat(entry.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(2)));
+    }
+
+    @Test
+    void ensureFlushLimitsBackoff() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, DELETE);
+        entry.setAttempts(8);
+        prepareFlush(List.of(entry));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
+        when(calendarProvider.sync(any(), any())).thenReturn(List.of(CalendarSyncResult.retry()));
+
+        sut.flush();
+
+        assertThat(entry.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void ensureFlushDropsEntryAfterMaxAttempts() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, DELETE);
+        entry.setAttempts(9);
+        prepareFlush(List.of(entry));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
+        when(calendarProvider.sync(any(), any())).thenReturn(List.of(CalendarSyncResult.retry()));
+
+        sut.flush();
+
+        verify(calendarSyncOutboxRepository).delete(entry);
+        verify(calendarSyncOutboxRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void ensureFlushForgetsMappingOfEventDeletedInCalendar() {
+
+        final CalendarSyncOutboxEntry entry = entry(10L, 1L, SYNC);
+        prepareFlush(List.of(entry));
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        final AbsenceMapping absenceMapping = new AbsenceMapping(1L, VACATION, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
+        when(calendarProvider.sync(any(), any())).thenReturn(List.of(CalendarSyncResult.notFound()));
+
+        sut.flush();
+
+        verify(absenceMappingRepository).delete(absenceMapping);
+        verify(calendarSyncOutboxRepository, never()).delete(any());
+        assertThat(entry.getNextAttemptAt()).isEqualTo(NOW);
+    }
+
+    private void prepareFlush(List<CalendarSyncOutboxEntry> dueEntries) {
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(calendarProvider));
+        when(calendarSyncOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, Limit.of(50))).thenReturn(dueEntries);
+        dueEntries.stream()
+            .collect(groupingBy(CalendarSyncOutboxEntry::getAbsenceId))
+            .forEach((absenceId, entries) -> when(calendarSyncOutboxRepository.findByAbsenceIdAndAbsenceMappingTypeOrderByIdAsc(absenceId, VACATION)).thenReturn(entries));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(calendarSettingsService.getCalendarSettings()).thenReturn(new CalendarSettings());
+    }
+
+    private static CalendarSyncOutboxEntry entry(Long id, Long absenceId, CalendarSyncOperation operation) {
+        final CalendarSyncOutboxEntry entry = new CalendarSyncOutboxEntry(absenceId, VACATION, operation, NOW);
+        entry.setId(id);
+        return entry;
+    }
+
+    private static Application application(Long id) {
+        final Application application = new Application();
+        application.setId(id);
+        application.setStartDate(LocalDate.of(2024, 1, 8));
+        application.setEndDate(LocalDate.of(2024, 1, 9));
+        application.setDayLength(DayLength.FULL);
+        application.setPerson(new Person("muster", "Muster", "Marlene", "muster@example.org"));
+        return application;
+    }
+}
@@ -1,11 +1,15 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
 import com.google.api.services.calendar.Calendar;
-import com.google.api.services.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.absence.Absence;
@@ -16,109 +20,200 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncResult.Status.FAILED;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncResult.Status.NOT_FOUND;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncResult.Status.RETRY;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncResult.Status.SUCCESS;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 
 @ExtendWith(MockitoExtension.class)
 class GoogleCalendarSyncProviderServiceTest {
 
+    private GoogleCalendarSyncProvider sut;
+
     @Mock
     private GoogleCalendarClientProvider googleCalendarClientProvider;
 
-    @Captor
-    private ArgumentCaptor<Event> eventArgumentCaptor;
+    private BatchTransport transport;
+    private CalendarSettings calendarSettings;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GoogleCalendarSyncProvider(googleCalendarClientProvider);
+
+        transport = new BatchTransport();
+        calendarSettings = prepareCalendarSettings();
+    }
 
     @Test
-    void ensureAddAbsence() throws IOException {
+    void ensureAddAbsence() {
 
-        final CalendarSettings calendarSettings = prepareCalendarSettings();
-        final GoogleCalendarSyncProvider sut = new GoogleCalendarSyncProvider(googleCalendarClientProvider);
+        prepareCalendarClient();
+        transport.respond(200, "{\"id\":\"eventId\"}");
 
-        final Person person = new Person("testUser", "Hans", "Wurst", "testUser@mail.test");
-        final Period period = new Period(LocalDate.parse("2022-08-25"), LocalDate.parse("2022-08-26"), FULL);
+        final Absence absence = absence(LocalDate.parse("2022-08-25"), LocalDate.parse("2022-08-26"));
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.add(absence, "eventId")), calendarSettings);
 
-        final AbsenceTimeConfiguration config = new AbsenceTimeConfiguration(new TimeSettings());
-        final Absence absence = new Absence(person, period, config);
+        assertThat(results).containsExactly(CalendarSyncResult.success("eventId"));
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.getFirst())
+            .contains("POST https://www.googleapis.com/calendar/v3/calendars/CALENDAR_ID/events")
+            .contains("\"id\":\"eventId\"")
+            .contains("\"summary\":\"Wurst Hans abwesend\"")
+            .contains("\"start\":{\"date\":\"2022-08-25\"}")
+            .contains("\"end\":{\"date\":\"2022-08-27\"}")
+            .contains("\"email\":\"testUser@mail.test\"");
+    }
 
-        final Calendar calendarClient = mock(Calendar.class);
-        when(googleCalendarClientProvider.getCalendarClient(calendarSettings.getGoogleCalendarSettings())).thenReturn(Optional.of(calendarClient));
-        final Calendar.Events events = mock(Calendar.Events.class);
-        when(calendarClient.events()).thenReturn(events);
-        final Calendar.Events.Insert insert = mock(Calendar.Events.Insert.class);
-        when(events.insert(eq("CALENDAR_ID"), any())).thenReturn(insert);
-        final Event event = new Event();
-        event.setId("eventId");
-        when(insert.execute()).thenReturn(event);
+    @Test
+    void ensureUpdateAbsenceWithSinglePatch() {
 
-        final Optional<String> maybeEventId = sut.add(absence, calendarSettings);
-        assertThat(maybeEventId).hasValue("eventId");
+        prepareCalendarClient();
+        transport.respond(200, "{\"id\":\"eventId\"}");
 
-        verify(events).insert(eq("CALENDAR_ID"), eventArgumentCaptor.capture());
-        final Event capturedEvent = eventArgumentCaptor.getValue();
-        assertThat(capturedEvent.getStart().getDate()).hasToString("2022-08-25");
-        assertThat(capturedEvent.getEnd().getDate()).hasToString("2022-08-27");
-        assertThat(capturedEvent.getSummary()).isEqualTo("Wurst Hans abwesend");
-        assertThat(capturedEvent.getAttendees()).hasSize(1);
+        final Absence absence = absence(LocalDate.parse("2022-08-26"), LocalDate.parse("2022-08-27"));
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.update(absence, "eventId")), calendarSettings);
+
+        assertThat(results).containsExactly(CalendarSyncResult.success("eventId"));
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.getFirst())
+            .contains("PATCH https://www.googleapis.com/calendar/v3/calendars/CALENDAR_ID/events/eventId")
+            .contains("\"start\":{\"date\":\"2022-08-26\"}")
+            .contains("\"end\":{\"date\":\"2022-08-28\"}")
+            .doesNotContain("GET ");
     }
 
     @Test
-    void ensureUpdateAbsence() throws IOException {
+    void ensureDeleteAbsence() {
 
-        final CalendarSettings calendarSettings = prepareCalendarSettings();
-        final GoogleCalendarSyncProvider sut = new GoogleCalendarSyncProvider(googleCalendarClientProvider);
+        prepareCalendarClient();
+        transport.respond(204, "");
 
-        final Person person = new Person("testUser", "Hans", "Wurst", "testUser@mail.test");
-        final AbsenceTimeConfiguration config = new AbsenceTimeConfiguration(new TimeSettings());
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.delete("eventId")), calendarSettings);
 
-        final Calendar calendarClient = mock(Calendar.class);
-        when(googleCalendarClientProvider.getCalendarClient(calendarSettings.getGoogleCalendarSettings())).thenReturn(Optional.of(calendarClient));
-        final Calendar.Events events = mock(Calendar.Events.class);
-        when(calendarClient.events()).thenReturn(events);
+        assertThat(results).containsExactly(CalendarSyncResult.success("eventId"));
+        assertThat(transport.requests.getFirst()).contains("DELETE https://www.googleapis.com/calendar/v3/calendars/CALENDAR_ID/events/eventId");
+    }
 
-        final Calendar.Events.Get get = mock(Calendar.Events.Get.class);
-        when(events.get("CALENDAR_ID", "eventId")).thenReturn(get);
-        final Event event = new Event();
-        when(get.execute()).thenReturn(event);
+    @Test
+    void ensureDeleteOfMissingEventIsSuccessful() {
 
-        final Calendar.Events.Patch patch = mock(Calendar.Events.Patch.class);
-        when(events.patch("CALENDAR_ID", "eventId", event)).thenReturn(patch);
+        prepareCalendarClient();
+        transport.respond(404, error(404, "notFound"));
 
-        final Period updatedPeriod = new Period(LocalDate.parse("2022-08-26"), LocalDate.parse("2022-08-27"), FULL);
-        final Absence absenceUpdate = new Absence(person, updatedPeriod, config);
-        sut.update(absenceUpdate, "eventId", calendarSettings);
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.delete("eventId")), calendarSettings);
 
-        verify(events).patch(eq("CALENDAR_ID"), eq("eventId"), eventArgumentCaptor.capture());
-        final Event capturedEvent = eventArgumentCaptor.getValue();
-        assertThat(capturedEvent.getStart().getDate()).hasToString("2022-08-26");
-        assertThat(capturedEvent.getEnd().getDate()).hasToString("2022-08-28");
-        assertThat(capturedEvent.getSummary()).isEqualTo("Wurst Hans abwesend");
-        assertThat(capturedEvent.getAttendees()).hasSize(1);
+        assertThat(results).containsExactly(CalendarSyncResult.success("eventId"));
     }
 
     @Test
-    void ensureDeleteAbsence() throws IOException {
+    void ensureAddOfExistingEventIsSuccessful() {
 
-        final CalendarSettings calendarSettings = prepareCalendarSettings();
-        final GoogleCalendarSyncProvider sut = new GoogleCalendarSyncProvider(googleCalendarClientProvider);
+        prepareCalendarClient();
+        transport.respond(409, error(409, "duplicate"));
 
-        final Calendar calendarClient = mock(Calendar.class);
-        when(googleCalendarClientProvider.getCalendarClient(calendarSettings.getGoogleCalendarSettings())).thenReturn(Optional.of(calendarClient));
-        final Calendar.Events events = mock(Calendar.Events.class);
-        when(calendarClient.events()).thenReturn(events);
+        final Absence absence = absence(LocalDate.parse("2022-08-25"), LocalDate.parse("2022-08-26"));
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.add(absence, "eventId")), calendarSettings);
+
+        assertThat(results).containsExactly(CalendarSyncResult.success("eventId"));
+    }
+
+    @Test
+    void ensureUpdateOfMissingEventIsNotFound() {
+
+        prepareCalendarClient();
+        transport.respond(410, error(410, "deleted"));
+
+        final Absence absence = absence(LocalDate.parse("2022-08-26"), LocalDate.parse("2022-08-27"));
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.update(absence, "eventId")), calendarSettings);
+
+        assertThat(results).extracting(CalendarSyncResult::status).containsExactly(NOT_FOUND);
+    }
+
+    @Test
+    void ensureRetryOnRateLimitAndServerErrorsOnly() {
+
+        prepareCalendarClient();
+        transport.respond(429, error(429, "rateLimitExceeded"));
+        transport.respond(503, error(503, "backendError"));
+        transport.respond(403, error(403, "userRateLimitExceeded"));
+        transport.respond(403, error(403, "forbidden"));
+        transport.respond(400, error(400, "badRequest"));
+
+        final List<CalendarSyncRequest> requests = List.of(
+            CalendarSyncRequest.delete("eventId1"),
+            CalendarSyncRequest.delete("eventId2"),
+            CalendarSyncRequest.delete("eventId3"),
+            CalendarSyncRequest.delete("eventId4"),
+            CalendarSyncRequest.delete("eventId5")
+        );
+        final List<CalendarSyncResult> results = sut.sync(requests, calendarSettings);
+
+        assertThat(results).extracting(CalendarSyncResult::status).containsExactly(RETRY, RETRY, RETRY, FAILED, FAILED);
+        assertThat(transport.requests).hasSize(1);
+    }
+
+    @Test
+    void ensureSendsAtMostFiftyRequestsInOneBatch() {
 
-        final Calendar.Events.Delete delete = mock(Calendar.Events.Delete.class);
-        when(events.delete("CALENDAR_ID", "eventId")).thenReturn(delete);
+        prepareCalendarClient();
+        final List<CalendarSyncRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 51; i++) {
+            transport.respond(204, "");
+            requests.add(CalendarSyncRequest.delete("eventId" + i));
+        }
 
-        sut.delete("eventId", calendarSettings);
+        final List<CalendarSyncResult> results = sut.sync(requests, calendarSettings);
 
-        verify(events).delete("CALENDAR_ID", "eventId");
+        assertThat(results).hasSize(51).extracting(CalendarSyncResult::status).containsOnly(SUCCESS);
+        assertThat(results.getLast().eventId()).isEqualTo("eventId50");
+        assertThat(transport.requests).hasSize(2);
+    }
+
+    @Test
+    void ensureRetryIfBatchRequestFails() {
+
+        prepareCalendarClient();
+        transport.failing = true;
+
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.delete("eventId")), calendarSettings);
+
+        assertThat(results).extracting(CalendarSyncResult::status).containsExactly(RETRY);
+    }
+
+    @Test
+    void ensureRetryWithoutCalendarClient() {
+
+        when(googleCalendarClientProvider.getCalendarClient(calendarSettings.getGoogleCalendarSettings())).thenReturn(Optional.empty());
+
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.delete("eventId")), calendarSettings);
+
+        assertThat(results).extracting(CalendarSyncResult::status).containsExactly(RETRY);
+        assertThat(transport.requests).isEmpty();
+    }
+
+    private void prepareCalendarClient() {
+        final Calendar calendarClient = new Calendar.Builder(transport, GsonFactory.getDefaultInstance(), null)
+            .setApplicationName("Urlaubsverwaltung")
+            .build();
+        when(googleCalendarClientProvider.getCalendarClient(calendarSettings.getGoogleCalendarSettings())).thenReturn(Optional.of(calendarClient));
+    }
+
+    private static Absence absence(LocalDate startDate, LocalDate endDate) {
+        final Person person = new Person("testUser", "Hans", "Wurst", "testUser@mail.test");
+        return new Absence(person, new Period(startDate, endDate, FULL), new AbsenceTimeConfiguration(new TimeSettings()));
+    }
+
+    private static String error(int code, String reason) {
+        return "{\"error\":{\"code\":" + code + ",\"message\":\"" + reason + "\",\"errors\":[{\"reason\":\"" + reason + "\"}]}}";
     }
 
     private CalendarSettings prepareCalendarSettings() {
@@ -134,4 +229,50 @@ class GoogleCalendarSyncProviderServiceTest {
 
         return calendarSettings;
     }
+
+    /**
+     * Answers batch requests like the batch endpoint of Google Calendar, one prepared response per part of the
+     * batch request.
+     */
+    private static class BatchTransport extends MockHttpTransport {
+
+        private static final String BOUNDARY = "batch_boundary";
+
+        private final Deque<String> responseParts = new ArrayDeque<>();
+        private final List<String> requests = new ArrayList<>();
+        private boolean failing;
+
+        void respond(int statusCode, String body) {
+            responseParts.add("Content-Type: application/http\r\n\r\n"
+                + "HTTP/1.1 " + statusCode + " Status\r\n"
+                + "Content-Type: application/json; charset=UTF-8\r\n\r\n"
+                + body + "\r\n");
+        }
+
+        @Override
+        public LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws IOException {
+                    if (failing) {
+                        throw new IOException("connection refused");
+                    }
+
+                    final String content = getContentAsString();
+                    requests.add(content);
+
+                    final StringBuilder response = new StringBuilder();
+                    final int parts = content.split("Content-Type: application/http", -1).length - 1;
+                    for (int i = 0; i < parts; i++) {
+                        response.append("--").append(BOUNDARY).append("\r\n").append(responseParts.removeFirst());
+                    }
+                    response.append("--").append(BOUNDARY).append("--\r\n");
+
+                    return new MockLowLevelHttpResponse()
+                        .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                        .setContent(response.toString());
+                }
+            };
+        }
+    }
 }
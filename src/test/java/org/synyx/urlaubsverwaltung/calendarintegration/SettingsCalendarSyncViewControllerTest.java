@@ -8,10 +8,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.validation.Errors;
-import org.synyx.urlaubsverwaltung.absence.Absence;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.TimeZone;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -214,17 +212,7 @@ class SettingsCalendarSyncViewControllerTest {
     private static class SomeCalendarProvider implements CalendarProvider {
 
         @Override
-        public Optional<String> add(Absence absence, CalendarSettings calendarSettings) {
-            throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
-        }
-
-        @Override
-        public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
-            throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
-        }
-
-        @Override
-        public Optional<String> delete(String eventId, CalendarSettings calendarSettings) {
+        public List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings) {
             throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
         }
 
@@ -237,17 +225,7 @@ class SettingsCalendarSyncViewControllerTest {
     private static class AnotherCalendarProvider implements CalendarProvider {
 
         @Override
-        public Optional<String> add(Absence absence, CalendarSettings calendarSettings) {
-            throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
-        }
-
-        @Override
-        public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
-            throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
-        }
-
-        @Override
-        public Optional<String> delete(String eventId, CalendarSettings calendarSettings) {
+        public List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings) {
             throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
         }
 
@@ -0,0 +1,133 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.DEFAULT_EXECUTOR;
+import static org.synyx.urlaubsverwaltung.config.AsyncConfiguration.EXTENSION_EXECUTOR;
+
+class AsyncConfigurationTest {
+
+    private AsyncProperties asyncProperties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        asyncProperties = new AsyncProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void ensureExecutesTasksInVirtualWorkerThreads() throws InterruptedException {
+        final AsyncConfiguration sut = new AsyncConfiguration(asyncProperties, meterRegistry);
+
+        final AtomicReference<Thread> executingThread = new AtomicReference<>();
+        final CountDownLatch executed = new CountDownLatch(1);
+        try (ExecutorService executor = (ExecutorService) sut.extensionExecutor()) {
+            executor.execute(() -> {
+                executingThread.set(Thread.currentThread());
+                executed.countDown();
+            });
+            assertThat(executed.await(5, SECONDS)).isTrue();
+
+            assertThat(meterRegistry.get("executor.queued").tag("name", EXTENSION_EXECUTOR).gauge().value()).isZero();
+            assertThat(meterRegistry.get("executor.pool.max").tag("name", EXTENSION_EXECUTOR).gauge().value()).isOne();
+        }
+
+        assertThat(executingThread.get().isVirtual()).isTrue();
+        assertThat(executingThread.get().getName()).startsWith("extension-");
+        assertThat(meterRegistry.get("executor").tag("name", EXTENSION_EXECUTOR).timer().count()).isOne();
+    }
+
+    @Test
+    void ensureWaitsForFreePlaceInQueueAndKeepsOrderIfQueueIsFull() throws InterruptedException {
+        asyncProperties.getExtension().setQueueCapacity(1);
+
+        final AsyncConfiguration sut = new AsyncConfiguration(asyncProperties, meterRegistry);
+
+        final CountDownLatch workerBusy = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> executedTasks = new CopyOnWriteArrayList<>();
+        final AtomicReference<Thread> executingThread = new AtomicReference<>();
+        try (ExecutorService executor = (ExecutorService) sut.extensionExecutor()) {
+            executor.execute(() -> {
+                workerBusy.countDown();
+                awaitQuietly(release);
+                executedTasks.add(1);
+            });
+            assertThat(workerBusy.await(5, SECONDS)).isTrue();
+
+            // occupies the only place in the queue
+            executor.execute(() -> executedTasks.add(2));
+            assertThat(meterRegistry.get("executor.queued").tag("name", EXTENSION_EXECUTOR).gauge().value()).isOne();
+
+            final Thread producer = Thread.ofVirtual().start(() -> executor.execute(() -> {
+                executedTasks.add(3);
+                executingThread.set(Thread.currentThread());
+            }));
+            awaitWaiting(producer);
+            assertThat(executedTasks).isEmpty();
+
+            release.countDown();
+            producer.join(5_000);
+        }
+
+        assertThat(executedTasks).containsExactly(1, 2, 3);
+        assertThat(executingThread.get().getName()).startsWith("extension-");
+    }
+
+    @Test
+    void ensureExecutesTasksInCallingThreadWithoutWorkers() {
+        asyncProperties.getCalendarSync().setConcurrency(0);
+
+        final AsyncConfiguration sut = new AsyncConfiguration(asyncProperties, meterRegistry);
+
+        final AtomicReference<Thread> executingThread = new AtomicReference<>();
+        final Executor executor = sut.calendarSyncExecutor();
+        executor.execute(() -> executingThread.set(Thread.currentThread()));
+
+        assertThat(executingThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void ensureDefaultExecutorIsBounded() throws InterruptedException {
+        final AsyncConfiguration sut = new AsyncConfiguration(asyncProperties, meterRegistry);
+
+        assertThat(sut.getAsyncExecutor()).isInstanceOf(ExecutorService.class);
+        try (ExecutorService executor = (ExecutorService) sut.getAsyncExecutor()) {
+            final CountDownLatch executed = new CountDownLatch(1);
+            executor.execute(executed::countDown);
+            assertThat(executed.await(5, SECONDS)).isTrue();
+
+            assertThat(meterRegistry.get("executor.pool.max").tag("name", DEFAULT_EXECUTOR).gauge().value()).isEqualTo(4);
+            assertThat(meterRegistry.get("executor.queue.remaining").tag("name", DEFAULT_EXECUTOR).gauge().value()).isEqualTo(1000);
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
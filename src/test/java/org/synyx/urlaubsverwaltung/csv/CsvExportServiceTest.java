@@ -8,13 +8,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Locale.JAPANESE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class CsvExportServiceTest {
@@ -46,11 +51,8 @@ class CsvExportServiceTest {
 
         final CsvExportService<String> sut = new CsvExportService<>() {
             @Override
-            public void write(FilterPeriod period, Locale locale, List<String> data, CSVWriter csvWriter) {
-                final String[] row = new String[data.size()];
-                row[0] = data.get(0);
-                row[1] = data.get(1);
-                csvWriter.writeNext(row);
+            public void write(FilterPeriod period, Locale locale, Stream<String> data, CSVWriter csvWriter) {
+                csvWriter.writeNext(data.toArray(String[]::new));
             }
 
             @Override
@@ -69,9 +71,8 @@ class CsvExportServiceTest {
 
         final CsvExportService<String> sut = new CsvExportService<>() {
             @Override
-            public void write(FilterPeriod period, Locale locale, List<String> data, CSVWriter csvWriter) {
-                csvWriter.writeNext(new String[]{data.get(0)});
-
+            public void write(FilterPeriod period, Locale locale, Stream<String> data, CSVWriter csvWriter) {
+                data.forEach(row -> csvWriter.writeNext(new String[]{row}));
             }
 
             @Override
@@ -84,4 +85,43 @@ class CsvExportServiceTest {
         final ByteArrayResource aLotOfData = sut.resource(period, JAPANESE, List.of("A lot of data"));
         assertThat(new String(aLotOfData.getByteArray(), UTF_8)).contains("A lot of data");
     }
+
+    @Test
+    void ensureStreamCSVWritesBomAndAllRowsToOutputStream() {
+
+        final CsvExportService<String> sut = new CsvExportService<>() {
+            @Override
+            public void write(FilterPeriod period, Locale locale, Stream<String> data, CSVWriter csvWriter) {
+                data.forEach(row -> csvWriter.writeNext(new String[]{row}));
+            }
+
+            @Override
+            public String fileName(FilterPeriod period, Locale locale) {
+                return "someFileName.csv";
+            }
+        };
+
+        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.streamCSV(period, JAPANESE, Stream.of("first row", "second row"), outputStream);
+
+        assertThat(outputStream.toByteArray()).startsWith((byte) 239, (byte) 187, (byte) 191);
+        assertThat(outputStream.toString(UTF_8)).contains("first row\nsecond row\n");
+    }
+
+    @Test
+    void ensureStreamCSVThrowsCsvExportExceptionIfOutputStreamFails() {
+
+        final OutputStream failingOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+        final Stream<String> data = Stream.of("A lot of data");
+        assertThatThrownBy(() -> sut.streamCSV(period, JAPANESE, data, failingOutputStream))
+            .isInstanceOf(CsvExportException.class);
+    }
 }
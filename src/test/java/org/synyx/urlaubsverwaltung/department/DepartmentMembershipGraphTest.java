@@ -0,0 +1,140 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentMembershipGraphTest {
+
+    private DepartmentMembershipGraph sut;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+    @Mock
+    private Clock clock;
+
+    private Person departmentHead;
+    private Person secondStageAuthority;
+    private Person member;
+    private Person otherPerson;
+
+    @BeforeEach
+    void setUp() {
+        sut = new DepartmentMembershipGraph(departmentRepository, clock);
+
+        departmentHead = person(1L);
+        secondStageAuthority = person(2L);
+        member = person(3L);
+        otherPerson = person(4L);
+    }
+
+    @Test
+    void ensureLoadsMembersOfDepartmentHeadOnlyOnce() {
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
+        when(departmentRepository.findManagedMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 3L));
+
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, member)).isTrue();
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, secondStageAuthority)).isTrue();
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, otherPerson)).isFalse();
+        assertThat(sut.isManagedByDepartmentHead(departmentHead, member)).isTrue();
+        assertThat(sut.isManagedByDepartmentHead(departmentHead, secondStageAuthority)).isFalse();
+
+        verify(departmentRepository).findMemberIdsOfDepartmentHead(1L);
+        verify(departmentRepository).findManagedMemberIdsOfDepartmentHead(1L);
+    }
+
+    @Test
+    void ensureLoadsMembersOfSecondStageAuthorityOnlyOnce() {
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+        when(departmentRepository.findMemberIdsOfSecondStageAuthority(2L)).thenReturn(List.of(1L, 2L, 3L));
+
+        assertThat(sut.isMemberOfSecondStageAuthority(secondStageAuthority, member)).isTrue();
+        assertThat(sut.isMemberOfSecondStageAuthority(secondStageAuthority, departmentHead)).isTrue();
+        assertThat(sut.isMemberOfSecondStageAuthority(secondStageAuthority, otherPerson)).isFalse();
+
+        verify(departmentRepository).findMemberIdsOfSecondStageAuthority(2L);
+    }
+
+    @Test
+    void ensureReloadsMembersAfterTimeToLive() {
+        final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+        when(clock.instant()).thenReturn(now, now, now.plus(DepartmentMembershipGraph.TIME_TO_LIVE));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
+
+        sut.isMemberOfDepartmentHead(departmentHead, member);
+        sut.isMemberOfDepartmentHead(departmentHead, member);
+
+        verify(departmentRepository, times(2)).findMemberIdsOfDepartmentHead(1L);
+    }
+
+    @Test
+    void ensureReloadsMembersAfterInvalidation() {
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L), List.of());
+
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, member)).isTrue();
+        sut.invalidate();
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, member)).isFalse();
+    }
+
+    @Test
+    void ensureDropsMembersLoadedDuringInvalidation() {
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L))
+            .thenAnswer(invocation -> {
+                sut.invalidate();
+                return List.of(1L, 2L, 3L);
+            })
+            .thenReturn(List.of());
+
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, member)).isTrue();
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, member)).isFalse();
+    }
+
+    @Test
+    void ensureReloadsMembersAfterPersonIsDisabled() {
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+        when(departmentRepository.findMemberIdsOfSecondStageAuthority(2L)).thenReturn(List.of(1L, 2L, 3L), List.of());
+
+        assertThat(sut.isMemberOfSecondStageAuthority(secondStageAuthority, member)).isTrue();
+        sut.on(new PersonDisabledEvent(this, member.getId(), member.getNiceName(), member.getUsername(), member.getEmail()));
+        assertThat(sut.isMemberOfSecondStageAuthority(secondStageAuthority, member)).isFalse();
+    }
+
+    @Test
+    void ensurePersonWithoutIdIsNeverMember() {
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
+
+        assertThat(sut.isMemberOfDepartmentHead(departmentHead, new Person())).isFalse();
+    }
+
+    @Test
+    void ensureDepartmentHeadWithoutIdHasNoMembers() {
+        assertThat(sut.isMemberOfDepartmentHead(new Person(), member)).isFalse();
+        verifyNoInteractions(departmentRepository);
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person("person" + id, "Muster", "Marlene", "person" + id + "@example.org");
+        person.setId(id);
+        return person;
+    }
+}
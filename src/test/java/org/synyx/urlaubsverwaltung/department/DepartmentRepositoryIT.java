@@ -13,7 +13,9 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
@@ -60,4 +62,66 @@ class DepartmentRepositoryIT extends SingleTenantTestContainersBase {
         final List<DepartmentEntity> departments = sut.findByDepartmentHeadsOrSecondStageAuthorities(savedPerson, savedPerson);
         assertThat(departments).containsOnly(savedDepartmentA, savedDepartmentB);
     }
+
+    @Test
+    void ensureFindsMemberIdsOfDepartmentHeadAndSecondStageAuthority() {
+
+        final Person departmentHead = personService.create("head", "head", "head", "head@example.org", List.of(), List.of(USER, DEPARTMENT_HEAD));
+        final Person secondStageAuthority = personService.create("ssa", "ssa", "ssa", "ssa@example.org", List.of(), List.of(USER, SECOND_STAGE_AUTHORITY));
+        final Person member = personService.create("member", "member", "member", "member@example.org", List.of(), List.of(USER));
+        final Person otherMember = personService.create("other", "other", "other", "other@example.org", List.of(), List.of(USER));
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName("department");
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setMembers(List.of(member(departmentHead), member(secondStageAuthority), member(member)));
+        department.setDepartmentHeads(List.of(departmentHead));
+        department.setSecondStageAuthorities(List.of(secondStageAuthority));
+        sut.save(department);
+
+        final DepartmentEntity otherDepartment = new DepartmentEntity();
+        otherDepartment.setName("other department");
+        otherDepartment.setCreatedAt(LocalDate.of(2022, 10, 2));
+        otherDepartment.setMembers(List.of(member(otherMember)));
+        sut.save(otherDepartment);
+
+        assertThat(sut.findMemberIdsOfDepartmentHead(departmentHead.getId()))
+            .containsExactlyInAnyOrder(departmentHead.getId(), secondStageAuthority.getId(), member.getId());
+        assertThat(sut.findManagedMemberIdsOfDepartmentHead(departmentHead.getId()))
+            .containsExactlyInAnyOrder(departmentHead.getId(), member.getId());
+        assertThat(sut.findMemberIdsOfSecondStageAuthority(secondStageAuthority.getId()))
+            .containsExactlyInAnyOrder(departmentHead.getId(), secondStageAuthority.getId(), member.getId());
+    }
+
+    @Test
+    void ensureCountsMembersAndMembersWithPermission() {
+
+        final Person member = personService.create("member", "member", "member", "member@example.org", List.of(), List.of(USER));
+        final Person inactiveMember = personService.create("inactive", "inactive", "inactive", "inactive@example.org", List.of(), List.of(INACTIVE));
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName("department");
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setMembers(List.of(member(member), member(inactiveMember)));
+        final DepartmentEntity savedDepartment = sut.save(department);
+
+        final DepartmentEntity emptyDepartment = new DepartmentEntity();
+        emptyDepartment.setName("empty department");
+        emptyDepartment.setCreatedAt(LocalDate.of(2022, 10, 2));
+        sut.save(emptyDepartment);
+
+        assertThat(sut.countMembers())
+            .extracting(DepartmentMembersCount::getDepartmentId, DepartmentMembersCount::getMembersCount)
+            .containsExactly(tuple(savedDepartment.getId(), 2L));
+        assertThat(sut.countMembersWithPermission(INACTIVE))
+            .extracting(DepartmentMembersCount::getDepartmentId, DepartmentMembersCount::getMembersCount)
+            .containsExactly(tuple(savedDepartment.getId(), 1L));
+    }
+
+    private static DepartmentMemberEmbeddable member(Person person) {
+        final DepartmentMemberEmbeddable member = new DepartmentMemberEmbeddable();
+        member.setAccessionDate(Instant.now());
+        member.setPerson(person);
+        return member;
+    }
 }
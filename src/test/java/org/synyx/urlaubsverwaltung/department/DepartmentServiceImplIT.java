@@ -0,0 +1,79 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.Role;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+/**
+ * Not transactional on purpose, the departments have to be usable after the transaction of the service ended.
+ */
+@SpringBootTest
+class DepartmentServiceImplIT extends SingleTenantTestContainersBase {
+
+    @Autowired
+    private DepartmentService sut;
+
+    @Autowired
+    private PersonService personService;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Long> departmentIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        departmentIds.forEach(sut::delete);
+        persons.forEach(person -> personService.delete(person, person));
+    }
+
+    @Test
+    void ensureDepartmentHeadsAndSecondStageAuthoritiesAreUsableOutsideOfTransaction() {
+
+        final Person departmentHead = createPerson("head", DEPARTMENT_HEAD);
+        final Person secondStageAuthority = createPerson("ssa", SECOND_STAGE_AUTHORITY);
+        final Person member = createPerson("member", USER);
+
+        final Department department = new Department();
+        department.setName("department");
+        department.setTwoStageApproval(true);
+        department.setMembers(List.of(departmentHead, secondStageAuthority, member));
+        department.setDepartmentHeads(List.of(departmentHead));
+        department.setSecondStageAuthorities(List.of(secondStageAuthority));
+        final Department savedDepartment = sut.create(department);
+        departmentIds.add(savedDepartment.getId());
+
+        assertThat(sut.getDepartmentById(savedDepartment.getId())).hasValueSatisfying(actual -> {
+            assertThat(actual.getMembers()).containsExactlyInAnyOrder(departmentHead, secondStageAuthority, member);
+            assertThat(actual.getDepartmentHeads()).containsExactly(departmentHead);
+            assertThat(actual.getSecondStageAuthorities()).containsExactly(secondStageAuthority);
+        });
+
+        assertThat(sut.getAllDepartments()).singleElement().satisfies(actual -> {
+            assertThat(actual.getDepartmentHeads()).containsExactly(departmentHead);
+            assertThat(actual.getSecondStageAuthorities()).containsExactly(secondStageAuthority);
+        });
+
+        assertThat(sut.getManagedDepartmentsOfDepartmentHead(departmentHead)).singleElement()
+            .satisfies(actual -> assertThat(actual.getSecondStageAuthorities()).containsExactly(secondStageAuthority));
+        assertThat(sut.getManagedDepartmentsOfSecondStageAuthority(secondStageAuthority)).singleElement()
+            .satisfies(actual -> assertThat(actual.getDepartmentHeads()).containsExactly(departmentHead));
+    }
+
+    private Person createPerson(String username, Role role) {
+        final Person person = personService.create(username, username, username, username + "@example.org", List.of(), List.of(USER, role));
+        persons.add(person);
+        return person;
+    }
+}
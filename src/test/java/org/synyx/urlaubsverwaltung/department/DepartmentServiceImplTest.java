@@ -72,7 +72,7 @@ class DepartmentServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher, clock);
+        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher, new DepartmentMembershipGraph(departmentRepository, clock), clock);
     }
 
     @Test
@@ -1139,6 +1139,33 @@ class DepartmentServiceImplTest {
             .containsExactly(departmentA, departmentB);
     }
 
+    @Test
+    void ensureGetAllDepartmentOverviewsCountsActiveAndInactiveMembers() {
+
+        final LocalDate lastModification = LocalDate.of(2024, 5, 2);
+
+        final DepartmentEntity departmentEntityA = new DepartmentEntity();
+        departmentEntityA.setId(1L);
+        departmentEntityA.setName("department A");
+        departmentEntityA.setDescription("description");
+        departmentEntityA.setLastModification(lastModification);
+        departmentEntityA.setTwoStageApproval(true);
+        final DepartmentEntity departmentEntityB = new DepartmentEntity();
+        departmentEntityB.setId(2L);
+        departmentEntityB.setName("Department B");
+        departmentEntityB.setLastModification(lastModification);
+
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntityB, departmentEntityA));
+        when(departmentRepository.countMembers()).thenReturn(List.of(membersCount(1L, 3L)));
+        when(departmentRepository.countMembersWithPermission(INACTIVE)).thenReturn(List.of(membersCount(1L, 1L)));
+
+        final List<DepartmentOverview> departmentOverviews = sut.getAllDepartmentOverviews();
+        assertThat(departmentOverviews).containsExactly(
+            new DepartmentOverview(1L, "department A", "description", lastModification, true, 2, 1),
+            new DepartmentOverview(2L, "Department B", null, lastModification, false, 0, 0)
+        );
+    }
+
     @Test
     void ensureGetAllDepartmentSorted() {
 
@@ -1392,19 +1419,14 @@ class DepartmentServiceImplTest {
     void ensureReturnsTrueIfIsDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
         final Person marlenePerson = new Person("muster", "Muster", "Marlene", "marlene.muster@example.org");
-        final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable(marlenePerson);
-        final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
+        marlenePerson.setId(2L);
 
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(admins));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
+        when(departmentRepository.findManagedMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marlenePerson);
         assertThat(isDepartmentHead).isTrue();
@@ -1414,20 +1436,14 @@ class DepartmentServiceImplTest {
     void ensureReturnsFalseIfIsNotDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable("admin1", "Muster", "Marlene", "marlene.muster@example.org");
-        final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
 
         Person marketing1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        marketing1.setId(4L);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(admins));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
+        when(departmentRepository.findManagedMemberIdsOfDepartmentHead(1L)).thenReturn(List.of(1L, 2L, 3L));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marketing1);
         assertThat(isDepartmentHead).isFalse();
@@ -1755,20 +1771,12 @@ class DepartmentServiceImplTest {
         person.setId(1L);
         person.setPermissions(List.of(USER));
 
-        final DepartmentMemberEmbeddable personMember = departmentMemberEmbeddable(person);
-
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setName("dep");
-        departmentEntity.setMembers(List.of(personMember, departmentHeadMember));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(2L)).thenReturn(List.of(1L, 2L));
+        when(departmentRepository.findManagedMemberIdsOfDepartmentHead(2L)).thenReturn(List.of(1L, 2L));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isTrue();
@@ -1785,14 +1793,8 @@ class DepartmentServiceImplTest {
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setName("dep");
-        departmentEntity.setMembers(List.of(departmentHeadMember));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(2L)).thenReturn(List.of(2L));
+        when(departmentRepository.findManagedMemberIdsOfDepartmentHead(2L)).thenReturn(List.of(2L));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isFalse();
@@ -1805,20 +1807,12 @@ class DepartmentServiceImplTest {
         secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
 
-        final DepartmentMemberEmbeddable secondStageAuthorityMember = departmentMemberEmbeddable(secondStageAuthority);
-
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setName("dep");
-        departmentEntity.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
-        departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findMemberIdsOfDepartmentHead(2L)).thenReturn(List.of(1L, 2L));
+        when(departmentRepository.findManagedMemberIdsOfDepartmentHead(2L)).thenReturn(List.of(2L));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, secondStageAuthority);
         assertThat(isAllowed).isTrue();
@@ -1831,22 +1825,11 @@ class DepartmentServiceImplTest {
         secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable secondStageAuthorityMember = departmentMemberEmbeddable(secondStageAuthority);
-
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity dep = new DepartmentEntity();
-        dep.setName("dep");
-        dep.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
-        dep.setSecondStageAuthorities(List.of(secondStageAuthority));
-        dep.setDepartmentHeads(List.of(departmentHead));
-
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority))
-            .thenReturn(List.of(dep));
+        when(departmentRepository.findMemberIdsOfSecondStageAuthority(1L)).thenReturn(List.of(1L, 2L));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(secondStageAuthority, departmentHead);
         assertThat(isAllowed).isTrue();
@@ -2466,4 +2449,18 @@ class DepartmentServiceImplTest {
 
         return departmentMemberEmbeddable;
     }
+
+    private static DepartmentMembersCount membersCount(Long departmentId, Long membersCount) {
+        return new DepartmentMembersCount() {
+            @Override
+            public Long getDepartmentId() {
+                return departmentId;
+            }
+
+            @Override
+            public Long getMembersCount() {
+                return membersCount;
+            }
+        };
+    }
 }
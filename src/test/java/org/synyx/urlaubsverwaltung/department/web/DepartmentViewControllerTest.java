@@ -11,11 +11,13 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.validation.Errors;
 import org.synyx.urlaubsverwaltung.department.Department;
+import org.synyx.urlaubsverwaltung.department.DepartmentOverview;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,8 +68,8 @@ class DepartmentViewControllerTest {
     @Test
     void showAllDepartmentsAddsDepartmentsToModel() throws Exception {
 
-        final List<Department> departments = List.of(new Department());
-        when(departmentService.getAllDepartments()).thenReturn(departments);
+        final List<DepartmentOverview> departments = List.of(new DepartmentOverview(1L, "Department", null, LocalDate.now(), false, 2, 1));
+        when(departmentService.getAllDepartmentOverviews()).thenReturn(departments);
 
         final Person signedInUser = new Person("muster", "Muster", "Marlene", "muster@example.org");
         signedInUser.setPermissions(List.of(USER));
@@ -93,8 +95,7 @@ class DepartmentViewControllerTest {
     @Test
     void ensureThatOfficeCanCreateAndModifyDepartment() throws Exception {
 
-        final List<Department> departments = List.of(new Department());
-        when(departmentService.getAllDepartments()).thenReturn(departments);
+        when(departmentService.getAllDepartmentOverviews()).thenReturn(List.of());
 
         final Person signedInUser = new Person("muster", "Muster", "Marlene", "muster@example.org");
         signedInUser.setPermissions(List.of(USER, OFFICE));
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.extension.backup.backup;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,8 @@ class BackupCreateServiceIT {
     private BackupDataCollectionService backupDataCollectionService;
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @BeforeAll
     static void beforeAll() {
@@ -80,7 +83,7 @@ class BackupCreateServiceIT {
         backupRestoreService.restoreBackup();
 
         // create a fresh backup
-        backupCreateService.backupData(backupDataCollectionService.collectData());
+        backupCreateService.backupData(backupDataCollectionService.streamData());
 
         // now verify that the created backup file is the same as the existing backup file
         Optional<Path> backupFile = getCreatedBackupFile();
@@ -91,6 +94,9 @@ class BackupCreateServiceIT {
         final String expectedBackup = Files.readString(Paths.get(EXISTING_UV_BACKUP_FILE));
 
         assertThat(actualBackup).isEqualTo(expectedBackup);
+
+        // the backup collected in memory has the same content as the streamed one
+        assertThat(objectMapper.writeValueAsString(backupDataCollectionService.collectData())).isEqualTo(expectedBackup);
     }
 
     private void resetAllSequences() {
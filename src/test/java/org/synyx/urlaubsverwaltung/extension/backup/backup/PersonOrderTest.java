@@ -0,0 +1,53 @@
+package org.synyx.urlaubsverwaltung.extension.backup.backup;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonOrderTest {
+
+    @Test
+    void ensureSortsByOrderOfPersonsAndStartDate() {
+        final Person batman = person(2L, "batman");
+        final Person robin = person(1L, "robin");
+
+        final Value robinLater = new Value(robin, LocalDate.of(2024, 5, 1));
+        final Value robinEarlier = new Value(robin, LocalDate.of(2024, 1, 1));
+        final Value batmanLater = new Value(batman, LocalDate.of(2024, 3, 1));
+        final Value batmanEarlier = new Value(batman, LocalDate.of(2023, 12, 1));
+
+        final List<Value> sorted = PersonOrder.sortByPersonAndStartDate(
+            List.of(robinLater, batmanLater, robinEarlier, batmanEarlier), List.of(batman, robin), Value::person, Value::startDate
+        );
+
+        assertThat(sorted).containsExactly(batmanEarlier, batmanLater, robinEarlier, robinLater);
+    }
+
+    @Test
+    void ensureSortsValuesOfUnknownPersonsLast() {
+        final Person batman = person(1L, "batman");
+        final Person joker = person(2L, "joker");
+
+        final Value jokerValue = new Value(joker, LocalDate.of(2023, 1, 1));
+        final Value batmanValue = new Value(batman, LocalDate.of(2024, 1, 1));
+
+        final List<Value> sorted = PersonOrder.sortByPersonAndStartDate(
+            List.of(jokerValue, batmanValue), List.of(batman), Value::person, Value::startDate
+        );
+
+        assertThat(sorted).containsExactly(batmanValue, jokerValue);
+    }
+
+    private static Person person(long id, String username) {
+        final Person person = new Person(username, "last name", "first name", username + "@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private record Value(Person person, LocalDate startDate) {
+    }
+}
@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.extension.backup.filesystem.backup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.synyx.urlaubsverwaltung.extension.backup.backup.StreamingBackup;
+import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBackupDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilesystemBackupCreateServiceTest {
+
+    private static final UrlaubsverwaltungBackupDTO BACKUP = new UrlaubsverwaltungBackupDTO("tenant", "1.0.0", List.of(), List.of(), null, null, List.of(), null, null, null);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void ensureWritesPlainJsonIfNotCompressed() throws IOException {
+
+        final FilesystemBackupCreateService sut = new FilesystemBackupCreateService(objectMapper, new FilesystemBackupConfigurationProperties(tempDir.toString(), false));
+        sut.backupData(BACKUP);
+
+        final Path backupFile = backupFile();
+        assertThat(backupFile.getFileName().toString()).matches("urlaubsverwaltung-\\d+\\.json");
+        assertThat(Files.readString(backupFile)).isEqualTo(objectMapper.writeValueAsString(BACKUP));
+    }
+
+    @Test
+    void ensureWritesGzipCompressedJsonIfCompressed() throws IOException {
+
+        final FilesystemBackupCreateService sut = new FilesystemBackupCreateService(objectMapper, new FilesystemBackupConfigurationProperties(tempDir.toString(), true));
+        sut.backupData(BACKUP);
+
+        final Path backupFile = backupFile();
+        assertThat(backupFile.getFileName().toString()).matches("urlaubsverwaltung-\\d+\\.json\\.gz");
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(backupFile))) {
+            assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo(objectMapper.writeValueAsString(BACKUP));
+        }
+    }
+
+    @Test
+    void ensureWritesStreamingBackupWithoutCollectingIt() throws IOException {
+
+        final StreamingBackup streamingBackup = new StreamingBackup() {
+            @Override
+            public UrlaubsverwaltungBackupDTO collect() {
+                throw new AssertionError("backup must not be collected in memory");
+            }
+
+            @Override
+            public void writeTo(JsonGenerator generator) throws IOException {
+                generator.writeObject(BACKUP);
+            }
+        };
+
+        final FilesystemBackupCreateService sut = new FilesystemBackupCreateService(objectMapper, new FilesystemBackupConfigurationProperties(tempDir.toString(), false));
+        sut.backupData(streamingBackup);
+
+        assertThat(Files.readString(backupFile())).isEqualTo(objectMapper.writeValueAsString(BACKUP));
+    }
+
+    @Test
+    void ensureLeavesNoFileBehindIfWritingTheStreamingBackupFails() throws IOException {
+
+        final StreamingBackup streamingBackup = new StreamingBackup() {
+            @Override
+            public UrlaubsverwaltungBackupDTO collect() {
+                throw new AssertionError("backup must not be collected in memory");
+            }
+
+            @Override
+            public void writeTo(JsonGenerator generator) throws IOException {
+                generator.writeStartObject();
+                generator.writeStringField("tenantId", "tenant");
+                generator.flush();
+                throw new IllegalStateException("collecting the next chunk failed");
+            }
+        };
+
+        final FilesystemBackupCreateService sut = new FilesystemBackupCreateService(objectMapper, new FilesystemBackupConfigurationProperties(tempDir.toString(), false));
+
+        assertThatThrownBy(() -> sut.backupData(streamingBackup))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("collecting the next chunk failed");
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private Path backupFile() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            final List<Path> backupFiles = files.toList();
+            assertThat(backupFiles).hasSize(1);
+            return backupFiles.getFirst();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.synyx.urlaubsverwaltung.extension.backup.filesystem.restore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBackupDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.restore.RestoreOrchestrationService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FilesystemRestoreServiceTest {
+
+    private static final UrlaubsverwaltungBackupDTO BACKUP = new UrlaubsverwaltungBackupDTO("tenant", "1.0.0", List.of(), List.of(), null, null, List.of(), null, null, null);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private RestoreOrchestrationService restoreOrchestrationService;
+
+    @TempDir
+    private Path tempDir;
+
+    private byte[] backupJson;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backupJson = objectMapper.writeValueAsBytes(BACKUP);
+    }
+
+    @Test
+    void ensureRestoresPlainJson() throws IOException {
+        final Path backupFile = tempDir.resolve("urlaubsverwaltung-1735854942.json");
+        Files.write(backupFile, backupJson);
+
+        sut(backupFile).restoreBackup();
+
+        verify(restoreOrchestrationService).restoreData(BACKUP);
+    }
+
+    @Test
+    void ensureRestoresGzipCompressedJson() throws IOException {
+        final Path backupFile = tempDir.resolve("urlaubsverwaltung-1735854942.json.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(backupFile))) {
+            outputStream.write(backupJson);
+        }
+
+        sut(backupFile).restoreBackup();
+
+        verify(restoreOrchestrationService).restoreData(BACKUP);
+    }
+
+    @Test
+    void ensureDoesNotRestorePlainJsonWithGzipExtension() throws IOException {
+        final Path backupFile = tempDir.resolve("urlaubsverwaltung-1735854942.json.gz");
+        Files.write(backupFile, backupJson);
+
+        sut(backupFile).restoreBackup();
+
+        verifyNoInteractions(restoreOrchestrationService);
+    }
+
+    @Test
+    void ensureDoesNotRestoreMissingFile() {
+        sut(tempDir.resolve("urlaubsverwaltung-1735854942.json")).restoreBackup();
+
+        verifyNoInteractions(restoreOrchestrationService);
+    }
+
+    private FilesystemRestoreService sut(Path backupFile) {
+        return new FilesystemRestoreService(objectMapper, restoreOrchestrationService, new FilesystemRestoreConfigurationProperties(backupFile.toString()));
+    }
+}
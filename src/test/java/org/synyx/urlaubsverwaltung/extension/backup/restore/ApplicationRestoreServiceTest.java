@@ -0,0 +1,152 @@
+package org.synyx.urlaubsverwaltung.extension.backup.restore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationEntity;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationImportService;
+import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentEntity;
+import org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentImportService;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeEntity;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeImportService;
+import org.synyx.urlaubsverwaltung.extension.backup.model.ApplicationBackupDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.ApplicationCommentDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.ApplicationDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.VacationTypeDTO;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.ApplicationCommentActionDTO.APPLIED;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.ApplicationStatusDTO.WAITING;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.DayLengthDTO.FULL;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.VacationTypeCategoryDTO.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.VacationTypeColorDTO.YELLOW;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationRestoreServiceTest {
+
+    private ApplicationRestoreService sut;
+
+    @Mock
+    private ApplicationCommentImportService applicationCommentImportService;
+    @Mock
+    private ApplicationImportService applicationImportService;
+    @Mock
+    private VacationTypeImportService vacationTypeImportService;
+    @Mock
+    private PersonService personService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Person person = new Person("user", "Muster", "Marlene", "user@example.org");
+
+    @BeforeEach
+    void setUp() {
+        final RestoreConfigurationProperties restoreConfiguration = new RestoreConfigurationProperties(true, false, "filesystem", true, 2);
+        sut = new ApplicationRestoreService(applicationCommentImportService, applicationImportService, vacationTypeImportService,
+            personService, restoreConfiguration, new TransactionTemplate(transactionManager));
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(personService.getAllPersons()).thenReturn(List.of(person));
+
+        final VacationTypeEntity vacationType = new VacationTypeEntity();
+        vacationType.setId(11L);
+        when(vacationTypeImportService.importVacationType(any())).thenReturn(vacationType);
+    }
+
+    @Test
+    void ensureRestoresApplicationsInChunksOfBatchSizeAndMapsIdsInOrder() {
+
+        final AtomicLong nextId = new AtomicLong(100);
+        when(applicationImportService.importApplications(anyList())).thenAnswer(invocation -> {
+            final List<ApplicationEntity> applications = invocation.getArgument(0);
+            applications.forEach(application -> application.setId(nextId.incrementAndGet()));
+            return applications;
+        });
+
+        final List<ImportedIdTuple> importedIds = sut.restore(backup(42L, 7L, 13L, 5L, 99L));
+
+        assertThat(importedIds).containsExactly(
+            new ImportedIdTuple(42L, 101L),
+            new ImportedIdTuple(7L, 102L),
+            new ImportedIdTuple(13L, 103L),
+            new ImportedIdTuple(5L, 104L),
+            new ImportedIdTuple(99L, 105L)
+        );
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<ApplicationEntity>> applications = ArgumentCaptor.forClass(List.class);
+        verify(applicationImportService, times(3)).importApplications(applications.capture());
+        assertThat(applications.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<ApplicationCommentEntity>> comments = ArgumentCaptor.forClass(List.class);
+        verify(applicationCommentImportService, times(3)).importApplicationComments(comments.capture());
+        assertThat(comments.getAllValues().stream().flatMap(List::stream))
+            .extracting(ApplicationCommentEntity::getApplicationId)
+            .containsExactly(101L, 102L, 103L, 104L, 105L);
+
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void ensureRollsBackFailingChunkAndStopsRestoring() {
+
+        final AtomicLong nextId = new AtomicLong(100);
+        when(applicationImportService.importApplications(anyList())).thenAnswer(invocation -> {
+            final List<ApplicationEntity> applications = invocation.getArgument(0);
+            applications.forEach(application -> application.setId(nextId.incrementAndGet()));
+            return applications;
+        });
+        doNothing()
+            .doThrow(new IllegalStateException("insert failed"))
+            .when(applicationCommentImportService).importApplicationComments(anyList());
+
+        assertThatThrownBy(() -> sut.restore(backup(1L, 2L, 3L, 4L, 5L)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("insert failed");
+
+        verify(applicationImportService, times(2)).importApplications(anyList());
+        verify(transactionManager).commit(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private ApplicationBackupDTO backup(Long... applicationIds) {
+        final List<ApplicationDTO> applications = Arrays.stream(applicationIds)
+            .map(this::application)
+            .toList();
+        return new ApplicationBackupDTO(List.of(vacationType()), applications);
+    }
+
+    private static VacationTypeDTO vacationType() {
+        return new VacationTypeDTO(1L, true, HOLIDAY, true, false, YELLOW, true, false, "application.data.vacationType.holiday", Map.of(GERMAN, "Erholungsurlaub"));
+    }
+
+    private ApplicationDTO application(Long id) {
+        final String externalId = person.getUsername();
+        final LocalDate date = LocalDate.of(2024, 1, 1).plusDays(id);
+        final ApplicationCommentDTO comment = new ApplicationCommentDTO(APPLIED, externalId, Instant.parse("2024-01-01T10:00:00Z"), "comment of " + id);
+        return new ApplicationDTO(id, externalId, externalId, null, null, false, date, date, null, null, 1L, FULL, "reason",
+            List.of(), null, date, null, null, null, WAITING, false, null, null, null, List.of(comment));
+    }
+}
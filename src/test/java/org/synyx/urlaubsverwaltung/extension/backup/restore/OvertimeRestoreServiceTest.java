@@ -0,0 +1,130 @@
+package org.synyx.urlaubsverwaltung.extension.backup.restore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeCommentDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeDTO;
+import org.synyx.urlaubsverwaltung.overtime.Overtime;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeComment;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeImportService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.OvertimeCommentActionDTO.CREATED;
+
+@ExtendWith(MockitoExtension.class)
+class OvertimeRestoreServiceTest {
+
+    private OvertimeRestoreService sut;
+
+    @Mock
+    private OvertimeImportService overtimeImportService;
+    @Mock
+    private PersonService personService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Person person = new Person("user", "Muster", "Marlene", "user@example.org");
+
+    @BeforeEach
+    void setUp() {
+        final RestoreConfigurationProperties restoreConfiguration = new RestoreConfigurationProperties(true, false, "filesystem", true, 2);
+        sut = new OvertimeRestoreService(overtimeImportService, personService, restoreConfiguration, new TransactionTemplate(transactionManager));
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(personService.getAllPersons()).thenReturn(List.of(person));
+
+        final AtomicLong nextId = new AtomicLong(100);
+        when(overtimeImportService.importOvertimes(anyList())).thenAnswer(invocation -> {
+            final List<Overtime> overtimes = invocation.getArgument(0);
+            overtimes.forEach(overtime -> overtime.setId(nextId.incrementAndGet()));
+            return overtimes;
+        });
+    }
+
+    @Test
+    void ensureRestoresOvertimesInChunksOfBatchSizeAndAssignsCommentsInOrder() {
+
+        sut.restore(overtimes(42L, 7L, 13L, 5L, 99L));
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<Overtime>> overtimes = ArgumentCaptor.forClass(List.class);
+        verify(overtimeImportService, times(3)).importOvertimes(overtimes.capture());
+        assertThat(overtimes.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<OvertimeComment>> comments = ArgumentCaptor.forClass(List.class);
+        verify(overtimeImportService, times(3)).importOvertimeComments(comments.capture());
+        assertThat(comments.getAllValues().stream().flatMap(List::stream))
+            .extracting(comment -> comment.getOvertime().getId(), OvertimeComment::getText)
+            .containsExactly(
+                tuple(101L, "comment of 42"),
+                tuple(102L, "comment of 7"),
+                tuple(103L, "comment of 13"),
+                tuple(104L, "comment of 5"),
+                tuple(105L, "comment of 99")
+            );
+
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void ensureSkipsOvertimesOfUnknownOwnersBeforeChunking() {
+
+        final OvertimeDTO unknownOwner = new OvertimeDTO(3L, "unknown", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), Duration.ofHours(1), null, List.of());
+        sut.restore(List.of(overtime(1L), unknownOwner, overtime(2L)));
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<Overtime>> overtimes = ArgumentCaptor.forClass(List.class);
+        verify(overtimeImportService).importOvertimes(overtimes.capture());
+        assertThat(overtimes.getValue()).hasSize(2);
+    }
+
+    @Test
+    void ensureRollsBackFailingChunkAndStopsRestoring() {
+
+        doNothing()
+            .doThrow(new IllegalStateException("insert failed"))
+            .when(overtimeImportService).importOvertimeComments(anyList());
+
+        assertThatThrownBy(() -> sut.restore(overtimes(1L, 2L, 3L, 4L, 5L)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("insert failed");
+
+        verify(overtimeImportService, times(2)).importOvertimes(anyList());
+        verify(transactionManager).commit(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private List<OvertimeDTO> overtimes(Long... overtimeIds) {
+        return Arrays.stream(overtimeIds)
+            .map(this::overtime)
+            .toList();
+    }
+
+    private OvertimeDTO overtime(Long id) {
+        final LocalDate date = LocalDate.of(2024, 1, 1).plusDays(id);
+        final OvertimeCommentDTO comment = new OvertimeCommentDTO(Instant.parse("2024-01-01T10:00:00Z"), "comment of " + id, CREATED, person.getUsername());
+        return new OvertimeDTO(id, person.getUsername(), date, date, Duration.ofHours(1), date, List.of(comment));
+    }
+}
@@ -0,0 +1,161 @@
+package org.synyx.urlaubsverwaltung.extension.backup.restore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteBackupDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteCommentDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteExtensionHistoryDTO;
+import org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteTypeDTO;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentEntity;
+import org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentImportService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteEntity;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteImportService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.extend.SickNoteExtensionEntity;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.extend.SickNoteExtensionImportService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeImportService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteTypeService;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.DayLengthDTO.FULL;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteCommentActionDTO.SUBMITTED;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteExtensionStatusDTO.SUPERSEDED;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteStatusDTO.ACTIVE;
+import static org.synyx.urlaubsverwaltung.extension.backup.model.SickNoteTypeCategoryDTO.SICK_NOTE;
+
+@ExtendWith(MockitoExtension.class)
+class SickNoteRestoreServiceTest {
+
+    private SickNoteRestoreService sut;
+
+    @Mock
+    private SickNoteImportService sickNoteImportService;
+    @Mock
+    private SickNoteTypeImportService sickNoteTypeImportService;
+    @Mock
+    private SickNoteCommentImportService sickNoteCommentImportService;
+    @Mock
+    private SickNoteExtensionImportService sickNoteExtensionImportService;
+    @Mock
+    private SickNoteTypeService sickNoteTypeService;
+    @Mock
+    private PersonService personService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Person person = new Person("user", "Muster", "Marlene", "user@example.org");
+
+    @BeforeEach
+    void setUp() {
+        final RestoreConfigurationProperties restoreConfiguration = new RestoreConfigurationProperties(true, false, "filesystem", true, 2);
+        sut = new SickNoteRestoreService(sickNoteImportService, sickNoteTypeImportService, sickNoteCommentImportService,
+            sickNoteExtensionImportService, sickNoteTypeService, personService, restoreConfiguration, new TransactionTemplate(transactionManager));
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(personService.getAllPersons()).thenReturn(List.of(person));
+
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setId(11L);
+        when(sickNoteTypeImportService.importSickNoteType(any())).thenReturn(sickNoteType);
+        when(sickNoteTypeService.getSickNoteTypes()).thenReturn(List.of(sickNoteType));
+
+        final AtomicLong nextId = new AtomicLong(100);
+        when(sickNoteImportService.importSickNotes(anyList())).thenAnswer(invocation -> {
+            final List<SickNoteEntity> sickNotes = invocation.getArgument(0);
+            return sickNotes.stream()
+                .map(sickNote -> {
+                    final SickNoteEntity importedSickNote = mock(SickNoteEntity.class);
+                    when(importedSickNote.getId()).thenReturn(nextId.incrementAndGet());
+                    return importedSickNote;
+                })
+                .toList();
+        });
+    }
+
+    @Test
+    void ensureRestoresSickNotesInChunksOfBatchSizeAndMapsIdsInOrder() {
+
+        final List<ImportedIdTuple> importedIds = sut.restore(backup(42L, 7L, 13L, 5L, 99L));
+
+        assertThat(importedIds).containsExactly(
+            new ImportedIdTuple(42L, 101L),
+            new ImportedIdTuple(7L, 102L),
+            new ImportedIdTuple(13L, 103L),
+            new ImportedIdTuple(5L, 104L),
+            new ImportedIdTuple(99L, 105L)
+        );
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<SickNoteEntity>> sickNotes = ArgumentCaptor.forClass(List.class);
+        verify(sickNoteImportService, times(3)).importSickNotes(sickNotes.capture());
+        assertThat(sickNotes.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<SickNoteCommentEntity>> comments = ArgumentCaptor.forClass(List.class);
+        verify(sickNoteCommentImportService, times(3)).importSickNoteComments(comments.capture());
+        assertThat(comments.getAllValues().stream().flatMap(List::stream))
+            .extracting(SickNoteCommentEntity::getSickNoteId)
+            .containsExactly(101L, 102L, 103L, 104L, 105L);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<SickNoteExtensionEntity>> extensions = ArgumentCaptor.forClass(List.class);
+        verify(sickNoteExtensionImportService, times(3)).importSickNoteExtension(extensions.capture());
+        assertThat(extensions.getAllValues().stream().flatMap(List::stream))
+            .extracting(SickNoteExtensionEntity::getSickNoteId)
+            .containsExactly(101L, 102L, 103L, 104L, 105L);
+
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void ensureRollsBackFailingChunkAndStopsRestoring() {
+
+        doNothing()
+            .doThrow(new IllegalStateException("insert failed"))
+            .when(sickNoteExtensionImportService).importSickNoteExtension(anyList());
+
+        assertThatThrownBy(() -> sut.restore(backup(1L, 2L, 3L, 4L, 5L)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("insert failed");
+
+        verify(sickNoteImportService, times(2)).importSickNotes(anyList());
+        verify(transactionManager).commit(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private SickNoteBackupDTO backup(Long... sickNoteIds) {
+        final List<SickNoteDTO> sickNotes = Arrays.stream(sickNoteIds)
+            .map(this::sickNote)
+            .toList();
+        return new SickNoteBackupDTO(List.of(new SickNoteTypeDTO(1L, SICK_NOTE, "application.data.sicknotetype.sicknote")), sickNotes);
+    }
+
+    private SickNoteDTO sickNote(Long id) {
+        final String externalId = person.getUsername();
+        final LocalDate date = LocalDate.of(2024, 1, 1).plusDays(id);
+        final SickNoteCommentDTO comment = new SickNoteCommentDTO(Instant.parse("2024-01-01T10:00:00Z"), "comment of " + id, SUBMITTED, externalId);
+        final SickNoteExtensionHistoryDTO extension = new SickNoteExtensionHistoryDTO(Instant.parse("2024-01-01T10:00:00Z"), date.plusDays(1), false, SUPERSEDED);
+        return new SickNoteDTO(id, externalId, externalId, 1L, date, date, FULL, null, null, date, null, ACTIVE, List.of(comment), List.of(extension));
+    }
+}
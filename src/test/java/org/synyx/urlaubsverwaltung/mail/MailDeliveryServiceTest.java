@@ -0,0 +1,252 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MailDeliveryServiceTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl javaMailSender;
+    private MailProperties mailProperties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        mailProperties = new MailProperties();
+        mailProperties.getDelivery().setBackoff(Duration.ofMillis(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void ensureDeliversInCallingThreadWithoutWorkers() throws MessagingException {
+        mailProperties.getDelivery().setConcurrency(0);
+
+        final MailDeliveryService sut = new MailDeliveryService(javaMailSender, mailProperties, meterRegistry);
+        sut.start();
+        sut.deliver(mimeMessage(javaMailSender, "batman@example.org"));
+
+        assertThat(greenMail.getReceivedMessagesForDomain("batman@example.org")).hasSize(1);
+        sut.stop();
+    }
+
+    @Test
+    void ensureDeliversInCallingThreadIfNotRunning() throws MessagingException {
+        final MailDeliveryService sut = new MailDeliveryService(javaMailSender, mailProperties, meterRegistry);
+        sut.deliver(mimeMessage(javaMailSender, "batman@example.org"));
+
+        assertThat(greenMail.getReceivedMessagesForDomain("batman@example.org")).hasSize(1);
+    }
+
+    @Test
+    void ensureDeliversQueuedMailsWithWorkers() throws MessagingException {
+        mailProperties.getDelivery().setConcurrency(2);
+        mailProperties.getDelivery().setBatchSize(10);
+
+        final MailDeliveryService sut = new MailDeliveryService(javaMailSender, mailProperties, meterRegistry);
+        sut.start();
+        for (int i = 0; i < 50; i++) {
+            sut.deliver(mimeMessage(javaMailSender, "person" + i + "@example.org"));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 50)).isTrue();
+        sut.stop();
+
+        assertThat(meterRegistry.get("mail.delivery.latency").timer().count()).isEqualTo(50);
+        assertThat(meterRegistry.get("mail.delivery.queue.size").gauge().value()).isZero();
+        assertThat(meterRegistry.get("mail.delivery.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void ensureSendsQueuedMailsOnStop() throws MessagingException {
+        mailProperties.getDelivery().setConcurrency(1);
+
+        final MailDeliveryService sut = new MailDeliveryService(javaMailSender, mailProperties, meterRegistry);
+        sut.start();
+        for (int i = 0; i < 20; i++) {
+            sut.deliver(mimeMessage(javaMailSender, "person" + i + "@example.org"));
+        }
+        sut.stop();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(20);
+        assertThat(sut.isRunning()).isFalse();
+    }
+
+    @Test
+    void ensureLosesNoMailsDeliveredWhileStopping() throws Exception {
+        mailProperties.getDelivery().setConcurrency(1);
+
+        final MailDeliveryService sut = new MailDeliveryService(javaMailSender, mailProperties, meterRegistry);
+        sut.start();
+
+        final CountDownLatch started = new CountDownLatch(4);
+        final List<Thread> senders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final int sender = i;
+            senders.add(Thread.ofPlatform().start(() -> {
+                started.countDown();
+                for (int j = 0; j < 25; j++) {
+                    try {
+                        sut.deliver(mimeMessage(javaMailSender, "person" + sender + "-" + j + "@example.org"));
+                    } catch (MessagingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }));
+        }
+        assertThat(started.await(5, SECONDS)).isTrue();
+        sut.stop();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(100);
+        assertThat(meterRegistry.get("mail.delivery.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void ensureSendsMailInCallingThreadWithSingleAttemptIfQueueIsFull() throws Exception {
+        final JavaMailSender failingMailSender = mock(JavaMailSender.class);
+
+        final MimeMessage blocker = mimeMessage(javaMailSender, "blocker@example.org");
+        final MimeMessage batman = mimeMessage(javaMailSender, "batman@example.org");
+        final MimeMessage robin = mimeMessage(javaMailSender, "robin@example.org");
+
+        // keeps the worker busy, so batman fills the queue and robin does not fit in anymore
+        final CountDownLatch blockerTaken = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            blockerTaken.countDown();
+            release.await();
+            return null;
+        }).when(failingMailSender).send(new MimeMessage[]{blocker});
+        doThrow(new MailSendException("connection refused")).when(failingMailSender).send(new MimeMessage[]{robin});
+
+        mailProperties.getDelivery().setConcurrency(1);
+        mailProperties.getDelivery().setQueueCapacity(1);
+        mailProperties.getDelivery().setQueueTimeout(Duration.ofMillis(10));
+        mailProperties.getDelivery().setMaxAttempts(3);
+        mailProperties.getDelivery().setBackoff(Duration.ofHours(1));
+
+        final MailDeliveryService sut = new MailDeliveryService(failingMailSender, mailProperties, meterRegistry);
+        sut.start();
+        sut.deliver(blocker);
+        assertThat(blockerTaken.await(5, SECONDS)).isTrue();
+        sut.deliver(batman);
+        sut.deliver(robin);
+
+        verify(failingMailSender).send(new MimeMessage[]{robin});
+        assertThat(meterRegistry.get("mail.delivery.failed").counter().count()).isOne();
+
+        release.countDown();
+        sut.stop();
+
+        verify(failingMailSender).send(new MimeMessage[]{batman});
+    }
+
+    @Test
+    void ensureSendsQueuedMailsInBatchesAndRetriesOnlyFailedMails() throws Exception {
+        final JavaMailSender failingMailSender = mock(JavaMailSender.class);
+
+        final MimeMessage blocker = mimeMessage(javaMailSender, "blocker@example.org");
+        final MimeMessage batman = mimeMessage(javaMailSender, "batman@example.org");
+        final MimeMessage robin = mimeMessage(javaMailSender, "robin@example.org");
+
+        // keeps the worker busy until batman and robin are queued, so both are sent in one batch
+        final CountDownLatch blockerTaken = new CountDownLatch(1);
+        final CountDownLatch mailsQueued = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            blockerTaken.countDown();
+            mailsQueued.await();
+            return null;
+        }).when(failingMailSender).send(new MimeMessage[]{blocker});
+        doThrow(new MailSendException(Map.of(robin, new MessagingException("temporary failure"))))
+            .when(failingMailSender).send(batman, robin);
+
+        mailProperties.getDelivery().setConcurrency(1);
+        mailProperties.getDelivery().setBatchSize(2);
+
+        final MailDeliveryService sut = new MailDeliveryService(failingMailSender, mailProperties, meterRegistry);
+        sut.start();
+        sut.deliver(blocker);
+        assertThat(blockerTaken.await(5, SECONDS)).isTrue();
+        sut.deliver(batman);
+        sut.deliver(robin);
+        mailsQueued.countDown();
+        sut.stop();
+
+        verify(failingMailSender).send(batman, robin);
+        verify(failingMailSender).send(new MimeMessage[]{robin});
+        assertThat(meterRegistry.get("mail.delivery.latency").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("mail.delivery.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void ensureGivesUpAfterMaxAttempts() throws MessagingException {
+        final JavaMailSender failingMailSender = mock(JavaMailSender.class);
+        doThrow(new MailSendException("connection refused")).when(failingMailSender).send(any(MimeMessage[].class));
+
+        mailProperties.getDelivery().setMaxAttempts(3);
+
+        final MailDeliveryService sut = new MailDeliveryService(failingMailSender, mailProperties, meterRegistry);
+        sut.deliver(mimeMessage(javaMailSender, "batman@example.org"));
+
+        verify(failingMailSender, times(3)).send(any(MimeMessage[].class));
+        assertThat(meterRegistry.get("mail.delivery.failed").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureDoesNotRetryOnAuthenticationFailure() throws MessagingException {
+        final JavaMailSender failingMailSender = mock(JavaMailSender.class);
+        doThrow(new MailAuthenticationException("wrong password")).when(failingMailSender).send(any(MimeMessage[].class));
+
+        final MailDeliveryService sut = new MailDeliveryService(failingMailSender, mailProperties, meterRegistry);
+        sut.deliver(mimeMessage(javaMailSender, "batman@example.org"));
+
+        verify(failingMailSender).send(any(MimeMessage[].class));
+        assertThat(meterRegistry.get("mail.delivery.failed").counter().count()).isOne();
+    }
+
+    private static MimeMessage mimeMessage(JavaMailSender javaMailSender, String recipient) throws MessagingException {
+        final MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage);
+        helper.setFrom("sender@example.org");
+        helper.setTo(recipient);
+        helper.setSubject("subject");
+        helper.setText("text");
+        return mimeMessage;
+    }
+}
@@ -14,7 +14,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.simplejavamail.converter.EmailConverter;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import java.util.List;
@@ -34,15 +33,17 @@ class MailSenderServiceTest {
 
     @Mock
     private JavaMailSender javaMailSender;
+    @Mock
+    private MailDeliveryService mailDeliveryService;
 
     @BeforeEach
     void setUp() {
-        sut = new MailSenderService(javaMailSender);
+        sut = new MailSenderService(javaMailSender, mailDeliveryService);
     }
 
     @Test
-    void sendEmail() {
-        final ArgumentCaptor<SimpleMailMessage> mailMessageArgumentCaptor = forClass(SimpleMailMessage.class);
+    void sendEmail() throws Exception {
+        final ArgumentCaptor<MimeMessage> mailMessageArgumentCaptor = forClass(MimeMessage.class);
 
         final String recipient = "hans@dampf.com";
         final String subject = "subject";
@@ -50,14 +51,18 @@ class MailSenderServiceTest {
         final String from = "from@example.org";
         final String replyTo = "replyTo@example.org";
 
+        final MimeMessage msg = new MimeMessage(getInstance(new Properties(), null));
+        when(javaMailSender.createMimeMessage()).thenReturn(msg);
+
         sut.sendEmail(from, replyTo, recipient, subject, body);
 
-        verify(javaMailSender).send(mailMessageArgumentCaptor.capture());
-        final SimpleMailMessage mailMessage = mailMessageArgumentCaptor.getValue();
-        assertThat(mailMessage.getFrom()).contains(from);
-        assertThat(mailMessage.getTo()).containsExactly(recipient);
+        verify(mailDeliveryService).deliver(mailMessageArgumentCaptor.capture());
+        final MimeMessage mailMessage = mailMessageArgumentCaptor.getValue();
+        assertThat(mailMessage.getFrom()).contains(new InternetAddress(from));
+        assertThat(mailMessage.getReplyTo()).contains(new InternetAddress(replyTo));
+        assertThat(mailMessage.getAllRecipients()).containsExactly(new InternetAddress(recipient));
         assertThat(mailMessage.getSubject()).isEqualTo(subject);
-        assertThat(mailMessage.getText()).isEqualTo(body);
+        assertThat(mailMessage.getContent()).isEqualTo(body);
     }
 
     @ParameterizedTest
@@ -65,7 +70,7 @@ class MailSenderServiceTest {
     @ValueSource(strings = {"", " "})
     void doesNotSendMailForNullRecipients(final String recipient) {
         sut.sendEmail("from@example.org", "replyTo@example.org", recipient, "subject", "text");
-        verifyNoInteractions(javaMailSender);
+        verifyNoInteractions(javaMailSender, mailDeliveryService);
     }
 
     @Test
@@ -84,7 +89,7 @@ class MailSenderServiceTest {
 
         sut.sendEmail(from, replyTo, recipient, subject, body, mailAttachments);
 
-        verify(javaMailSender).send(mailMessageArgumentCaptor.capture());
+        verify(mailDeliveryService).deliver(mailMessageArgumentCaptor.capture());
         final MimeMessage mailMessage = mailMessageArgumentCaptor.getValue();
         assertThat(mailMessage.getFrom()).contains(new InternetAddress(from));
         assertThat(mailMessage.getAllRecipients()).containsExactly(new InternetAddress(recipient));
@@ -97,7 +102,7 @@ class MailSenderServiceTest {
     @ValueSource(strings = {"", " "})
     void doesNotSendMailWithAttachmentToNullRecipients(final String recipient) {
         sut.sendEmail("from@example.org", "replyTo@example.org", recipient, "subject", "text", List.of());
-        verifyNoInteractions(javaMailSender);
+        verifyNoInteractions(javaMailSender, mailDeliveryService);
     }
 
     private String readPlainContent(MimeMessage message) {
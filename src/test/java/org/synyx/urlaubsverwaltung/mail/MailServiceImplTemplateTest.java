@@ -0,0 +1,227 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.HolidayReplacementEntity;
+import org.synyx.urlaubsverwaltung.application.comment.ApplicationComment;
+import org.synyx.urlaubsverwaltung.overtime.Overtime;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.web.PersonPermissionsRoleDto;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.user.UserSettingsService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.comment.ApplicationCommentAction.ALLOWED;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
+
+/**
+ * Renders the real mail templates to ensure that rendering a template once for all recipients with the same locale
+ * results in the same mails as rendering it for every recipient.
+ */
+class MailServiceImplTemplateTest {
+
+    private MailServiceImpl sut;
+
+    private MailSenderService mailSenderService;
+    private UserSettingsService userSettingsService;
+
+    @BeforeEach
+    void setUp() {
+        final GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.refresh();
+        final MailConfiguration mailConfiguration = new MailConfiguration(applicationContext, new ThymeleafProperties());
+
+        final MailProperties mailProperties = new MailProperties();
+        mailProperties.setApplicationUrl("http://localhost:8080");
+
+        mailSenderService = mock(MailSenderService.class);
+        userSettingsService = mock(UserSettingsService.class);
+
+        sut = new MailServiceImpl(mailConfiguration.emailMessageSource(), mailConfiguration.emailTemplateEngine(), mailSenderService, mailProperties, userSettingsService);
+    }
+
+    static Stream<String> templateNames() throws IOException {
+        final Resource[] templates = new PathMatchingResourcePatternResolver().getResources("classpath:/mail/*.txt");
+        return Arrays.stream(templates)
+            .map(Resource::getFilename)
+            .filter(filename -> !filename.startsWith("_"))
+            .map(filename -> filename.substring(0, filename.length() - ".txt".length()))
+            .sorted();
+    }
+
+    @ParameterizedTest
+    @MethodSource("templateNames")
+    void ensureRenderingOnceForAllRecipientsEqualsRenderingForEveryRecipient(String templateName) {
+
+        final Person hans = new Person("hans", "Dampf", "Hans", "hans@example.org");
+        hans.setId(1L);
+        final Person franz = new Person("franz", "Meier", "Franz", "franz@example.org");
+        franz.setId(22L);
+
+        final Map<String, Object> model = templateModel();
+
+        when(userSettingsService.getEffectiveLocale(List.of(hans, franz))).thenReturn(Map.of(hans, GERMAN, franz, GERMAN));
+        sut.send(mail(templateName, model, List.of(hans, franz)));
+
+        when(userSettingsService.getEffectiveLocale(List.of(hans))).thenReturn(Map.of(hans, GERMAN));
+        sut.send(mail(templateName, model, List.of(hans)));
+
+        when(userSettingsService.getEffectiveLocale(List.of(franz))).thenReturn(Map.of(franz, GERMAN));
+        sut.send(mail(templateName, model, List.of(franz)));
+
+        final ArgumentCaptor<String> hansBodies = ArgumentCaptor.forClass(String.class);
+        verify(mailSenderService, times(2)).sendEmail(anyString(), anyString(), eq("hans@example.org"), anyString(), hansBodies.capture());
+        final ArgumentCaptor<String> franzBodies = ArgumentCaptor.forClass(String.class);
+        verify(mailSenderService, times(2)).sendEmail(anyString(), anyString(), eq("franz@example.org"), anyString(), franzBodies.capture());
+
+        assertThat(hansBodies.getAllValues().get(0)).isEqualTo(hansBodies.getAllValues().get(1));
+        assertThat(franzBodies.getAllValues().get(0)).isEqualTo(franzBodies.getAllValues().get(1));
+    }
+
+    private static Mail mail(String templateName, Map<String, Object> model, List<Person> recipients) {
+        return Mail.builder()
+            .withRecipient(recipients)
+            .withSubject("subject.account.updatedRemainingDays")
+            .withTemplate(templateName, locale -> model)
+            .build();
+    }
+
+    /**
+     * @return one model with the variables of all mail templates
+     */
+    private static Map<String, Object> templateModel() {
+
+        final Person applicant = new Person("bruce", "Wayne", "Bruce", "bruce@example.org");
+        applicant.setId(3L);
+        final Person boss = new Person("alfred", "Pennyworth", "Alfred", "alfred@example.org");
+        boss.setId(4L);
+
+        final HolidayReplacementEntity replacement = new HolidayReplacementEntity();
+        replacement.setPerson(boss);
+        replacement.setNote("Please take care of the cave");
+
+        final LocalDate startDate = LocalDate.of(2024, 12, 23);
+        final LocalDate endDate = LocalDate.of(2024, 12, 27);
+
+        final Application application = new Application();
+        application.setId(5L);
+        application.setPerson(applicant);
+        application.setApplier(applicant);
+        application.setBoss(boss);
+        application.setCanceller(boss);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        application.setApplicationDate(startDate.minusDays(14));
+        application.setDayLength(FULL);
+        application.setReason("Christmas");
+        application.setAddress("Wayne Manor");
+        application.setHolidayReplacements(List.of(replacement));
+
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setCategory(SICK_NOTE);
+        sickNoteType.setMessageKey("application.data.sicknotetype.sicknote");
+
+        final SickNote sickNote = SickNote.builder()
+            .id(6L)
+            .person(applicant)
+            .applier(boss)
+            .sickNoteType(sickNoteType)
+            .startDate(startDate)
+            .endDate(endDate)
+            .dayLength(FULL)
+            .aubStartDate(startDate)
+            .aubEndDate(endDate)
+            .build();
+
+        final Overtime overtime = new Overtime(applicant, startDate, endDate, Duration.ofHours(3));
+        overtime.setId(7L);
+
+        final Account account = new Account();
+        account.setPerson(applicant);
+        account.setRemainingVacationDays(BigDecimal.TEN);
+
+        final Map<String, Object> remindedApplication = Map.of(
+            "id", 5L,
+            "person", applicant,
+            "startDate", startDate,
+            "endDate", endDate,
+            "dayLength", FULL,
+            "vacationTypeLabel", "Erholungsurlaub"
+        );
+
+        final Map<String, Object> model = new HashMap<>();
+        model.put("application", application);
+        model.put("vacationTypeLabel", "Erholungsurlaub");
+        model.put("comment", new ApplicationComment(8L, Instant.now(), application, ALLOWED, boss, "Enjoy your holidays"));
+        model.put("holidayReplacement", boss);
+        model.put("holidayReplacementNote", "Please take care of the cave");
+        model.put("replacementNote", "Please take care of the cave");
+        model.put("dayLength", MORNING);
+        model.put("departmentVacations", List.of(application));
+        model.put("applicationsByPerson", Map.of(applicant, new ArrayList<>(List.of(remindedApplication))));
+        model.put("numberOfApplications", 1);
+        model.put("daysBeforeUpcomingApplication", 2L);
+        model.put("daysBeforeUpcomingHolidayReplacement", 2L);
+        model.put("sickNote", sickNote);
+        model.put("maximumSickPayDays", 42);
+        model.put("endOfSickPayDays", endDate);
+        model.put("sickPayDaysEndedDaysAgo", 3L);
+        model.put("sickNotePayFrom", startDate);
+        model.put("sickNotePayTo", endDate);
+        model.put("overtime", overtime);
+        model.put("overtimeDurationHours", "3");
+        model.put("overtimeDurationMinutes", "0");
+        model.put("person", applicant);
+        model.put("personId", 3L);
+        model.put("personNiceName", applicant.getNiceName());
+        model.put("recipientNiceName", applicant.getNiceName());
+        model.put("sender", boss);
+        model.put("maintainer", boss);
+        model.put("editor", boss);
+        model.put("author", boss);
+        model.put("addedPermissions", List.of(PersonPermissionsRoleDto.values()));
+        model.put("accounts", List.of(account));
+        model.put("today", startDate);
+        model.put("from", startDate);
+        model.put("to", endDate);
+        model.put("expiryDate", endDate);
+        model.put("dayBeforeExpiryDate", endDate.minusDays(1));
+        model.put("vacationDaysLeft", BigDecimal.TEN);
+        model.put("remainingVacationDays", BigDecimal.TEN);
+        model.put("remainingVacationDaysNotExpiring", BigDecimal.ONE);
+        model.put("expiredRemainingVacationDays", BigDecimal.ONE);
+        model.put("totalLeftVacationDays", BigDecimal.TEN);
+        model.put("totalRemainingVacationDays", BigDecimal.TEN);
+        return model;
+    }
+}
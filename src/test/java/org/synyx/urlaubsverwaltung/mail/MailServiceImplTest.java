@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.mail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
@@ -17,9 +18,15 @@ import org.thymeleaf.context.Context;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static java.util.Locale.FRENCH;
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -184,6 +191,37 @@ class MailServiceImplTest {
         verifyNoMoreInteractions(mailSenderService);
     }
 
+    @Test
+    void ensureRendersTemplateOnceForAllRecipientsWithSameLocale() {
+
+        final Person hans = new Person("hans", "Dampf", "Hans", "hans@example.org");
+        hans.setId(1L);
+        final Person franz = new Person("franz", "Meier", "Franz", "franz@example.org");
+        franz.setId(2L);
+        final Person pierre = new Person("pierre", "Dupont", "Pierre", "pierre@example.org");
+        pierre.setId(3L);
+
+        when(userSettingsService.getEffectiveLocale(List.of(hans, franz, pierre)))
+            .thenReturn(Map.of(hans, GERMAN, franz, GERMAN, pierre, FRENCH));
+
+        final Mail mail = Mail.builder()
+            .withRecipient(List.of(hans, franz, pierre))
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", locale -> new HashMap<>())
+            .build();
+
+        sut.send(mail);
+
+        final ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.forClass(Context.class);
+        verify(emailTemplateEngine, times(2)).process(eq("overtime_office"), contextCaptor.capture());
+        assertThat(contextCaptor.getAllValues()).extracting(Context::getLocale).containsExactly(GERMAN, FRENCH);
+        assertThat(contextCaptor.getAllValues().get(1).getVariable("recipient")).isEqualTo(pierre);
+
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "pierre@example.org", "subject", "emailBody");
+    }
+
     private void setupMockServletRequest() {
         final MockHttpServletRequest request = new MockHttpServletRequest();
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
@@ -0,0 +1,80 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    void ensureFindsNothingInEmptyTree() {
+        final IntervalTree<DateRange> sut = IntervalTree.of(List.of(), DateRange::startDate, DateRange::endDate);
+        assertThat(sut.overlapping(LocalDate.of(2024, JANUARY, 1), LocalDate.of(2024, JANUARY, 31))).isEmpty();
+    }
+
+    @Test
+    void ensureFindsOverlappingIntervalsSortedByStartDate() {
+
+        final DateRange january = range(1, 31);
+        final DateRange firstWeek = range(1, 7);
+        final DateRange secondWeek = range(8, 14);
+        final DateRange lastDay = range(31, 31);
+
+        final IntervalTree<DateRange> sut = IntervalTree.of(List.of(lastDay, secondWeek, january, firstWeek), DateRange::startDate, DateRange::endDate);
+
+        assertThat(sut.overlapping(day(7), day(8))).containsExactlyInAnyOrder(january, firstWeek, secondWeek);
+        assertThat(sut.overlapping(day(15), day(30))).containsExactly(january);
+        assertThat(sut.overlapping(day(31), day(31))).containsExactly(january, lastDay);
+        assertThat(sut.overlapping(day(8), day(31))).extracting(DateRange::startDate).isSorted();
+    }
+
+    @Test
+    void ensureBordersAreInclusive() {
+        final DateRange secondWeek = range(8, 14);
+        final IntervalTree<DateRange> sut = IntervalTree.of(List.of(secondWeek), DateRange::startDate, DateRange::endDate);
+
+        assertThat(sut.overlapping(day(1), day(7))).isEmpty();
+        assertThat(sut.overlapping(day(1), day(8))).containsExactly(secondWeek);
+        assertThat(sut.overlapping(day(14), day(20))).containsExactly(secondWeek);
+        assertThat(sut.overlapping(day(15), day(20))).isEmpty();
+    }
+
+    @Test
+    void ensureFindsSameIntervalsAsLinearScan() {
+
+        final Random random = new Random(42);
+        final LocalDate base = LocalDate.of(2024, JANUARY, 1);
+
+        final List<DateRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final LocalDate start = base.plusDays(random.nextInt(365));
+            ranges.add(new DateRange(start, start.plusDays(random.nextInt(20))));
+        }
+
+        final IntervalTree<DateRange> sut = IntervalTree.of(ranges, DateRange::startDate, DateRange::endDate);
+
+        for (int i = 0; i < 200; i++) {
+            final LocalDate start = base.plusDays(random.nextInt(400) - 20);
+            final LocalDate end = start.plusDays(random.nextInt(30));
+            final DateRange period = new DateRange(start, end);
+
+            final List<DateRange> expected = ranges.stream().filter(range -> range.isOverlapping(period)).toList();
+            assertThat(sut.overlapping(start, end)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static DateRange range(int startDay, int endDay) {
+        return new DateRange(day(startDay), day(endDay));
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return LocalDate.of(2024, JANUARY, dayOfMonth);
+    }
+}
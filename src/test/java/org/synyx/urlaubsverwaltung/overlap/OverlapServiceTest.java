@@ -508,4 +508,132 @@ class OverlapServiceTest {
         final OverlapCase overlapCase = sut.checkOverlap(sickNote);
         assertThat(overlapCase).isEqualTo(FULLY_OVERLAPPING);
     }
+
+    @Test
+    void ensurePartlyOverlappingIfThereIsAGapBetweenUnsortedApplications() {
+
+        // 20.01. - 22.01.
+        final Application later = new Application();
+        later.setDayLength(FULL);
+        later.setStartDate(LocalDate.of(2012, JANUARY, 20));
+        later.setEndDate(LocalDate.of(2012, JANUARY, 22));
+        later.setStatus(ALLOWED);
+
+        // 16.01. - 18.01.
+        final Application earlier = new Application();
+        earlier.setDayLength(FULL);
+        earlier.setStartDate(LocalDate.of(2012, JANUARY, 16));
+        earlier.setEndDate(LocalDate.of(2012, JANUARY, 18));
+        earlier.setStatus(ALLOWED);
+
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+            .thenReturn(asList(later, earlier));
+
+        // application for leave to check: 16.01. - 22.01. with a gap on 19.01.
+        final Application applicationToCheck = anyApplication();
+        applicationToCheck.setDayLength(FULL);
+        applicationToCheck.setStartDate(LocalDate.of(2012, JANUARY, 16));
+        applicationToCheck.setEndDate(LocalDate.of(2012, JANUARY, 22));
+
+        final OverlapCase overlapCase = sut.checkOverlap(applicationToCheck);
+        assertThat(overlapCase).isEqualTo(PARTLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensureChecksOverlapOfManyApplicationsWithOneQueryEach() {
+
+        final Person person = new Person("username", "last name", "first name", "email@example.org");
+        person.setId(1L);
+        final Person otherPerson = new Person("other", "other last name", "other first name", "other@example.org");
+        otherPerson.setId(2L);
+
+        // 16.01. - 18.01.
+        final Application existingApplication = new Application();
+        existingApplication.setId(10L);
+        existingApplication.setPerson(person);
+        existingApplication.setDayLength(FULL);
+        existingApplication.setStartDate(LocalDate.of(2012, JANUARY, 16));
+        existingApplication.setEndDate(LocalDate.of(2012, JANUARY, 18));
+        existingApplication.setStatus(ALLOWED);
+
+        // 19.01.
+        final SickNote existingSickNote = SickNote.builder()
+            .id(20L)
+            .person(person)
+            .dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 19))
+            .endDate(LocalDate.of(2012, JANUARY, 19))
+            .status(ACTIVE)
+            .build();
+
+        when(applicationService.getForStatesAndPerson(List.of(WAITING, ALLOWED, ALLOWED_CANCELLATION_REQUESTED, ApplicationStatus.TEMPORARY_ALLOWED),
+            List.of(person, otherPerson), LocalDate.of(2012, JANUARY, 10), LocalDate.of(2012, JANUARY, 25)))
+            .thenReturn(List.of(existingApplication));
+        when(sickNoteService.getForStatesAndPerson(SickNoteStatus.activeStatuses(),
+            List.of(person, otherPerson), LocalDate.of(2012, JANUARY, 10), LocalDate.of(2012, JANUARY, 25)))
+            .thenReturn(List.of(existingSickNote));
+
+        final Application fully = application(person, LocalDate.of(2012, JANUARY, 17), LocalDate.of(2012, JANUARY, 19));
+        final Application partly = application(person, LocalDate.of(2012, JANUARY, 18), LocalDate.of(2012, JANUARY, 25));
+        final Application none = application(person, LocalDate.of(2012, JANUARY, 10), LocalDate.of(2012, JANUARY, 12));
+        final Application otherPersons = application(otherPerson, LocalDate.of(2012, JANUARY, 16), LocalDate.of(2012, JANUARY, 18));
+        final Application itself = application(person, LocalDate.of(2012, JANUARY, 16), LocalDate.of(2012, JANUARY, 18));
+        itself.setId(10L);
+
+        final List<OverlapCase> overlapCases = sut.checkOverlapOfApplications(List.of(fully, partly, none, otherPersons, itself));
+        assertThat(overlapCases).containsExactly(FULLY_OVERLAPPING, PARTLY_OVERLAPPING, NO_OVERLAPPING, NO_OVERLAPPING, NO_OVERLAPPING);
+    }
+
+    @Test
+    void ensureChecksOverlapOfManySickNotes() {
+
+        final Person person = new Person("username", "last name", "first name", "email@example.org");
+        person.setId(1L);
+
+        // 16.01. morning
+        final Application morningApplication = new Application();
+        morningApplication.setPerson(person);
+        morningApplication.setDayLength(MORNING);
+        morningApplication.setStartDate(LocalDate.of(2012, JANUARY, 16));
+        morningApplication.setEndDate(LocalDate.of(2012, JANUARY, 16));
+        morningApplication.setStatus(WAITING);
+
+        final SickNote existingSickNote = SickNote.builder()
+            .id(20L)
+            .person(person)
+            .dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 17))
+            .endDate(LocalDate.of(2012, JANUARY, 18))
+            .status(ACTIVE)
+            .build();
+
+        when(applicationService.getForStatesAndPerson(any(), eq(List.of(person)), eq(LocalDate.of(2012, JANUARY, 16)), eq(LocalDate.of(2012, JANUARY, 18))))
+            .thenReturn(List.of(morningApplication));
+        when(sickNoteService.getForStatesAndPerson(any(), eq(List.of(person)), eq(LocalDate.of(2012, JANUARY, 16)), eq(LocalDate.of(2012, JANUARY, 18))))
+            .thenReturn(List.of(existingSickNote));
+
+        final SickNote noonSickNote = SickNote.builder().person(person).dayLength(DayLength.NOON)
+            .startDate(LocalDate.of(2012, JANUARY, 16)).endDate(LocalDate.of(2012, JANUARY, 16)).status(ACTIVE).build();
+        final SickNote fullSickNote = SickNote.builder().person(person).dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 16)).endDate(LocalDate.of(2012, JANUARY, 18)).status(ACTIVE).build();
+        final SickNote itself = SickNote.builder().id(20L).person(person).dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 17)).endDate(LocalDate.of(2012, JANUARY, 18)).status(ACTIVE).build();
+
+        final List<OverlapCase> overlapCases = sut.checkOverlapOfSickNotes(List.of(noonSickNote, fullSickNote, itself));
+        assertThat(overlapCases).containsExactly(NO_OVERLAPPING, FULLY_OVERLAPPING, NO_OVERLAPPING);
+    }
+
+    @Test
+    void ensureChecksOverlapOfNoApplications() {
+        assertThat(sut.checkOverlapOfApplications(List.of())).isEmpty();
+    }
+
+    private static Application application(Person person, LocalDate startDate, LocalDate endDate) {
+        final Application application = new Application();
+        application.setPerson(person);
+        application.setDayLength(FULL);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        return application;
+    }
 }
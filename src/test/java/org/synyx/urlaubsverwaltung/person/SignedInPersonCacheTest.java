@@ -0,0 +1,97 @@
+package org.synyx.urlaubsverwaltung.person;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignedInPersonCacheTest {
+
+    private SignedInPersonCache sut;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private Person person;
+    private Function<String, Optional<Person>> loader;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SignedInPersonCache();
+
+        person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        loader = username -> {
+            loadCount.incrementAndGet();
+            return username.equals("muster") ? Optional.of(person) : Optional.empty();
+        };
+    }
+
+    @Test
+    void ensureLoadsEveryTimeOutsideOfRequest() {
+        assertThat(sut.get("muster", loader)).hasValue(person);
+        assertThat(sut.get("muster", loader)).hasValue(person);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void ensureLoadsOncePerRequest() {
+        startRequest();
+        assertThat(sut.get("muster", loader)).hasValue(person);
+        assertThat(sut.get("muster", loader)).hasValue(person);
+        assertThat(loadCount).hasValue(1);
+
+        startRequest();
+        assertThat(sut.get("muster", loader)).hasValue(person);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void ensureDoesNotMemoiseUnknownPerson() {
+        startRequest();
+        assertThat(sut.get("unknown", loader)).isEmpty();
+        assertThat(sut.get("unknown", loader)).isEmpty();
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void ensureLoadsAgainForOtherUsername() {
+        startRequest();
+        sut.get("muster", loader);
+        sut.get("unknown", loader);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void ensureEvictsPerson() {
+        startRequest();
+        sut.get("muster", loader);
+        sut.evict(1L);
+        sut.get("muster", loader);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void ensureDoesNotEvictOtherPerson() {
+        startRequest();
+        sut.get("muster", loader);
+        sut.evict(2L);
+        sut.get("muster", loader);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void ensureEvictOutsideOfRequestDoesNothing() {
+        sut.evict(1L);
+        assertThat(sut.get("muster", loader)).hasValue(person);
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -8,14 +8,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
+import org.synyx.urlaubsverwaltung.api.ApiProperties;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceExceptionHandler;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.settings.Settings;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -47,9 +51,12 @@ class PublicHolidayApiControllerTest {
     @Mock
     private SettingsService settingsService;
 
+    private final ApiDataVersions apiDataVersions = new ApiDataVersions(new TenantContextHolder() {
+    }, new ApiProperties(), Clock.systemUTC());
+
     @BeforeEach
     void setUp() {
-        sut = new PublicHolidayApiController(publicHolidaysService, personService, workingTimeService, settingsService);
+        sut = new PublicHolidayApiController(publicHolidaysService, personService, workingTimeService, settingsService, apiDataVersions);
     }
 
     @Test
@@ -0,0 +1,91 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.Holiday;
+import de.focus_shift.jollyday.core.HolidayCalendar;
+import de.focus_shift.jollyday.core.HolidayManager;
+import de.focus_shift.jollyday.core.ManagerParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.NOVEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.NONE;
+
+class PublicHolidaysTableTest {
+
+    private PublicHolidaysTable sut;
+    private HolidayManager holidayManager;
+
+    @BeforeEach
+    void setUp() {
+        holidayManager = spy(HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY)));
+        sut = new PublicHolidaysTable(Map.of("de", holidayManager));
+    }
+
+    @Test
+    void ensureGetPublicHolidaysOfDate() {
+        final List<Holiday> holidays = sut.getPublicHolidays(LocalDate.of(2021, JANUARY, 6), GERMANY_BADEN_WUERTTEMBERG);
+        assertThat(holidays).extracting(Holiday::getPropertiesKey).containsExactly("EPIPHANY");
+    }
+
+    @Test
+    void ensureGetPublicHolidaysOfDateRespectsFederalState() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2021, JANUARY, 6), GERMANY_BERLIN)).isEmpty();
+    }
+
+    @Test
+    void ensureGetPublicHolidaysOfDateReturnsEmptyListForWorkday() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2021, NOVEMBER, 23), GERMANY_BADEN_WUERTTEMBERG)).isEmpty();
+    }
+
+    @Test
+    void ensureGetPublicHolidaysContainsChristmasEveAndNewYearsEve() {
+        assertThat(sut.getPublicHolidays(LocalDate.of(2021, DECEMBER, 24), NONE))
+            .extracting(Holiday::getPropertiesKey).containsExactly("CHRISTMAS_EVE");
+        assertThat(sut.getPublicHolidays(LocalDate.of(2021, DECEMBER, 31), NONE))
+            .extracting(Holiday::getPropertiesKey).containsExactly("NEW_YEARS_EVE");
+    }
+
+    @Test
+    void ensureGetPublicHolidaysOfDateRangeSortedByDate() {
+        final List<Holiday> holidays = sut.getPublicHolidays(LocalDate.of(2020, DECEMBER, 20), LocalDate.of(2021, JANUARY, 6), GERMANY_BADEN_WUERTTEMBERG);
+        assertThat(holidays).extracting(Holiday::getDate).containsExactly(
+            LocalDate.of(2020, DECEMBER, 24),
+            LocalDate.of(2020, DECEMBER, 25),
+            LocalDate.of(2020, DECEMBER, 26),
+            LocalDate.of(2020, DECEMBER, 31),
+            LocalDate.of(2021, JANUARY, 1),
+            LocalDate.of(2021, JANUARY, 6)
+        );
+    }
+
+    @Test
+    void ensureIsHoliday() {
+        assertThat(sut.isHoliday(LocalDate.of(2021, DECEMBER, 25), GERMANY_BADEN_WUERTTEMBERG)).isTrue();
+        assertThat(sut.isHoliday(LocalDate.of(2021, DECEMBER, 27), GERMANY_BADEN_WUERTTEMBERG)).isFalse();
+    }
+
+    @Test
+    void ensureYearIsComputedOnlyOnce() {
+        for (LocalDate date = LocalDate.of(2021, JANUARY, 1); date.getYear() == 2021; date = date.plusDays(1)) {
+            sut.getPublicHolidays(date, GERMANY_BADEN_WUERTTEMBERG);
+            sut.isHoliday(date, GERMANY_BADEN_WUERTTEMBERG);
+        }
+
+        verify(holidayManager, times(1)).getHolidays(eq(Year.of(2021)), any(String[].class));
+    }
+}
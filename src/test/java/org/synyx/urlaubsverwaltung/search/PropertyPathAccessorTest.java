@@ -0,0 +1,74 @@
+package org.synyx.urlaubsverwaltung.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyPathAccessorTest {
+
+    @Test
+    void ensureReadsProperty() {
+        final PropertyPathAccessor sut = PropertyPathAccessor.of(Outer.class, "name");
+        assertThat(sut.read(new Outer("batman", null))).isEqualTo("batman");
+    }
+
+    @Test
+    void ensureReadsPrimitiveProperty() {
+        final PropertyPathAccessor sut = PropertyPathAccessor.of(Inner.class, "number");
+        assertThat(sut.read(new Inner(42))).isEqualTo(42);
+    }
+
+    @Test
+    void ensureReadsNestedProperty() {
+        final PropertyPathAccessor sut = PropertyPathAccessor.of(Outer.class, "inner.number");
+        assertThat(sut.read(new Outer("batman", new Inner(42)))).isEqualTo(42);
+    }
+
+    @Test
+    void ensureReadsNullIfNestedPropertyIsNull() {
+        final PropertyPathAccessor sut = PropertyPathAccessor.of(Outer.class, "inner.number");
+        assertThat(sut.read(new Outer("batman", null))).isNull();
+    }
+
+    @Test
+    void ensureReadsNullForUnknownProperty() {
+        final PropertyPathAccessor sut = PropertyPathAccessor.of(Outer.class, "inner.unknown");
+        assertThat(sut.read(new Outer("batman", new Inner(42)))).isNull();
+    }
+
+    @Test
+    void ensureAccessorIsMemoisedPerTypeAndPropertyPath() {
+        assertThat(PropertyPathAccessor.of(Outer.class, "inner.number")).isSameAs(PropertyPathAccessor.of(Outer.class, "inner.number"));
+        assertThat(PropertyPathAccessor.of(Outer.class, "name")).isNotSameAs(PropertyPathAccessor.of(Outer.class, "inner.number"));
+    }
+
+    public static class Outer {
+        private final String name;
+        private final Inner inner;
+
+        Outer(String name, Inner inner) {
+            this.name = name;
+            this.inner = inner;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Inner getInner() {
+            return inner;
+        }
+    }
+
+    public static class Inner {
+        private final int number;
+
+        Inner(int number) {
+            this.number = number;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+    }
+}
@@ -177,6 +177,24 @@ class SortComparatorTest {
         );
     }
 
+    @Test
+    void ensureNullValuesOfNestedPropertiesAreBasedAtTheEnd() {
+        final Sort sort = Sort.by(Sort.Direction.ASC, "innerClass.bigDecimal");
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort);
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, "bbb", new InnerClass(BigDecimal.valueOf(2))),
+            new SomeClassToSort(3, "ccc", new InnerClass(BigDecimal.valueOf(1)))
+        );
+
+        final List<SomeClassToSort> sorted = list.stream().sorted(sut).collect(toList());
+        assertThat(sorted).containsExactly(
+            new SomeClassToSort(3, "ccc", new InnerClass(BigDecimal.valueOf(1))),
+            new SomeClassToSort(2, "bbb", new InnerClass(BigDecimal.valueOf(2))),
+            new SomeClassToSort(1, "aaa")
+        );
+    }
+
     static class StringBox {
         private final String value;
 
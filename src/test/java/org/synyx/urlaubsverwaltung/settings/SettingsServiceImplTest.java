@@ -3,13 +3,24 @@ package org.synyx.urlaubsverwaltung.settings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,15 +30,25 @@ class SettingsServiceImplTest {
 
     @Mock
     private SettingsRepository settingsRepository;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private SettingsProperties settingsProperties;
+    private Clock clock;
 
     @BeforeEach
     void setUp() {
-        sut = new SettingsServiceImpl(settingsRepository);
+        settingsProperties = new SettingsProperties();
+        clock = mock(Clock.class);
+        sut = new SettingsServiceImpl(settingsRepository, tenantContextHolder, settingsProperties, applicationEventPublisher, clock);
     }
 
     @Test
     void ensureGetSettingsReturnsFromDB() {
         final Settings settings = new Settings();
+        settings.setId(1L);
         when(settingsRepository.findAll()).thenReturn(List.of(settings));
 
         final Settings actualSettings = sut.getSettings();
@@ -44,4 +65,98 @@ class SettingsServiceImplTest {
             .hasMessage("No settings found in database!");
 
     }
+
+    @Test
+    void ensureGetSettingsReturnsSnapshotWithinRefreshInterval() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"), Instant.parse("2024-01-01T10:00:59Z"));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        assertThat(sut.getSettings()).isEqualTo(settings);
+        assertThat(sut.getSettings()).isEqualTo(settings);
+
+        verify(settingsRepository, times(1)).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsReloadsSnapshotAfterRefreshInterval() {
+        settingsProperties.setRefreshInterval(Duration.ofMinutes(5));
+
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"), Instant.parse("2024-01-01T10:05:00Z"));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        sut.getSettings();
+        sut.getSettings();
+
+        verify(settingsRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsReturnsCopyOfSnapshot() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        final Settings modifiedSettings = sut.getSettings();
+        modifiedSettings.getOvertimeSettings().setOvertimeActive(true);
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(modifiedSettings);
+        assertThat(actualSettings.getOvertimeSettings().isOvertimeActive()).isFalse();
+    }
+
+    @Test
+    void ensureSavePublishesSettingsUpdatedEvent() {
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.save(settings)).thenReturn(settings);
+
+        final Settings savedSettings = sut.save(settings);
+        assertThat(savedSettings).isEqualTo(settings);
+
+        final ArgumentCaptor<SettingsUpdatedEvent> captor = ArgumentCaptor.forClass(SettingsUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().settings()).isEqualTo(settings);
+    }
+
+    @Test
+    void ensureSettingsUpdatedEventReplacesSnapshot() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("tenant")));
+        when(clock.instant()).thenReturn(Instant.parse("2024-01-01T10:00:00Z"));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.getOvertimeSettings().setOvertimeActive(true);
+
+        sut.on(SettingsUpdatedEvent.of(settings));
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isEqualTo(settings);
+        assertThat(actualSettings.getOvertimeSettings().isOvertimeActive()).isTrue();
+        verify(settingsRepository, times(0)).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsWithoutTenantAlwaysReadsFromDB() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.empty());
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        sut.getSettings();
+        sut.getSettings();
+
+        verify(settingsRepository, times(2)).findAll();
+    }
 }
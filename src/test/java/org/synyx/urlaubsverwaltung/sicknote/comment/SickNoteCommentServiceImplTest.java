@@ -17,6 +17,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentAction.CONVERTED_TO_VACATION;
 import static org.synyx.urlaubsverwaltung.sicknote.comment.SickNoteCommentAction.EDITED;
@@ -112,4 +113,27 @@ class SickNoteCommentServiceImplTest {
         verify(sickNoteCommentEntityRepository).saveAll(argument.capture());
         assertThat(argument.getValue().get(0).getPerson()).isNull();
     }
+
+    @Test
+    void ensureGetsCommentsOfAllSickNotesWithOneQuery() {
+
+        final SickNote sickNote = SickNote.builder().id(1L).build();
+        final SickNote otherSickNote = SickNote.builder().id(2L).build();
+
+        final SickNoteCommentEntity comment = new SickNoteCommentEntity(Clock.systemUTC());
+        comment.setSickNoteId(1L);
+        final SickNoteCommentEntity otherComment = new SickNoteCommentEntity(Clock.systemUTC());
+        otherComment.setSickNoteId(2L);
+        when(sickNoteCommentEntityRepository.findBySickNoteIdIn(List.of(1L, 2L))).thenReturn(List.of(comment, otherComment));
+
+        assertThat(sut.getCommentsBySickNotes(List.of(sickNote, otherSickNote))).containsExactly(comment, otherComment);
+    }
+
+    @Test
+    void ensureGetsNoCommentsWithoutSickNotes() {
+
+        assertThat(sut.getCommentsBySickNotes(List.of())).isEmpty();
+
+        verifyNoInteractions(sickNoteCommentEntityRepository);
+    }
 }
@@ -182,7 +182,7 @@ class SickDaysDetailedStatisticsCsvExportServiceTest {
         addMessageSource("application.data.sicknotetype.sicknotechild", locale);
 
         final CSVWriter csvWriter = mock(CSVWriter.class);
-        sut.write(period, locale, statistics, csvWriter);
+        sut.write(period, locale, statistics.stream(), csvWriter);
 
         verify(csvWriter).writeNext(new String[]{"{person.account.basedata.personnelNumber}", "{person.data.firstName}", "{person.data.lastName}", "{sicknotes.statistics.departments}", "{sicknotes.statistics.from}", "{sicknotes.statistics.to}", "{sicknotes.statistics.length}", "{sicknotes.statistics.days}", "{sicknotes.statistics.type}", "{sicknotes.statistics.certificate.from}", "{sicknotes.statistics.certificate.to}", "{sicknotes.statistics.certificate.days}"});
         verify(csvWriter).writeNext(new String[]{"42", "personOneFirstName", "personOneLastName", "Here, There", "2022/01/01", "2022/01/02", "{FULL}", "0", "{application.data.sicknotetype.sicknote}", null, null, null});
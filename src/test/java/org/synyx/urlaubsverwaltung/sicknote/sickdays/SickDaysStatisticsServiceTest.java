@@ -25,8 +25,11 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -533,4 +536,53 @@ class SickDaysStatisticsServiceTest {
             assertThat(actual.getSickNotes()).isEmpty();
         });
     }
+
+    @Test
+    void ensureStreamAllFetchesPersonsPageByPageWhenSortedByPersonAttribute() {
+
+        final LocalDate startDate = LocalDate.parse("2022-01-01");
+        final LocalDate endDate = LocalDate.parse("2022-12-31");
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+        office.setFirstName("Office");
+
+        final Person member = new Person();
+        member.setId(2L);
+        member.setPermissions(List.of(USER));
+        member.setFirstName("Member");
+
+        final PageRequest firstPersonPageRequest = PageRequest.of(0, 100, Sort.by("firstName"));
+        when(personService.getActivePersons(new PageableSearchQuery(firstPersonPageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(member), firstPersonPageRequest, 101));
+        final PageRequest secondPersonPageRequest = PageRequest.of(1, 100, Sort.by("firstName"));
+        when(personService.getActivePersons(new PageableSearchQuery(secondPersonPageRequest, "")))
+            .thenReturn(new PageImpl<>(List.of(office), secondPersonPageRequest, 101));
+
+        final Stream<SickDaysDetailedStatistics> statistics = sut.streamAll(office, startDate, endDate, Sort.by("person.firstName"));
+
+        // only the first page is fetched until the stream is consumed
+        verify(personService, never()).getActivePersons(new PageableSearchQuery(secondPersonPageRequest, ""));
+
+        assertThat(statistics).extracting(SickDaysDetailedStatistics::getPerson).containsExactly(member, office);
+    }
+
+    @Test
+    void ensureStreamAllFetchesAllPersonsAtOnceWhenSortedByNonPersonAttribute() {
+
+        final LocalDate startDate = LocalDate.parse("2022-01-01");
+        final LocalDate endDate = LocalDate.parse("2022-12-31");
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        when(personService.getActivePersons(new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE), "")))
+            .thenReturn(new PageImpl<>(List.of(office)));
+
+        final Stream<SickDaysDetailedStatistics> statistics = sut.streamAll(office, startDate, endDate, Sort.by("personalNumber"));
+
+        assertThat(statistics).extracting(SickDaysDetailedStatistics::getPerson).containsExactly(office);
+    }
 }
@@ -19,13 +19,18 @@ import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Locale.JAPANESE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -166,13 +171,11 @@ class SickDaysStatisticsViewControllerTest {
         final String endString = "01.08.2019";
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
-        final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
-            .thenReturn(new PageImpl<>(List.of()));
+        final Stream<SickDaysDetailedStatistics> statistics = Stream.empty();
+        when(sickDaysStatisticsService.streamAll(signedInUser, startDate, endDate, Sort.by(Sort.Direction.ASC, "person.firstName")))
+            .thenReturn(statistics);
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
 
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
@@ -180,7 +183,10 @@ class SickDaysStatisticsViewControllerTest {
             .param("to", endString)
             .param("allElements", "true")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"=?UTF-8?Q?filename.csv?=\"; filename*=UTF-8''filename.csv"));
+
+        verify(sickDaysDetailedStatisticsCsvExportService).streamCSV(eq(filterPeriod), eq(locale), eq(statistics), any(OutputStream.class));
     }
 
     @Test
@@ -201,13 +207,11 @@ class SickDaysStatisticsViewControllerTest {
         final String endString = "01.08.2019";
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
-        final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
-            .thenReturn(new PageImpl<>(List.of()));
+        final Stream<SickDaysDetailedStatistics> statistics = Stream.empty();
+        when(sickDaysStatisticsService.streamAll(signedInUser, startDate, endDate, Sort.by(Sort.Direction.ASC, "person.firstName")))
+            .thenReturn(statistics);
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
 
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
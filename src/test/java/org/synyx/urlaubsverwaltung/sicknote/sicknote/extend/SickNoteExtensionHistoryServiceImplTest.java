@@ -5,9 +5,11 @@ import org.mockito.Mockito;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class SickNoteExtensionHistoryServiceImplTest {
@@ -49,4 +51,34 @@ class SickNoteExtensionHistoryServiceImplTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void getSickNoteExtensionHistories_returnsHistoriesGroupedBySickNoteId() {
+        final SickNoteExtensionEntity first = new SickNoteExtensionEntity();
+        first.setSickNoteId(100L);
+        first.setStatus(SickNoteExtensionStatus.ACCEPTED);
+
+        final SickNoteExtensionEntity second = new SickNoteExtensionEntity();
+        second.setSickNoteId(100L);
+        second.setStatus(SickNoteExtensionStatus.SUBMITTED);
+
+        final SickNoteExtensionEntity other = new SickNoteExtensionEntity();
+        other.setSickNoteId(200L);
+        other.setStatus(SickNoteExtensionStatus.ACCEPTED);
+
+        when(sickNoteExtensionRepository.findAllBySickNoteIdIn(List.of(100L, 200L, 300L))).thenReturn(List.of(first, second, other));
+
+        final Map<Long, List<SickNoteExtensionHistory>> result = sickNoteExtensionHistoryService.getSickNoteExtensionHistories(List.of(100L, 200L, 300L));
+
+        assertThat(result).containsOnlyKeys(100L, 200L);
+        assertThat(result.get(100L)).extracting(SickNoteExtensionHistory::status).containsExactly(SickNoteExtensionStatus.ACCEPTED, SickNoteExtensionStatus.SUBMITTED);
+        assertThat(result.get(200L)).extracting(SickNoteExtensionHistory::status).containsExactly(SickNoteExtensionStatus.ACCEPTED);
+    }
+
+    @Test
+    void getSickNoteExtensionHistories_doesNotQueryWithoutSickNoteIds() {
+        assertThat(sickNoteExtensionHistoryService.getSickNoteExtensionHistories(List.of())).isEmpty();
+
+        verifyNoInteractions(sickNoteExtensionRepository);
+    }
 }
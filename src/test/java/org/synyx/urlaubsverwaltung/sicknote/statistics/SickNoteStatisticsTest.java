@@ -4,8 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
@@ -14,6 +16,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.LocalDate.of;
@@ -41,13 +44,15 @@ class SickNoteStatisticsTest {
         final LocalDate sickNote1from = of(2022, OCTOBER, 7);
         final LocalDate sickNote1To = of(2022, OCTOBER, 11);
         final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
+        final WorkDaysCountQuery query1 = new WorkDaysCountQuery(person, new DateRange(sickNote1from, sickNote1To), FULL);
 
         final LocalDate sickNote2From = of(2022, DECEMBER, 18);
         final SickNote sickNote2 = createSickNote(person, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person)).thenReturn(new BigDecimal("9"));
+        final WorkDaysCountQuery query2 = new WorkDaysCountQuery(person, new DateRange(sickNote2From, of(2022, DECEMBER, 31)), FULL);
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
+        when(workDaysCountService.getWorkDaysCounts(List.of(query1, query2))).thenReturn(Map.of(query1, new BigDecimal("5"), query2, new BigDecimal("9")));
+
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
 
         assertThat(sut.getTotalNumberOfSickNotes()).isEqualTo(2);
@@ -60,13 +65,15 @@ class SickNoteStatisticsTest {
         final LocalDate sickNote1from = of(2022, OCTOBER, 7);
         final LocalDate sickNote1To = of(2022, OCTOBER, 11);
         final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
+        final WorkDaysCountQuery query1 = new WorkDaysCountQuery(person, new DateRange(sickNote1from, sickNote1To), FULL);
 
         final LocalDate sickNote2From = of(2022, DECEMBER, 18);
         final SickNote sickNote2 = createSickNote(person, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person)).thenReturn(new BigDecimal("9"));
+        final WorkDaysCountQuery query2 = new WorkDaysCountQuery(person, new DateRange(sickNote2From, of(2022, DECEMBER, 31)), FULL);
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
+        when(workDaysCountService.getWorkDaysCounts(List.of(query1, query2))).thenReturn(Map.of(query1, new BigDecimal("5"), query2, new BigDecimal("9")));
+
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
 
         assertThat(sut.getTotalNumberOfSickDays()).isEqualTo(new BigDecimal("14"));
@@ -79,14 +86,16 @@ class SickNoteStatisticsTest {
         final LocalDate sickNote1from = of(2022, OCTOBER, 7);
         final LocalDate sickNote1To = of(2022, OCTOBER, 11);
         final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
+        final WorkDaysCountQuery query1 = new WorkDaysCountQuery(person, new DateRange(sickNote1from, sickNote1To), FULL);
 
         final Person person2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
         final LocalDate sickNote2From = of(2022, DECEMBER, 18);
         final SickNote sickNote2 = createSickNote(person2, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person2)).thenReturn(new BigDecimal("9"));
+        final WorkDaysCountQuery query2 = new WorkDaysCountQuery(person2, new DateRange(sickNote2From, of(2022, DECEMBER, 31)), FULL);
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
+        when(workDaysCountService.getWorkDaysCounts(List.of(query1, query2))).thenReturn(Map.of(query1, new BigDecimal("5"), query2, new BigDecimal("9")));
+
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
 
         // 2 sick notes: 1st with 5 workdays and 2nd with 9 workdays --> sum = 14 workdays
@@ -113,7 +122,9 @@ class SickNoteStatisticsTest {
         final LocalDate to = of(2016, JANUARY, 11);
         final SickNote sickNote = createSickNote(person, from, to, FULL);
         final BigDecimal sickDays = new BigDecimal("9");
-        when(workDaysCountService.getWorkDaysCount(FULL, of(2015, JANUARY, 1), of(2015, DECEMBER, 31), person)).thenReturn(sickDays);
+        final WorkDaysCountQuery query = new WorkDaysCountQuery(person, new DateRange(of(2015, JANUARY, 1), of(2015, DECEMBER, 31)), FULL);
+
+        when(workDaysCountService.getWorkDaysCounts(List.of(query))).thenReturn(Map.of(query, sickDays));
 
         final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote), workDaysCountService);
         assertThat(sut.getAverageDurationOfDiseasePerPerson()).isEqualByComparingTo(sickDays);
@@ -8,6 +8,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
+import org.synyx.urlaubsverwaltung.api.ApiProperties;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceExceptionHandler;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -15,7 +17,9 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -47,9 +51,12 @@ class VacationApiControllerTest {
     @Mock
     private DepartmentService departmentService;
 
+    private final ApiDataVersions apiDataVersions = new ApiDataVersions(new TenantContextHolder() {
+    }, new ApiProperties(), Clock.systemUTC());
+
     @BeforeEach
     void setUp() {
-        sut = new VacationApiController(personService, applicationService, departmentService);
+        sut = new VacationApiController(personService, applicationService, departmentService, apiDataVersions);
     }
 
     @Test
@@ -31,8 +31,12 @@ import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
@@ -415,6 +419,78 @@ class WorkDaysCountServiceTest {
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(2.5));
     }
 
+    @Test
+    void ensureGetWorkDaysCountsEqualsSingleWorkDaysCount() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person batman = new Person("batman", "Wayne", "Bruce", "batman@example.org");
+        batman.setId(1L);
+        final Person robin = new Person("robin", "Grayson", "Dick", "robin@example.org");
+        robin.setId(2L);
+
+        final WorkingTime batmanFullWeek = createWorkingTime(batman, LocalDate.of(2009, 1, 1), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        final WorkingTime batmanHalfWeek = createWorkingTime(batman, LocalDate.of(2022, 1, 17), MONDAY, TUESDAY, WEDNESDAY);
+        final WorkingTime robinFullWeek = createWorkingTime(robin, LocalDate.of(2009, 1, 1), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getByPersons(List.of(batman, robin))).thenReturn(List.of(batmanFullWeek, batmanHalfWeek, robinFullWeek));
+
+        // 2009-12-17 - 2009-12-31: 9 workdays with public holidays, see getWorkDaysWithPublicHolidaysAndOneOnWeekend
+        final WorkDaysCountQuery batmanChristmas = new WorkDaysCountQuery(batman, new DateRange(LocalDate.of(2009, 12, 17), LocalDate.of(2009, 12, 31)), FULL);
+        // 2022-01-10 - 2022-01-23: 8 workdays, see getWorkDaysWithMultipleWorkingTimesOverOneAbsence
+        final WorkDaysCountQuery batmanWorkingTimeChange = new WorkDaysCountQuery(batman, new DateRange(LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 23)), FULL);
+        final WorkDaysCountQuery robinSameDateRange = new WorkDaysCountQuery(robin, new DateRange(LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 23)), FULL);
+        final WorkDaysCountQuery robinMorning = new WorkDaysCountQuery(robin, new DateRange(LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 10)), MORNING);
+
+        final Map<WorkDaysCountQuery, BigDecimal> workDaysCounts = sut.getWorkDaysCounts(List.of(batmanChristmas, batmanWorkingTimeChange, robinSameDateRange, robinMorning));
+        assertThat(workDaysCounts.get(batmanChristmas)).isEqualByComparingTo(BigDecimal.valueOf(9));
+        assertThat(workDaysCounts.get(batmanWorkingTimeChange)).isEqualByComparingTo(BigDecimal.valueOf(8));
+        assertThat(workDaysCounts.get(robinSameDateRange)).isEqualByComparingTo(TEN);
+        assertThat(workDaysCounts.get(robinMorning)).isEqualByComparingTo(BigDecimal.valueOf(0.5));
+    }
+
+    @Test
+    void ensureGetWorkDaysCountsLoadsWorkingTimesAndPublicHolidaysOnce() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final WorkingTime workingTime = createWorkingTime(person, LocalDate.of(2020, 1, 1), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getByPersons(List.of(person))).thenReturn(List.of(workingTime));
+
+        final List<WorkDaysCountQuery> queries = List.of(
+            new WorkDaysCountQuery(person, new DateRange(LocalDate.of(2022, 1, 3), LocalDate.of(2022, 1, 7)), FULL),
+            new WorkDaysCountQuery(person, new DateRange(LocalDate.of(2022, 5, 2), LocalDate.of(2022, 5, 6)), FULL),
+            new WorkDaysCountQuery(person, new DateRange(LocalDate.of(2022, 12, 19), LocalDate.of(2022, 12, 23)), FULL)
+        );
+
+        // 2022-01-06 is Epiphany in Baden-Württemberg
+        assertThat(sut.getWorkDaysCounts(queries).values()).containsExactlyInAnyOrder(BigDecimal.valueOf(4.0), BigDecimal.valueOf(5.0), BigDecimal.valueOf(5.0));
+
+        verify(workingTimeService, times(1)).getByPersons(List.of(person));
+        verify(settingsService, times(1)).getSettings();
+    }
+
+    @Test
+    void ensureGetWorkDaysCountsThrowsWithoutWorkingTime() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final WorkingTime workingTime = createWorkingTime(person, LocalDate.of(2022, 1, 10), MONDAY);
+        when(workingTimeService.getByPersons(List.of(person))).thenReturn(List.of(workingTime));
+
+        final List<WorkDaysCountQuery> queries = List.of(new WorkDaysCountQuery(person, new DateRange(LocalDate.of(2022, 1, 3), LocalDate.of(2022, 1, 12)), FULL));
+
+        assertThatThrownBy(() -> sut.getWorkDaysCounts(queries))
+            .isInstanceOf(WorkDaysCountException.class)
+            .hasMessage("No working times found for user '1' in period 03.01.2022 - 12.01.2022");
+    }
+
+    @Test
+    void ensureGetWorkDaysCountsWithoutQueries() {
+        assertThat(sut.getWorkDaysCounts(List.of())).isEmpty();
+        verifyNoInteractions(workingTimeService);
+    }
 
     private HolidayManager getHolidayManager() {
         return HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
@@ -10,12 +10,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.api.ApiDataVersions;
+import org.synyx.urlaubsverwaltung.api.ApiProperties;
 import org.synyx.urlaubsverwaltung.api.RestControllerAdviceExceptionHandler;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -43,9 +47,12 @@ class WorkingTimeCalendarApiControllerTest {
     @Mock
     private WorkDaysCountService workDaysCountService;
 
+    private final ApiDataVersions apiDataVersions = new ApiDataVersions(new TenantContextHolder() {
+    }, new ApiProperties(), Clock.systemUTC());
+
     @BeforeEach
     void setUp() {
-        sut = new WorkDaysCountApiController(personService, workDaysCountService);
+        sut = new WorkDaysCountApiController(personService, workDaysCountService, apiDataVersions);
     }
 
     @Test
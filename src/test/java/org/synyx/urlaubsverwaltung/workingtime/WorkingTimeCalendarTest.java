@@ -15,6 +15,7 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInf
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,7 +25,10 @@ import java.util.stream.Stream;
 import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
 import static java.time.DayOfWeek.WEDNESDAY;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
@@ -301,6 +305,74 @@ class WorkingTimeCalendarTest {
         }
     }
 
+    @Nested
+    class EnsureDenseRepresentation {
+
+        @Test
+        void ensureWorkingDayInformationOfEveryDay() {
+
+            final LocalDate date = LocalDate.of(2024, 12, 24);
+            final WorkingDayInformation christmasEve = new WorkingDayInformation(MORNING, WORKDAY, PUBLIC_HOLIDAY);
+            final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of(date, christmasEve, date.plusDays(2), emptyWorkingDayInformation()));
+
+            assertThat(sut.workingDayInformation(date)).hasValue(christmasEve);
+            assertThat(sut.workingDayInformation(date.plusDays(1))).isEmpty();
+            assertThat(sut.workingDayInformation(date.plusDays(2))).hasValue(emptyWorkingDayInformation());
+            assertThat(sut.workingDayInformation(date.minusDays(1))).isEmpty();
+            assertThat(sut.workingDayInformation(date.plusDays(3))).isEmpty();
+            assertThat(sut.workingDays()).containsOnly(entry(date, christmasEve), entry(date.plusDays(2), emptyWorkingDayInformation()));
+        }
+
+        @Test
+        void ensureWorkingTimeDayLengthReturnsSharedInstances() {
+
+            final LocalDate date = LocalDate.of(2024, 12, 2);
+            final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of(date, fullWorkingDayInformation(), date.plusDays(1), fullWorkingDayInformation()));
+
+            assertThat(sut.workingTimeDayLength(date)).isSameAs(sut.workingTimeDayLength(date.plusDays(1)));
+            assertThat(sut.workingTime(date)).isSameAs(sut.workingTime(date.plusDays(1)));
+        }
+
+        @Test
+        void ensureForEachWorkingDayInAscendingOrder() {
+
+            final LocalDate from = LocalDate.of(2024, 12, 1);
+            final LocalDate to = LocalDate.of(2024, 12, 31);
+            final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(from, to, date -> fullWorkingDayInformation());
+            final WorkingTimeCalendar sut = new WorkingTimeCalendar(workingTimeByDate);
+
+            final Map<LocalDate, WorkingDayInformation> actual = new LinkedHashMap<>();
+            sut.forEachWorkingDay(actual::put);
+
+            assertThat(actual).containsExactlyEntriesOf(new DateRange(from, to).stream().collect(toMap(identity(), workingTimeByDate::get, (first, second) -> first, LinkedHashMap::new)));
+        }
+
+        @Test
+        void ensureBuilderTrimsDaysWithoutEntry() {
+
+            final LocalDate date = LocalDate.of(2024, 12, 2);
+
+            final WorkingTimeCalendar sut = WorkingTimeCalendar.builder(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))
+                .set(date, fullWorkingDayInformation())
+                .build();
+
+            assertThat(sut)
+                .isEqualTo(new WorkingTimeCalendar(Map.of(date, fullWorkingDayInformation())))
+                .hasSameHashCodeAs(new WorkingTimeCalendar(Map.of(date, fullWorkingDayInformation())));
+            assertThat(sut.workingTime(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))).isEqualByComparingTo(BigDecimal.ONE);
+        }
+
+        @Test
+        void ensureEmptyCalendarsAreEqual() {
+
+            final WorkingTimeCalendar sut = WorkingTimeCalendar.builder(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)).build();
+
+            assertThat(sut).isEqualTo(new WorkingTimeCalendar(Map.of()));
+            assertThat(sut.workingTime(LocalDate.of(2024, 1, 1))).isEmpty();
+            assertThat(sut.workingTime(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+    }
+
     @Nested
     class EnsureWorkingDayInformation {
 
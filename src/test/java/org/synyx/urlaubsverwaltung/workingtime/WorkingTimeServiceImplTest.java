@@ -9,6 +9,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -48,12 +49,14 @@ class WorkingTimeServiceImplTest {
     private WorkingTimeRepository workingTimeRepository;
     @Mock
     private SettingsService settingsService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     private final Clock fixedClock = Clock.fixed(Instant.parse("2019-08-13T00:00:00.00Z"), UTC);
 
     @BeforeEach
     void setUp() {
-        sut = new WorkingTimeServiceImpl(workingTimeRepository, settingsService, fixedClock);
+        sut = new WorkingTimeServiceImpl(workingTimeRepository, settingsService, fixedClock, applicationEventPublisher);
     }
 
     @Test
@@ -173,6 +176,17 @@ class WorkingTimeServiceImplTest {
         assertThat(persistedWorkingTimeEntity.getFederalStateOverride()).isEqualTo(federalState);
     }
 
+    @Test
+    void ensureTouchPublishesWorkingTimeUpdatedEvent() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        sut.touch(List.of(1, 2), LocalDate.now(UTC), person);
+
+        final ArgumentCaptor<WorkingTimeUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(WorkingTimeUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().person()).isSameAs(person);
+    }
+
 
     @Test
     void getByPerson() {